@@ -0,0 +1,105 @@
+package com.groom.cart.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.groom.cart.application.dto.ProductCartInfo;
+import com.groom.cart.domain.model.CartItem;
+import com.groom.cart.domain.model.CartItemKey;
+import com.groom.cart.infrastructure.feign.ProductClient;
+import com.groom.common.checkout.CheckoutQuote;
+import com.groom.common.presentation.advice.CustomException;
+import com.groom.common.presentation.advice.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 체크아웃 사전 검증 + 견적 산출
+ *
+ * 흐름:
+ * 1. 선택 아이템 전체를 bulk-info(fresh) 1회로 조회 (DB 기준 가격/판매 여부 + Redis 실시간 가용 재고)
+ *    → Cart 스냅샷 캐시와 Product 상세 캐시를 모두 거치지 않고 최신 값으로 견적
+ * 2. 미존재/판매 중지/재고 부족 아이템을 모두 모아 한 번에 거절 (Saga 실패/환불 전에 차단)
+ * 3. 단가 × 수량 합계로 견적 생성 (만료 시각 포함)
+ */
+@Slf4j
+@Component
+public class CartCheckoutValidator {
+
+	private final ProductClient productClient;
+	private final Duration quoteTtl;
+
+	public CartCheckoutValidator(
+		ProductClient productClient,
+		@Value("${checkout.quote.ttl-seconds:600}") long quoteTtlSeconds
+	) {
+		this.productClient = productClient;
+		this.quoteTtl = Duration.ofSeconds(quoteTtlSeconds);
+	}
+
+	public CheckoutQuote validate(UUID userId, List<CartItem> items) {
+
+		Map<CartItemKey, ProductCartInfo> productInfoMap = productClient
+			.getProductCartInfos(items.stream().map(CartItem::toStockManagement).toList(), true)
+			.stream()
+			.collect(Collectors.toMap(
+				info -> new CartItemKey(info.getProductId(), info.getVariantId()),
+				Function.identity(),
+				(first, second) -> first
+			));
+
+		List<CheckoutQuote.QuotedItem> quotedItems = new ArrayList<>(items.size());
+		List<String> failures = new ArrayList<>();
+		ErrorCode failure = null;
+		long totalAmount = 0;
+
+		for (CartItem item : items) {
+			ProductCartInfo info = productInfoMap.get(new CartItemKey(item.getProductId(), item.getVariantId()));
+
+			ErrorCode error = null;
+			if (info == null) {
+				error = ErrorCode.PRODUCT_NOT_FOUND;
+			} else if (!info.isAvailable()) {
+				error = ErrorCode.PRODUCT_NOT_ON_SALE;
+			} else if (info.getStockQuantity() < item.getQuantity()) {
+				error = ErrorCode.STOCK_NOT_ENOUGH;
+			}
+
+			if (error != null) {
+				failure = failure == null ? error : failure;
+				failures.add(error.name() + "(productId=" + item.getProductId() + ", variantId=" + item.getVariantId() + ")");
+				continue;
+			}
+
+			quotedItems.add(new CheckoutQuote.QuotedItem(
+				item.getProductId(),
+				item.getVariantId(),
+				item.getQuantity(),
+				info.getPrice()
+			));
+			totalAmount += (long) info.getPrice() * item.getQuantity();
+		}
+
+		if (failure != null) {
+			log.info("체크아웃 검증 실패 - userId={}, failures={}", userId, failures);
+			throw new CustomException(failure, failure.getMessage() + " " + String.join(", ", failures));
+		}
+
+		return new CheckoutQuote(
+			UUID.randomUUID(),
+			userId,
+			quotedItems,
+			totalAmount,
+			Instant.now().plus(quoteTtl)
+		);
+	}
+}
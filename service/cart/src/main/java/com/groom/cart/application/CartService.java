@@ -1,8 +1,11 @@
 package com.groom.cart.application;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -11,15 +14,17 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.groom.cart.application.dto.CartCheckoutResult;
 import com.groom.cart.application.dto.ProductCartInfo;
 import com.groom.cart.application.dto.StockManagement;
 import com.groom.cart.application.event.request.CartCheckoutRequestedEvent;
 import com.groom.cart.domain.model.CartItem;
 import com.groom.cart.domain.model.CartItemKey;
 import com.groom.cart.domain.repository.CartRepository;
-import com.groom.cart.infrastructure.feign.ProductClient;
 import com.groom.cart.presentation.dto.request.CartAddRequest;
 import com.groom.cart.presentation.dto.response.CartItemResponse;
+import com.groom.common.checkout.CheckoutQuote;
+import com.groom.common.checkout.CheckoutQuoteSigner;
 import com.groom.common.presentation.advice.CustomException;
 import com.groom.common.presentation.advice.ErrorCode;
 
@@ -30,8 +35,9 @@ import lombok.extern.slf4j.Slf4j;
  * 장바구니 서비스
  *
  * 책임:
- * - 상품 서비스 동기 검증
+ * - 상품 서비스 동기 검증 (상품 스냅샷 캐시 경유)
  * - 재고 검증
+ * - 체크아웃 사전 검증 + 견적 발급
  * - 장바구니 유스케이스 오케스트레이션
  *
  * 책임 아님:
@@ -44,8 +50,10 @@ import lombok.extern.slf4j.Slf4j;
 public class CartService {
 
 	private final CartRepository cartRepository;
-	private final ProductClient productClient;
+	private final ProductSnapshotService productSnapshotService;
 	private final ApplicationEventPublisher eventPublisher;
+	private final CartCheckoutValidator checkoutValidator;
+	private final CheckoutQuoteSigner checkoutQuoteSigner;
 
 
 	/**
@@ -54,21 +62,21 @@ public class CartService {
 	 * 정책:
 	 * - 판매 가능 여부만 검증
 	 * - 재고 가점유 ❌
-	 * - 수량 증가는 Redis 원자 연산(HINCRBY)
+	 * - 재고 한도 검사 + 수량 증가는 Redis 스크립트 한 번으로 원자 처리
 	 */
 	public void addItemToCart(UUID userId, CartAddRequest request) {
 
 		log.info("장바구니 추가 요청 - userId={}, productId={}, variantId={}, quantity={}",
 			userId, request.getProductId(), request.getVariantId(), request.getQuantity());
 
-		// 1️⃣ 상품 정보 검증 (동기)
+		// 1️⃣ 상품 정보 검증 (스냅샷 캐시, 미스 시 동기 조회)
 		StockManagement stock = StockManagement.of(
 			request.getProductId(),
 			request.getVariantId(),
 			request.getQuantity()
 		);
 
-		ProductCartInfo product = productClient
+		ProductCartInfo product = productSnapshotService
 			.getProductCartInfos(List.of(stock))
 			.stream()
 			.findFirst()
@@ -78,37 +86,88 @@ public class CartService {
 			throw new CustomException(ErrorCode.PRODUCT_NOT_ON_SALE);
 		}
 
-		// 2️⃣ 현재 장바구니 수량 조회
-		int existingQty = cartRepository
-			.findItem(userId, request.getProductId(), request.getVariantId())
-			.map(CartItem::getQuantity)
-			.orElse(0);
-
-		int newTotalQty = existingQty + request.getQuantity();
-
-		// 3️⃣ 재고 검증
-		if (product.getStockQuantity() < newTotalQty) {
-			throw new CustomException(ErrorCode.STOCK_NOT_ENOUGH);
-		}
-
-		// 4️⃣ Redis에 수량 증가 요청 (원자적)
-		cartRepository.addItem(
+		// 2️⃣ 기존 수량 + 요청 수량이 재고 이하일 때만 증가 (원자적)
+		boolean added = cartRepository.addItem(
 			userId,
 			request.getProductId(),
 			request.getVariantId(),
-			request.getQuantity()
+			request.getQuantity(),
+			product.getStockQuantity()
 		);
 
+		if (!added) {
+			throw new CustomException(ErrorCode.STOCK_NOT_ENOUGH);
+		}
+
 		log.info("장바구니 추가 완료 - userId={}, productId={}",
 			userId, request.getProductId());
 	}
 
+	/**
+	 * 장바구니 여러 상품 한 번에 담기
+	 *
+	 * 정책:
+	 * - 상품 스냅샷 일괄 조회 1회 + Redis 스크립트 1회
+	 * - 같은 상품/옵션이 여러 번 오면 수량 합산
+	 * - 하나라도 조회 불가/판매 중지/재고 초과면 아무것도 담지 않음 (전부 반영 또는 전부 미반영)
+	 */
+	public void addItemsToCart(UUID userId, List<CartAddRequest> requests) {
+
+		if (requests == null || requests.isEmpty()) {
+			return;
+		}
+
+		// 1️⃣ 같은 아이템 수량 합산 (요청 순서 유지)
+		Map<CartItemKey, Integer> quantities = new LinkedHashMap<>();
+		for (CartAddRequest request : requests) {
+			quantities.merge(new CartItemKey(request.getProductId(), request.getVariantId()),
+				request.getQuantity(), Integer::sum);
+		}
+
+		List<CartItem> items = quantities.entrySet().stream()
+			.map(entry -> new CartItem(entry.getKey().productId(), entry.getKey().variantId(), entry.getValue()))
+			.toList();
+
+		log.info("장바구니 일괄 추가 요청 - userId={}, itemCount={}", userId, items.size());
+
+		// 2️⃣ 상품 정보 검증 (스냅샷 캐시, 미스만 Bulk 조회)
+		Map<CartItemKey, ProductCartInfo> products = productSnapshotService
+			.getProductCartInfos(items.stream().map(CartItem::toStockManagement).toList())
+			.stream()
+			.collect(Collectors.toMap(
+				info -> new CartItemKey(info.getProductId(), info.getVariantId()),
+				Function.identity(),
+				(first, second) -> first
+			));
+
+		Map<CartItemKey, Integer> maxQuantities = new LinkedHashMap<>();
+		for (CartItemKey key : quantities.keySet()) {
+			ProductCartInfo product = products.get(key);
+			if (product == null) {
+				throw new CustomException(ErrorCode.PRODUCT_NOT_FOUND);
+			}
+			if (!product.isAvailable()) {
+				throw new CustomException(ErrorCode.PRODUCT_NOT_ON_SALE);
+			}
+			maxQuantities.put(key, product.getStockQuantity());
+		}
+
+		// 3️⃣ 모든 아이템이 재고 이하일 때만 증가 (원자적)
+		List<CartItemKey> exceeded = cartRepository.addItems(userId, items, maxQuantities);
+		if (!exceeded.isEmpty()) {
+			log.info("장바구니 일괄 추가 거절 (재고 초과) - userId={}, exceeded={}", userId, exceeded);
+			throw new CustomException(ErrorCode.STOCK_NOT_ENOUGH);
+		}
+
+		log.info("장바구니 일괄 추가 완료 - userId={}, itemCount={}", userId, items.size());
+	}
+
 	/**
 	 * 내 장바구니 조회
 	 *
 	 * 흐름:
 	 * 1. Redis에서 장바구니 아이템 조회
-	 * 2. Product Service Bulk 조회
+	 * 2. 상품 스냅샷 조회 (캐시 미스만 Product Service Bulk 조회)
 	 * 3. API Composition
 	 */
 	@Transactional(readOnly = true)
@@ -122,13 +181,13 @@ public class CartService {
 			return List.of();
 		}
 
-		// 2️⃣ 상품 정보 Bulk 조회
+		// 2️⃣ 상품 정보 조회 (캐시 미스만 Bulk 조회)
 		List<StockManagement> stockInfos = cartItems.stream()
 			.map(CartItem::toStockManagement)
 			.toList();
 
 		List<ProductCartInfo> productInfos =
-			productClient.getProductCartInfos(stockInfos);
+			productSnapshotService.getProductCartInfos(stockInfos);
 
 		// 3️⃣ 빠른 조회를 위한 Map 구성
 		Map<CartItemKey, ProductCartInfo> productInfoMap =
@@ -188,13 +247,9 @@ public class CartService {
 		log.info("장바구니 수량 변경 - userId={}, productId={}, variantId={}, quantity={}",
 			userId, productId, variantId, quantity);
 
-		CartItem item = cartRepository
-			.findItem(userId, productId, variantId)
-			.orElseThrow(() -> new CustomException(ErrorCode.CART_ITEM_NOT_FOUND));
-
-		// productClient 사용 (Feign)
-		ProductCartInfo product = productClient
-			.getProductCartInfos(List.of(item.toStockManagement()))
+		// 상품 스냅샷 (캐시 미스 시 Feign)
+		ProductCartInfo product = productSnapshotService
+			.getProductCartInfos(List.of(StockManagement.of(productId, variantId, quantity)))
 			.stream()
 			.findFirst()
 			.orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
@@ -207,14 +262,20 @@ public class CartService {
 			throw new CustomException(ErrorCode.STOCK_NOT_ENOUGH);
 		}
 
-		cartRepository.updateQuantity(userId, productId, variantId, quantity);
+		// 아이템 존재 확인 + 덮어쓰기 (원자적)
+		if (!cartRepository.updateQuantity(userId, productId, variantId, quantity)) {
+			throw new CustomException(ErrorCode.CART_ITEM_NOT_FOUND);
+		}
 
 		log.info("장바구니 수량 변경 완료 - userId={}, productId={}",
 			userId, productId);
 	}
 
 
-	public UUID checkout(UUID userId) {
+	/**
+	 * 전체 주문
+	 */
+	public CartCheckoutResult checkout(UUID userId) {
 
 		List<CartItem> cartItems = cartRepository.findAll(userId);
 
@@ -222,70 +283,63 @@ public class CartService {
 			throw new CustomException(ErrorCode.CART_EMPTY);
 		}
 
-		UUID orderId = UUID.randomUUID();
-
-		List<CartCheckoutRequestedEvent.CartOrderItem> items =
-			cartItems.stream()
-				.map(item -> new CartCheckoutRequestedEvent.CartOrderItem(
-					item.getProductId(),
-					item.getVariantId(),
-					item.getQuantity()
-				))
-				.toList();
-
-		eventPublisher.publishEvent(
-			new CartCheckoutRequestedEvent(userId, orderId, items)
-		);
-
-		return orderId;
+		return requestCheckout(userId, cartItems);
 	}
 
+	/**
+	 * 선택 주문
+	 */
+	public CartCheckoutResult checkout(UUID userId, List<CartItemKey> selectedItems) {
 
-	public UUID checkout(UUID userId, List<CartItemKey> selectedItems) {
-
-		List<CartItem> cartItems = cartRepository.findAll(userId);
+		Set<CartItemKey> selected = new HashSet<>(selectedItems);
 
-		List<CartItem> targetItems = cartItems.stream()
-			.filter(item ->
-				selectedItems.contains(
-					new CartItemKey(item.getProductId(), item.getVariantId())
-				)
-			)
+		List<CartItem> targetItems = cartRepository.findAll(userId).stream()
+			.filter(item -> selected.contains(new CartItemKey(item.getProductId(), item.getVariantId())))
 			.toList();
 
 		if (targetItems.isEmpty()) {
 			throw new CustomException(ErrorCode.CART_EMPTY);
 		}
 
-		UUID orderId = UUID.randomUUID();
+		return requestCheckout(userId, targetItems);
+	}
+
+	/**
+	 * 사전 검증(가격/판매 여부/재고) 후 서명된 견적과 함께 체크아웃 이벤트 발행
+	 * 검증 실패 시 이벤트 없이 거절 → Saga 단계의 재고 차감 실패/환불 방지
+	 */
+	private CartCheckoutResult requestCheckout(UUID userId, List<CartItem> items) {
+
+		CheckoutQuote quote = checkoutValidator.validate(userId, items);
+		String quoteToken = checkoutQuoteSigner.sign(quote);
 
-		List<CartCheckoutRequestedEvent.CartOrderItem> items =
-			targetItems.stream()
+		List<CartCheckoutRequestedEvent.CartOrderItem> orderItems =
+			quote.items().stream()
 				.map(item -> new CartCheckoutRequestedEvent.CartOrderItem(
-					item.getProductId(),
-					item.getVariantId(),
-					item.getQuantity()
+					item.productId(),
+					item.variantId(),
+					item.quantity()
 				))
 				.toList();
 
 		eventPublisher.publishEvent(
-			new CartCheckoutRequestedEvent(userId, orderId, items)
+			new CartCheckoutRequestedEvent(userId, quote.quoteId(), orderItems, quote.totalAmount(), quoteToken)
 		);
 
-		return orderId;
-	}
-
+		log.info("체크아웃 견적 발급 - userId={}, quoteId={}, itemCount={}, totalAmount={}",
+			userId, quote.quoteId(), orderItems.size(), quote.totalAmount());
 
+		return new CartCheckoutResult(quote.quoteId(), quote.totalAmount(), quoteToken, quote.expiresAt());
+	}
 
 	/**
 	 * 장바구니 아이템 단일 삭제
 	 */
 	public void deleteCartItem(UUID userId, UUID productId, UUID variantId) {
 
-		cartRepository.findItem(userId, productId, variantId)
-			.orElseThrow(() -> new CustomException(ErrorCode.CART_ITEM_NOT_FOUND));
-
-		cartRepository.removeItem(userId, productId, variantId);
+		if (!cartRepository.removeItem(userId, productId, variantId)) {
+			throw new CustomException(ErrorCode.CART_ITEM_NOT_FOUND);
+		}
 
 		log.info("장바구니 아이템 삭제 - userId={}, productId={}",
 			userId, productId);
@@ -0,0 +1,72 @@
+package com.groom.cart.application;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.groom.cart.application.dto.ProductCartInfo;
+import com.groom.cart.application.dto.StockManagement;
+import com.groom.cart.domain.model.CartItemKey;
+import com.groom.cart.infrastructure.cache.ProductSnapshotCache;
+import com.groom.cart.infrastructure.feign.ProductClient;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장바구니용 상품 스냅샷 조회
+ *
+ * 흐름:
+ * 1. 로컬 캐시 조회
+ * 2. 미스만 모아 Product Service bulk-info 1회 호출 후 적재
+ * 3. 요청 순서대로 반환 (조회 불가 상품은 제외 → bulk-info와 동일)
+ *
+ * 전부 캐시 히트면 원격 호출 없음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSnapshotService {
+
+	private final ProductSnapshotCache productSnapshotCache;
+	private final ProductClient productClient;
+
+	public List<ProductCartInfo> getProductCartInfos(List<StockManagement> requests) {
+		if (requests.isEmpty()) {
+			return List.of();
+		}
+
+		Set<CartItemKey> keys = new LinkedHashSet<>();
+		for (StockManagement request : requests) {
+			keys.add(new CartItemKey(request.productId(), request.variantId()));
+		}
+
+		Map<CartItemKey, ProductCartInfo> snapshots = new HashMap<>(productSnapshotCache.getAll(keys));
+
+		List<StockManagement> misses = requests.stream()
+			.filter(request -> !snapshots.containsKey(new CartItemKey(request.productId(), request.variantId())))
+			.toList();
+
+		if (!misses.isEmpty()) {
+			List<ProductCartInfo> loaded = productClient.getProductCartInfos(misses);
+			productSnapshotCache.putAll(loaded);
+			loaded.forEach(info -> snapshots.put(new CartItemKey(info.getProductId(), info.getVariantId()), info));
+
+			log.debug("상품 스냅샷 조회 - requested={}, missed={}, loaded={}",
+				keys.size(), misses.size(), loaded.size());
+		}
+
+		List<ProductCartInfo> result = new ArrayList<>(keys.size());
+		keys.stream()
+			.map(snapshots::get)
+			.filter(Objects::nonNull)
+			.forEach(result::add);
+		return result;
+	}
+}
@@ -0,0 +1,14 @@
+package com.groom.cart.application.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 체크아웃 결과 (견적 ID는 주문 ID로 사용, quoteToken은 주문 생성 시 Order 서비스에 전달)
+ */
+public record CartCheckoutResult(
+    UUID orderId,
+    long totalAmount,
+    String quoteToken,
+    Instant expiresAt
+) {}
@@ -1,9 +1,18 @@
 package com.groom.cart.application.event;
 
+import java.util.List;
+
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.cart.domain.model.CartItemKey;
+import com.groom.cart.infrastructure.cache.ProductSnapshotCache;
+import com.groom.common.event.Type.EventType;
 import com.groom.common.event.envelope.EventEnvelope;
+import com.groom.common.event.payload.StockDeductedPayload;
+import com.groom.common.infrastructure.kafka.idempotency.IdempotentConsumer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,14 +22,39 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class CartEventConsumer {
 
-    @KafkaListener(topics = "${event.kafka.topics.order:order-events}", groupId = "${spring.kafka.consumer.group-id}")
-    public void handleEvent(EventEnvelope event, org.springframework.kafka.support.Acknowledgment ack) {
+    private final ProductSnapshotCache productSnapshotCache;
+    private final ObjectMapper objectMapper;
+
+    @IdempotentConsumer
+    @KafkaListener(
+            topics = "#{'${event.kafka.consumer.topics:order-events}'.split(',')}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            concurrency = "${event.kafka.consumer.listeners.cart-order.concurrency:${event.kafka.consumer.concurrency:1}}")
+    public void handleEvent(EventEnvelope event, org.springframework.kafka.support.Acknowledgment ack)
+            throws JsonProcessingException {
         log.info("[CartEvent] Received event: type={}, id={}", event.getEventType(), event.getEventId());
 
         if ("ORDER_CONFIRMED".equals(event.getEventType().name())) {
-            log.info("[CartEvent] Processing ORDER_CONFIRMED event. payload={}", event.getPayload());
+            log.info("[CartEvent] Processing ORDER_CONFIRMED event. orderId={}", event.getAggregateId());
             // TODO: Implement cart cleanup logic here
         }
+        if (event.getEventType() == EventType.STOCK_DEDUCTED) {
+            invalidateProductSnapshots(event);
+        }
         ack.acknowledge();
     }
+
+    // 재고가 바뀐 상품 스냅샷 제거 → 다음 장바구니 요청에서 다시 조회
+    private void invalidateProductSnapshots(EventEnvelope event) throws JsonProcessingException {
+        StockDeductedPayload payload = event.readPayload(StockDeductedPayload.class, objectMapper);
+        if (payload.getItems() == null) {
+            return;
+        }
+
+        List<CartItemKey> keys = payload.getItems().stream()
+                .map(item -> new CartItemKey(item.getProductId(), item.getVariantId()))
+                .toList();
+        productSnapshotCache.invalidate(keys);
+        log.debug("[CartEvent] Product snapshots invalidated. orderId={}, count={}", payload.getOrderId(), keys.size());
+    }
 }
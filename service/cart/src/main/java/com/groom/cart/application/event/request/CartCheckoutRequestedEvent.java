@@ -13,6 +13,8 @@ public class CartCheckoutRequestedEvent {
     private UUID userId;
     private UUID orderId;
     private List<CartOrderItem> items;
+    private long totalAmount;
+    private String quoteToken; // CheckoutQuoteSigner 서명 견적
 
     @Getter
     @AllArgsConstructor
@@ -1,6 +1,7 @@
 package com.groom.cart.domain.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,8 +10,19 @@ import com.groom.cart.domain.model.CartItemKey;
 
 public interface CartRepository {
 
-    /** 장바구니 상품 추가 (중복 시 수량 증가) */
-    void addItem(UUID userId, UUID productId, UUID variantId, int quantity);
+    /**
+     * 장바구니 상품 추가 (중복 시 수량 증가)
+     * 증가 후 수량이 maxQuantity를 넘으면 반영하지 않음 (조회-검사-증가를 한 번에 원자 처리)
+     * @return 반영 여부
+     */
+    boolean addItem(UUID userId, UUID productId, UUID variantId, int quantity, int maxQuantity);
+
+    /**
+     * 여러 상품 일괄 추가 (전부 반영 또는 전부 미반영)
+     * maxQuantities에 없는 아이템은 한도 없음
+     * @return 한도를 넘은 아이템 키 (비어 있으면 전부 반영)
+     */
+    List<CartItemKey> addItems(UUID userId, List<CartItem> items, Map<CartItemKey, Integer> maxQuantities);
 
     /** 단일 아이템 조회 */
     Optional<CartItem> findItem(UUID userId, UUID productId, UUID variantId);
@@ -18,11 +30,17 @@ public interface CartRepository {
     /** 장바구니 전체 조회 */
     List<CartItem> findAll(UUID userId);
 
-    /** 수량 변경 (덮어쓰기) */
-    void updateQuantity(UUID userId, UUID productId, UUID variantId, int quantity);
-
-    /** 단일 아이템 삭제 */
-    void removeItem(UUID userId, UUID productId, UUID variantId);
+    /**
+     * 수량 변경 (덮어쓰기, 0 이하면 삭제)
+     * @return 아이템이 있었는지 여부 (없으면 아무것도 하지 않음)
+     */
+    boolean updateQuantity(UUID userId, UUID productId, UUID variantId, int quantity);
+
+    /**
+     * 단일 아이템 삭제
+     * @return 삭제된 아이템이 있었는지 여부
+     */
+    boolean removeItem(UUID userId, UUID productId, UUID variantId);
 
     /** 여러 아이템 삭제 */
     void removeItems(UUID userId, List<CartItemKey> keys);
@@ -0,0 +1,146 @@
+package com.groom.cart.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.groom.cart.application.dto.ProductCartInfo;
+import com.groom.cart.domain.model.CartItemKey;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 스냅샷 로컬 캐시 (bulk-info 응답, JVM 로컬)
+ *
+ * [키] (productId, variantId) → ProductCartInfo (요청 수량과 무관한 응답이라 그대로 재사용)
+ *
+ * [무효화]
+ * - 재고 차감 이벤트는 컨슈머 그룹 내 한 인스턴스만 받으므로
+ *   cart:product-snapshot:invalidate 채널로 다른 인스턴스에 전파 (자신이 발행한 메시지는 무시)
+ * - 가격/판매 상태 변경 이벤트는 없으므로 TTL 경과 후 다시 조회 (최대 TTL만큼 지연)
+ *
+ * [메트릭]
+ * cache.gets{cache=cart.product.snapshot, result=hit|miss}, cache.evictions, cache.size
+ */
+@Slf4j
+@Component
+public class ProductSnapshotCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cart:product-snapshot:invalidate";
+
+    private static final String SEPARATOR = "|";
+    private static final String KEY_SEPARATOR = ",";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<CartItemKey, ProductCartInfo> cache;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public ProductSnapshotCache(
+        StringRedisTemplate stringRedisTemplate,
+        ObjectProvider<MeterRegistry> meterRegistryProvider,
+        @Value("${cart.product-snapshot.max-size:50000}") long maxSize,
+        @Value("${cart.product-snapshot.ttl-seconds:10}") long ttlSeconds
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        meterRegistryProvider.ifAvailable(registry ->
+            CaffeineCacheMetrics.monitor(registry, cache, "cart.product.snapshot"));
+    }
+
+    /**
+     * 로컬 일괄 조회 (히트한 항목만 포함)
+     */
+    public Map<CartItemKey, ProductCartInfo> getAll(Collection<CartItemKey> keys) {
+        return cache.getAllPresent(keys);
+    }
+
+    /**
+     * bulk-info 응답 적재
+     */
+    public void putAll(Collection<ProductCartInfo> infos) {
+        cache.putAll(infos.stream()
+            .collect(Collectors.toMap(
+                info -> new CartItemKey(info.getProductId(), info.getVariantId()),
+                info -> info,
+                (first, second) -> second
+            )));
+    }
+
+    /**
+     * 상품 변경 시 호출: 로컬 제거 + 다른 인스턴스 무효화
+     */
+    public void invalidate(Collection<CartItemKey> keys) {
+        if (keys.isEmpty()) return;
+
+        cache.invalidateAll(keys);
+        publish(keys.stream()
+            .map(key -> key.productId() + ":" + key.variantId())
+            .collect(Collectors.joining(KEY_SEPARATOR)));
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separatorIndex = body.indexOf(SEPARATOR);
+        if (separatorIndex < 0) {
+            log.warn("Invalid product snapshot invalidation message: {}", body);
+            return;
+        }
+
+        if (instanceId.equals(body.substring(0, separatorIndex))) {
+            return;
+        }
+
+        try {
+            List<CartItemKey> keys = Arrays.stream(body.substring(separatorIndex + 1).split(KEY_SEPARATOR))
+                .map(ProductSnapshotCache::toKey)
+                .toList();
+            cache.invalidateAll(keys);
+            log.debug("Product snapshot invalidated by remote instance: count={}", keys.size());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid product snapshot invalidation message: {}", body);
+        }
+    }
+
+    private void publish(String target) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + SEPARATOR + target);
+        } catch (Exception e) {
+            log.error("Failed to publish product snapshot invalidation: target={}", target, e);
+        }
+    }
+
+    private static CartItemKey toKey(String value) {
+        String[] parts = value.split(":");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException(value);
+        }
+        return new CartItemKey(
+            UUID.fromString(parts[0]),
+            "null".equals(parts[1]) ? null : UUID.fromString(parts[1])
+        );
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.groom.cart.application.dto.ProductCartInfo;
 import com.groom.cart.application.dto.StockManagement;
@@ -29,4 +30,13 @@ public interface ProductClient {
     List<ProductCartInfo> getProductCartInfos(
         @RequestBody List<StockManagement> requests
     );
+
+    /**
+     * 상세 캐시를 거치지 않은 DB 기준 조회 (체크아웃 견적용)
+     */
+    @PostMapping("/api/v1/internal/products/bulk-info")
+    List<ProductCartInfo> getProductCartInfos(
+        @RequestBody List<StockManagement> requests,
+        @RequestParam("fresh") boolean fresh
+    );
 }
@@ -16,4 +16,9 @@ public class ProductClientFallback implements ProductClient {
     public List<ProductCartInfo> getProductCartInfos(List<StockManagement> requests) {
         throw new CustomException(ErrorCode.PRODUCT_SERVICE_ERROR);
     }
+
+    @Override
+    public List<ProductCartInfo> getProductCartInfos(List<StockManagement> requests, boolean fresh) {
+        throw new CustomException(ErrorCode.PRODUCT_SERVICE_ERROR);
+    }
 }
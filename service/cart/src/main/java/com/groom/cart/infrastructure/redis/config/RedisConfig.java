@@ -5,8 +5,13 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import com.groom.cart.infrastructure.cache.ProductSnapshotCache;
+
 @Configuration
 public class RedisConfig {
 
@@ -33,4 +38,16 @@ public class RedisConfig {
     ) {
         return new StringRedisTemplate(factory);
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        RedisConnectionFactory factory,
+        ProductSnapshotCache productSnapshotCache
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.addMessageListener(productSnapshotCache,
+            new ChannelTopic(ProductSnapshotCache.INVALIDATION_CHANNEL));
+        return container;
+    }
 }
@@ -1,13 +1,16 @@
 package com.groom.cart.infrastructure.redis.repository;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
 import com.groom.cart.domain.model.CartItem;
@@ -17,69 +20,211 @@ import com.groom.cart.infrastructure.redis.support.CartRedisKeyGenerator;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 장바구니 Redis Hash 저장소
+ *
+ * 변경 연산은 Lua 스크립트 한 번으로 처리 (한도 검사 + 증가/덮어쓰기 + TTL 연장)
+ * → 명령당 왕복 1회, 조회 후 쓰기 사이에 다른 요청이 끼어드는 경쟁 없음
+ *
+ * [인코딩]
+ * field: 16B productId (+ 16B variantId) 바이너리, value: 정수 문자열 (HINCRBY 대상, JSON 직렬화 없음)
+ * → 필드/값이 listpack 한도(64B) 이내라 작은 장바구니는 listpack 인코딩 유지
+ *
+ * [지연 마이그레이션]
+ * 기존 "productId:variantId" 문자열 필드 장바구니는 모든 스크립트 앞단(MIGRATE)에서 접근 시 변환
+ * 필드 하나만 표본으로 길이 확인 (바이너리 필드는 32B 이하, 문자열 필드는 41B 이상), 변환은 스크립트 안에서 원자적으로 수행하고 TTL 유지
+ * 표본 조회에 HRANDFIELD를 사용하므로 Redis 6.2 이상 필요
+ */
 @Repository
 @RequiredArgsConstructor
 public class CartRedisRepositoryImpl implements CartRepository {
 
+    private static final String MIGRATE = """
+        local function uuid_bytes(uuid)
+            local hex = string.gsub(uuid, '%-', '')
+            return (string.gsub(hex, '%x%x', function(h) return string.char(tonumber(h, 16)) end))
+        end
+        local function migrate(key)
+            local sample = redis.call('HRANDFIELD', key)
+            if not sample or #sample <= 32 then
+                return
+            end
+            local ttl = redis.call('PTTL', key)
+            local entries = redis.call('HGETALL', key)
+            redis.call('DEL', key)
+            for i = 1, #entries, 2 do
+                local sep = string.find(entries[i], ':', 1, true)
+                local quantity = tonumber(entries[i + 1])
+                if sep and quantity then
+                    local field = uuid_bytes(string.sub(entries[i], 1, sep - 1))
+                    local variant = string.sub(entries[i], sep + 1)
+                    if variant ~= 'null' then
+                        field = field .. uuid_bytes(variant)
+                    end
+                    redis.call('HINCRBY', key, field, quantity)
+                end
+            end
+            if ttl > 0 then
+                redis.call('PEXPIRE', key, ttl)
+            end
+        end
+        migrate(KEYS[1])
+        """;
+
+    /**
+     * KEYS[1] = cart key, ARGV[1] = TTL(초), 이후 (field, 증가량, 최대 수량) 반복
+     * 하나라도 한도를 넘으면 아무것도 반영하지 않고 넘은 아이템 순번(1부터)을 반환
+     */
+    private static final RedisScript<List> ADD_ITEMS_SCRIPT = RedisScript.of(MIGRATE + """
+        local exceeded = {}
+        for i = 2, #ARGV, 3 do
+            local current = tonumber(redis.call('HGET', KEYS[1], ARGV[i])) or 0
+            if current + tonumber(ARGV[i + 1]) > tonumber(ARGV[i + 2]) then
+                exceeded[#exceeded + 1] = (i + 1) / 3
+            end
+        end
+        if #exceeded > 0 then
+            return exceeded
+        end
+        for i = 2, #ARGV, 3 do
+            redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+        end
+        redis.call('EXPIRE', KEYS[1], ARGV[1])
+        return exceeded
+        """, List.class);
+
+    /**
+     * KEYS[1] = cart key, ARGV = (field, 수량, TTL(초))
+     * 아이템이 없으면 0, 있으면 덮어쓰기(0 이하면 삭제) 후 1
+     */
+    private static final RedisScript<Long> UPDATE_QUANTITY_SCRIPT = RedisScript.of(MIGRATE + """
+        if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+            return 0
+        end
+        if tonumber(ARGV[2]) <= 0 then
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            return 1
+        end
+        redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+        redis.call('EXPIRE', KEYS[1], ARGV[3])
+        return 1
+        """, Long.class);
+
+    /**
+     * KEYS[1] = cart key, ARGV = 삭제할 field 목록 → 삭제된 개수
+     */
+    private static final RedisScript<Long> REMOVE_ITEMS_SCRIPT = RedisScript.of(MIGRATE + """
+        return redis.call('HDEL', KEYS[1], unpack(ARGV))
+        """, Long.class);
+
+    /**
+     * KEYS[1] = cart key, ARGV[1] = field → 수량 (없으면 빈 목록)
+     */
+    private static final RedisScript<List> FIND_ITEM_SCRIPT = RedisScript.of(MIGRATE + """
+        local value = redis.call('HGET', KEYS[1], ARGV[1])
+        if not value then
+            return {}
+        end
+        return { value }
+        """, List.class);
+
+    /**
+     * KEYS[1] = cart key → field, value 교대 목록 (HGETALL)
+     */
+    private static final RedisScript<List> FIND_ALL_SCRIPT = RedisScript.of(MIGRATE + """
+        return redis.call('HGETALL', KEYS[1])
+        """, List.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final CartRedisKeyGenerator keyGenerator;
 
     @Override
-    public void addItem(UUID userId, UUID productId, UUID variantId, int quantity) {
-        String cartKey = keyGenerator.cartKey(userId);
-        String field = keyGenerator.itemField(productId, variantId);
+    public boolean addItem(UUID userId, UUID productId, UUID variantId, int quantity, int maxQuantity) {
+        CartItemKey key = new CartItemKey(productId, variantId);
+        return addItems(
+            userId,
+            List.of(new CartItem(productId, variantId, quantity)),
+            Map.of(key, maxQuantity)
+        ).isEmpty();
+    }
 
-        redisTemplate.opsForHash().increment(cartKey, field, quantity);
-        extendTtl(cartKey);
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CartItemKey> addItems(UUID userId, List<CartItem> items, Map<CartItemKey, Integer> maxQuantities) {
+        if (items == null || items.isEmpty()) return List.of();
+
+        List<byte[]> args = new ArrayList<>(1 + items.size() * 3);
+        args.add(number(ttlSeconds()));
+        for (CartItem item : items) {
+            CartItemKey key = new CartItemKey(item.getProductId(), item.getVariantId());
+            args.add(keyGenerator.itemField(item.getProductId(), item.getVariantId()));
+            args.add(number(item.getQuantity()));
+            args.add(number(maxQuantities.getOrDefault(key, Integer.MAX_VALUE)));
+        }
+
+        List<Long> exceeded = (List<Long>) execute(ADD_ITEMS_SCRIPT, userId, args.toArray());
+        if (exceeded == null || exceeded.isEmpty()) {
+            return List.of();
+        }
+
+        return exceeded.stream()
+            .map(index -> items.get(index.intValue() - 1))
+            .map(item -> new CartItemKey(item.getProductId(), item.getVariantId()))
+            .toList();
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Optional<CartItem> findItem(UUID userId, UUID productId, UUID variantId) {
-        Object value = redisTemplate.opsForHash().get(
-            keyGenerator.cartKey(userId),
+        List<byte[]> value = (List<byte[]>) execute(
+            FIND_ITEM_SCRIPT,
+            userId,
             keyGenerator.itemField(productId, variantId)
         );
 
-        if (!(value instanceof Number)) {
+        if (value == null || value.isEmpty()) {
             return Optional.empty();
         }
 
-        return Optional.of(
-            new CartItem(productId, variantId, ((Number) value).intValue())
-        );
+        return parseQuantity(value.get(0))
+            .map(quantity -> new CartItem(productId, variantId, quantity));
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public List<CartItem> findAll(UUID userId) {
-        Map<Object, Object> entries =
-            redisTemplate.opsForHash().entries(keyGenerator.cartKey(userId));
+        List<byte[]> entries = (List<byte[]>) execute(FIND_ALL_SCRIPT, userId);
+        if (entries == null || entries.isEmpty()) {
+            return List.of();
+        }
 
-        return entries.entrySet().stream()
-            .map(this::toCartItem)
-            .flatMap(Optional::stream)
-            .collect(Collectors.toList());
+        List<CartItem> items = new ArrayList<>(entries.size() / 2);
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            toCartItem(entries.get(i), entries.get(i + 1)).ifPresent(items::add);
+        }
+        return items;
     }
 
     @Override
-    public void updateQuantity(UUID userId, UUID productId, UUID variantId, int quantity) {
-        String cartKey = keyGenerator.cartKey(userId);
-        String field = keyGenerator.itemField(productId, variantId);
-
-        if (quantity <= 0) {
-            removeItem(userId, productId, variantId);
-            return;
-        }
-
-        redisTemplate.opsForHash().put(cartKey, field, quantity);
-        extendTtl(cartKey);
+    public boolean updateQuantity(UUID userId, UUID productId, UUID variantId, int quantity) {
+        Long updated = execute(
+            UPDATE_QUANTITY_SCRIPT,
+            userId,
+            keyGenerator.itemField(productId, variantId),
+            number(quantity),
+            number(ttlSeconds())
+        );
+        return updated != null && updated > 0;
     }
 
     @Override
-    public void removeItem(UUID userId, UUID productId, UUID variantId) {
-        redisTemplate.opsForHash().delete(
-            keyGenerator.cartKey(userId),
+    public boolean removeItem(UUID userId, UUID productId, UUID variantId) {
+        Long removed = execute(
+            REMOVE_ITEMS_SCRIPT,
+            userId,
             keyGenerator.itemField(productId, variantId)
         );
+        return removed != null && removed > 0;
     }
 
     @Override
@@ -90,7 +235,7 @@ public class CartRedisRepositoryImpl implements CartRepository {
             .map(k -> keyGenerator.itemField(k.productId(), k.variantId()))
             .toArray();
 
-        redisTemplate.opsForHash().delete(keyGenerator.cartKey(userId), fields);
+        execute(REMOVE_ITEMS_SCRIPT, userId, fields);
     }
 
     @Override
@@ -100,29 +245,41 @@ public class CartRedisRepositoryImpl implements CartRepository {
 
     /* ===== private ===== */
 
-    private void extendTtl(String cartKey) {
-        redisTemplate.expire(cartKey, keyGenerator.ttlDays(), TimeUnit.DAYS);
+    // 인자/결과는 바이트 그대로 (바이너리 field, 정수 문자열 value)
+    @SuppressWarnings("unchecked")
+    private <T> T execute(RedisScript<T> script, UUID userId, Object... args) {
+        return redisTemplate.execute(
+            script,
+            RedisSerializer.byteArray(),
+            (RedisSerializer<T>) RedisSerializer.byteArray(),
+            List.of(keyGenerator.cartKey(userId)),
+            args
+        );
     }
 
-    private Optional<CartItem> toCartItem(Map.Entry<Object, Object> entry) {
-        if (!(entry.getKey() instanceof String field) ||
-            !(entry.getValue() instanceof Number qty)) {
-            return Optional.empty();
-        }
+    private long ttlSeconds() {
+        return TimeUnit.DAYS.toSeconds(keyGenerator.ttlDays());
+    }
 
-        String[] parts = field.split(":");
-        if (parts.length != 2) return Optional.empty();
+    private static byte[] number(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+    }
 
+    private static Optional<Integer> parseQuantity(byte[] value) {
         try {
-            return Optional.of(
-                new CartItem(
-                    UUID.fromString(parts[0]),
-                    "null".equals(parts[1]) ? null : UUID.fromString(parts[1]),
-                    qty.intValue()
-                )
-            );
-        } catch (IllegalArgumentException e) {
+            return Optional.of(Integer.parseInt(new String(value, StandardCharsets.US_ASCII)));
+        } catch (NumberFormatException e) {
             return Optional.empty();
         }
     }
+
+    private Optional<CartItem> toCartItem(byte[] field, byte[] value) {
+        CartItemKey key = keyGenerator.parseItemField(field);
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        return parseQuantity(value)
+            .map(quantity -> new CartItem(key.productId(), key.variantId(), quantity));
+    }
 }
@@ -1,14 +1,18 @@
 package com.groom.cart.infrastructure.redis.support;
 
+import java.nio.ByteBuffer;
 import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 
+import com.groom.cart.domain.model.CartItemKey;
+
 @Component
 public class CartRedisKeyGenerator {
 
     private static final String CART_PREFIX = "cart:";
     private static final long CART_TTL_DAYS = 30L;
+    private static final int UUID_BYTES = 16;
 
     /**
      * cart:{userId}
@@ -18,13 +22,38 @@ public class CartRedisKeyGenerator {
     }
 
     /**
-     * productId:variantId
+     * productId(16B) + variantId(16B), 옵션 없는 상품은 productId(16B)만
+     * 문자열 "productId:variantId"(최대 73B)와 달리 listpack 값 한도(64B) 이내
+     */
+    public byte[] itemField(UUID productId, UUID variantId) {
+        ByteBuffer buffer = ByteBuffer.allocate(variantId == null ? UUID_BYTES : UUID_BYTES * 2);
+        putUuid(buffer, productId);
+        if (variantId != null) {
+            putUuid(buffer, variantId);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * itemField 역변환 (길이가 맞지 않으면 null)
      */
-    public String itemField(UUID productId, UUID variantId) {
-        return productId + ":" + variantId;
+    public CartItemKey parseItemField(byte[] field) {
+        if (field == null || (field.length != UUID_BYTES && field.length != UUID_BYTES * 2)) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(field);
+        UUID productId = new UUID(buffer.getLong(), buffer.getLong());
+        UUID variantId = buffer.hasRemaining() ? new UUID(buffer.getLong(), buffer.getLong()) : null;
+        return new CartItemKey(productId, variantId);
     }
 
     public long ttlDays() {
         return CART_TTL_DAYS;
     }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
 }
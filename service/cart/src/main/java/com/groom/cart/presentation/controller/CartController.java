@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.groom.cart.application.CartService;
+import com.groom.cart.application.dto.CartCheckoutResult;
 import com.groom.cart.presentation.dto.request.CartAddRequest;
 import com.groom.cart.presentation.dto.request.CartCheckoutRequest;
 import com.groom.cart.presentation.dto.response.CartCheckoutResponse;
@@ -44,6 +45,18 @@ public class CartController {
     }
 
     /**
+     * 여러 상품 한 번에 담기 (전부 담거나 전부 거절)
+     */
+    @PostMapping("/items/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public void addItems(@RequestBody List<CartAddRequest> requests) {
+        cartService.addItemsToCart(
+            SecurityUtil.getCurrentUserId(),
+            requests
+        );
+    }
+
+        /**
      * 내 장바구니 조회
      */
     @GetMapping
@@ -77,22 +90,22 @@ public class CartController {
         @RequestBody(required = false) CartCheckoutRequest request
     ) {
 
-        UUID orderId;
+        CartCheckoutResult result;
 
         if (request == null || request.getSelectedItems() == null) {
             // 전체 주문
-            orderId = cartService.checkout(
+            result = cartService.checkout(
                 SecurityUtil.getCurrentUserId()
             );
         } else {
             // 선택 주문
-            orderId = cartService.checkout(
+            result = cartService.checkout(
                 SecurityUtil.getCurrentUserId(),
                 request.getSelectedItems()
             );
         }
 
-        return new CartCheckoutResponse(orderId);
+        return CartCheckoutResponse.from(result);
     }
 
 
@@ -1,7 +1,10 @@
 package com.groom.cart.presentation.dto.response;
 
+import java.time.Instant;
 import java.util.UUID;
 
+import com.groom.cart.application.dto.CartCheckoutResult;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -9,4 +12,16 @@ import lombok.Getter;
 @AllArgsConstructor
 public class CartCheckoutResponse {
     private UUID orderId;
+    private long totalAmount;
+    private String quoteToken;    // 주문 생성 요청에 그대로 전달
+    private Instant quoteExpiresAt;
+
+    public static CartCheckoutResponse from(CartCheckoutResult result) {
+        return new CartCheckoutResponse(
+            result.orderId(),
+            result.totalAmount(),
+            result.quoteToken(),
+            result.expiresAt()
+        );
+    }
 }
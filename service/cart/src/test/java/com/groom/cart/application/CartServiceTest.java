@@ -3,23 +3,30 @@ package com.groom.cart.application;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
 
+import com.groom.common.checkout.CheckoutQuote;
+import com.groom.common.checkout.CheckoutQuoteSigner;
 import com.groom.common.presentation.advice.CustomException;
 import com.groom.common.presentation.advice.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.groom.cart.application.dto.CartCheckoutResult;
 import com.groom.cart.application.dto.ProductCartInfo;
+import com.groom.cart.application.event.request.CartCheckoutRequestedEvent;
 import com.groom.cart.domain.model.CartItem;
+import com.groom.cart.domain.model.CartItemKey;
 import com.groom.cart.domain.repository.CartRepository;
-import com.groom.cart.infrastructure.feign.ProductClient;
 import com.groom.cart.presentation.dto.request.CartAddRequest;
 import com.groom.cart.presentation.dto.response.CartItemResponse;
 
@@ -34,7 +41,16 @@ class  CartServiceTest {
     private CartRepository cartRepository;
 
     @Mock
-    private ProductClient productClient;
+    private ProductSnapshotService productSnapshotService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CartCheckoutValidator checkoutValidator;
+
+    @Mock
+    private CheckoutQuoteSigner checkoutQuoteSigner;
 
     private UUID userId;
     private UUID productId;
@@ -59,22 +75,22 @@ class  CartServiceTest {
         when(product.isAvailable()).thenReturn(true);
         when(product.getStockQuantity()).thenReturn(10);
 
-        when(productClient.getProductCartInfos(any()))
+        when(productSnapshotService.getProductCartInfos(any()))
             .thenReturn(List.of(product));
 
-        when(cartRepository.findItem(userId, productId, variantId))
-            .thenReturn(Optional.empty());
+        when(cartRepository.addItem(userId, productId, variantId, 2, 10))
+            .thenReturn(true);
 
         cartService.addItemToCart(userId, request);
 
-        verify(cartRepository).addItem(userId, productId, variantId, 2);
+        verify(cartRepository).addItem(userId, productId, variantId, 2, 10);
     }
 
     @Test
     void addItemToCart_productNotFound() {
         CartAddRequest request = new CartAddRequest(productId, variantId, 1);
 
-        when(productClient.getProductCartInfos(any()))
+        when(productSnapshotService.getProductCartInfos(any()))
             .thenReturn(List.of());
 
         assertThatThrownBy(() ->
@@ -94,7 +110,7 @@ class  CartServiceTest {
         ProductCartInfo product = mock(ProductCartInfo.class);
         when(product.isAvailable()).thenReturn(false);
 
-        when(productClient.getProductCartInfos(any()))
+        when(productSnapshotService.getProductCartInfos(any()))
             .thenReturn(List.of(product));
 
         assertThatThrownBy(() ->
@@ -115,11 +131,11 @@ class  CartServiceTest {
         when(product.isAvailable()).thenReturn(true);
         when(product.getStockQuantity()).thenReturn(3);
 
-        when(productClient.getProductCartInfos(any()))
+        when(productSnapshotService.getProductCartInfos(any()))
             .thenReturn(List.of(product));
 
-        when(cartRepository.findItem(userId, productId, variantId))
-            .thenReturn(Optional.of(new CartItem(productId, variantId, 1)));
+        when(cartRepository.addItem(userId, productId, variantId, 5, 3))
+            .thenReturn(false);
 
         assertThatThrownBy(() ->
             cartService.addItemToCart(userId, request)
@@ -132,6 +148,101 @@ class  CartServiceTest {
     }
 
 
+    // =========================
+    // addItemsToCart
+    // =========================
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void addItemsToCart_mergesDuplicates_andAddsAtomically() {
+        UUID otherProductId = UUID.randomUUID();
+        List<CartAddRequest> requests = List.of(
+            new CartAddRequest(productId, variantId, 2),
+            new CartAddRequest(otherProductId, null, 1),
+            new CartAddRequest(productId, variantId, 3)
+        );
+
+        ProductCartInfo product = productInfo(productId, variantId, true, 10);
+        ProductCartInfo other = productInfo(otherProductId, null, true, 4);
+        when(productSnapshotService.getProductCartInfos(any()))
+            .thenReturn(List.of(product, other));
+
+        when(cartRepository.addItems(eq(userId), anyList(), anyMap()))
+            .thenReturn(List.of());
+
+        cartService.addItemsToCart(userId, requests);
+
+        ArgumentCaptor<List<CartItem>> items = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Map<CartItemKey, Integer>> maxQuantities = ArgumentCaptor.forClass(Map.class);
+        verify(cartRepository).addItems(eq(userId), items.capture(), maxQuantities.capture());
+
+        assertThat(items.getValue())
+            .extracting(CartItem::getProductId, CartItem::getVariantId, CartItem::getQuantity)
+            .containsExactly(
+                tuple(productId, variantId, 5),
+                tuple(otherProductId, null, 1)
+            );
+        assertThat(maxQuantities.getValue()).containsExactlyInAnyOrderEntriesOf(Map.of(
+            new CartItemKey(productId, variantId), 10,
+            new CartItemKey(otherProductId, null), 4
+        ));
+    }
+
+    @Test
+    void addItemsToCart_stockExceeded_addsNothing() {
+        List<CartAddRequest> requests = List.of(new CartAddRequest(productId, variantId, 5));
+
+        ProductCartInfo product = productInfo(productId, variantId, true, 3);
+        when(productSnapshotService.getProductCartInfos(any()))
+            .thenReturn(List.of(product));
+
+        when(cartRepository.addItems(eq(userId), anyList(), anyMap()))
+            .thenReturn(List.of(new CartItemKey(productId, variantId)));
+
+        assertThatThrownBy(() ->
+            cartService.addItemsToCart(userId, requests)
+        )
+            .isInstanceOf(CustomException.class)
+            .satisfies(ex ->
+                assertThat(((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.STOCK_NOT_ENOUGH)
+            );
+    }
+
+    @Test
+    void addItemsToCart_oneNotOnSale_addsNothing() {
+        UUID otherProductId = UUID.randomUUID();
+        List<CartAddRequest> requests = List.of(
+            new CartAddRequest(productId, variantId, 1),
+            new CartAddRequest(otherProductId, null, 1)
+        );
+
+        ProductCartInfo product = productInfo(productId, variantId, true, 10);
+        ProductCartInfo other = productInfo(otherProductId, null, false, 10);
+        when(productSnapshotService.getProductCartInfos(any()))
+            .thenReturn(List.of(product, other));
+
+        assertThatThrownBy(() ->
+            cartService.addItemsToCart(userId, requests)
+        )
+            .isInstanceOf(CustomException.class)
+            .satisfies(ex ->
+                assertThat(((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.PRODUCT_NOT_ON_SALE)
+            );
+
+        verify(cartRepository, never()).addItems(any(), anyList(), anyMap());
+    }
+
+    private static ProductCartInfo productInfo(UUID productId, UUID variantId, boolean available, int stock) {
+        ProductCartInfo info = mock(ProductCartInfo.class);
+        when(info.getProductId()).thenReturn(productId);
+        when(info.getVariantId()).thenReturn(variantId);
+        lenient().when(info.isAvailable()).thenReturn(available);
+        lenient().when(info.getStockQuantity()).thenReturn(stock);
+        return info;
+    }
+
     // =========================
     // getMyCart
     // =========================
@@ -163,7 +274,7 @@ class  CartServiceTest {
         when(info.getStockQuantity()).thenReturn(10);
         when(info.isAvailable()).thenReturn(true);
 
-        when(productClient.getProductCartInfos(any()))
+        when(productSnapshotService.getProductCartInfos(any()))
             .thenReturn(List.of(info));
 
         List<CartItemResponse> result = cartService.getMyCart(userId);
@@ -178,18 +289,16 @@ class  CartServiceTest {
 
     @Test
     void updateItemQuantity_success() {
-        CartItem item = new CartItem(productId, variantId, 1);
-
-        when(cartRepository.findItem(userId, productId, variantId))
-            .thenReturn(Optional.of(item));
-
         ProductCartInfo product = mock(ProductCartInfo.class);
         when(product.isAvailable()).thenReturn(true);
         when(product.getStockQuantity()).thenReturn(10);
 
-        when(productClient.getProductCartInfos(any()))
+        when(productSnapshotService.getProductCartInfos(any()))
             .thenReturn(List.of(product));
 
+        when(cartRepository.updateQuantity(userId, productId, variantId, 3))
+            .thenReturn(true);
+
         cartService.updateItemQuantity(userId, productId, variantId, 3);
 
         verify(cartRepository)
@@ -197,8 +306,15 @@ class  CartServiceTest {
     }
     @Test
     void updateItemQuantity_cartItemNotFound() {
-        when(cartRepository.findItem(any(), any(), any()))
-            .thenReturn(Optional.empty());
+        ProductCartInfo product = mock(ProductCartInfo.class);
+        when(product.isAvailable()).thenReturn(true);
+        when(product.getStockQuantity()).thenReturn(10);
+
+        when(productSnapshotService.getProductCartInfos(any()))
+            .thenReturn(List.of(product));
+
+        when(cartRepository.updateQuantity(any(), any(), any(), anyInt()))
+            .thenReturn(false);
 
         assertThatThrownBy(() ->
             cartService.updateItemQuantity(userId, productId, variantId, 1)
@@ -211,20 +327,105 @@ class  CartServiceTest {
     }
 
 
+    // =========================
+    // checkout
+    // =========================
+
+    @Test
+    void checkout_selectedItems_validatesOnlySelected_andReturnsQuote() {
+        UUID otherProductId = UUID.randomUUID();
+        CartItem selected = new CartItem(productId, variantId, 2);
+        CartItem notSelected = new CartItem(otherProductId, null, 1);
+
+        when(cartRepository.findAll(userId))
+            .thenReturn(List.of(selected, notSelected));
+
+        CheckoutQuote quote = new CheckoutQuote(
+            UUID.randomUUID(),
+            userId,
+            List.of(new CheckoutQuote.QuotedItem(productId, variantId, 2, 1000L)),
+            2000L,
+            Instant.now().plusSeconds(600)
+        );
+        when(checkoutValidator.validate(userId, List.of(selected)))
+            .thenReturn(quote);
+        when(checkoutQuoteSigner.sign(quote))
+            .thenReturn("quote-token");
+
+        CartCheckoutResult result = cartService.checkout(
+            userId, List.of(new CartItemKey(productId, variantId))
+        );
+
+        assertThat(result.orderId()).isEqualTo(quote.quoteId());
+        assertThat(result.totalAmount()).isEqualTo(2000L);
+        assertThat(result.quoteToken()).isEqualTo("quote-token");
+        verify(eventPublisher).publishEvent(any(CartCheckoutRequestedEvent.class));
+    }
+
+    @Test
+    void checkout_validationFailed_doesNotPublish() {
+        CartItem item = new CartItem(productId, variantId, 5);
+
+        when(cartRepository.findAll(userId))
+            .thenReturn(List.of(item));
+        when(checkoutValidator.validate(userId, List.of(item)))
+            .thenThrow(new CustomException(ErrorCode.STOCK_NOT_ENOUGH));
+
+        assertThatThrownBy(() ->
+            cartService.checkout(userId)
+        )
+            .isInstanceOf(CustomException.class)
+            .satisfies(ex ->
+                assertThat(((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.STOCK_NOT_ENOUGH)
+            );
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void checkout_empty() {
+        when(cartRepository.findAll(userId))
+            .thenReturn(List.of());
+
+        assertThatThrownBy(() ->
+            cartService.checkout(userId)
+        )
+            .isInstanceOf(CustomException.class)
+            .satisfies(ex ->
+                assertThat(((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.CART_EMPTY)
+            );
+    }
+
     // =========================
     // delete / clear
     // =========================
 
     @Test
     void deleteCartItem_success() {
-        when(cartRepository.findItem(userId, productId, variantId))
-            .thenReturn(Optional.of(new CartItem(productId, variantId, 1)));
+        when(cartRepository.removeItem(userId, productId, variantId))
+            .thenReturn(true);
 
         cartService.deleteCartItem(userId, productId, variantId);
 
         verify(cartRepository).removeItem(userId, productId, variantId);
     }
 
+    @Test
+    void deleteCartItem_cartItemNotFound() {
+        when(cartRepository.removeItem(userId, productId, variantId))
+            .thenReturn(false);
+
+        assertThatThrownBy(() ->
+            cartService.deleteCartItem(userId, productId, variantId)
+        )
+            .isInstanceOf(CustomException.class)
+            .satisfies(ex ->
+                assertThat(((CustomException) ex).getErrorCode())
+                    .isEqualTo(ErrorCode.CART_ITEM_NOT_FOUND)
+            );
+    }
+
     @Test
     void clearCart_success() {
         cartService.clearCart(userId);
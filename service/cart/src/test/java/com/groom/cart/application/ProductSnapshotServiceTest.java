@@ -0,0 +1,89 @@
+package com.groom.cart.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.groom.cart.application.dto.ProductCartInfo;
+import com.groom.cart.application.dto.StockManagement;
+import com.groom.cart.domain.model.CartItemKey;
+import com.groom.cart.infrastructure.cache.ProductSnapshotCache;
+import com.groom.cart.infrastructure.feign.ProductClient;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSnapshotServiceTest {
+
+    @InjectMocks
+    private ProductSnapshotService productSnapshotService;
+
+    @Mock
+    private ProductSnapshotCache productSnapshotCache;
+
+    @Mock
+    private ProductClient productClient;
+
+    private final UUID productId = UUID.randomUUID();
+    private final UUID variantId = UUID.randomUUID();
+
+    @Test
+    void getProductCartInfos_allCached_noRemoteCall() {
+        CartItemKey key = new CartItemKey(productId, variantId);
+        ProductCartInfo cached = mock(ProductCartInfo.class);
+
+        when(productSnapshotCache.getAll(any()))
+            .thenReturn(Map.of(key, cached));
+
+        List<ProductCartInfo> result = productSnapshotService.getProductCartInfos(
+            List.of(StockManagement.of(productId, variantId, 2))
+        );
+
+        assertThat(result).containsExactly(cached);
+        verifyNoInteractions(productClient);
+    }
+
+    @Test
+    void getProductCartInfos_loadsOnlyMisses_andCachesThem() {
+        UUID otherProductId = UUID.randomUUID();
+        CartItemKey cachedKey = new CartItemKey(productId, variantId);
+        ProductCartInfo cached = mock(ProductCartInfo.class);
+
+        ProductCartInfo loaded = mock(ProductCartInfo.class);
+        when(loaded.getProductId()).thenReturn(otherProductId);
+        when(loaded.getVariantId()).thenReturn(null);
+
+        StockManagement hit = StockManagement.of(productId, variantId, 1);
+        StockManagement miss = StockManagement.of(otherProductId, null, 3);
+
+        when(productSnapshotCache.getAll(any()))
+            .thenReturn(Map.of(cachedKey, cached));
+        when(productClient.getProductCartInfos(List.of(miss)))
+            .thenReturn(List.of(loaded));
+
+        List<ProductCartInfo> result =
+            productSnapshotService.getProductCartInfos(List.of(hit, miss));
+
+        assertThat(result).containsExactly(cached, loaded);
+        verify(productSnapshotCache).putAll(List.of(loaded));
+    }
+
+    @Test
+    void getProductCartInfos_notFound_isExcluded() {
+        StockManagement request = StockManagement.of(productId, variantId, 1);
+
+        when(productSnapshotCache.getAll(any()))
+            .thenReturn(Map.of());
+        when(productClient.getProductCartInfos(List.of(request)))
+            .thenReturn(List.of());
+
+        assertThat(productSnapshotService.getProductCartInfos(List.of(request))).isEmpty();
+    }
+}
@@ -39,4 +39,27 @@ class ProductClientFallbackTest {
 				.isEqualTo(ErrorCode.PRODUCT_SERVICE_ERROR);
 		});
 	}
+
+	@Test
+	void getFreshProductCartInfos_shouldThrowProductServiceError() {
+		// given
+		List<StockManagement> requests = List.of(
+			StockManagement.of(
+				UUID.randomUUID(),
+				null,
+				1
+			)
+		);
+
+		// when & then
+		assertThatThrownBy(() ->
+			fallback.getProductCartInfos(requests, true)
+		)
+		.isInstanceOf(CustomException.class)
+		.satisfies(ex -> {
+			CustomException ce = (CustomException) ex;
+			assertThat(ce.getErrorCode())
+				.isEqualTo(ErrorCode.PRODUCT_SERVICE_ERROR);
+		});
+	}
 }
@@ -1,17 +1,20 @@
 package com.groom.cart.presentation.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.groom.cart.application.CartService;
+import com.groom.cart.application.dto.CartCheckoutResult;
 import com.groom.cart.domain.model.CartItemKey;
 import com.groom.cart.infrastructure.security.SecurityTestUtil;
 import com.groom.cart.presentation.dto.request.CartAddRequest;
@@ -72,6 +75,23 @@ class CartControllerTest {
         verify(cartService).addItemToCart(eq(userId), any(CartAddRequest.class));
     }
 
+    @Test
+    void addItems_success() throws Exception {
+        SecurityTestUtil.mockUser(userId);
+
+        List<CartAddRequest> requests = List.of(
+                new CartAddRequest(productId, variantId, 2),
+                new CartAddRequest(UUID.randomUUID(), null, 1)
+        );
+
+        mockMvc.perform(post("/api/v1/cart/items/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isCreated());
+
+        verify(cartService).addItemsToCart(eq(userId), anyList());
+    }
+
     @Test
     void getMyCart_success() throws Exception {
         SecurityTestUtil.mockUser(userId);
@@ -105,11 +125,14 @@ class CartControllerTest {
         SecurityTestUtil.mockUser(userId);
 
         UUID orderId = UUID.randomUUID();
-        when(cartService.checkout(userId)).thenReturn(orderId);
+        when(cartService.checkout(userId))
+                .thenReturn(new CartCheckoutResult(orderId, 3000L, "quote-token", Instant.now()));
 
         mockMvc.perform(post("/api/v1/cart/checkout"))
                 .andExpect(status().isAccepted())
-                .andExpect(jsonPath("$.orderId").value(orderId.toString()));
+                .andExpect(jsonPath("$.orderId").value(orderId.toString()))
+                .andExpect(jsonPath("$.totalAmount").value(3000))
+                .andExpect(jsonPath("$.quoteToken").value("quote-token"));
 
         verify(cartService).checkout(userId);
     }
@@ -126,7 +149,8 @@ class CartControllerTest {
         CartCheckoutRequest request = new CartCheckoutRequest();
         ReflectionTestUtils.setField(request, "selectedItems", items);
 
-        when(cartService.checkout(userId, items)).thenReturn(orderId);
+        when(cartService.checkout(userId, items))
+                .thenReturn(new CartCheckoutResult(orderId, 3000L, "quote-token", Instant.now()));
 
         mockMvc.perform(post("/api/v1/cart/checkout")
                         .contentType(MediaType.APPLICATION_JSON)
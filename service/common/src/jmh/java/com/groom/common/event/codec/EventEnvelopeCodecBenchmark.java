@@ -0,0 +1,142 @@
+package com.groom.common.event.codec;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.groom.common.event.Type.EventType;
+import com.groom.common.event.envelope.EventEnvelope;
+import com.groom.common.event.payload.PaymentCompletedPayload;
+import com.groom.common.event.payload.StockDeductedPayload;
+import com.groom.common.infrastructure.kafka.codec.EventEnvelopeDeserializer;
+import com.groom.common.infrastructure.kafka.codec.EventEnvelopeSerializer;
+
+/**
+ * 이벤트 인코딩 비교: 기존 JSON(payload 문자열 이중 인코딩) vs 바이너리
+ *
+ * produce : payload 직렬화 + envelope 직렬화 (Kafka Serializer 경로 그대로)
+ * consume : envelope 역직렬화 + payload 객체화
+ * bytes/event는 Setup에서 한 번 출력 (gc 프로파일러의 gc.alloc.rate.norm으로 할당량도 비교)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventEnvelopeCodecBenchmark {
+
+	private static final String TOPIC = "bench";
+
+	@Param({"PAYMENT_COMPLETED", "STOCK_DEDUCTED"})
+	public String eventType;
+
+	@Param({"5"})
+	public int items;
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	private JsonSerializer<EventEnvelope> jsonSerializer;
+	private JsonDeserializer<EventEnvelope> jsonDeserializer;
+	private EventEnvelopeSerializer binarySerializer;
+	private EventEnvelopeDeserializer binaryDeserializer;
+
+	private Object payload;
+	private Class<?> payloadType;
+	private byte[] jsonBytes;
+	private byte[] binaryBytes;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		jsonSerializer = new JsonSerializer<>();
+		jsonDeserializer = new JsonDeserializer<>(EventEnvelope.class, false);
+		binarySerializer = new EventEnvelopeSerializer();
+		binarySerializer.configure(Map.of(EventEnvelopeSerializer.ENCODING, "binary"), false);
+		binaryDeserializer = new EventEnvelopeDeserializer();
+		binaryDeserializer.configure(Map.of(
+			JsonDeserializer.VALUE_DEFAULT_TYPE, EventEnvelope.class,
+			JsonDeserializer.USE_TYPE_INFO_HEADERS, false,
+			JsonDeserializer.TRUSTED_PACKAGES, "*"), false);
+
+		payload = samplePayload();
+		payloadType = payload.getClass();
+		jsonBytes = produceJson();
+		binaryBytes = produceBinary();
+		System.out.printf("%n[%s] bytes/event json=%d, binary=%d (%.1f%%)%n",
+			eventType, jsonBytes.length, binaryBytes.length, 100.0 * binaryBytes.length / jsonBytes.length);
+	}
+
+	@Benchmark
+	public byte[] produceJson() throws Exception {
+		EventEnvelope envelope = envelope().payload(objectMapper.writeValueAsString(payload)).build();
+		return jsonSerializer.serialize(TOPIC, envelope);
+	}
+
+	@Benchmark
+	public byte[] produceBinary() {
+		return binarySerializer.serialize(TOPIC, envelope().payloadObject(payload).build());
+	}
+
+	@Benchmark
+	public Object consumeJson() throws Exception {
+		EventEnvelope envelope = jsonDeserializer.deserialize(TOPIC, jsonBytes);
+		return envelope.readPayload(payloadType, objectMapper);
+	}
+
+	@Benchmark
+	public Object consumeBinary() throws Exception {
+		EventEnvelope envelope = binaryDeserializer.deserialize(TOPIC, binaryBytes);
+		return envelope.readPayload(payloadType, objectMapper);
+	}
+
+	private EventEnvelope.EventEnvelopeBuilder envelope() {
+		return EventEnvelope.builder()
+			.eventId(UUID.randomUUID().toString())
+			.eventType(EventType.valueOf(eventType))
+			.aggregateType("ORDER")
+			.aggregateId("6f1c2d3e-4b5a-4c7d-8e9f-0a1b2c3d4e5f")
+			.occurredAt(Instant.now())
+			.producer("service-payment")
+			.traceId("6f1c2d3e-4b5a-4c7d-8e9f-0a1b2c3d4e5f")
+			.version("1.0");
+	}
+
+	private Object samplePayload() {
+		UUID orderId = UUID.randomUUID();
+		if (EventType.valueOf(eventType) == EventType.STOCK_DEDUCTED) {
+			List<StockDeductedPayload.DeductedItem> deducted = new ArrayList<>();
+			for (int i = 0; i < items; i++) {
+				deducted.add(StockDeductedPayload.DeductedItem.builder()
+					.productId(UUID.randomUUID())
+					.variantId(UUID.randomUUID())
+					.quantity(i + 1)
+					.remainingStock(100 - i)
+					.build());
+			}
+			return StockDeductedPayload.builder().orderId(orderId).items(deducted).build();
+		}
+		return PaymentCompletedPayload.builder()
+			.orderId(orderId)
+			.paymentKey("tgen_20260101123456abcde")
+			.amount(129_000L)
+			.paidAt(Instant.now())
+			.build();
+	}
+}
@@ -0,0 +1,28 @@
+package com.groom.common.checkout;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 장바구니 체크아웃 견적 (Cart 발급 → Order 검증)
+ *
+ * Cart가 주문 직전 가격/판매 여부/재고를 검증한 결과로, CheckoutQuoteSigner 서명 토큰으로 전달
+ * Order는 토큰이 유효하면 요청 본문의 가격 대신 견적 가격/총액을 사용
+ */
+public record CheckoutQuote(
+	UUID quoteId,
+	UUID userId,
+	List<QuotedItem> items,
+	long totalAmount,
+	Instant expiresAt
+) {
+
+	public record QuotedItem(
+		UUID productId,
+		UUID variantId,
+		int quantity,
+		long unitPrice
+	) {
+	}
+}
@@ -0,0 +1,107 @@
+package com.groom.common.checkout;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.common.presentation.advice.CustomException;
+import com.groom.common.presentation.advice.ErrorCode;
+
+/**
+ * 체크아웃 견적 토큰 서명/검증 (HMAC-SHA256)
+ *
+ * 토큰: base64url(JSON 견적) + "." + base64url(서명)
+ * 키는 checkout.quote.secret 전용 (필수, 32바이트 이상, jwt.secret 재사용 불가) - 미설정 시 기동 실패
+ * 견적을 발급/검증하는 서비스(Cart, Order)만 checkout.quote.enabled=true로 활성화
+ */
+@Component
+@ConditionalOnProperty(name = "checkout.quote.enabled", havingValue = "true")
+public class CheckoutQuoteSigner {
+
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final int MIN_SECRET_BYTES = 32;
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private final ObjectMapper objectMapper;
+	private final SecretKeySpec key;
+
+	public CheckoutQuoteSigner(
+		ObjectMapper objectMapper,
+		@Value("${checkout.quote.secret}") String secret,
+		@Value("${jwt.secret:}") String jwtSecret
+	) {
+		byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+		if (secretBytes.length < MIN_SECRET_BYTES) {
+			throw new IllegalStateException("checkout.quote.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+		}
+		if (secret.equals(jwtSecret)) {
+			throw new IllegalStateException("checkout.quote.secret must not reuse jwt.secret");
+		}
+
+		this.objectMapper = objectMapper;
+		this.key = new SecretKeySpec(secretBytes, ALGORITHM);
+	}
+
+	public String sign(CheckoutQuote quote) {
+		try {
+			String payload = ENCODER.encodeToString(objectMapper.writeValueAsBytes(quote));
+			return payload + "." + ENCODER.encodeToString(mac(payload));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize checkout quote", e);
+		}
+	}
+
+	/**
+	 * 서명/만료/사용자 검증 후 견적 반환
+	 */
+	public CheckoutQuote verify(String token, UUID userId) {
+		int separator = token == null ? -1 : token.indexOf('.');
+		if (separator < 0) {
+			throw new CustomException(ErrorCode.CHECKOUT_QUOTE_INVALID);
+		}
+
+		String payload = token.substring(0, separator);
+		CheckoutQuote quote;
+		try {
+			byte[] signature = DECODER.decode(token.substring(separator + 1));
+			if (!MessageDigest.isEqual(mac(payload), signature)) {
+				throw new CustomException(ErrorCode.CHECKOUT_QUOTE_INVALID);
+			}
+			quote = objectMapper.readValue(DECODER.decode(payload), CheckoutQuote.class);
+		} catch (IllegalArgumentException | IOException e) {
+			throw new CustomException(ErrorCode.CHECKOUT_QUOTE_INVALID);
+		}
+
+		if (!userId.equals(quote.userId()) || quote.expiresAt() == null || quote.items() == null) {
+			throw new CustomException(ErrorCode.CHECKOUT_QUOTE_INVALID);
+		}
+		if (quote.expiresAt().isBefore(Instant.now())) {
+			throw new CustomException(ErrorCode.CHECKOUT_QUOTE_EXPIRED);
+		}
+		return quote;
+	}
+
+	private byte[] mac(String payload) {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(key);
+			return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Failed to sign checkout quote", e);
+		}
+	}
+}
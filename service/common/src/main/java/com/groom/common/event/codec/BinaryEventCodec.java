@@ -0,0 +1,183 @@
+package com.groom.common.event.codec;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.groom.common.event.Type.EventType;
+import com.groom.common.event.envelope.EventEnvelope;
+
+/**
+ * EventEnvelope 바이너리 인코딩
+ *
+ * MAGIC(1) | FORMAT(1) | schemaId(varint) | envelope 필드 | payload
+ * - envelope 문자열은 길이 접두, UUID 형식 ID는 16바이트
+ * - payload는 스키마의 태그 기반 인코딩 (JSON 문자열 이중 인코딩 제거)
+ * - 스키마 미등록 타입은 schemaId 0 + eventType 이름 + payload JSON 문자열
+ *
+ * 첫 바이트(MAGIC)가 JSON('{')과 겹치지 않아 수신 측에서 JSON/바이너리를 구분해 함께 처리 가능
+ */
+public class BinaryEventCodec {
+
+	public static final byte MAGIC = (byte) 0xEB;
+	private static final int FORMAT_VERSION = 1;
+	private static final int OPAQUE_SCHEMA = 0;
+
+	private static final int ID_NULL = 0;
+	private static final int ID_UUID = 1;
+	private static final int ID_STRING = 2;
+
+	private final EventSchemaRegistry registry;
+	private final ObjectMapper objectMapper;
+
+	public BinaryEventCodec() {
+		this(EventSchemas.registry(), new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+	}
+
+	public BinaryEventCodec(EventSchemaRegistry registry, ObjectMapper objectMapper) {
+		this.registry = registry;
+		this.objectMapper = objectMapper;
+	}
+
+	public static boolean isBinary(byte[] data) {
+		return data != null && data.length > 0 && data[0] == MAGIC;
+	}
+
+	public byte[] encode(EventEnvelope envelope) {
+		EventSchema schema = envelope.getEventType() == null ? null : registry.latest(envelope.getEventType());
+		BinaryWriter out = new BinaryWriter(128);
+		out.writeByte(MAGIC);
+		out.writeByte(FORMAT_VERSION);
+		out.writeVarLong(schema == null ? OPAQUE_SCHEMA : schema.id());
+		if (schema == null) {
+			out.writeNullableString(envelope.getEventType() == null ? null : envelope.getEventType().name());
+		}
+
+		writeId(envelope.getEventId(), out);
+		out.writeNullableString(envelope.getAggregateType());
+		writeId(envelope.getAggregateId(), out);
+		if (envelope.getOccurredAt() == null) {
+			out.writeByte(0);
+		} else {
+			out.writeByte(1);
+			out.writeInstant(envelope.getOccurredAt());
+		}
+		out.writeNullableString(envelope.getProducer());
+		out.writeNullableString(envelope.getTraceId());
+		out.writeNullableString(envelope.getVersion());
+
+		if (schema == null) {
+			out.writeNullableString(payloadJson(envelope));
+		} else {
+			schema.payload().write(payloadObject(envelope, schema), out);
+		}
+		return out.toByteArray();
+	}
+
+	public EventEnvelope decode(byte[] data) {
+		BinaryReader in = new BinaryReader(data);
+		if ((byte) in.readByte() != MAGIC) {
+			throw new IllegalArgumentException("Not a binary event");
+		}
+		int format = in.readByte();
+		if (format != FORMAT_VERSION) {
+			throw new IllegalStateException("Unsupported event format: " + format);
+		}
+
+		int schemaId = in.readVarInt();
+		EventSchema schema = null;
+		EventType eventType;
+		if (schemaId == OPAQUE_SCHEMA) {
+			String name = in.readNullableString();
+			eventType = name == null ? null : EventType.valueOf(name);
+		} else {
+			schema = registry.byId(schemaId);
+			if (schema == null) {
+				throw new IllegalStateException("Unknown event schema id: " + schemaId);
+			}
+			eventType = schema.eventType();
+		}
+
+		EventEnvelope.EventEnvelopeBuilder builder = EventEnvelope.builder()
+			.eventType(eventType)
+			.eventId(readId(in))
+			.aggregateType(in.readNullableString())
+			.aggregateId(readId(in))
+			.occurredAt(in.readByte() == 0 ? null : in.readInstant())
+			.producer(in.readNullableString())
+			.traceId(in.readNullableString())
+			.version(in.readNullableString());
+
+		if (schema == null) {
+			return builder.payload(in.readNullableString()).build();
+		}
+		return builder.payloadObject(schema.payload().read(in)).build();
+	}
+
+	private Object payloadObject(EventEnvelope envelope, EventSchema schema) {
+		Object payload = envelope.getPayloadObject();
+		if (schema.payload().type().isInstance(payload)) {
+			return payload;
+		}
+		try {
+			// outbox 등 JSON 문자열로만 보관된 payload
+			return payload != null
+				? objectMapper.convertValue(payload, schema.payload().type())
+				: objectMapper.readValue(envelope.getPayload(), schema.payload().type());
+		} catch (Exception e) {
+			throw new IllegalStateException("Payload does not match schema of " + schema.eventType(), e);
+		}
+	}
+
+	private String payloadJson(EventEnvelope envelope) {
+		if (envelope.getPayload() != null || envelope.getPayloadObject() == null) {
+			return envelope.getPayload();
+		}
+		try {
+			return objectMapper.writeValueAsString(envelope.getPayloadObject());
+		} catch (Exception e) {
+			throw new IllegalStateException("Failed to serialize payload of " + envelope.getEventType(), e);
+		}
+	}
+
+	private static void writeId(String id, BinaryWriter out) {
+		if (id == null) {
+			out.writeByte(ID_NULL);
+			return;
+		}
+		UUID uuid = parseUuid(id);
+		if (uuid != null) {
+			out.writeByte(ID_UUID);
+			out.writeUuid(uuid);
+		} else {
+			out.writeByte(ID_STRING);
+			out.writeString(id);
+		}
+	}
+
+	private static String readId(BinaryReader in) {
+		return switch (in.readByte()) {
+			case ID_NULL -> null;
+			case ID_UUID -> in.readUuid().toString();
+			default -> in.readString();
+		};
+	}
+
+	// 표준 소문자 표기만 UUID로 압축 (복원 시 문자열이 그대로 돌아와야 함)
+	private static UUID parseUuid(String id) {
+		if (id.length() != 36) {
+			return null;
+		}
+		try {
+			UUID uuid = UUID.fromString(id);
+			return uuid.toString().equals(id) ? uuid : null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+}
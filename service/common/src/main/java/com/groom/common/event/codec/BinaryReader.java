@@ -0,0 +1,111 @@
+package com.groom.common.event.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 바이너리 디코딩 커서 ({@link BinaryWriter}의 역)
+ */
+final class BinaryReader {
+
+	private final byte[] buffer;
+	private int position;
+	private final int limit;
+
+	BinaryReader(byte[] buffer) {
+		this(buffer, 0, buffer.length);
+	}
+
+	private BinaryReader(byte[] buffer, int offset, int limit) {
+		this.buffer = buffer;
+		this.position = offset;
+		this.limit = limit;
+	}
+
+	boolean hasRemaining() {
+		return position < limit;
+	}
+
+	int readByte() {
+		require(1);
+		return buffer[position++] & 0xFF;
+	}
+
+	long readVarLong() {
+		long result = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = readByte();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new IllegalStateException("Malformed varint");
+	}
+
+	int readVarInt() {
+		return Math.toIntExact(readVarLong());
+	}
+
+	long readZigZag() {
+		long value = readVarLong();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	UUID readUuid() {
+		return new UUID(readFixedLong(), readFixedLong());
+	}
+
+	Instant readInstant() {
+		return Instant.ofEpochSecond(readZigZag(), readVarLong());
+	}
+
+	String readString() {
+		int length = readVarInt();
+		return readUtf8(length);
+	}
+
+	String readNullableString() {
+		int length = readVarInt();
+		return length == 0 ? null : readUtf8(length - 1);
+	}
+
+	/**
+	 * 길이 접두 구간을 별도 커서로 분리 (중첩 메시지)
+	 */
+	BinaryReader readNested() {
+		int length = readVarInt();
+		require(length);
+		BinaryReader nested = new BinaryReader(buffer, position, position + length);
+		position += length;
+		return nested;
+	}
+
+	void skip(int length) {
+		require(length);
+		position += length;
+	}
+
+	private long readFixedLong() {
+		require(8);
+		long value = 0;
+		for (int i = 0; i < 8; i++) {
+			value = (value << 8) | (buffer[position++] & 0xFF);
+		}
+		return value;
+	}
+
+	private String readUtf8(int length) {
+		require(length);
+		String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+		position += length;
+		return value;
+	}
+
+	private void require(int length) {
+		if (length < 0 || position + length > limit) {
+			throw new IllegalStateException("Truncated event payload");
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.groom.common.event.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 바이너리 인코딩 버퍼 (varint / zigzag / 길이 접두 문자열)
+ */
+final class BinaryWriter {
+
+	private byte[] buffer;
+	private int position;
+
+	BinaryWriter(int initialCapacity) {
+		this.buffer = new byte[Math.max(16, initialCapacity)];
+	}
+
+	void writeByte(int value) {
+		ensure(1);
+		buffer[position++] = (byte) value;
+	}
+
+	void writeVarLong(long value) {
+		ensure(10);
+		while ((value & ~0x7FL) != 0) {
+			buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[position++] = (byte) value;
+	}
+
+	void writeZigZag(long value) {
+		writeVarLong((value << 1) ^ (value >> 63));
+	}
+
+	void writeUuid(UUID value) {
+		writeFixedLong(value.getMostSignificantBits());
+		writeFixedLong(value.getLeastSignificantBits());
+	}
+
+	void writeInstant(Instant value) {
+		writeZigZag(value.getEpochSecond());
+		writeVarLong(value.getNano());
+	}
+
+	void writeBytes(byte[] value) {
+		writeVarLong(value.length);
+		writeRaw(value, 0, value.length);
+	}
+
+	void writeString(String value) {
+		writeBytes(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * null 허용 문자열 (길이 + 1, 0 = null)
+	 */
+	void writeNullableString(String value) {
+		if (value == null) {
+			writeVarLong(0);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarLong(bytes.length + 1L);
+		writeRaw(bytes, 0, bytes.length);
+	}
+
+	void writeRaw(byte[] value, int offset, int length) {
+		ensure(length);
+		System.arraycopy(value, offset, buffer, position, length);
+		position += length;
+	}
+
+	void writeNested(BinaryWriter nested) {
+		writeVarLong(nested.position);
+		writeRaw(nested.buffer, 0, nested.position);
+	}
+
+	byte[] toByteArray() {
+		return Arrays.copyOf(buffer, position);
+	}
+
+	private void writeFixedLong(long value) {
+		ensure(8);
+		for (int shift = 56; shift >= 0; shift -= 8) {
+			buffer[position++] = (byte) (value >>> shift);
+		}
+	}
+
+	private void ensure(int length) {
+		if (position + length > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package com.groom.common.event.codec;
+
+import com.groom.common.event.Type.EventType;
+
+/**
+ * 이벤트 타입별 payload 스키마 (버전 단위)
+ *
+ * @param id      wire에 기록되는 스키마 ID (이벤트 타입마다 고정, 버전이 올라가도 동일)
+ * @param version 호환성 검사 순서 (1부터 1씩 증가)
+ */
+public record EventSchema(int id, EventType eventType, int version, MessageSchema payload) {
+}
@@ -0,0 +1,82 @@
+package com.groom.common.event.codec;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.groom.common.event.Type.EventType;
+
+/**
+ * 로컬 스키마 레지스트리 (외부 Schema Registry 대용, 코드에 버전 이력 보관)
+ *
+ * 새 버전 등록 시 직전 버전과의 호환성 검사 → 위반하면 기동 실패
+ * - 기존 태그의 타입 변경 금지 (이름 변경은 허용, wire에는 태그만 기록)
+ * - 삭제한 필드의 태그는 reserved로 남겨 재사용 금지
+ * - 필드 추가는 새 태그로만 → 구버전 리더는 건너뛰고(forward), 신버전 리더는 기본값 사용(backward)
+ */
+public class EventSchemaRegistry {
+
+	private final Map<EventType, List<EventSchema>> history = new EnumMap<>(EventType.class);
+	private final Map<Integer, EventSchema> latestById = new HashMap<>();
+
+	public EventSchemaRegistry register(EventSchema schema) {
+		List<EventSchema> versions = history.computeIfAbsent(schema.eventType(), type -> new ArrayList<>());
+		if (versions.isEmpty()) {
+			EventSchema owner = latestById.get(schema.id());
+			if (owner != null || schema.id() <= 0 || schema.version() != 1) {
+				throw new IllegalStateException("Invalid schema id/version for " + schema.eventType());
+			}
+		} else {
+			EventSchema previous = versions.get(versions.size() - 1);
+			if (schema.id() != previous.id() || schema.version() != previous.version() + 1) {
+				throw new IllegalStateException("Schema id must be kept and version increase by 1: " + schema.eventType());
+			}
+			checkCompatible(schema.eventType() + " v" + schema.version(), previous.payload(), schema.payload());
+		}
+
+		versions.add(schema);
+		latestById.put(schema.id(), schema);
+		return this;
+	}
+
+	/**
+	 * @return 이벤트 타입의 최신 스키마 (미등록이면 null)
+	 */
+	public EventSchema latest(EventType eventType) {
+		List<EventSchema> versions = history.get(eventType);
+		return versions == null ? null : versions.get(versions.size() - 1);
+	}
+
+	/**
+	 * @return 스키마 ID의 최신 스키마 (미등록이면 null)
+	 */
+	public EventSchema byId(int id) {
+		return latestById.get(id);
+	}
+
+	static void checkCompatible(String context, MessageSchema previous, MessageSchema next) {
+		for (MessageSchema.FieldSpec old : previous.fields()) {
+			MessageSchema.FieldSpec current = next.field(old.tag());
+			if (current == null) {
+				if (!next.reserved().contains(old.tag())) {
+					throw new IllegalStateException(context + ": removed tag " + old.tag() + " must be reserved");
+				}
+				continue;
+			}
+			if (current.type() != old.type()) {
+				throw new IllegalStateException(context + ": tag " + old.tag() + " changed type "
+					+ old.type() + " -> " + current.type());
+			}
+			if (current.type() == FieldType.MESSAGE_LIST) {
+				checkCompatible(context + "." + current.name(), old.element(), current.element());
+			}
+		}
+		for (Integer tag : previous.reserved()) {
+			if (next.field(tag) != null) {
+				throw new IllegalStateException(context + ": reserved tag " + tag + " reused");
+			}
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.groom.common.event.codec;
+
+import static com.groom.common.event.codec.FieldType.BOOLEAN;
+import static com.groom.common.event.codec.FieldType.INSTANT;
+import static com.groom.common.event.codec.FieldType.INT;
+import static com.groom.common.event.codec.FieldType.LONG;
+import static com.groom.common.event.codec.FieldType.STRING;
+import static com.groom.common.event.codec.FieldType.UUID;
+
+import com.groom.common.event.Type.EventType;
+import com.groom.common.event.payload.OrderCancelledPayload;
+import com.groom.common.event.payload.OrderConfirmedPayload;
+import com.groom.common.event.payload.OrderCreatedPayload;
+import com.groom.common.event.payload.PaymentCompletedPayload;
+import com.groom.common.event.payload.PaymentFailedPayload;
+import com.groom.common.event.payload.RefundFailedPayload;
+import com.groom.common.event.payload.RefundSucceededPayload;
+import com.groom.common.event.payload.StockDeductedPayload;
+import com.groom.common.event.payload.StockDeductionFailedPayload;
+import com.groom.common.event.payload.UserUpdatedPayload;
+import com.groom.common.event.payload.UserWithdrawnPayload;
+
+/**
+ * 이벤트 payload 스키마 정의 (com.groom.common.event.payload)
+ *
+ * payload 클래스에 필드를 추가/삭제하면 여기에 새 버전을 이어서 등록
+ *   register(new EventSchema(같은 ID, 타입, 버전 + 1, 새 스키마))
+ * 스키마 ID와 기존 태그 번호는 절대 바꾸지 않음 (wire 호환성의 기준)
+ */
+public final class EventSchemas {
+
+	private static final EventSchemaRegistry REGISTRY = new EventSchemaRegistry()
+		.register(new EventSchema(1, EventType.ORDER_CREATED, 1, MessageSchema.builder(OrderCreatedPayload.class)
+			.field(1, "orderId", UUID)
+			.field(2, "userId", UUID)
+			.field(3, "totalAmount", LONG)
+			.build()))
+		.register(new EventSchema(2, EventType.ORDER_CANCELLED, 1, MessageSchema.builder(OrderCancelledPayload.class)
+			.field(1, "orderId", UUID)
+			.field(2, "reason", STRING)
+			.field(3, "cancelledAt", INSTANT)
+			.build()))
+		.register(new EventSchema(3, EventType.ORDER_CONFIRMED, 1, MessageSchema.builder(OrderConfirmedPayload.class)
+			.field(1, "orderId", UUID)
+			.field(2, "userId", UUID)
+			.field(3, "confirmedAt", INSTANT)
+			.build()))
+		.register(new EventSchema(10, EventType.PAYMENT_COMPLETED, 1, MessageSchema.builder(PaymentCompletedPayload.class)
+			.field(1, "orderId", UUID)
+			.field(2, "paymentKey", STRING)
+			.field(3, "amount", LONG)
+			.field(4, "paidAt", INSTANT)
+			.build()))
+		.register(new EventSchema(11, EventType.PAYMENT_FAILED, 1, MessageSchema.builder(PaymentFailedPayload.class)
+			.field(1, "orderId", UUID)
+			.field(2, "paymentKey", STRING)
+			.field(3, "amount", LONG)
+			.field(4, "failCode", STRING)
+			.field(5, "failMessage", STRING)
+			.build()))
+		.register(new EventSchema(12, EventType.REFUND_SUCCEEDED, 1, MessageSchema.builder(RefundSucceededPayload.class)
+			.field(1, "orderId", UUID)
+			.field(2, "paymentKey", STRING)
+			.field(3, "cancelAmount", LONG)
+			.field(4, "refundedAt", INSTANT)
+			.build()))
+		.register(new EventSchema(13, EventType.REFUND_FAILED, 1, MessageSchema.builder(RefundFailedPayload.class)
+			.field(1, "orderId", UUID)
+			.field(2, "paymentKey", STRING)
+			.field(3, "cancelAmount", LONG)
+			.field(4, "failCode", STRING)
+			.field(5, "failMessage", STRING)
+			.build()))
+		.register(new EventSchema(20, EventType.STOCK_DEDUCTED, 1, MessageSchema.builder(StockDeductedPayload.class)
+			.field(1, "orderId", UUID)
+			.list(2, "items", MessageSchema.builder(StockDeductedPayload.DeductedItem.class)
+				.field(1, "productId", UUID)
+				.field(2, "variantId", UUID)
+				.field(3, "quantity", INT)
+				.field(4, "remainingStock", INT)
+				.build())
+			.build()))
+		.register(new EventSchema(21, EventType.STOCK_DEDUCTION_FAILED, 1,
+			MessageSchema.builder(StockDeductionFailedPayload.class)
+				.field(1, "orderId", UUID)
+				.field(2, "failReason", STRING)
+				.list(3, "failedItems", MessageSchema.builder(StockDeductionFailedPayload.FailedItem.class)
+					.field(1, "productId", UUID)
+					.field(2, "variantId", UUID)
+					.field(3, "requestedQuantity", INT)
+					.field(4, "availableStock", INT)
+					.field(5, "reason", STRING)
+					.build())
+				.build()))
+		.register(new EventSchema(30, EventType.USER_WITHDRAWN, 1, MessageSchema.builder(UserWithdrawnPayload.class)
+			.field(1, "userId", UUID)
+			.field(2, "withdrawnAt", INSTANT)
+			.build()))
+		.register(new EventSchema(31, EventType.USER_UPDATED, 1, MessageSchema.builder(UserUpdatedPayload.class)
+			.field(1, "userId", UUID)
+			.field(2, "nickname", STRING)
+			.field(3, "phoneNumber", STRING)
+			.field(4, "passwordChanged", BOOLEAN)
+			.field(5, "occurredAt", INSTANT)
+			.build()));
+
+	private EventSchemas() {
+	}
+
+	public static EventSchemaRegistry registry() {
+		return REGISTRY;
+	}
+}
@@ -0,0 +1,45 @@
+package com.groom.common.event.codec;
+
+/**
+ * payload 필드 타입과 wire type
+ *
+ * wire type은 모르는 필드를 건너뛸 때 길이를 알기 위한 값 (타입이 달라도 wire type이 같으면 skip 방식 동일)
+ */
+public enum FieldType {
+
+	LONG(FieldType.WIRE_VARINT),
+	INT(FieldType.WIRE_VARINT),
+	BOOLEAN(FieldType.WIRE_VARINT),
+	UUID(FieldType.WIRE_FIXED128),
+	STRING(FieldType.WIRE_BYTES),
+	INSTANT(FieldType.WIRE_INSTANT),
+	MESSAGE_LIST(FieldType.WIRE_BYTES);
+
+	static final int WIRE_VARINT = 0;
+	static final int WIRE_FIXED128 = 1;
+	static final int WIRE_BYTES = 2;
+	static final int WIRE_INSTANT = 3;
+
+	private final int wireType;
+
+	FieldType(int wireType) {
+		this.wireType = wireType;
+	}
+
+	int wireType() {
+		return wireType;
+	}
+
+	static void skip(BinaryReader in, int wireType) {
+		switch (wireType) {
+			case WIRE_VARINT -> in.readVarLong();
+			case WIRE_FIXED128 -> in.skip(16);
+			case WIRE_BYTES -> in.skip(in.readVarInt());
+			case WIRE_INSTANT -> {
+				in.readVarLong();
+				in.readVarLong();
+			}
+			default -> throw new IllegalStateException("Unknown wire type: " + wireType);
+		}
+	}
+}
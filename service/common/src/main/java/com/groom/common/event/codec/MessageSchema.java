@@ -0,0 +1,219 @@
+package com.groom.common.event.codec;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * payload 클래스의 태그 기반 스키마
+ *
+ * 필드마다 고정 태그를 두고 (tag, wire type) 키 + 값으로 인코딩
+ * - 기본값(null, 0, false)인 필드는 기록하지 않음
+ * - 읽을 때 모르는 태그는 wire type으로 건너뛰고, 없는 필드는 기본 생성자 값 유지
+ * - 필드 바인딩은 Java 필드 이름 기준 (payload 클래스의 기본 생성자 필요)
+ */
+public final class MessageSchema {
+
+	private final Class<?> type;
+	private final Constructor<?> constructor;
+	private final List<FieldSpec> fields;
+	private final Map<Integer, FieldSpec> fieldsByTag;
+	private final Set<Integer> reserved;
+
+	private MessageSchema(Class<?> type, List<FieldSpec> fields, Set<Integer> reserved) {
+		this.type = type;
+		this.fields = fields;
+		this.reserved = reserved;
+		this.fieldsByTag = new HashMap<>();
+		fields.forEach(field -> fieldsByTag.put(field.tag(), field));
+		try {
+			this.constructor = type.getDeclaredConstructor();
+			this.constructor.setAccessible(true);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException("Payload requires a no-args constructor: " + type.getName(), e);
+		}
+	}
+
+	public static Builder builder(Class<?> type) {
+		return new Builder(type);
+	}
+
+	public Class<?> type() {
+		return type;
+	}
+
+	List<FieldSpec> fields() {
+		return fields;
+	}
+
+	Set<Integer> reserved() {
+		return reserved;
+	}
+
+	FieldSpec field(int tag) {
+		return fieldsByTag.get(tag);
+	}
+
+	void write(Object message, BinaryWriter out) {
+		try {
+			for (FieldSpec spec : fields) {
+				writeField(spec, spec.field().get(message), out);
+			}
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Failed to encode " + type.getName(), e);
+		}
+	}
+
+	Object read(BinaryReader in) {
+		try {
+			Object message = constructor.newInstance();
+			while (in.hasRemaining()) {
+				long key = in.readVarLong();
+				int tag = (int) (key >>> 3);
+				int wireType = (int) (key & 0x7);
+				FieldSpec spec = fieldsByTag.get(tag);
+				if (spec == null || spec.type().wireType() != wireType) {
+					FieldType.skip(in, wireType); // 새 버전에서 추가된 필드 (forward 호환)
+					continue;
+				}
+				readField(spec, message, in);
+			}
+			return message;
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Failed to decode " + type.getName(), e);
+		}
+	}
+
+	private void writeField(FieldSpec spec, Object value, BinaryWriter out) {
+		if (value == null) {
+			return;
+		}
+		switch (spec.type()) {
+			case LONG, INT -> {
+				long number = ((Number) value).longValue();
+				if (number != 0) {
+					writeKey(spec, out);
+					out.writeZigZag(number);
+				}
+			}
+			case BOOLEAN -> {
+				if ((Boolean) value) {
+					writeKey(spec, out);
+					out.writeVarLong(1);
+				}
+			}
+			case UUID -> {
+				writeKey(spec, out);
+				out.writeUuid((UUID) value);
+			}
+			case STRING -> {
+				writeKey(spec, out);
+				out.writeString((String) value);
+			}
+			case INSTANT -> {
+				writeKey(spec, out);
+				out.writeInstant((Instant) value);
+			}
+			case MESSAGE_LIST -> {
+				// 요소마다 같은 태그로 반복 기록 (빈 리스트는 null과 동일하게 생략)
+				for (Object element : (List<?>) value) {
+					BinaryWriter nested = new BinaryWriter(64);
+					spec.element().write(element, nested);
+					writeKey(spec, out);
+					out.writeNested(nested);
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readField(FieldSpec spec, Object message, BinaryReader in) throws IllegalAccessException {
+		Field field = spec.field();
+		switch (spec.type()) {
+			case LONG -> field.set(message, in.readZigZag());
+			case INT -> field.set(message, (int) in.readZigZag());
+			case BOOLEAN -> field.set(message, in.readVarLong() != 0);
+			case UUID -> field.set(message, in.readUuid());
+			case STRING -> field.set(message, in.readString());
+			case INSTANT -> field.set(message, in.readInstant());
+			case MESSAGE_LIST -> {
+				List<Object> list = (List<Object>) field.get(message);
+				if (list == null) {
+					list = new ArrayList<>();
+					field.set(message, list);
+				}
+				list.add(spec.element().read(in.readNested()));
+			}
+		}
+	}
+
+	private static void writeKey(FieldSpec spec, BinaryWriter out) {
+		out.writeVarLong(((long) spec.tag() << 3) | spec.type().wireType());
+	}
+
+	record FieldSpec(int tag, String name, FieldType type, MessageSchema element, Field field) {
+	}
+
+	public static final class Builder {
+
+		private final Class<?> type;
+		private final List<FieldSpec> fields = new ArrayList<>();
+		private final Set<Integer> reserved = new HashSet<>();
+
+		private Builder(Class<?> type) {
+			this.type = type;
+		}
+
+		public Builder field(int tag, String name, FieldType fieldType) {
+			if (fieldType == FieldType.MESSAGE_LIST) {
+				throw new IllegalArgumentException("Use list() for MESSAGE_LIST fields: " + name);
+			}
+			return add(tag, name, fieldType, null);
+		}
+
+		public Builder list(int tag, String name, MessageSchema element) {
+			return add(tag, name, FieldType.MESSAGE_LIST, element);
+		}
+
+		/**
+		 * 삭제된 필드의 태그 (재사용 금지)
+		 */
+		public Builder reserved(int... tags) {
+			for (int tag : tags) {
+				reserved.add(tag);
+			}
+			return this;
+		}
+
+		public MessageSchema build() {
+			if (fields.stream().anyMatch(spec -> reserved.contains(spec.tag()))) {
+				throw new IllegalArgumentException("Reserved tag in use on " + type.getName());
+			}
+			fields.sort(Comparator.comparingInt(FieldSpec::tag));
+			return new MessageSchema(type, List.copyOf(fields), Collections.unmodifiableSet(reserved));
+		}
+
+		private Builder add(int tag, String name, FieldType fieldType, MessageSchema element) {
+			if (tag <= 0 || reserved.contains(tag) || fields.stream().anyMatch(spec -> spec.tag() == tag)) {
+				throw new IllegalArgumentException("Invalid or duplicate tag " + tag + " on " + type.getName());
+			}
+			try {
+				Field field = type.getDeclaredField(name);
+				field.setAccessible(true);
+				fields.add(new FieldSpec(tag, name, fieldType, element, field));
+				return this;
+			} catch (NoSuchFieldException e) {
+				throw new IllegalArgumentException("No field '" + name + "' on " + type.getName(), e);
+			}
+		}
+	}
+}
@@ -1,5 +1,8 @@
 package com.groom.common.event.envelope;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.groom.common.event.Type.EventType;
 import java.time.Instant;
 
@@ -9,7 +12,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @lombok.ToString
@@ -26,4 +29,22 @@ public class EventEnvelope {
     private String version; // envelope schema version
 
     private String payload; // JSON STRING (중요)
+
+    // payload 객체 (발행 시 JSON 문자열화 생략 / 바이너리 인코딩 수신 시 디코딩 결과)
+    @JsonIgnore
+    @lombok.ToString.Exclude
+    private Object payloadObject;
+
+    /**
+     * payload 읽기 (바이너리 수신분은 디코딩된 객체 그대로, JSON 수신분은 파싱)
+     */
+    public <T> T readPayload(Class<T> type, ObjectMapper objectMapper) throws JsonProcessingException {
+        if (type.isInstance(payloadObject)) {
+            return type.cast(payloadObject);
+        }
+        if (payloadObject != null) {
+            return objectMapper.convertValue(payloadObject, type);
+        }
+        return objectMapper.readValue(payload, type);
+    }
 }
@@ -0,0 +1,43 @@
+package com.groom.common.infrastructure.kafka.codec;
+
+import java.util.Map;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import com.groom.common.event.codec.BinaryEventCodec;
+import com.groom.common.event.envelope.EventEnvelope;
+
+/**
+ * EventEnvelope value 역직렬화기
+ * 첫 바이트로 형식을 판별해 JSON/바이너리 모두 수신 (인코딩 전환 중 혼재 구간 대응)
+ */
+public class EventEnvelopeDeserializer implements Deserializer<EventEnvelope> {
+
+	private final JsonDeserializer<EventEnvelope> jsonDeserializer = new JsonDeserializer<>();
+	private final BinaryEventCodec binaryCodec = new BinaryEventCodec();
+
+	@Override
+	public void configure(Map<String, ?> configs, boolean isKey) {
+		jsonDeserializer.configure(configs, isKey);
+	}
+
+	@Override
+	public EventEnvelope deserialize(String topic, byte[] data) {
+		return deserialize(topic, null, data);
+	}
+
+	@Override
+	public EventEnvelope deserialize(String topic, Headers headers, byte[] data) {
+		if (BinaryEventCodec.isBinary(data)) {
+			return binaryCodec.decode(data);
+		}
+		return headers == null ? jsonDeserializer.deserialize(topic, data) : jsonDeserializer.deserialize(topic, headers, data);
+	}
+
+	@Override
+	public void close() {
+		jsonDeserializer.close();
+	}
+}
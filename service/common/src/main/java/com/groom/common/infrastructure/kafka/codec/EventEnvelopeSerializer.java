@@ -0,0 +1,71 @@
+package com.groom.common.infrastructure.kafka.codec;
+
+import java.util.Map;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.groom.common.event.codec.BinaryEventCodec;
+import com.groom.common.event.envelope.EventEnvelope;
+
+/**
+ * EventEnvelope value 직렬화기 (ENCODING 설정: json | binary)
+ *
+ * json   : 기존 형식 (payload JSON 문자열을 envelope JSON에 포함), payloadObject만 있으면 여기서 문자열화
+ * binary : {@link BinaryEventCodec}
+ */
+public class EventEnvelopeSerializer implements Serializer<EventEnvelope> {
+
+	public static final String ENCODING = "groom.event.encoding";
+
+	private final ObjectMapper payloadMapper = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+	private final JsonSerializer<EventEnvelope> jsonSerializer = new JsonSerializer<>();
+	private final BinaryEventCodec binaryCodec = new BinaryEventCodec();
+	private boolean binary;
+
+	@Override
+	public void configure(Map<String, ?> configs, boolean isKey) {
+		jsonSerializer.configure(configs, isKey);
+		Object encoding = configs.get(ENCODING);
+		binary = encoding != null && "binary".equalsIgnoreCase(encoding.toString());
+	}
+
+	@Override
+	public byte[] serialize(String topic, EventEnvelope data) {
+		return serialize(topic, null, data);
+	}
+
+	@Override
+	public byte[] serialize(String topic, Headers headers, EventEnvelope data) {
+		if (data == null) {
+			return null;
+		}
+		if (binary) {
+			return binaryCodec.encode(data);
+		}
+		return jsonSerializer.serialize(topic, headers, withPayloadJson(data));
+	}
+
+	@Override
+	public void close() {
+		jsonSerializer.close();
+	}
+
+	private EventEnvelope withPayloadJson(EventEnvelope data) {
+		if (data.getPayload() != null || data.getPayloadObject() == null) {
+			return data;
+		}
+		try {
+			return data.toBuilder().payload(payloadMapper.writeValueAsString(data.getPayloadObject())).build();
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize payload of " + data.getEventType(), e);
+		}
+	}
+}
@@ -7,6 +7,7 @@ import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,15 +16,21 @@ import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.util.backoff.FixedBackOff;
 import com.groom.common.event.envelope.EventEnvelope;
+import com.groom.common.infrastructure.kafka.codec.EventEnvelopeSerializer;
+import com.groom.common.infrastructure.kafka.consumer.ConsumerListenerDecorator;
+import com.groom.common.infrastructure.kafka.consumer.ConsumerMetrics;
+import com.groom.common.infrastructure.kafka.routing.EventTypeFilteringDeserializer;
+import com.groom.common.infrastructure.kafka.routing.EventTypeHeaderInterceptor;
+import com.groom.common.infrastructure.kafka.routing.EventTypeRecordFilterStrategy;
 
 @Configuration
 public class KafkaConfig {
@@ -34,13 +41,29 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id:default-group}")
     private String groupId;
 
+    @Value("${event.kafka.consumer.batch.max-poll-records:500}")
+    private int batchMaxPollRecords;
+
+    // 리스너 컨테이너 기본 동시성 (리스너별로 @KafkaListener(concurrency)로 재정의, 구독 파티션 수 이하로)
+    @Value("${event.kafka.consumer.concurrency:1}")
+    private int concurrency;
+
+    // 발행 인코딩: json(기존) | binary (수신 측은 두 형식 모두 처리)
+    @Value("${event.kafka.encoding:json}")
+    private String encoding;
+
+    // 이 서비스가 처리하는 eventType (쉼표 구분, 비어 있으면 전체 수신)
+    @Value("${event.kafka.consumer.event-types:}")
+    private String acceptedEventTypes;
+
     // --- Producer Configuration ---
     @Bean
     public ProducerFactory<String, EventEnvelope> producerFactory() {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, EventEnvelopeSerializer.class);
+        config.put(EventEnvelopeSerializer.ENCODING, encoding);
 
         // Idempotence & Reliability
         config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true); // 멱등성 보장
@@ -56,12 +79,32 @@ public class KafkaConfig {
 
     @Bean
     public KafkaTemplate<String, EventEnvelope> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        KafkaTemplate<String, EventEnvelope> kafkaTemplate = new KafkaTemplate<>(producerFactory());
+        kafkaTemplate.setProducerInterceptor(new EventTypeHeaderInterceptor()); // eventType 헤더 부착
+        return kafkaTemplate;
     }
 
     // --- Consumer Configuration ---
     @Bean
-    public ConsumerFactory<String, EventEnvelope> consumerFactory() {
+    public ConsumerFactory<String, EventEnvelope> consumerFactory(ConsumerMetrics consumerMetrics) {
+        // 배치 처리 갯수 제한 (타임아웃 방지)
+        return instrumented(new DefaultKafkaConsumerFactory<>(consumerConfig(50)), consumerMetrics);
+    }
+
+    // 배치 리스너용: 한 번의 poll로 더 많이 가져와 DB 왕복을 묶어서 처리
+    @Bean
+    public ConsumerFactory<String, EventEnvelope> batchConsumerFactory(ConsumerMetrics consumerMetrics) {
+        return instrumented(new DefaultKafkaConsumerFactory<>(consumerConfig(batchMaxPollRecords)), consumerMetrics);
+    }
+
+    // Kafka 클라이언트 지표(records-lag, fetch-latency 등)를 kafka.consumer.* 미터로 노출
+    private ConsumerFactory<String, EventEnvelope> instrumented(
+            DefaultKafkaConsumerFactory<String, EventEnvelope> consumerFactory, ConsumerMetrics consumerMetrics) {
+        consumerFactory.addListener(new MicrometerConsumerListener<>(consumerMetrics.registry()));
+        return consumerFactory;
+    }
+
+    private Map<String, Object> consumerConfig(int maxPollRecords) {
         Map<String, Object> config = new HashMap<>();
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
@@ -74,41 +117,91 @@ public class KafkaConfig {
         config.put(org.springframework.kafka.support.serializer.ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS,
                 StringDeserializer.class);
         config.put(org.springframework.kafka.support.serializer.ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS,
-                JsonDeserializer.class);
+                EventTypeFilteringDeserializer.class); // eventType 헤더로 거른 뒤 JsonDeserializer 위임
+        config.put(EventTypeFilteringDeserializer.ACCEPTED_EVENT_TYPES, acceptedEventTypes);
 
         // Offset & Commit
         config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false); // 수동 커밋
         config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest"); // 처음부터 읽기
 
         // Tuning
-        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 50); // 배치 처리 갯수 제한 (타임아웃 방지)
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
 
         // Trusted Packages & Type Mapping
         config.put(JsonDeserializer.TRUSTED_PACKAGES, "*"); // 모든 패키지 허용
         config.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false); // 헤더 정보 무시
         config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, EventEnvelope.class); // 기본 타입 설정
 
-        return new DefaultKafkaConsumerFactory<>(config);
+        return config;
     }
 
+    // 최종 실패 레코드를 {topic}.DLT로 발행 (배치 리스너에서 레코드 단위 격리에도 사용)
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, EventEnvelope> kafkaListenerContainerFactory(
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(
             KafkaTemplate<String, EventEnvelope> kafkaTemplate) {
+        return new DeadLetterPublishingRecoverer(kafkaTemplate);
+    }
 
-        ConcurrentKafkaListenerContainerFactory<String, EventEnvelope> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactory());
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, EventEnvelope> kafkaListenerContainerFactory(
+            @Qualifier("consumerFactory") ConsumerFactory<String, EventEnvelope> consumerFactory,
+            DeadLetterPublishingRecoverer deadLetterPublishingRecoverer,
+            ConsumerListenerDecorator listenerDecorator) {
 
-        // Manual Immediate Ack Mode (데이터 정합성 최우선)
-        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        ConcurrentKafkaListenerContainerFactory<String, EventEnvelope> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setConcurrency(concurrency);
+        applyEventTypeFilter(factory);
+
+        if (listenerDecorator.isKeyOrdered()) {
+            // lane 스레드에서 순서와 무관하게 ack → 앞선 오프셋이 모두 ack된 구간까지만 커밋
+            factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+            factory.getContainerProperties().setAsyncAcks(true);
+        } else {
+            // Manual Immediate Ack Mode (데이터 정합성 최우선)
+            factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        }
+        // 처리 지표 + key-ordered 모드 lane 분배
+        factory.setContainerCustomizer(listenerDecorator::decorate);
 
         // Error Handling & Recovery (Retry + DLT)
-        // 1초 간격, 최대 3회 재시도 (FixedBackOff)
+        // blocking 모드: 1초 간격, 최대 3회 재시도 (FixedBackOff)
+        // topic 모드: 재시도 토픽 컨테이너 에러 핸들러로 대체 (KafkaRetryTopicConfig)
         CommonErrorHandler errorHandler = new DefaultErrorHandler(
-                new DeadLetterPublishingRecoverer(kafkaTemplate), // 최종 실패 시 DLT로 발행
+                deadLetterPublishingRecoverer, // 최종 실패 시 DLT로 발행
                 new FixedBackOff(1000L, 3) // 1초 간격, 3회 시도
         );
         factory.setCommonErrorHandler(errorHandler);
 
         return factory;
     }
+
+    /**
+     * 배치 리스너 (List<ConsumerRecord> 수신, poll 단위 1회 ack)
+     * 레코드 단위 실패는 리스너가 직접 DLT로 보내고, 배치 전체 실패(DB 장애 등)만 재시도 후 DLT
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, EventEnvelope> batchKafkaListenerContainerFactory(
+            @Qualifier("batchConsumerFactory") ConsumerFactory<String, EventEnvelope> batchConsumerFactory,
+            DeadLetterPublishingRecoverer deadLetterPublishingRecoverer) {
+
+        ConcurrentKafkaListenerContainerFactory<String, EventEnvelope> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(batchConsumerFactory);
+        factory.setConcurrency(concurrency);
+        factory.setBatchListener(true);
+        applyEventTypeFilter(factory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                deadLetterPublishingRecoverer,
+                new FixedBackOff(1000L, 3)
+        ));
+
+        return factory;
+    }
+
+    // 수신 대상이 아닌 eventType은 리스너 호출 없이 폐기하고 오프셋은 커밋
+    private void applyEventTypeFilter(ConcurrentKafkaListenerContainerFactory<String, EventEnvelope> factory) {
+        factory.setRecordFilterStrategy(new EventTypeRecordFilterStrategy(acceptedEventTypes));
+        factory.setAckDiscarded(true);
+    }
 }
@@ -0,0 +1,62 @@
+package com.groom.common.infrastructure.kafka.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.retrytopic.RetryTopicSchedulerWrapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.groom.common.event.envelope.EventEnvelope;
+
+/**
+ * 비차단 재시도 (event.kafka.consumer.retry.mode=topic)
+ *
+ * 실패 레코드를 파티션에서 backoff하지 않고 재시도 토픽으로 넘긴 뒤 다음 레코드를 계속 처리
+ *   {topic}.{group}.retry-0 → retry-1 → ... → {topic}.DLT (attempts 소진 시)
+ * 재시도 토픽은 컨슈머 그룹별로 분리 → 같은 토픽을 구독하는 다른 서비스의 실패 레코드를 받지 않음
+ * 재시도 토픽 컨테이너는 backoff 시각까지 해당 파티션만 pause (다른 파티션/메인 토픽은 계속 진행)
+ *
+ * 배치 리스너는 재시도 토픽을 지원하지 않으므로 배치 컨슈머를 쓰는 서비스는 blocking 모드 유지
+ */
+@Configuration
+@ConditionalOnProperty(name = "event.kafka.consumer.retry.mode", havingValue = "topic")
+public class KafkaRetryTopicConfig {
+
+	public static final String RETRY_SUFFIX = ".retry";
+	public static final String DLT_SUFFIX = ".DLT";
+
+	@Bean
+	public RetryTopicConfiguration eventRetryTopicConfiguration(
+		KafkaTemplate<String, EventEnvelope> kafkaTemplate,
+		@Value("${spring.kafka.consumer.group-id:default-group}") String groupId,
+		@Value("${event.kafka.consumer.retry.max-attempts:4}") int maxAttempts,
+		@Value("${event.kafka.consumer.retry.backoff-initial-ms:1000}") long initialIntervalMs,
+		@Value("${event.kafka.consumer.retry.backoff-multiplier:2.0}") double multiplier,
+		@Value("${event.kafka.consumer.retry.backoff-max-ms:30000}") long maxIntervalMs,
+		@Value("${event.kafka.consumer.retry.partitions:12}") int partitions,
+		@Value("${event.kafka.replicas:1}") short replicas
+	) {
+		return RetryTopicConfigurationBuilder.newInstance()
+			.maxAttempts(maxAttempts)
+			.exponentialBackoff(initialIntervalMs, multiplier, maxIntervalMs)
+			.retryTopicSuffix("." + groupId + RETRY_SUFFIX)
+			.dltSuffix(DLT_SUFFIX)
+			.suffixTopicsWithIndexValues()
+			// 원본과 같은 파티션 번호로 발행되므로 구독 토픽 중 가장 많은 파티션 수 이상
+			.autoCreateTopicsWith(partitions, replicas)
+			.create(kafkaTemplate);
+	}
+
+	// 재시도 토픽 backoff 재개용 스케줄러 (@Scheduled용 스케줄러와 분리)
+	@Bean
+	public RetryTopicSchedulerWrapper retryTopicSchedulerWrapper() {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setThreadNamePrefix("event-retry-backoff-");
+		scheduler.initialize();
+		return new RetryTopicSchedulerWrapper(scheduler);
+	}
+}
@@ -0,0 +1,57 @@
+package com.groom.common.infrastructure.kafka.consumer;
+
+import java.util.Arrays;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.AcknowledgingConsumerAwareMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.groom.common.infrastructure.kafka.config.KafkaRetryTopicConfig;
+
+/**
+ * 레코드 리스너 컨테이너에 {@link DispatchingMessageListener} 적용 (컨테이너 팩토리 customizer)
+ *
+ * event.kafka.consumer.processing
+ *   record      : 파티션 단위 순차 처리 (기존 동작) + 처리 지표
+ *   key-ordered : aggregateId 단위 순서만 유지하고 키 간 병렬 처리
+ * 재시도/DLT 토픽 컨테이너는 backoff 대기를 컨테이너가 직접 하므로 항상 inline
+ * 배치 리스너는 대상 아님 (poll 단위 처리)
+ */
+@Component
+public class ConsumerListenerDecorator {
+
+	private final KeyOrderedExecutor keyOrderedExecutor;
+	private final ConsumerMetrics metrics;
+	private final boolean keyOrdered;
+
+	public ConsumerListenerDecorator(
+		KeyOrderedExecutor keyOrderedExecutor,
+		ConsumerMetrics metrics,
+		@Value("${event.kafka.consumer.processing:record}") String processing
+	) {
+		this.keyOrderedExecutor = keyOrderedExecutor;
+		this.metrics = metrics;
+		this.keyOrdered = "key-ordered".equalsIgnoreCase(processing);
+	}
+
+	public boolean isKeyOrdered() {
+		return keyOrdered;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public void decorate(ConcurrentMessageListenerContainer<?, ?> container) {
+		Object listener = container.getContainerProperties().getMessageListener();
+		if (!(listener instanceof AcknowledgingConsumerAwareMessageListener recordListener)) {
+			return;
+		}
+		KeyOrderedExecutor executor = keyOrdered && !isRetryOrDeadLetter(container) ? keyOrderedExecutor : null;
+		container.setupMessageListener(new DispatchingMessageListener<>(recordListener, container, executor, metrics));
+	}
+
+	private static boolean isRetryOrDeadLetter(ConcurrentMessageListenerContainer<?, ?> container) {
+		String[] topics = container.getContainerProperties().getTopics();
+		return topics != null && Arrays.stream(topics).anyMatch(topic ->
+			topic.contains(KafkaRetryTopicConfig.RETRY_SUFFIX) || topic.endsWith(KafkaRetryTopicConfig.DLT_SUFFIX));
+	}
+}
@@ -0,0 +1,58 @@
+package com.groom.common.infrastructure.kafka.consumer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 컨슈머 처리 지표 (actuator가 없는 서비스는 SimpleMeterRegistry로 대체)
+ *
+ * - event.consumer.process{topic, result=success|failure} : 리스너 1회 처리 시간
+ * - event.consumer.latency{topic}                         : 레코드 타임스탬프 ~ 처리 완료 (end-to-end 지연)
+ * - event.consumer.in-flight                              : key-ordered lane에서 처리 중인 레코드 수
+ * 파티션별 lag은 Kafka 클라이언트 지표(kafka.consumer.fetch.manager.records.lag*)로 노출 (KafkaConfig)
+ */
+@Component
+public class ConsumerMetrics {
+
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Timer> processTimers = new ConcurrentHashMap<>();
+	private final Map<String, Timer> latencyTimers = new ConcurrentHashMap<>();
+
+	public ConsumerMetrics(ObjectProvider<MeterRegistry> meterRegistryProvider, KeyOrderedExecutor keyOrderedExecutor) {
+		this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+		Gauge.builder("event.consumer.in-flight", keyOrderedExecutor, KeyOrderedExecutor::inFlight)
+			.register(meterRegistry);
+	}
+
+	public MeterRegistry registry() {
+		return meterRegistry;
+	}
+
+	public void record(ConsumerRecord<?, ?> record, long startNanos, boolean success) {
+		String result = success ? "success" : "failure";
+		processTimers.computeIfAbsent(record.topic() + ':' + result, key -> Timer.builder("event.consumer.process")
+				.tag("topic", record.topic())
+				.tag("result", result)
+				.register(meterRegistry))
+			.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+		if (success && record.timestamp() > 0) {
+			latencyTimers.computeIfAbsent(record.topic(), topic -> Timer.builder("event.consumer.latency")
+					.tag("topic", topic)
+					.publishPercentiles(0.5, 0.99)
+					.register(meterRegistry))
+				.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - record.timestamp())));
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.groom.common.infrastructure.kafka.consumer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.AcknowledgingConsumerAwareMessageListener;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 레코드 리스너 래퍼 (처리 지표 + key-ordered 모드 lane 분배)
+ *
+ * inline      : 컨슈머 스레드에서 그대로 호출, 예외는 컨테이너 에러 핸들러로 전파
+ * key-ordered : {@link KeyOrderedExecutor} lane에서 호출하고 컨슈머 스레드는 바로 다음 레코드로 진행
+ *   - ack는 비동기(asyncAcks) → 앞선 오프셋이 모두 ack된 뒤에만 커밋 (빈 구간이 있으면 커밋 보류)
+ *   - 실패 시 lane 스레드에서 컨테이너 에러 핸들러 handleOne 호출
+ *     (retry topic 모드: 재시도 토픽/DLT 발행 후 ack / blocking 모드: 해당 lane만 backoff 후 재처리)
+ *   - 리스너가 ack 없이 정상 반환하면 여기서 ack (빈 구간으로 커밋이 멈추지 않도록)
+ */
+@Slf4j
+class DispatchingMessageListener<K, V> implements AcknowledgingConsumerAwareMessageListener<K, V> {
+
+	private final AcknowledgingConsumerAwareMessageListener<K, V> delegate;
+	private final MessageListenerContainer container;
+	private final KeyOrderedExecutor executor;
+	private final ConsumerMetrics metrics;
+
+	/**
+	 * @param executor null이면 inline 모드
+	 */
+	DispatchingMessageListener(
+		AcknowledgingConsumerAwareMessageListener<K, V> delegate,
+		MessageListenerContainer container,
+		KeyOrderedExecutor executor,
+		ConsumerMetrics metrics
+	) {
+		this.delegate = delegate;
+		this.container = container;
+		this.executor = executor;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public void onMessage(ConsumerRecord<K, V> record, Acknowledgment acknowledgment, Consumer<?, ?> consumer) {
+		if (executor == null) {
+			long startNanos = System.nanoTime();
+			boolean success = false;
+			try {
+				delegate.onMessage(record, acknowledgment, consumer);
+				success = true;
+			} finally {
+				metrics.record(record, startNanos, success);
+			}
+			return;
+		}
+
+		// 키 없는 레코드는 파티션 순서만 유지
+		Object key = record.key() != null ? record.key() : record.topic() + '-' + record.partition();
+		try {
+			executor.execute(key, () -> process(record, new TrackingAcknowledgment(acknowledgment)));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while dispatching record " + record.topic() + '-'
+				+ record.partition() + '@' + record.offset(), e);
+		}
+	}
+
+	@Override
+	public void onMessage(ConsumerRecord<K, V> record) {
+		throw new UnsupportedOperationException("Container should never call this");
+	}
+
+	private void process(ConsumerRecord<K, V> record, TrackingAcknowledgment acknowledgment) {
+		long startNanos = System.nanoTime();
+		while (true) {
+			try {
+				delegate.onMessage(record, acknowledgment, null);
+				acknowledgment.acknowledge();
+				metrics.record(record, startNanos, true);
+				return;
+			} catch (Exception e) {
+				if (recover(record, e)) {
+					acknowledgment.acknowledge();
+					metrics.record(record, startNanos, false);
+					return;
+				}
+				if (!container.isRunning()) {
+					// ack 없이 종료 → 커밋되지 않은 오프셋부터 재전달
+					metrics.record(record, startNanos, false);
+					return;
+				}
+			}
+		}
+	}
+
+	// true: 재시도 토픽/DLT로 넘겼거나 포기 / false: 같은 lane에서 재처리
+	private boolean recover(ConsumerRecord<K, V> record, Exception exception) {
+		CommonErrorHandler errorHandler = container.getCommonErrorHandler();
+		if (errorHandler == null) {
+			log.error("Record processing failed without error handler, skipped. topic={}, partition={}, offset={}",
+				record.topic(), record.partition(), record.offset(), exception);
+			return true;
+		}
+		try {
+			return errorHandler.handleOne(exception, record, null, container);
+		} catch (Exception e) {
+			log.error("Error handler failed. topic={}, partition={}, offset={}",
+				record.topic(), record.partition(), record.offset(), e);
+			return false;
+		}
+	}
+
+	// 리스너/aspect가 이미 ack했으면 중복 ack 방지
+	private static final class TrackingAcknowledgment implements Acknowledgment {
+
+		private final Acknowledgment delegate;
+		private final AtomicBoolean acknowledged = new AtomicBoolean();
+
+		private TrackingAcknowledgment(Acknowledgment delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void acknowledge() {
+			if (acknowledged.compareAndSet(false, true)) {
+				delegate.acknowledge();
+			}
+		}
+
+		@Override
+		public void nack(Duration sleep) {
+			throw new UnsupportedOperationException("nack is not supported in key-ordered mode");
+		}
+
+		@Override
+		public boolean isOutOfOrderCommit() {
+			return delegate.isOutOfOrderCommit();
+		}
+	}
+}
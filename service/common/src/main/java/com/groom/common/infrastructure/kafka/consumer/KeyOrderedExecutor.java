@@ -0,0 +1,123 @@
+package com.groom.common.infrastructure.kafka.consumer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키 단위 순서 보장 병렬 실행기 (key-ordered 처리 모드)
+ *
+ * - 레코드 키 해시로 lane(단일 스레드)을 고르므로 같은 aggregateId는 항상 같은 lane에서 수신 순서대로 처리
+ * - 서로 다른 키는 lane 간 병렬 처리 → 파티션 수/컨테이너 스레드 수보다 높은 병렬도
+ * - 처리 중 레코드 수를 max-in-flight로 제한, 가득 차면 컨슈머 스레드가 대기 (poll 속도 조절)
+ *
+ * 리스너 컨테이너보다 늦게 종료 (컨테이너가 멈춘 뒤 남은 작업을 drain-timeout-ms까지 마무리)
+ */
+@Slf4j
+@Component
+public class KeyOrderedExecutor implements SmartLifecycle {
+
+	private final int laneCount;
+	private final int maxInFlight;
+	private final long drainTimeoutMs;
+	private final Semaphore permits;
+
+	private volatile boolean running;
+	private ExecutorService[] lanes;
+
+	public KeyOrderedExecutor(
+		@Value("${event.kafka.consumer.key-ordered.lanes:16}") int laneCount,
+		@Value("${event.kafka.consumer.key-ordered.max-in-flight:1000}") int maxInFlight,
+		@Value("${event.kafka.consumer.key-ordered.drain-timeout-ms:10000}") long drainTimeoutMs
+	) {
+		this.laneCount = Math.max(1, laneCount);
+		this.maxInFlight = Math.max(this.laneCount, maxInFlight);
+		this.drainTimeoutMs = drainTimeoutMs;
+		this.permits = new Semaphore(this.maxInFlight);
+	}
+
+	/**
+	 * lane에 작업 제출 (처리 한도 초과 시 자리가 날 때까지 대기)
+	 * @param key 순서 기준 키 (같은 키는 같은 lane)
+	 */
+	public void execute(Object key, Runnable task) throws InterruptedException {
+		permits.acquire();
+		try {
+			lanes[Math.floorMod(key.hashCode(), laneCount)].execute(() -> {
+				try {
+					task.run();
+				} finally {
+					permits.release();
+				}
+			});
+		} catch (RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	public int inFlight() {
+		return maxInFlight - permits.availablePermits();
+	}
+
+	@Override
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+		lanes = new ExecutorService[laneCount];
+		for (int lane = 0; lane < laneCount; lane++) {
+			String name = "event-consumer-lane-" + lane;
+			lanes[lane] = Executors.newSingleThreadExecutor(runnable -> {
+				Thread thread = new Thread(runnable, name);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		running = true;
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (!running) {
+			return;
+		}
+		running = false;
+		for (ExecutorService lane : lanes) {
+			lane.shutdown();
+		}
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(drainTimeoutMs);
+		try {
+			for (ExecutorService lane : lanes) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0 || !lane.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+					lane.shutdownNow();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			for (ExecutorService lane : lanes) {
+				lane.shutdownNow();
+			}
+		}
+		log.info("Key-ordered consumer lanes stopped. unfinished={}", inFlight());
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	// 리스너 컨테이너(KafkaListenerEndpointRegistry, MAX_VALUE - 100)보다 먼저 시작하고 나중에 종료
+	@Override
+	public int getPhase() {
+		return Integer.MAX_VALUE - 200;
+	}
+}
@@ -0,0 +1,154 @@
+package com.groom.common.infrastructure.kafka.idempotency;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 컨슈머 멱등성 처리 (로컬 LRU + ProcessedEventStore)
+ *
+ * - 로컬 LRU: 최근 처리 완료(커밋)된 eventId → 리밸런스/재시도 직후 재전달은 DB 조회 없이 건너뜀
+ * - 저장소: 최초 처리 여부의 기준 (Pod 간 공유, 트랜잭션 참여)
+ * LRU에는 커밋 후에만 기록하므로 롤백된 처리는 다시 처리 가능
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+	private final ProcessedEventStore store;
+	private final boolean enabled;
+	private final Map<String, Boolean> recent;
+
+	public IdempotencyService(
+		ProcessedEventStore store,
+		@Value("${event.idempotency.enabled:true}") boolean enabled,
+		@Value("${event.idempotency.local-cache-size:10000}") int localCacheSize
+	) {
+		this.store = store;
+		this.enabled = enabled;
+		this.recent = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+				return size() > localCacheSize;
+			}
+		};
+	}
+
+	/**
+	 * 처리 선점 (트랜잭션 안에서 호출)
+	 * @return 처리해야 하면 true, 이미 처리된 이벤트면 false
+	 */
+	public boolean tryClaim(String consumer, String eventId) {
+		if (!enabled || eventId == null) {
+			return true;
+		}
+
+		String key = key(consumer, eventId);
+		if (isRecent(key)) {
+			log.info("[Idempotency] 중복 이벤트 건너뜀 (local) - consumer: {}, eventId: {}", consumer, eventId);
+			return false;
+		}
+		if (!store.claim(consumer, eventId)) {
+			log.info("[Idempotency] 중복 이벤트 건너뜀 - consumer: {}, eventId: {}", consumer, eventId);
+			rememberAfterCommit(List.of(key));
+			return false;
+		}
+		rememberAfterCommit(List.of(key));
+		return true;
+	}
+
+	/**
+	 * 일괄 선점 (배치 리스너용, 트랜잭션 안에서 호출)
+	 * @return 처리해야 하는 eventId
+	 */
+	public Set<String> claimAll(String consumer, Collection<String> eventIds) {
+		if (!enabled) {
+			return Set.copyOf(eventIds);
+		}
+
+		List<String> candidates = eventIds.stream()
+			.filter(eventId -> eventId != null && !isRecent(key(consumer, eventId)))
+			.distinct()
+			.toList();
+		Set<String> claimed = store.claimAll(consumer, candidates);
+		if (claimed.size() < eventIds.size()) {
+			log.info("[Idempotency] 중복 이벤트 건너뜀 - consumer: {}, duplicates: {}",
+				consumer, eventIds.size() - claimed.size());
+		}
+
+		rememberAfterCommit(candidates.stream().map(eventId -> key(consumer, eventId)).collect(Collectors.toList()));
+		return claimed;
+	}
+
+	/**
+	 * 선점 해제 (같은 트랜잭션에서 선점했지만 처리에 실패한 이벤트 → 재전달/DLT 재처리 허용)
+	 */
+	public void release(String consumer, Collection<String> eventIds) {
+		List<String> targets = eventIds.stream().filter(Objects::nonNull).distinct().toList();
+		if (!enabled || targets.isEmpty()) {
+			return;
+		}
+
+		store.release(consumer, targets);
+		List<String> keys = targets.stream().map(eventId -> key(consumer, eventId)).toList();
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			forget(keys);
+			return;
+		}
+		// 선점 시 등록한 afterCommit(기록)보다 뒤에 실행됨
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				forget(keys);
+			}
+		});
+	}
+
+	private boolean isRecent(String key) {
+		synchronized (recent) {
+			return recent.containsKey(key);
+		}
+	}
+
+	private void remember(Collection<String> keys) {
+		synchronized (recent) {
+			keys.forEach(key -> recent.put(key, Boolean.TRUE));
+		}
+	}
+
+	private void forget(Collection<String> keys) {
+		synchronized (recent) {
+			keys.forEach(recent::remove);
+		}
+	}
+
+	private void rememberAfterCommit(Collection<String> keys) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			remember(keys);
+			return;
+		}
+		List<String> pending = new ArrayList<>(keys);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				remember(pending);
+			}
+		});
+	}
+
+	private static String key(String consumer, String eventId) {
+		return consumer + ":" + eventId;
+	}
+}
@@ -0,0 +1,30 @@
+package com.groom.common.infrastructure.kafka.idempotency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Kafka 리스너 중복 처리 방지 (EventEnvelope.eventId 기준)
+ *
+ * 리스너 인자 중 EventEnvelope로 처리 여부를 선점하고, 이미 처리된 이벤트면 ack만 하고 건너뜀
+ * 선점과 리스너 본문은 같은 트랜잭션 → 본문이 실패하면 선점도 롤백되어 재시도 가능
+ *
+ * <pre>
+ * &#64;IdempotentConsumer
+ * &#64;KafkaListener(topics = "...")
+ * public void handle(EventEnvelope event, Acknowledgment ack) { ... }
+ * </pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface IdempotentConsumer {
+
+	/**
+	 * 중복 판단 범위 (비어 있으면 spring.kafka.consumer.group-id)
+	 */
+	String value() default "";
+}
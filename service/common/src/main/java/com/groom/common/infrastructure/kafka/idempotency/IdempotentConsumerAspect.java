@@ -0,0 +1,89 @@
+package com.groom.common.infrastructure.kafka.idempotency;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.groom.common.event.envelope.EventEnvelope;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link IdempotentConsumer} 처리
+ *
+ * 트랜잭션(REQUIRED) 시작 → eventId 선점 → 리스너 실행 → 커밋
+ * 리스너의 @Transactional보다 바깥에서 실행되어 같은 트랜잭션에 참여 (Order HIGHEST)
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class IdempotentConsumerAspect {
+
+	private final IdempotencyService idempotencyService;
+	private final TransactionTemplate transactionTemplate;
+	private final String defaultConsumer;
+
+	public IdempotentConsumerAspect(
+		IdempotencyService idempotencyService,
+		PlatformTransactionManager transactionManager,
+		@Value("${spring.kafka.consumer.group-id:${spring.application.name}}") String defaultConsumer
+	) {
+		this.idempotencyService = idempotencyService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.defaultConsumer = defaultConsumer;
+	}
+
+	@Around("@annotation(idempotentConsumer)")
+	public Object around(ProceedingJoinPoint joinPoint, IdempotentConsumer idempotentConsumer) throws Throwable {
+		EventEnvelope envelope = null;
+		Acknowledgment ack = null;
+		for (Object arg : joinPoint.getArgs()) {
+			if (arg instanceof EventEnvelope event) {
+				envelope = event;
+			} else if (arg instanceof Acknowledgment acknowledgmentArg) {
+				ack = acknowledgmentArg;
+			}
+		}
+		if (envelope == null) {
+			return joinPoint.proceed();
+		}
+
+		String consumer = idempotentConsumer.value().isEmpty() ? defaultConsumer : idempotentConsumer.value();
+		String eventId = envelope.getEventId();
+		Acknowledgment acknowledgment = ack;
+		try {
+			return transactionTemplate.execute(status -> {
+				if (!idempotencyService.tryClaim(consumer, eventId)) {
+					// 이미 처리된 이벤트 → 본문 없이 오프셋만 커밋
+					if (acknowledgment != null) {
+						acknowledgment.acknowledge();
+					}
+					return null;
+				}
+				try {
+					return joinPoint.proceed();
+				} catch (RuntimeException | Error e) {
+					throw e;
+				} catch (Throwable e) {
+					throw new ListenerInvocationException(e);
+				}
+			});
+		} catch (ListenerInvocationException e) {
+			throw e.getCause();
+		}
+	}
+
+	private static final class ListenerInvocationException extends RuntimeException {
+		ListenerInvocationException(Throwable cause) {
+			super(cause);
+		}
+	}
+}
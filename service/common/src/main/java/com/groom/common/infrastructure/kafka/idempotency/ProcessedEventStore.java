@@ -0,0 +1,126 @@
+package com.groom.common.infrastructure.kafka.idempotency;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 처리 완료 이벤트 저장소 (processed_event, 서비스별 DB)
+ *
+ * (consumer, event_id) PK에 INSERT ... ON CONFLICT DO NOTHING → 삽입되면 최초 처리, 아니면 중복
+ * 호출자 트랜잭션에 참여하므로 처리 결과와 함께 커밋/롤백
+ * TTL(ttl-hours)이 지난 행은 백그라운드에서 소량씩 삭제 (Kafka 재전달 가능 기간보다 길게 유지)
+ */
+@Slf4j
+@Component
+public class ProcessedEventStore {
+
+	private static final String TABLE = "processed_event";
+	private static final int PURGE_CHUNK = 5000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final boolean enabled;
+	private final Duration ttl;
+	private final long purgeIntervalMs;
+
+	private ScheduledExecutorService purgeScheduler;
+
+	public ProcessedEventStore(
+		JdbcTemplate jdbcTemplate,
+		@Value("${event.idempotency.enabled:true}") boolean enabled,
+		@Value("${event.idempotency.ttl-hours:168}") long ttlHours,
+		@Value("${event.idempotency.purge-interval-ms:600000}") long purgeIntervalMs
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.enabled = enabled;
+		this.ttl = Duration.ofHours(ttlHours);
+		this.purgeIntervalMs = purgeIntervalMs;
+	}
+
+	@PostConstruct
+	public void init() {
+		if (!enabled) {
+			return;
+		}
+
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+			+ " consumer varchar(100) NOT NULL,"
+			+ " event_id varchar(64) NOT NULL,"
+			+ " processed_at timestamptz NOT NULL DEFAULT now(),"
+			+ " PRIMARY KEY (consumer, event_id))");
+		jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_processed_event_processed_at ON " + TABLE + " (processed_at)");
+
+		purgeScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "processed-event-purge");
+			thread.setDaemon(true);
+			return thread;
+		});
+		purgeScheduler.scheduleWithFixedDelay(this::purgeExpired, purgeIntervalMs, purgeIntervalMs, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (purgeScheduler != null) {
+			purgeScheduler.shutdownNow();
+		}
+	}
+
+	/**
+	 * @return 최초 처리면 true (선점 성공), 이미 처리된 이벤트면 false
+	 */
+	public boolean claim(String consumer, String eventId) {
+		return jdbcTemplate.update("INSERT INTO " + TABLE + " (consumer, event_id) VALUES (?, ?)"
+			+ " ON CONFLICT DO NOTHING", consumer, eventId) == 1;
+	}
+
+	/**
+	 * 일괄 선점 (배치 리스너용, INSERT 1회)
+	 * @return 이번에 선점한 eventId (이미 처리된 ID는 제외)
+	 */
+	public Set<String> claimAll(String consumer, Collection<String> eventIds) {
+		if (eventIds.isEmpty()) {
+			return Set.of();
+		}
+		return new HashSet<>(jdbcTemplate.queryForList("INSERT INTO " + TABLE + " (consumer, event_id)"
+				+ " SELECT ?, unnest(?::varchar[]) ON CONFLICT DO NOTHING RETURNING event_id",
+			String.class, consumer, eventIds.toArray(String[]::new)));
+	}
+
+	public void release(String consumer, Collection<String> eventIds) {
+		jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE consumer = ? AND event_id = ANY(?::varchar[])",
+			consumer, eventIds.toArray(String[]::new));
+	}
+
+	void purgeExpired() {
+		try {
+			Timestamp cutoff = Timestamp.from(Instant.now().minus(ttl));
+			int deleted;
+			int total = 0;
+			do {
+				deleted = jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE ctid IN"
+					+ " (SELECT ctid FROM " + TABLE + " WHERE processed_at < ? LIMIT " + PURGE_CHUNK + ")", cutoff);
+				total += deleted;
+			} while (deleted == PURGE_CHUNK);
+
+			if (total > 0) {
+				log.debug("Expired processed events purged: {}", total);
+			}
+		} catch (Exception e) {
+			log.warn("Failed to purge processed events", e);
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.groom.common.infrastructure.kafka.routing;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * 이벤트 Kafka 헤더
+ * 컨슈머가 payload 역직렬화 전에 헤더만 보고 관심 없는 이벤트를 걸러낼 수 있도록 발행 시 함께 기록
+ */
+public final class EventHeaders {
+
+	public static final String EVENT_TYPE = "eventType";
+
+	private EventHeaders() {
+	}
+
+	/**
+	 * @return eventType 헤더 값 (헤더 도입 이전에 발행된 레코드면 null)
+	 */
+	public static String eventType(Headers headers) {
+		if (headers == null) {
+			return null;
+		}
+		Header header = headers.lastHeader(EVENT_TYPE);
+		return header == null || header.value() == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,43 @@
+package com.groom.common.infrastructure.kafka.routing;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+/**
+ * Aggregate별 토픽 선언 (KafkaAdmin이 기동 시 없으면 생성, 설정보다 파티션이 적으면 증설)
+ *
+ * 파티션 수는 토픽별 처리량 기준으로 따로 설정 (주문 이벤트가 가장 많음)
+ * DLT는 DeadLetterPublishingRecoverer가 원본과 같은 파티션 번호로 보내므로 같은 파티션 수로 선언
+ */
+@Configuration
+public class EventTopicConfig {
+
+	private static final String DLT_SUFFIX = ".DLT";
+
+	@Bean
+	public KafkaAdmin.NewTopics sagaTopics(
+		@Value("${event.kafka.topics.order:order-domain-events}") String orderTopic,
+		@Value("${event.kafka.topics.payment:payment-domain-events}") String paymentTopic,
+		@Value("${event.kafka.topics.stock:stock-domain-events}") String stockTopic,
+		@Value("${event.kafka.partitions.order:12}") int orderPartitions,
+		@Value("${event.kafka.partitions.payment:6}") int paymentPartitions,
+		@Value("${event.kafka.partitions.stock:6}") int stockPartitions,
+		@Value("${event.kafka.replicas:1}") int replicas
+	) {
+		return new KafkaAdmin.NewTopics(
+			topic(orderTopic, orderPartitions, replicas),
+			topic(orderTopic + DLT_SUFFIX, orderPartitions, replicas),
+			topic(paymentTopic, paymentPartitions, replicas),
+			topic(paymentTopic + DLT_SUFFIX, paymentPartitions, replicas),
+			topic(stockTopic, stockPartitions, replicas),
+			topic(stockTopic + DLT_SUFFIX, stockPartitions, replicas));
+	}
+
+	private static NewTopic topic(String name, int partitions, int replicas) {
+		return TopicBuilder.name(name).partitions(partitions).replicas(replicas).build();
+	}
+}
@@ -0,0 +1,95 @@
+package com.groom.common.infrastructure.kafka.routing;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import com.groom.common.event.Type.EventType;
+import com.groom.common.event.envelope.EventEnvelope;
+
+/**
+ * eventType → 발행 토픽 결정 (Aggregate별 토픽)
+ *
+ * ORDER_* → order, PAYMENT_* / REFUND_* → payment, STOCK_* → stock
+ * 컨슈머는 필요한 Aggregate 토픽만 구독 → 시스템 전체 이벤트를 받아 버리는 비용 제거
+ * 같은 주문의 결제/재고 응답은 서로 다른 토픽이라 컨슈머 도착 순서가 보장되지 않음
+ * → 주문 측 상태 전이가 순서 역전을 허용 (Order.confirmPayment / Order.complete)
+ * USER_* 는 Saga 밖 이벤트라 전환 모드와 무관하게 항상 user 토픽(event.kafka.topics.user)
+ *
+ * [전환 모드] event.kafka.routing.mode
+ *   legacy : 기존 공용 토픽(event.kafka.topics.legacy)에만 발행
+ *   dual   : Aggregate 토픽 + 공용 토픽 동시 발행 (컨슈머 전환 기간, 중복 수신은 eventId 멱등성으로 제거)
+ *   split  : Aggregate 토픽에만 발행 (모든 컨슈머가 공용 토픽 구독을 끊은 뒤)
+ */
+@Component
+public class EventTopicRouter {
+
+	private final KafkaTemplate<String, EventEnvelope> kafkaTemplate;
+	private final String mode;
+	private final String legacyTopic;
+	private final String orderTopic;
+	private final String paymentTopic;
+	private final String stockTopic;
+	private final String userTopic;
+
+	public EventTopicRouter(
+		KafkaTemplate<String, EventEnvelope> kafkaTemplate,
+		@Value("${event.kafka.routing.mode:split}") String mode,
+		@Value("${event.kafka.topics.legacy:order-events}") String legacyTopic,
+		@Value("${event.kafka.topics.order:order-domain-events}") String orderTopic,
+		@Value("${event.kafka.topics.payment:payment-domain-events}") String paymentTopic,
+		@Value("${event.kafka.topics.stock:stock-domain-events}") String stockTopic,
+		@Value("${event.kafka.topics.user:user-lifecycle}") String userTopic
+	) {
+		this.kafkaTemplate = kafkaTemplate;
+		this.mode = mode.toLowerCase();
+		this.legacyTopic = legacyTopic;
+		this.orderTopic = orderTopic;
+		this.paymentTopic = paymentTopic;
+		this.stockTopic = stockTopic;
+		this.userTopic = userTopic;
+	}
+
+	public List<String> topicsFor(EventType eventType) {
+		if (eventType == EventType.USER_WITHDRAWN || eventType == EventType.USER_UPDATED) {
+			return List.of(userTopic);
+		}
+		if ("legacy".equals(mode)) {
+			return List.of(legacyTopic);
+		}
+		String aggregateTopic = aggregateTopic(eventType);
+		if ("dual".equals(mode) && !aggregateTopic.equals(legacyTopic)) {
+			return List.of(aggregateTopic, legacyTopic);
+		}
+		return List.of(aggregateTopic);
+	}
+
+	/**
+	 * 라우팅된 모든 토픽으로 발행
+	 * @return 모든 토픽 전송이 완료되면 완료 (하나라도 실패하면 실패)
+	 */
+	public CompletableFuture<Void> send(String key, EventEnvelope envelope) {
+		List<String> topics = topicsFor(envelope.getEventType());
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[topics.size()];
+		for (int i = 0; i < topics.size(); i++) {
+			try {
+				futures[i] = kafkaTemplate.send(topics.get(i), key, envelope);
+			} catch (RuntimeException e) {
+				futures[i] = CompletableFuture.failedFuture(e);
+			}
+		}
+		return CompletableFuture.allOf(futures);
+	}
+
+	private String aggregateTopic(EventType eventType) {
+		return switch (eventType) {
+			case ORDER_CREATED, ORDER_STATUS_CHANGED, ORDER_CANCELLED, ORDER_CONFIRMED -> orderTopic;
+			case PAYMENT_COMPLETED, PAYMENT_FAILED, REFUND_SUCCEEDED, REFUND_FAILED -> paymentTopic;
+			case STOCK_DEDUCTED, STOCK_DEDUCTION_FAILED -> stockTopic;
+			default -> throw new IllegalArgumentException("No saga topic for event type: " + eventType);
+		};
+	}
+}
@@ -0,0 +1,64 @@
+package com.groom.common.infrastructure.kafka.routing;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import com.groom.common.event.envelope.EventEnvelope;
+import com.groom.common.infrastructure.kafka.codec.EventEnvelopeDeserializer;
+
+/**
+ * eventType 헤더 기준 사전 필터링 역직렬화기 (ErrorHandlingDeserializer의 value delegate, 통과분은 EventEnvelopeDeserializer)
+ *
+ * 수신 대상이 아닌 eventType이면 JSON 파싱 없이 null 반환 → 컨테이너의 RecordFilterStrategy가 리스너 전에 폐기
+ * 수신 대상 목록(ACCEPTED_EVENT_TYPES)이 비어 있거나 헤더가 없는 레코드(헤더 도입 이전 발행분)는 그대로 역직렬화
+ */
+public class EventTypeFilteringDeserializer implements Deserializer<EventEnvelope> {
+
+	public static final String ACCEPTED_EVENT_TYPES = "groom.event.accepted-types";
+
+	private final EventEnvelopeDeserializer delegate = new EventEnvelopeDeserializer();
+	private Set<String> acceptedTypes = Set.of();
+
+	@Override
+	public void configure(Map<String, ?> configs, boolean isKey) {
+		delegate.configure(configs, isKey);
+		acceptedTypes = parse(configs.get(ACCEPTED_EVENT_TYPES));
+	}
+
+	@Override
+	public EventEnvelope deserialize(String topic, byte[] data) {
+		return delegate.deserialize(topic, data);
+	}
+
+	@Override
+	public EventEnvelope deserialize(String topic, Headers headers, byte[] data) {
+		if (!accepts(acceptedTypes, EventHeaders.eventType(headers))) {
+			return null;
+		}
+		return delegate.deserialize(topic, headers, data);
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	static boolean accepts(Set<String> acceptedTypes, String eventType) {
+		return acceptedTypes.isEmpty() || eventType == null || acceptedTypes.contains(eventType);
+	}
+
+	static Set<String> parse(Object value) {
+		if (value == null) {
+			return Set.of();
+		}
+		return Arrays.stream(value.toString().split(","))
+			.map(String::trim)
+			.filter(type -> !type.isEmpty())
+			.collect(Collectors.toUnmodifiableSet());
+	}
+}
@@ -0,0 +1,41 @@
+package com.groom.common.infrastructure.kafka.routing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerInterceptor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+import com.groom.common.event.envelope.EventEnvelope;
+
+/**
+ * 발행되는 모든 EventEnvelope에 eventType 헤더 부착 (KafkaTemplate 공용)
+ * 개별 Producer가 헤더를 신경 쓰지 않아도 되고, DLT 재발행 시에도 헤더 유지
+ */
+public class EventTypeHeaderInterceptor implements ProducerInterceptor<String, EventEnvelope> {
+
+	@Override
+	public ProducerRecord<String, EventEnvelope> onSend(ProducerRecord<String, EventEnvelope> record) {
+		EventEnvelope envelope = record.value();
+		if (envelope == null || envelope.getEventType() == null) {
+			return record;
+		}
+
+		record.headers().remove(EventHeaders.EVENT_TYPE);
+		record.headers().add(EventHeaders.EVENT_TYPE, envelope.getEventType().name().getBytes(StandardCharsets.UTF_8));
+		return record;
+	}
+
+	@Override
+	public void onAcknowledgement(RecordMetadata metadata, Exception exception) {
+	}
+
+	@Override
+	public void close() {
+	}
+
+	@Override
+	public void configure(Map<String, ?> configs) {
+	}
+}
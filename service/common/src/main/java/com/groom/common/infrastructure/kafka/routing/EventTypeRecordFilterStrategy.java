@@ -0,0 +1,25 @@
+package com.groom.common.infrastructure.kafka.routing;
+
+import java.util.Set;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+
+import com.groom.common.event.envelope.EventEnvelope;
+
+/**
+ * 수신 대상이 아닌 eventType 레코드 폐기 (EventTypeFilteringDeserializer가 파싱을 건너뛴 레코드)
+ */
+public class EventTypeRecordFilterStrategy implements RecordFilterStrategy<String, EventEnvelope> {
+
+	private final Set<String> acceptedTypes;
+
+	public EventTypeRecordFilterStrategy(String acceptedTypes) {
+		this.acceptedTypes = EventTypeFilteringDeserializer.parse(acceptedTypes);
+	}
+
+	@Override
+	public boolean filter(ConsumerRecord<String, EventEnvelope> consumerRecord) {
+		return !EventTypeFilteringDeserializer.accepts(acceptedTypes, EventHeaders.eventType(consumerRecord.headers()));
+	}
+}
@@ -0,0 +1,42 @@
+package com.groom.common.outbox;
+
+/**
+ * outbox 발행 대상 선점 SQL (공용 event_outbox / order_outbox 공통)
+ *
+ * - status = 'INIT' 이고 재시도 시각이 된 행만, 파티션(키 해시) 단위로 적재 순서대로 선점 (FOR UPDATE SKIP LOCKED)
+ * - 같은 키에 백오프/전송 리스 중(next_attempt_at > now)인 이전 행이 있으면 이후 행도 보류
+ *   → 실패한 이벤트를 같은 키의 뒤 이벤트가 앞지르지 않음 (FAILED로 빠진 행은 더 이상 막지 않음)
+ * - 보류 확인용으로 (키, 순서 컬럼) WHERE status = 'INIT' 부분 인덱스 필요
+ *
+ * 바인딩 순서: partitions, partition, [추가 조건 파라미터], limit
+ */
+public final class OutboxClaimQuery {
+
+	private OutboxClaimQuery() {
+	}
+
+	/**
+	 * @param table          outbox 테이블
+	 * @param columns        조회 컬럼 (선점 대상 별칭 o)
+	 * @param keyTemplate    순서 보장 키 식, 테이블 별칭 자리는 %1$s (예: "%1$s.aggregate_id")
+	 * @param orderColumn    적재 순서 컬럼 (예: id, created_at)
+	 * @param extraCondition 추가 조건 (별칭 o, 없으면 null)
+	 */
+	public static String claimBatch(String table, String columns, String keyTemplate, String orderColumn,
+		String extraCondition) {
+		String key = String.format(keyTemplate, "o");
+		String blockerKey = String.format(keyTemplate, "b");
+		return "SELECT " + columns + " FROM " + table + " o"
+			+ " WHERE o.status = 'INIT'"
+			+ " AND o.next_attempt_at <= now()"
+			+ " AND (hashtext((" + key + ")::text) & 2147483647) % ? = ?"
+			+ (extraCondition == null ? "" : " AND (" + extraCondition + ")")
+			+ " AND NOT EXISTS (SELECT 1 FROM " + table + " b"
+			+ " WHERE " + blockerKey + " = " + key + " AND b.status = 'INIT'"
+			+ " AND b.next_attempt_at > now()"
+			+ " AND b." + orderColumn + " <= o." + orderColumn + " AND b.id <> o.id)"
+			+ " ORDER BY o." + orderColumn
+			+ " LIMIT ?"
+			+ " FOR UPDATE OF o SKIP LOCKED";
+	}
+}
@@ -0,0 +1,26 @@
+package com.groom.common.outbox;
+
+import java.time.Instant;
+
+/**
+ * event_outbox 행
+ *
+ * @param id         발행 순서 (bigserial)
+ * @param messageKey Kafka 메시지 키 (파티션/순서 기준, 보통 aggregateId)
+ * @param payload    payload JSON 문자열
+ */
+public record OutboxEvent(
+	long id,
+	String eventId,
+	String eventType,
+	String aggregateType,
+	String aggregateId,
+	String messageKey,
+	String payload,
+	String traceId,
+	String producer,
+	String version,
+	int attempts,
+	Instant createdAt
+) {
+}
@@ -0,0 +1,81 @@
+package com.groom.common.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공용 outbox 릴레이 지표 (actuator가 없는 서비스는 SimpleMeterRegistry로 대체)
+ *
+ * - event.outbox.appended                         : 트랜잭션에서 적재한 이벤트 수
+ * - event.outbox.events{result=published|failed}  : 발행 처리량
+ * - event.outbox.batch                            : 배치 1회 처리 시간 (선점 ~ 상태 갱신)
+ * - event.outbox.lag                              : 이벤트 생성 ~ 발행 완료 지연
+ * - event.outbox.backlog / event.outbox.oldest.age.seconds : 미발행(INIT) 적체량 (릴레이 주기 샘플링)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "event.outbox.enabled", havingValue = "true")
+public class OutboxMetrics implements OutboxRelayMetrics {
+
+	private final OutboxRepository outboxRepository;
+	private final Counter appended;
+	private final Counter published;
+	private final Counter failed;
+	private final Timer batchTimer;
+	private final Timer lagTimer;
+	private final AtomicLong backlog = new AtomicLong();
+	private final AtomicLong oldestAgeSeconds = new AtomicLong();
+
+	public OutboxMetrics(OutboxRepository outboxRepository, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+		MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+		this.outboxRepository = outboxRepository;
+		this.appended = Counter.builder("event.outbox.appended").register(meterRegistry);
+		this.published = Counter.builder("event.outbox.events").tag("result", "published").register(meterRegistry);
+		this.failed = Counter.builder("event.outbox.events").tag("result", "failed").register(meterRegistry);
+		this.batchTimer = Timer.builder("event.outbox.batch").register(meterRegistry);
+		this.lagTimer = Timer.builder("event.outbox.lag").publishPercentiles(0.5, 0.99).register(meterRegistry);
+		Gauge.builder("event.outbox.backlog", backlog, AtomicLong::get).register(meterRegistry);
+		Gauge.builder("event.outbox.oldest.age.seconds", oldestAgeSeconds, AtomicLong::get).register(meterRegistry);
+	}
+
+	public void recordAppended(int count) {
+		appended.increment(count);
+	}
+
+	@Override
+	public void recordBatch(long startNanos, int publishedCount, int failedCount) {
+		batchTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+		published.increment(publishedCount);
+		failed.increment(failedCount);
+	}
+
+	@Override
+	public void recordLag(Instant createdAt, Instant publishedAt) {
+		if (createdAt != null) {
+			lagTimer.record(Duration.between(createdAt, publishedAt));
+		}
+	}
+
+	public void sampleBacklog() {
+		try {
+			backlog.set(outboxRepository.countPending());
+			Instant oldest = outboxRepository.findOldestPendingCreatedAt();
+			oldestAgeSeconds.set(oldest == null ? 0 : Duration.between(oldest, Instant.now()).toSeconds());
+		} catch (Exception e) {
+			log.warn("Failed to sample event outbox backlog", e);
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package com.groom.common.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.groom.common.event.Type.EventType;
+import com.groom.common.event.envelope.EventEnvelope;
+import com.groom.common.infrastructure.kafka.routing.EventTopicRouter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공용 Outbox 릴레이 (event_outbox → Kafka)
+ *
+ * 발행 루프는 {@link PartitionedOutboxRelay} (order outbox 릴레이와 공유)
+ * - message_key(없으면 event_id) 해시 파티션, 같은 키의 이벤트는 적재 순서(id)대로 발행
+ * - 적재 트랜잭션 커밋 시 wakeUp()으로 대기 중인 워커를 즉시 실행 → 유휴 상태에서도 발행 지연 최소화
+ * - 관리 작업(maintenance-interval-ms): 적체 지표 샘플링 + 보존 기간 지난 PUBLISHED 행 정리
+ *
+ * payment/product/user 등 @EnableScheduling이 없는 서비스도 쓸 수 있도록 자체 스케줄러 사용
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "event.outbox.enabled", havingValue = "true")
+public class OutboxRelay extends PartitionedOutboxRelay<OutboxEvent, Long> {
+
+	// 파티션 advisory lock 키 시작값 (order outbox 릴레이 키와 겹치지 않도록 분리)
+	private static final long PARTITION_LOCK_BASE = 0x6576_7430_0000L;
+	private static final int PURGE_CHUNK = 5000;
+
+	private final OutboxRepository outboxRepository;
+	private final EventTopicRouter eventTopicRouter;
+	private final OutboxMetrics metrics;
+	private final Duration retention;
+	private final long maintenanceIntervalMs;
+
+	public OutboxRelay(
+		OutboxRepository outboxRepository,
+		EventTopicRouter eventTopicRouter,
+		OutboxMetrics metrics,
+		PlatformTransactionManager transactionManager,
+		@Value("${event.outbox.batch-size:500}") int batchSize,
+		@Value("${event.outbox.partitions:8}") int partitions,
+		@Value("${event.outbox.workers:2}") int workers,
+		@Value("${event.outbox.min-delay-ms:10}") long minDelayMs,
+		@Value("${event.outbox.max-delay-ms:1000}") long maxDelayMs,
+		@Value("${event.outbox.send-timeout-ms:10000}") long sendTimeoutMs,
+		@Value("${event.outbox.retry.max-attempts:10}") int maxAttempts,
+		@Value("${event.outbox.retry.backoff-base-ms:1000}") long backoffBaseMs,
+		@Value("${event.outbox.retry.backoff-max-ms:300000}") long backoffMaxMs,
+		@Value("${event.outbox.retention-hours:72}") long retentionHours,
+		@Value("${event.outbox.maintenance-interval-ms:10000}") long maintenanceIntervalMs
+	) {
+		super("Event outbox", "event-outbox-relay-", PARTITION_LOCK_BASE, metrics, transactionManager,
+			batchSize, partitions, workers, minDelayMs, maxDelayMs, sendTimeoutMs,
+			maxAttempts, backoffBaseMs, backoffMaxMs);
+		this.outboxRepository = outboxRepository;
+		this.eventTopicRouter = eventTopicRouter;
+		this.metrics = metrics;
+		this.retention = Duration.ofHours(Math.max(1, retentionHours));
+		this.maintenanceIntervalMs = maintenanceIntervalMs;
+	}
+
+	@Override
+	protected boolean tryLockPartition(long key) {
+		return outboxRepository.tryLockPartition(key);
+	}
+
+	@Override
+	protected List<OutboxEvent> claimBatch(int partition, int partitions, int limit) {
+		return outboxRepository.claimBatch(partition, partitions, limit);
+	}
+
+	@Override
+	protected void leaseClaimed(List<Long> ids, long leaseMs) {
+		outboxRepository.lease(ids, leaseMs);
+	}
+
+	@Override
+	protected void releaseClaimed(List<Long> ids) {
+		outboxRepository.releaseLease(ids);
+	}
+
+	@Override
+	protected String keyOf(OutboxEvent event) {
+		return event.messageKey() != null ? event.messageKey() : event.eventId();
+	}
+
+	@Override
+	protected CompletableFuture<Void> send(OutboxEvent event) {
+		return eventTopicRouter.send(event.messageKey(), toEnvelope(event));
+	}
+
+	@Override
+	protected Long idOf(OutboxEvent event) {
+		return event.id();
+	}
+
+	@Override
+	protected Instant createdAtOf(OutboxEvent event) {
+		return event.createdAt();
+	}
+
+	@Override
+	protected String describe(OutboxEvent event) {
+		return "eventId=" + event.eventId() + ", eventType=" + event.eventType() + ", attempts=" + (event.attempts() + 1);
+	}
+
+	@Override
+	protected void markPublished(List<Long> ids, Instant publishedAt) {
+		outboxRepository.markPublished(ids, publishedAt);
+	}
+
+	@Override
+	protected void markRetry(List<Long> ids, String error, int maxAttempts, long backoffBaseMs, long backoffMaxMs) {
+		outboxRepository.markRetry(ids, error, maxAttempts, backoffBaseMs, backoffMaxMs);
+	}
+
+	@Override
+	protected long maintenanceIntervalMs() {
+		return maintenanceIntervalMs;
+	}
+
+	@Override
+	protected void maintain() {
+		metrics.sampleBacklog();
+		try {
+			Instant cutoff = Instant.now().minus(retention);
+			int purged;
+			do {
+				purged = outboxRepository.purgePublished(cutoff, PURGE_CHUNK);
+			} while (purged >= PURGE_CHUNK && isRunning());
+		} catch (Exception e) {
+			log.warn("Failed to purge published event outbox rows", e);
+		}
+	}
+
+	private static EventEnvelope toEnvelope(OutboxEvent event) {
+		return EventEnvelope.builder()
+			.eventId(event.eventId())
+			.eventType(EventType.valueOf(event.eventType()))
+			.aggregateType(event.aggregateType())
+			.aggregateId(event.aggregateId())
+			.occurredAt(event.createdAt())
+			.producer(event.producer())
+			.traceId(event.traceId())
+			.version(event.version())
+			.payload(event.payload())
+			.build();
+	}
+}
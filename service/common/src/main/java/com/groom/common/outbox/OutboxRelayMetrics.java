@@ -0,0 +1,13 @@
+package com.groom.common.outbox;
+
+import java.time.Instant;
+
+/**
+ * {@link PartitionedOutboxRelay}가 기록하는 발행 지표
+ */
+public interface OutboxRelayMetrics {
+
+	void recordBatch(long startNanos, int publishedCount, int failedCount);
+
+	void recordLag(Instant createdAt, Instant publishedAt);
+}
@@ -0,0 +1,171 @@
+package com.groom.common.outbox;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 공용 outbox 저장소 (event_outbox, 서비스별 DB)
+ *
+ * JPA 엔티티 대신 JdbcTemplate 사용 → 각 서비스의 EntityScan/JPA Repository 범위와 무관하게 동작
+ * 테이블과 부분 인덱스는 기동 시 생성 (발행 대기 행 / 보존 기간 정리 대상 행만 인덱싱)
+ */
+@Repository
+@ConditionalOnProperty(name = "event.outbox.enabled", havingValue = "true")
+public class OutboxRepository {
+
+	private static final String TABLE = "event_outbox";
+	private static final String COLUMNS = "id, event_id, event_type, aggregate_type, aggregate_id, message_key,"
+		+ " payload, trace_id, producer, version, attempts, created_at";
+	private static final String CLAIM_SQL = OutboxClaimQuery.claimBatch(
+		TABLE, COLUMNS, "coalesce(%1$s.message_key, %1$s.event_id)", "id", null);
+
+	private static final RowMapper<OutboxEvent> ROW_MAPPER = (rs, rowNum) -> new OutboxEvent(
+		rs.getLong("id"),
+		rs.getString("event_id"),
+		rs.getString("event_type"),
+		rs.getString("aggregate_type"),
+		rs.getString("aggregate_id"),
+		rs.getString("message_key"),
+		rs.getString("payload"),
+		rs.getString("trace_id"),
+		rs.getString("producer"),
+		rs.getString("version"),
+		rs.getInt("attempts"),
+		rs.getTimestamp("created_at").toInstant());
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public OutboxRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@PostConstruct
+	public void createTableIfAbsent() {
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+			+ " id bigserial PRIMARY KEY,"
+			+ " event_id varchar(64) NOT NULL,"
+			+ " event_type varchar(64) NOT NULL,"
+			+ " aggregate_type varchar(64),"
+			+ " aggregate_id varchar(64),"
+			+ " message_key varchar(255),"
+			+ " payload text,"
+			+ " trace_id varchar(255),"
+			+ " producer varchar(100),"
+			+ " version varchar(20),"
+			+ " status varchar(16) NOT NULL DEFAULT 'INIT',"
+			+ " attempts integer NOT NULL DEFAULT 0,"
+			+ " next_attempt_at timestamptz NOT NULL DEFAULT now(),"
+			+ " last_error varchar(1000),"
+			+ " published_at timestamptz,"
+			+ " created_at timestamptz NOT NULL DEFAULT now())");
+		jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_event_outbox_pending ON " + TABLE
+			+ " (next_attempt_at) WHERE status = 'INIT'");
+		// 같은 키의 백오프 중인 이전 행 확인용 (claimBatch)
+		jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_event_outbox_pending_key ON " + TABLE
+			+ " ((coalesce(message_key, event_id)), id) WHERE status = 'INIT'");
+		jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_event_outbox_published ON " + TABLE
+			+ " (published_at) WHERE status = 'PUBLISHED'");
+	}
+
+	/**
+	 * 일괄 저장 (JDBC batch, 호출자 트랜잭션 참여)
+	 */
+	public void insertAll(List<OutboxEvent> events) {
+		if (events.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO " + TABLE + " (event_id, event_type, aggregate_type, aggregate_id,"
+				+ " message_key, payload, trace_id, producer, version, next_attempt_at, created_at)"
+				+ " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+			events, events.size(), (ps, event) -> {
+				Timestamp createdAt = Timestamp.from(event.createdAt());
+				ps.setString(1, event.eventId());
+				ps.setString(2, event.eventType());
+				ps.setString(3, event.aggregateType());
+				ps.setString(4, event.aggregateId());
+				ps.setString(5, event.messageKey());
+				ps.setString(6, event.payload());
+				ps.setString(7, event.traceId());
+				ps.setString(8, event.producer());
+				ps.setString(9, event.version());
+				ps.setTimestamp(10, createdAt);
+				ps.setTimestamp(11, createdAt);
+			});
+	}
+
+	/**
+	 * 파티션(message_key 해시) 단위 발행 대상 선점 (FOR UPDATE SKIP LOCKED, 같은 트랜잭션에서 {@link #lease} 후 커밋)
+	 * 같은 키에 백오프/리스 중인 이전 행이 있으면 이후 행은 보류 ({@link OutboxClaimQuery})
+	 */
+	public List<OutboxEvent> claimBatch(int partition, int partitions, int limit) {
+		return jdbcTemplate.query(CLAIM_SQL, ROW_MAPPER, partitions, partition, limit);
+	}
+
+	/**
+	 * 파티션 소유권 (트랜잭션 범위 advisory lock) → 같은 키의 이벤트는 한 워커만 순서대로 발행
+	 */
+	public boolean tryLockPartition(long key) {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, key));
+	}
+
+	/**
+	 * 선점 행 리스: 전송 결과 반영 전까지 재선점 방지 (리스 만료 시 다시 선점 대상)
+	 */
+	public void lease(Collection<Long> ids, long leaseMs) {
+		jdbcTemplate.update("UPDATE " + TABLE + " SET next_attempt_at = now() + make_interval(secs => ? / 1000.0)"
+			+ " WHERE id = ANY(?::bigint[])", leaseMs, ids.toArray(Long[]::new));
+	}
+
+	/**
+	 * 전송하지 않은 행의 리스 해제 (attempts 유지)
+	 */
+	public void releaseLease(Collection<Long> ids) {
+		jdbcTemplate.update("UPDATE " + TABLE + " SET next_attempt_at = now() WHERE id = ANY(?::bigint[])",
+			(Object)ids.toArray(Long[]::new));
+	}
+
+	public void markPublished(Collection<Long> ids, Instant publishedAt) {
+		jdbcTemplate.update("UPDATE " + TABLE + " SET status = 'PUBLISHED', published_at = ?, last_error = null"
+			+ " WHERE id = ANY(?::bigint[])", Timestamp.from(publishedAt), ids.toArray(Long[]::new));
+	}
+
+	/**
+	 * 발행 실패 반영: attempts + 1, 지수 백오프, max-attempts 도달 시 FAILED
+	 */
+	public void markRetry(Collection<Long> ids, String error, int maxAttempts, long baseDelayMs, long maxDelayMs) {
+		jdbcTemplate.update("UPDATE " + TABLE + " SET attempts = attempts + 1, last_error = ?,"
+				+ " status = CASE WHEN attempts + 1 >= ? THEN 'FAILED' ELSE 'INIT' END,"
+				+ " next_attempt_at = now() + make_interval(secs => LEAST(? * power(2, attempts), ?) / 1000.0)"
+				+ " WHERE id = ANY(?::bigint[])",
+			error, maxAttempts, baseDelayMs, maxDelayMs, ids.toArray(Long[]::new));
+	}
+
+	/**
+	 * 보존 기간이 지난 PUBLISHED 행 정리 (chunk 단위)
+	 * @return 삭제 건수
+	 */
+	public int purgePublished(Instant cutoff, int limit) {
+		return jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE id IN (SELECT id FROM " + TABLE
+			+ " WHERE status = 'PUBLISHED' AND published_at < ? LIMIT ?)", Timestamp.from(cutoff), limit);
+	}
+
+	public long countPending() {
+		Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM " + TABLE + " WHERE status = 'INIT'", Long.class);
+		return count == null ? 0 : count;
+	}
+
+	public Instant findOldestPendingCreatedAt() {
+		Timestamp oldest = jdbcTemplate.queryForObject(
+			"SELECT min(created_at) FROM " + TABLE + " WHERE status = 'INIT'", Timestamp.class);
+		return oldest == null ? null : oldest.toInstant();
+	}
+}
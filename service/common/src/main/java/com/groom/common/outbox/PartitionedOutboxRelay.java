@@ -0,0 +1,414 @@
+package com.groom.common.outbox;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파티션 단위 outbox 릴레이 공통 구현 ({@link OutboxRelay}, order OrderOutboxPublisher)
+ *
+ * - 키 해시로 partitions개 파티션으로 나누고, 워커 i가 p % workers == i 파티션을 담당
+ * - 파티션 advisory lock으로 여러 Pod 중 한 곳만 같은 파티션을 발행 → 같은 키의 이벤트는 적재 순서대로 발행
+ * - 배치 선점은 {@link OutboxClaimQuery} (FOR UPDATE SKIP LOCKED, 같은 키의 이전 행이 백오프 중이면 보류)
+ *   선점 트랜잭션에서 next_attempt_at을 리스 만료 시각(send-timeout x 2)으로 미루고 바로 커밋
+ *   → Kafka 전송 대기 중에는 DB 커넥션/행 잠금/파티션 락을 잡지 않음
+ *   → 리스 중인 행은 다른 워커/Pod가 선점하지 않고, 같은 키의 이후 행도 보류
+ * - 키별로 적재 순서대로 이어서 send (다른 키는 병렬), 배치 전체를 한 번에 대기 후 별도 트랜잭션에서 결과별 bulk UPDATE
+ *   (전송 타임아웃 내 결과가 없으면 INIT + 리스 유지 → 리스 만료 후 재발행, at-least-once)
+ * - 같은 키에서 한 행이 실패/미완료면 이후 행은 전송하지 않고 리스만 해제 → 실패 행의 백오프가 끝난 뒤 순서대로 재발행
+ * - 실패 시 attempts 증가 + 지수 백오프, max-attempts 도달 시 FAILED
+ * - 기본 주기(adaptive): 가득 찬 배치면 즉시, 발행 건이 있으면 min-delay, 없으면 max-delay까지 지수 증가
+ *   wakeUp()으로 대기 중인 워커를 즉시 실행
+ *
+ * @param <E>  outbox 행 타입
+ * @param <ID> 행 식별자 타입
+ */
+@Slf4j
+public abstract class PartitionedOutboxRelay<E, ID> implements SmartLifecycle {
+
+	private final String name;
+	private final String threadPrefix;
+	private final long partitionLockBase;
+	private final OutboxRelayMetrics metrics;
+	private final TransactionTemplate transactionTemplate;
+	protected final int batchSize;
+	protected final int partitions;
+	protected final int workers;
+	protected final long minDelayMs;
+	protected final long maxDelayMs;
+	protected final long sendTimeoutMs;
+	private final int maxAttempts;
+	private final long backoffBaseMs;
+	private final long backoffMaxMs;
+
+	private volatile boolean running;
+	private ScheduledExecutorService scheduler;
+	private ScheduledFuture<?>[] nextRuns;
+
+	/**
+	 * @param name              로그 이름 (예: "Order outbox")
+	 * @param threadPrefix      워커 스레드 이름 접두사
+	 * @param partitionLockBase 파티션 advisory lock 키 시작값 (릴레이마다 겹치지 않게)
+	 */
+	protected PartitionedOutboxRelay(
+		String name,
+		String threadPrefix,
+		long partitionLockBase,
+		OutboxRelayMetrics metrics,
+		PlatformTransactionManager transactionManager,
+		int batchSize,
+		int partitions,
+		int workers,
+		long minDelayMs,
+		long maxDelayMs,
+		long sendTimeoutMs,
+		int maxAttempts,
+		long backoffBaseMs,
+		long backoffMaxMs
+	) {
+		this.name = name;
+		this.threadPrefix = threadPrefix;
+		this.partitionLockBase = partitionLockBase;
+		this.metrics = metrics;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+		this.partitions = Math.max(1, partitions);
+		this.workers = Math.max(1, Math.min(workers, this.partitions));
+		this.minDelayMs = minDelayMs;
+		this.maxDelayMs = Math.max(minDelayMs, maxDelayMs);
+		this.sendTimeoutMs = sendTimeoutMs;
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.backoffBaseMs = backoffBaseMs;
+		this.backoffMaxMs = Math.max(backoffBaseMs, backoffMaxMs);
+	}
+
+	/** 파티션 소유권 (트랜잭션 범위 advisory lock) */
+	protected abstract boolean tryLockPartition(long key);
+
+	/** 발행 대상 선점 (보통 {@link OutboxClaimQuery}) */
+	protected abstract List<E> claimBatch(int partition, int partitions, int limit);
+
+	/**
+	 * 선점 행 리스 (next_attempt_at = now + leaseMs, 선점 트랜잭션에서 호출)
+	 * 전송 결과 반영 전까지 다른 워커/Pod의 재선점과 같은 키 이후 행의 선점을 막음
+	 */
+	protected abstract void leaseClaimed(List<ID> ids, long leaseMs);
+
+	/** 전송하지 않은 행의 리스 해제 (next_attempt_at = now, attempts 유지) */
+	protected abstract void releaseClaimed(List<ID> ids);
+
+	/** 순서 보장 키 (선점 파티션 키와 동일) */
+	protected abstract String keyOf(E event);
+
+	/** Kafka 전송 (예외는 실패한 future로 처리) */
+	protected abstract CompletableFuture<Void> send(E event);
+
+	protected abstract ID idOf(E event);
+
+	protected abstract Instant createdAtOf(E event);
+
+	/** 실패 로그용 식별 정보 (eventId, attempts 등) */
+	protected abstract String describe(E event);
+
+	protected abstract void markPublished(List<ID> ids, Instant publishedAt);
+
+	protected abstract void markRetry(List<ID> ids, String error, int maxAttempts, long backoffBaseMs,
+		long backoffMaxMs);
+
+	/** 이번 주기 발행 여부 (false면 파티션을 건너뛰고 다음 주기 예약) */
+	protected boolean canRelay() {
+		return true;
+	}
+
+	/** 관리 작업 주기 (0 이하면 관리 작업 없음) */
+	protected long maintenanceIntervalMs() {
+		return 0;
+	}
+
+	/** 관리 작업 (적체 지표 샘플링, 보존 기간 정리 등) */
+	protected void maintain() {
+	}
+
+	/**
+	 * 전체 파티션 1회 발행 (수동 실행/테스트용)
+	 * @return 처리한 이벤트 수
+	 */
+	public int publish() {
+		int relayed = 0;
+		for (int partition = 0; partition < partitions; partition++) {
+			relayed += relayPartition(partition);
+		}
+		return relayed;
+	}
+
+	/**
+	 * 다음 주기를 기다리는 워커를 즉시 실행 (실행 중인 워커는 그대로 두고 다음 주기에 반영)
+	 */
+	public void wakeUp() {
+		if (!running) {
+			return;
+		}
+		synchronized (this) {
+			for (int worker = 0; worker < workers; worker++) {
+				ScheduledFuture<?> next = nextRuns[worker];
+				if (next != null && next.getDelay(TimeUnit.MILLISECONDS) > 0 && next.cancel(false)) {
+					schedule(worker, 0, minDelayMs);
+				}
+			}
+		}
+	}
+
+	@Override
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+		running = true;
+		long maintenanceIntervalMs = maintenanceIntervalMs();
+		scheduler = Executors.newScheduledThreadPool(workers + (maintenanceIntervalMs > 0 ? 1 : 0), workerThreadFactory());
+		nextRuns = new ScheduledFuture<?>[workers];
+		for (int worker = 0; worker < workers; worker++) {
+			schedule(worker, 0, minDelayMs);
+		}
+		if (maintenanceIntervalMs > 0) {
+			scheduler.scheduleWithFixedDelay(this::maintain, 0, maintenanceIntervalMs, TimeUnit.MILLISECONDS);
+		}
+		log.info("{} relay started: partitions={}, workers={}, batchSize={}", name, partitions, workers, batchSize);
+	}
+
+	@Override
+	public void stop() {
+		synchronized (this) {
+			if (!running) {
+				return;
+			}
+			running = false;
+		}
+		scheduler.shutdown();
+		try {
+			if (!scheduler.awaitTermination(sendTimeoutMs, TimeUnit.MILLISECONDS)) {
+				scheduler.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			scheduler.shutdownNow();
+		}
+		log.info("{} relay stopped", name);
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * 다음 실행까지 대기 시간 (기본 adaptive)
+	 */
+	protected long nextDelay(long previousDelayMs, int relayed, boolean saturated) {
+		if (saturated) {
+			return 0;
+		}
+		if (relayed > 0) {
+			return minDelayMs;
+		}
+		return Math.min(Math.max(previousDelayMs * 2, minDelayMs), maxDelayMs);
+	}
+
+	// running 확인과 예약을 묶어 stop 이후 예약(RejectedExecution) 방지
+	private synchronized void schedule(int worker, long delayMs, long previousDelayMs) {
+		if (running) {
+			nextRuns[worker] = scheduler.schedule(() -> runWorker(worker, previousDelayMs), delayMs, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void runWorker(int worker, long previousDelayMs) {
+		if (!running) {
+			return;
+		}
+
+		int relayed = 0;
+		boolean saturated = false;
+		boolean relay = canRelay();
+		for (int partition = worker; relay && partition < partitions && running; partition += workers) {
+			try {
+				int count = relayPartition(partition);
+				relayed += count;
+				saturated |= count >= batchSize;
+			} catch (Exception e) {
+				log.error("{} relay failed. partition={}", name, partition, e);
+			}
+		}
+
+		long nextDelayMs = nextDelay(previousDelayMs, relayed, saturated);
+		schedule(worker, nextDelayMs, nextDelayMs);
+	}
+
+	// 파티션 1개 배치 발행 (파티션 락을 다른 Pod가 보유 중이면 0)
+	private int relayPartition(int partition) {
+		// 1. 선점 + 리스 후 커밋 (전송 대기 동안 트랜잭션을 열어 두지 않음)
+		List<E> batch = transactionTemplate.execute(status -> {
+			if (!tryLockPartition(partitionLockBase + partition)) {
+				return List.<E>of();
+			}
+			List<E> claimed = claimBatch(partition, partitions, batchSize);
+			if (!claimed.isEmpty()) {
+				leaseClaimed(claimed.stream().map(this::idOf).toList(), sendTimeoutMs * 2);
+			}
+			return claimed;
+		});
+		if (batch == null || batch.isEmpty()) {
+			return 0;
+		}
+
+		// 2. 트랜잭션 밖에서 전송 (키별 순차, 키 간 병렬)
+		long startNanos = System.nanoTime();
+		AtomicBoolean abandoned = new AtomicBoolean();
+		List<CompletableFuture<Void>> futures = sendInKeyOrder(batch, abandoned);
+		awaitAll(futures);
+		abandoned.set(true);
+
+		// 3. 결과 판정 (같은 키에서 실패/미완료 이후 행은 전송 보류)
+		Instant now = Instant.now();
+		List<ID> publishedIds = new ArrayList<>();
+		List<ID> heldIds = new ArrayList<>();
+		Map<String, List<ID>> failedIdsByError = new LinkedHashMap<>();
+		Set<String> stoppedKeys = new HashSet<>();
+		int failed = 0;
+		for (int i = 0; i < batch.size(); i++) {
+			E event = batch.get(i);
+			String key = keyOf(event);
+			CompletableFuture<Void> future = futures.get(i);
+			if (stoppedKeys.contains(key)) {
+				if (future.isDone()) {
+					heldIds.add(idOf(event));
+				}
+				continue;
+			}
+			if (!future.isDone()) {
+				stoppedKeys.add(key);
+				continue;
+			}
+			if (future.isCompletedExceptionally()) {
+				Throwable cause = causeOf(future);
+				failedIdsByError.computeIfAbsent(errorMessage(cause), k -> new ArrayList<>()).add(idOf(event));
+				stoppedKeys.add(key);
+				failed++;
+				log.error("{} publish failed. {}", name, describe(event), cause);
+			} else {
+				publishedIds.add(idOf(event));
+				metrics.recordLag(createdAtOf(event), now);
+			}
+		}
+
+		// 4. 결과 반영 (짧은 별도 트랜잭션, 실패 원인별 bulk UPDATE - 보통 브로커 장애 등 원인 1개 → UPDATE 1회)
+		int publishedCount = publishedIds.size();
+		int failedCount = failed;
+		transactionTemplate.executeWithoutResult(status -> {
+			if (!publishedIds.isEmpty()) {
+				markPublished(publishedIds, now);
+			}
+			failedIdsByError.forEach((error, ids) -> markRetry(ids, error, maxAttempts, backoffBaseMs, backoffMaxMs));
+			if (!heldIds.isEmpty()) {
+				releaseClaimed(heldIds);
+			}
+		});
+		metrics.recordBatch(startNanos, publishedCount, failedCount);
+		return batch.size();
+	}
+
+	/**
+	 * 같은 키의 행은 앞 행 전송 성공 후에만 이어서 전송
+	 * 앞 행이 실패했거나 대기 시간이 지나면(abandoned) 이후 행은 전송하지 않음 (future는 실패로 완료)
+	 */
+	private List<CompletableFuture<Void>> sendInKeyOrder(List<E> batch, AtomicBoolean abandoned) {
+		Map<String, CompletableFuture<Void>> tails = new HashMap<>();
+		List<CompletableFuture<Void>> futures = new ArrayList<>(batch.size());
+		for (E event : batch) {
+			CompletableFuture<Void> previous = tails.get(keyOf(event));
+			CompletableFuture<Void> future = previous == null
+				? sendSafely(event)
+				: previous.thenCompose(ignored -> abandoned.get()
+					? CompletableFuture.failedFuture(new IllegalStateException("Send abandoned after timeout"))
+					: sendSafely(event));
+			tails.put(keyOf(event), future);
+			futures.add(future);
+		}
+		return futures;
+	}
+
+	private CompletableFuture<Void> sendSafely(E event) {
+		try {
+			return send(event);
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	// 배치 전체 완료 대기 (개별 실패는 future별로 판정)
+	private void awaitAll(List<CompletableFuture<Void>> futures) {
+		try {
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+				.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("{} publish interrupted. batch={}", name, futures.size());
+		} catch (ExecutionException e) {
+			// 일부 실패: future별 결과로 처리
+		} catch (TimeoutException e) {
+			log.warn("{} publish timed out. batch={}, timeoutMs={}", name, futures.size(), sendTimeoutMs);
+		}
+	}
+
+	/**
+	 * 완료된 future의 실패 원인 (성공이면 null)
+	 */
+	public static Throwable causeOf(CompletableFuture<?> future) {
+		try {
+			future.join();
+			return null;
+		} catch (RuntimeException e) {
+			return e.getCause() != null ? e.getCause() : e;
+		}
+	}
+
+	/**
+	 * 실패 원인 요약 (last_error 컬럼 길이 이내)
+	 */
+	public static String errorMessage(Throwable cause) {
+		if (cause == null) {
+			return null;
+		}
+		String message = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+		return message.length() > 1000 ? message.substring(0, 1000) : message;
+	}
+
+	private ThreadFactory workerThreadFactory() {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, threadPrefix + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
@@ -0,0 +1,145 @@
+package com.groom.common.outbox;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.common.event.envelope.EventEnvelope;
+
+/**
+ * 비즈니스 트랜잭션에 이벤트 적재 (afterCommit 직접 발행 대체)
+ *
+ * - 트랜잭션 안: 트랜잭션별 버퍼에 모았다가 beforeCommit에서 JDBC batch INSERT 1회
+ *   → 비즈니스 변경과 이벤트가 함께 커밋/롤백, 커밋 후 브로커 장애로 이벤트가 사라지지 않음
+ * - 커밋 후 릴레이를 깨워 발행 지연 최소화 (발행 자체는 {@link OutboxRelay})
+ * - 트랜잭션 밖: 즉시 INSERT
+ */
+@Component
+@ConditionalOnProperty(name = "event.outbox.enabled", havingValue = "true")
+public class TransactionalOutbox {
+
+	private final OutboxRepository outboxRepository;
+	private final OutboxRelay relay;
+	private final OutboxMetrics metrics;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate detachedTransaction;
+
+	public TransactionalOutbox(
+		OutboxRepository outboxRepository,
+		OutboxRelay relay,
+		OutboxMetrics metrics,
+		ObjectMapper objectMapper,
+		PlatformTransactionManager transactionManager
+	) {
+		this.outboxRepository = outboxRepository;
+		this.relay = relay;
+		this.metrics = metrics;
+		this.objectMapper = objectMapper;
+		this.detachedTransaction = new TransactionTemplate(transactionManager);
+		this.detachedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	/**
+	 * aggregateId를 메시지 키로 적재
+	 */
+	public void append(EventEnvelope envelope) {
+		append(envelope.getAggregateId(), envelope);
+	}
+
+	public void append(String key, EventEnvelope envelope) {
+		OutboxEvent event = toOutboxEvent(key, envelope);
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			insertNow(List.of(event));
+			return;
+		}
+		buffer().add(event);
+	}
+
+	public void appendAll(Collection<EventEnvelope> envelopes) {
+		envelopes.forEach(this::append);
+	}
+
+	/**
+	 * 현재 트랜잭션과 무관하게 별도 트랜잭션으로 즉시 적재
+	 * (호출 트랜잭션이 롤백돼도 발행되어야 하는 실패 보상 이벤트용)
+	 */
+	public void appendDetached(String key, EventEnvelope envelope) {
+		OutboxEvent event = toOutboxEvent(key, envelope);
+		detachedTransaction.executeWithoutResult(status -> outboxRepository.insertAll(List.of(event)));
+		metrics.recordAppended(1);
+		relay.wakeUp();
+	}
+
+	private void insertNow(List<OutboxEvent> events) {
+		outboxRepository.insertAll(events);
+		metrics.recordAppended(events.size());
+		relay.wakeUp();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<OutboxEvent> buffer() {
+		List<OutboxEvent> buffer = (List<OutboxEvent>)TransactionSynchronizationManager.getResource(this);
+		if (buffer != null) {
+			return buffer;
+		}
+
+		List<OutboxEvent> created = new ArrayList<>();
+		TransactionSynchronizationManager.bindResource(this, created);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void beforeCommit(boolean readOnly) {
+				outboxRepository.insertAll(created);
+			}
+
+			@Override
+			public void afterCommit() {
+				metrics.recordAppended(created.size());
+				relay.wakeUp();
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				TransactionSynchronizationManager.unbindResourceIfPossible(TransactionalOutbox.this);
+			}
+		});
+		return created;
+	}
+
+	private OutboxEvent toOutboxEvent(String key, EventEnvelope envelope) {
+		return new OutboxEvent(
+			0L,
+			envelope.getEventId(),
+			envelope.getEventType().name(),
+			envelope.getAggregateType(),
+			envelope.getAggregateId(),
+			key,
+			payloadJson(envelope),
+			envelope.getTraceId(),
+			envelope.getProducer(),
+			envelope.getVersion(),
+			0,
+			envelope.getOccurredAt() != null ? envelope.getOccurredAt() : Instant.now());
+	}
+
+	private String payloadJson(EventEnvelope envelope) {
+		if (envelope.getPayload() != null || envelope.getPayloadObject() == null) {
+			return envelope.getPayload();
+		}
+		try {
+			return objectMapper.writeValueAsString(envelope.getPayloadObject());
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize outbox payload of " + envelope.getEventType(), e);
+		}
+	}
+}
@@ -50,6 +50,11 @@ public enum ErrorCode {
 	CART_NOT_FOUND(HttpStatus.NOT_FOUND, "CART_NOT_FOUND", "장바구니를 찾을 수 없습니다."),
 	CART_ITEM_NOT_FOUND(HttpStatus.NOT_FOUND, "CART_ITEM_NOT_FOUND", "장바구니에서 상품을 찾을 수 없습니다."),
 	CART_EMPTY(HttpStatus.BAD_REQUEST, "CART_EMPTY", "장바구니가 비어 있습니다."),
+	CHECKOUT_QUOTE_INVALID(HttpStatus.BAD_REQUEST, "CHECKOUT_QUOTE_INVALID", "유효하지 않은 주문 견적입니다."),
+	CHECKOUT_QUOTE_EXPIRED(HttpStatus.BAD_REQUEST, "CHECKOUT_QUOTE_EXPIRED", "주문 견적이 만료되었습니다. 다시 주문해 주세요."),
+	CHECKOUT_QUOTE_MISMATCH(HttpStatus.BAD_REQUEST, "CHECKOUT_QUOTE_MISMATCH", "주문 상품이 견적과 일치하지 않습니다."),
+	CHECKOUT_QUOTE_REQUIRED(HttpStatus.BAD_REQUEST, "CHECKOUT_QUOTE_REQUIRED", "주문 견적이 필요합니다. 장바구니에서 주문해 주세요."),
+	CHECKOUT_QUOTE_ALREADY_USED(HttpStatus.CONFLICT, "CHECKOUT_QUOTE_ALREADY_USED", "이미 주문에 사용된 견적입니다."),
 
 	// =====================
 	// Product
@@ -0,0 +1,167 @@
+package com.groom.common.checkout;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.groom.common.presentation.advice.CustomException;
+import com.groom.common.presentation.advice.ErrorCode;
+
+@DisplayName("CheckoutQuoteSigner 테스트")
+class CheckoutQuoteSignerTest {
+
+	private static final String SECRET = "checkout-quote-test-secret-0123456789";
+	private static final String JWT_SECRET = "jwt-test-secret-should-be-at-least-256-bits";
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	private final CheckoutQuoteSigner signer = new CheckoutQuoteSigner(objectMapper, SECRET, JWT_SECRET);
+	private final UUID userId = UUID.randomUUID();
+
+	@Nested
+	@DisplayName("verify() 테스트")
+	class VerifyTest {
+
+		@Test
+		@DisplayName("서명한 견적을 그대로 복원")
+		void validToken_ReturnsQuote() {
+			CheckoutQuote quote = quote(userId, Instant.now().plus(5, ChronoUnit.MINUTES));
+
+			CheckoutQuote verified = signer.verify(signer.sign(quote), userId);
+
+			assertThat(verified).isEqualTo(quote);
+		}
+
+		@Test
+		@DisplayName("견적 내용을 바꾸면 서명 불일치")
+		void tamperedPayload_Invalid() throws Exception {
+			CheckoutQuote quote = quote(userId, Instant.now().plus(5, ChronoUnit.MINUTES));
+			String token = signer.sign(quote);
+			CheckoutQuote cheaper = new CheckoutQuote(quote.quoteId(), userId, quote.items(), 1L, quote.expiresAt());
+			String tamperedPayload = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(objectMapper.writeValueAsBytes(cheaper));
+			String tampered = tamperedPayload + token.substring(token.indexOf('.'));
+
+			assertError(() -> signer.verify(tampered, userId), ErrorCode.CHECKOUT_QUOTE_INVALID);
+		}
+
+		@Test
+		@DisplayName("서명을 바꾸거나 다른 키로 서명하면 거부")
+		void tamperedSignature_Invalid() {
+			CheckoutQuote quote = quote(userId, Instant.now().plus(5, ChronoUnit.MINUTES));
+			String token = signer.sign(quote);
+			// 서명 첫 글자 변경 (마지막 글자는 패딩 비트만 바뀔 수 있음)
+			int start = token.indexOf('.') + 1;
+			char first = token.charAt(start);
+			String flipped = token.substring(0, start) + (first == 'A' ? 'B' : 'A') + token.substring(start + 1);
+			CheckoutQuoteSigner otherKey = new CheckoutQuoteSigner(objectMapper, SECRET + "-rotated", JWT_SECRET);
+
+			assertError(() -> signer.verify(flipped, userId), ErrorCode.CHECKOUT_QUOTE_INVALID);
+			assertError(() -> signer.verify(otherKey.sign(quote), userId), ErrorCode.CHECKOUT_QUOTE_INVALID);
+		}
+
+		@Test
+		@DisplayName("만료된 견적은 CHECKOUT_QUOTE_EXPIRED")
+		void expired_Rejected() {
+			String token = signer.sign(quote(userId, Instant.now().minusSeconds(1)));
+
+			assertError(() -> signer.verify(token, userId), ErrorCode.CHECKOUT_QUOTE_EXPIRED);
+		}
+
+		@Test
+		@DisplayName("다른 사용자의 견적은 거부")
+		void wrongUser_Invalid() {
+			String token = signer.sign(quote(userId, Instant.now().plus(5, ChronoUnit.MINUTES)));
+
+			assertError(() -> signer.verify(token, UUID.randomUUID()), ErrorCode.CHECKOUT_QUOTE_INVALID);
+		}
+
+		@Test
+		@DisplayName("형식이 잘못된 토큰은 거부")
+		void malformed_Invalid() {
+			String payload = Base64.getUrlEncoder().withoutPadding()
+				.encodeToString("not json".getBytes(StandardCharsets.UTF_8));
+
+			assertError(() -> signer.verify(null, userId), ErrorCode.CHECKOUT_QUOTE_INVALID);
+			assertError(() -> signer.verify("no-separator", userId), ErrorCode.CHECKOUT_QUOTE_INVALID);
+			assertError(() -> signer.verify("abc.!!!", userId), ErrorCode.CHECKOUT_QUOTE_INVALID);
+			assertError(() -> signer.verify(payload + "." + signature(payload), userId),
+				ErrorCode.CHECKOUT_QUOTE_INVALID);
+		}
+
+		@Test
+		@DisplayName("만료 시각이나 품목이 없는 견적은 거부")
+		void missingFields_Invalid() {
+			String noExpiry = signer.sign(quote(userId, null));
+			String noItems = signer.sign(new CheckoutQuote(UUID.randomUUID(), userId, null, 0L,
+				Instant.now().plus(5, ChronoUnit.MINUTES)));
+
+			assertError(() -> signer.verify(noExpiry, userId), ErrorCode.CHECKOUT_QUOTE_INVALID);
+			assertError(() -> signer.verify(noItems, userId), ErrorCode.CHECKOUT_QUOTE_INVALID);
+		}
+	}
+
+	@Nested
+	@DisplayName("서명 키 검증 테스트")
+	class SecretTest {
+
+		@Test
+		@DisplayName("32바이트 미만 키는 기동 실패")
+		void shortSecret_Rejected() {
+			assertThatThrownBy(() -> new CheckoutQuoteSigner(objectMapper, "too-short", JWT_SECRET))
+				.isInstanceOf(IllegalStateException.class);
+		}
+
+		@Test
+		@DisplayName("jwt.secret 재사용은 기동 실패")
+		void jwtSecretReuse_Rejected() {
+			assertThatThrownBy(() -> new CheckoutQuoteSigner(objectMapper, JWT_SECRET, JWT_SECRET))
+				.isInstanceOf(IllegalStateException.class);
+		}
+	}
+
+	private static CheckoutQuote quote(UUID userId, Instant expiresAt) {
+		return new CheckoutQuote(
+			UUID.randomUUID(),
+			userId,
+			List.of(
+				new CheckoutQuote.QuotedItem(UUID.randomUUID(), UUID.randomUUID(), 2, 15000L),
+				new CheckoutQuote.QuotedItem(UUID.randomUUID(), null, 1, 9900L)),
+			39900L,
+			expiresAt);
+	}
+
+	// 올바른 키로 서명한 (내용이 잘못된) payload
+	private static String signature(String payload) {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+			return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII)));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void assertError(ThrowingCallable verify, ErrorCode errorCode) {
+		assertThatThrownBy(verify)
+			.isInstanceOf(CustomException.class)
+			.extracting(e -> ((CustomException)e).getErrorCode())
+			.isEqualTo(errorCode);
+	}
+}
@@ -0,0 +1,236 @@
+package com.groom.common.event.codec;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.groom.common.event.Type.EventType;
+import com.groom.common.event.envelope.EventEnvelope;
+import com.groom.common.event.payload.PaymentCompletedPayload;
+import com.groom.common.event.payload.StockDeductedPayload;
+
+@DisplayName("BinaryEventCodec 테스트")
+class BinaryEventCodecTest {
+
+	private final BinaryEventCodec codec = new BinaryEventCodec();
+
+	@Nested
+	@DisplayName("왕복 인코딩 테스트")
+	class RoundTripTest {
+
+		@Test
+		@DisplayName("payload 객체와 envelope 필드를 그대로 복원")
+		void payloadObject_RoundTrip() {
+			UUID orderId = UUID.randomUUID();
+			UUID productId = UUID.randomUUID();
+			StockDeductedPayload payload = StockDeductedPayload.builder()
+				.orderId(orderId)
+				.items(List.of(
+					new StockDeductedPayload.DeductedItem(productId, null, 2, 8),
+					new StockDeductedPayload.DeductedItem(productId, UUID.randomUUID(), 1, 0)))
+				.build();
+			EventEnvelope envelope = envelope(EventType.STOCK_DEDUCTED).toBuilder()
+				.payloadObject(payload)
+				.build();
+
+			byte[] encoded = codec.encode(envelope);
+			EventEnvelope decoded = codec.decode(encoded);
+
+			assertThat(BinaryEventCodec.isBinary(encoded)).isTrue();
+			assertThat(decoded.getEventId()).isEqualTo(envelope.getEventId());
+			assertThat(decoded.getEventType()).isEqualTo(EventType.STOCK_DEDUCTED);
+			assertThat(decoded.getAggregateType()).isEqualTo("PRODUCT");
+			assertThat(decoded.getAggregateId()).isEqualTo(envelope.getAggregateId());
+			assertThat(decoded.getOccurredAt()).isEqualTo(envelope.getOccurredAt());
+			assertThat(decoded.getProducer()).isEqualTo("service-product");
+			assertThat(decoded.getTraceId()).isEqualTo("trace-1");
+			assertThat(decoded.getVersion()).isEqualTo("1");
+
+			StockDeductedPayload restored = (StockDeductedPayload) decoded.getPayloadObject();
+			assertThat(restored.getOrderId()).isEqualTo(orderId);
+			assertThat(restored.getItems())
+				.extracting(StockDeductedPayload.DeductedItem::getVariantId,
+					StockDeductedPayload.DeductedItem::getQuantity,
+					StockDeductedPayload.DeductedItem::getRemainingStock)
+				.containsExactly(
+					tuple(null, 2, 8),
+					tuple(payload.getItems().get(1).getVariantId(), 1, 0));
+		}
+
+		@Test
+		@DisplayName("JSON 문자열로만 보관된 payload(outbox)도 스키마로 인코딩")
+		void jsonPayload_RoundTrip() throws Exception {
+			UUID orderId = UUID.randomUUID();
+			Instant paidAt = Instant.parse("2026-01-02T03:04:05.123456Z");
+			ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+			String json = objectMapper.writeValueAsString(
+				new PaymentCompletedPayload(orderId, "pay-key", 15000L, paidAt));
+			EventEnvelope envelope = envelope(EventType.PAYMENT_COMPLETED).toBuilder().payload(json).build();
+
+			EventEnvelope decoded = codec.decode(codec.encode(envelope));
+
+			PaymentCompletedPayload restored = decoded.readPayload(PaymentCompletedPayload.class, objectMapper);
+			assertThat(restored.getOrderId()).isEqualTo(orderId);
+			assertThat(restored.getPaymentKey()).isEqualTo("pay-key");
+			assertThat(restored.getAmount()).isEqualTo(15000L);
+			assertThat(restored.getPaidAt()).isEqualTo(paidAt);
+		}
+
+		@Test
+		@DisplayName("스키마 미등록 타입은 payload JSON 문자열 그대로")
+		void opaqueType_KeepsJson() {
+			EventEnvelope envelope = envelope(EventType.CART_CLEARED).toBuilder()
+				.payload("{\"userId\":\"u-1\"}")
+				.build();
+
+			EventEnvelope decoded = codec.decode(codec.encode(envelope));
+
+			assertThat(decoded.getEventType()).isEqualTo(EventType.CART_CLEARED);
+			assertThat(decoded.getPayload()).isEqualTo("{\"userId\":\"u-1\"}");
+			assertThat(decoded.getPayloadObject()).isNull();
+		}
+
+		@Test
+		@DisplayName("UUID 형식이 아닌 ID와 null 필드도 그대로 복원")
+		void nonUuidIds_RoundTrip() {
+			EventEnvelope envelope = EventEnvelope.builder()
+				.eventId(UUID.randomUUID().toString().toUpperCase())
+				.eventType(EventType.CART_CLEARED)
+				.aggregateId("42")
+				.build();
+
+			EventEnvelope decoded = codec.decode(codec.encode(envelope));
+
+			assertThat(decoded.getEventId()).isEqualTo(envelope.getEventId());
+			assertThat(decoded.getAggregateId()).isEqualTo("42");
+			assertThat(decoded.getAggregateType()).isNull();
+			assertThat(decoded.getOccurredAt()).isNull();
+			assertThat(decoded.getPayload()).isNull();
+		}
+	}
+
+	@Nested
+	@DisplayName("디코딩 오류 테스트")
+	class DecodeErrorTest {
+
+		@Test
+		@DisplayName("등록되지 않은 스키마 ID는 예외")
+		void unknownSchemaId_Throws() {
+			EventSchemaRegistry otherRegistry = new EventSchemaRegistry()
+				.register(new EventSchema(99, EventType.CART_CLEARED, 1,
+					MessageSchema.builder(TestPayload.class).field(1, "id", FieldType.UUID).build()));
+			BinaryEventCodec writer = new BinaryEventCodec(otherRegistry, new ObjectMapper());
+			byte[] encoded = writer.encode(envelope(EventType.CART_CLEARED).toBuilder()
+				.payloadObject(new TestPayload(UUID.randomUUID(), null, 0))
+				.build());
+
+			assertThatThrownBy(() -> codec.decode(encoded))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("99");
+		}
+
+		@Test
+		@DisplayName("JSON 메시지는 바이너리로 판단하지 않음")
+		void json_IsNotBinary() {
+			byte[] json = "{\"eventId\":\"1\"}".getBytes(StandardCharsets.UTF_8);
+
+			assertThat(BinaryEventCodec.isBinary(json)).isFalse();
+			assertThatThrownBy(() -> codec.decode(json)).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("스키마 버전 호환 테스트")
+	class CompatibilityTest {
+
+		private final MessageSchema v1 = MessageSchema.builder(TestPayload.class)
+			.field(1, "id", FieldType.UUID)
+			.field(2, "note", FieldType.STRING)
+			.build();
+
+		private final MessageSchema v2 = MessageSchema.builder(TestPayload.class)
+			.field(1, "id", FieldType.UUID)
+			.field(2, "note", FieldType.STRING)
+			.field(3, "count", FieldType.LONG)
+			.build();
+
+		@Test
+		@DisplayName("구버전 리더는 새 필드를 건너뜀 (forward)")
+		void oldReader_SkipsNewField() {
+			BinaryEventCodec newWriter = codec(new EventSchemaRegistry()
+				.register(new EventSchema(99, EventType.CART_CLEARED, 1, v1))
+				.register(new EventSchema(99, EventType.CART_CLEARED, 2, v2)));
+			BinaryEventCodec oldReader = codec(new EventSchemaRegistry()
+				.register(new EventSchema(99, EventType.CART_CLEARED, 1, v1)));
+			UUID id = UUID.randomUUID();
+
+			EventEnvelope decoded = oldReader.decode(newWriter.encode(envelope(EventType.CART_CLEARED).toBuilder()
+				.payloadObject(new TestPayload(id, "memo", 7))
+				.build()));
+
+			TestPayload payload = (TestPayload) decoded.getPayloadObject();
+			assertThat(payload.id).isEqualTo(id);
+			assertThat(payload.note).isEqualTo("memo");
+			assertThat(payload.count).isZero();
+		}
+
+		@Test
+		@DisplayName("신버전 리더는 없는 필드를 기본값으로 (backward)")
+		void newReader_DefaultsMissingField() {
+			BinaryEventCodec oldWriter = codec(new EventSchemaRegistry()
+				.register(new EventSchema(99, EventType.CART_CLEARED, 1, v1)));
+			BinaryEventCodec newReader = codec(new EventSchemaRegistry()
+				.register(new EventSchema(99, EventType.CART_CLEARED, 1, v1))
+				.register(new EventSchema(99, EventType.CART_CLEARED, 2, v2)));
+
+			EventEnvelope decoded = newReader.decode(oldWriter.encode(envelope(EventType.CART_CLEARED).toBuilder()
+				.payloadObject(new TestPayload(UUID.randomUUID(), "memo", 7))
+				.build()));
+
+			TestPayload payload = (TestPayload) decoded.getPayloadObject();
+			assertThat(payload.note).isEqualTo("memo");
+			assertThat(payload.count).isZero();
+		}
+
+		private BinaryEventCodec codec(EventSchemaRegistry registry) {
+			return new BinaryEventCodec(registry, new ObjectMapper());
+		}
+	}
+
+	private static EventEnvelope envelope(EventType eventType) {
+		return EventEnvelope.builder()
+			.eventId(UUID.randomUUID().toString())
+			.eventType(eventType)
+			.aggregateType("PRODUCT")
+			.aggregateId(UUID.randomUUID().toString())
+			.occurredAt(Instant.parse("2026-01-02T03:04:05.123456789Z"))
+			.producer("service-product")
+			.traceId("trace-1")
+			.version("1")
+			.build();
+	}
+
+	static class TestPayload {
+		private UUID id;
+		private String note;
+		private long count;
+
+		TestPayload() {
+		}
+
+		TestPayload(UUID id, String note, long count) {
+			this.id = id;
+			this.note = note;
+			this.count = count;
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package com.groom.common.event.codec;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.groom.common.event.Type.EventType;
+
+@DisplayName("EventSchemaRegistry 테스트")
+class EventSchemaRegistryTest {
+
+	private static final MessageSchema V1 = MessageSchema.builder(TestPayload.class)
+		.field(1, "id", FieldType.UUID)
+		.field(2, "note", FieldType.STRING)
+		.build();
+
+	@Test
+	@DisplayName("최신 버전을 이벤트 타입과 스키마 ID로 조회")
+	void latest_ReturnsNewestVersion() {
+		MessageSchema v2 = MessageSchema.builder(TestPayload.class)
+			.field(1, "id", FieldType.UUID)
+			.field(2, "note", FieldType.STRING)
+			.field(3, "count", FieldType.LONG)
+			.build();
+		EventSchemaRegistry registry = new EventSchemaRegistry()
+			.register(new EventSchema(7, EventType.CART_CLEARED, 1, V1))
+			.register(new EventSchema(7, EventType.CART_CLEARED, 2, v2));
+
+		assertThat(registry.latest(EventType.CART_CLEARED).version()).isEqualTo(2);
+		assertThat(registry.byId(7).payload()).isSameAs(v2);
+		assertThat(registry.latest(EventType.USER_UPDATED)).isNull();
+		assertThat(registry.byId(8)).isNull();
+	}
+
+	@Test
+	@DisplayName("다른 타입이 쓰는 스키마 ID는 등록 불가")
+	void duplicateId_Rejected() {
+		EventSchemaRegistry registry = new EventSchemaRegistry()
+			.register(new EventSchema(7, EventType.CART_CLEARED, 1, V1));
+
+		assertThatThrownBy(() -> registry.register(new EventSchema(7, EventType.USER_UPDATED, 1, V1)))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("버전은 1씩 증가, 스키마 ID는 유지")
+	void versionGapOrIdChange_Rejected() {
+		EventSchemaRegistry registry = new EventSchemaRegistry()
+			.register(new EventSchema(7, EventType.CART_CLEARED, 1, V1));
+
+		assertThatThrownBy(() -> registry.register(new EventSchema(7, EventType.CART_CLEARED, 3, V1)))
+			.isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> registry.register(new EventSchema(8, EventType.CART_CLEARED, 2, V1)))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("기존 태그의 타입 변경은 등록 불가")
+	void typeChange_Rejected() {
+		MessageSchema changed = MessageSchema.builder(TestPayload.class)
+			.field(1, "id", FieldType.UUID)
+			.field(2, "count", FieldType.LONG)
+			.build();
+		EventSchemaRegistry registry = new EventSchemaRegistry()
+			.register(new EventSchema(7, EventType.CART_CLEARED, 1, V1));
+
+		assertThatThrownBy(() -> registry.register(new EventSchema(7, EventType.CART_CLEARED, 2, changed)))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("changed type");
+	}
+
+	@Test
+	@DisplayName("삭제한 태그는 reserved로 남겨야 하고 재사용 불가")
+	void removedTag_MustBeReserved() {
+		MessageSchema removed = MessageSchema.builder(TestPayload.class)
+			.field(1, "id", FieldType.UUID)
+			.build();
+		MessageSchema reserved = MessageSchema.builder(TestPayload.class)
+			.field(1, "id", FieldType.UUID)
+			.reserved(2)
+			.build();
+		MessageSchema reused = MessageSchema.builder(TestPayload.class)
+			.field(1, "id", FieldType.UUID)
+			.field(2, "note", FieldType.STRING)
+			.build();
+
+		assertThatThrownBy(() -> new EventSchemaRegistry()
+			.register(new EventSchema(7, EventType.CART_CLEARED, 1, V1))
+			.register(new EventSchema(7, EventType.CART_CLEARED, 2, removed)))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("must be reserved");
+		assertThatThrownBy(() -> new EventSchemaRegistry()
+			.register(new EventSchema(7, EventType.CART_CLEARED, 1, V1))
+			.register(new EventSchema(7, EventType.CART_CLEARED, 2, reserved))
+			.register(new EventSchema(7, EventType.CART_CLEARED, 3, reused)))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("reused");
+	}
+
+	@Test
+	@DisplayName("기본 스키마 정의는 호환성 검사를 통과")
+	void builtInSchemas_AreValid() {
+		assertThat(EventSchemas.registry().latest(EventType.ORDER_CREATED)).isNotNull();
+	}
+
+	static class TestPayload {
+		private UUID id;
+		private String note;
+		private long count;
+	}
+}
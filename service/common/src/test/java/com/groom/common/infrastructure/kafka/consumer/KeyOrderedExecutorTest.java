@@ -0,0 +1,166 @@
+package com.groom.common.infrastructure.kafka.consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("KeyOrderedExecutor 테스트")
+class KeyOrderedExecutorTest {
+
+	private KeyOrderedExecutor executor;
+
+	@AfterEach
+	void tearDown() {
+		if (executor != null) {
+			executor.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("여러 컨슈머 스레드가 동시에 제출해도 키별 처리 순서는 제출 순서")
+	void sameKey_ProcessedInSubmissionOrder() throws Exception {
+		executor = start(4, 64);
+		int keys = 32;
+		int eventsPerKey = 200;
+		Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+		IntStream.range(0, keys).forEach(key -> processed.put("order-" + key, Collections.synchronizedList(new ArrayList<>())));
+
+		// 컨슈머 스레드마다 서로 다른 키 집합을 담당 (파티션 할당과 동일)
+		ExecutorService consumers = Executors.newFixedThreadPool(4);
+		List<Future<?>> submissions = new ArrayList<>();
+		for (int consumer = 0; consumer < 4; consumer++) {
+			int owner = consumer;
+			submissions.add(consumers.submit(() -> {
+				for (int seq = 0; seq < eventsPerKey; seq++) {
+					for (int key = owner; key < keys; key += 4) {
+						String orderKey = "order-" + key;
+						int value = seq;
+						executor.execute(orderKey, () -> {
+							if (ThreadLocalRandom.current().nextInt(10) == 0) {
+								Thread.yield();
+							}
+							processed.get(orderKey).add(value);
+						});
+					}
+				}
+				return null;
+			}));
+		}
+		for (Future<?> submission : submissions) {
+			submission.get(10, TimeUnit.SECONDS);
+		}
+		consumers.shutdown();
+		awaitIdle();
+
+		List<Integer> expected = IntStream.range(0, eventsPerKey).boxed().toList();
+		processed.forEach((key, values) -> assertThat(values).as(key).containsExactlyElementsOf(expected));
+	}
+
+	@Test
+	@DisplayName("다른 lane의 키는 병렬 처리")
+	void differentLanes_RunConcurrently() throws Exception {
+		executor = start(2, 16);
+		CountDownLatch bothRunning = new CountDownLatch(2);
+		CountDownLatch done = new CountDownLatch(2);
+
+		for (int key = 0; key < 2; key++) {
+			executor.execute(key, () -> {
+				bothRunning.countDown();
+				try {
+					if (bothRunning.await(5, TimeUnit.SECONDS)) {
+						done.countDown();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	@DisplayName("처리 중 레코드가 max-in-flight에 도달하면 제출이 대기")
+	void maxInFlight_BlocksSubmitter() throws Exception {
+		executor = start(1, 1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger completed = new AtomicInteger();
+		executor.execute("a", () -> {
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			completed.incrementAndGet();
+		});
+
+		ExecutorService submitter = Executors.newSingleThreadExecutor();
+		Future<?> blocked = submitter.submit(() -> {
+			executor.execute("b", completed::incrementAndGet);
+			return null;
+		});
+
+		assertThatThrownBy(() -> blocked.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+		assertThat(executor.inFlight()).isEqualTo(1);
+
+		release.countDown();
+		blocked.get(5, TimeUnit.SECONDS);
+		submitter.shutdown();
+		awaitIdle();
+		assertThat(completed).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("종료 시 제출된 작업을 마저 처리")
+	void stop_DrainsPendingTasks() throws Exception {
+		executor = start(2, 100);
+		AtomicInteger completed = new AtomicInteger();
+		for (int i = 0; i < 50; i++) {
+			executor.execute(i, () -> {
+				try {
+					Thread.sleep(1);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				completed.incrementAndGet();
+			});
+		}
+
+		executor.stop();
+
+		assertThat(executor.isRunning()).isFalse();
+		assertThat(completed).hasValue(50);
+		assertThat(executor.inFlight()).isZero();
+	}
+
+	private static KeyOrderedExecutor start(int lanes, int maxInFlight) {
+		KeyOrderedExecutor executor = new KeyOrderedExecutor(lanes, maxInFlight, 5000);
+		executor.start();
+		return executor;
+	}
+
+	private void awaitIdle() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (executor.inFlight() > 0 && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		assertThat(executor.inFlight()).isZero();
+	}
+}
@@ -0,0 +1,154 @@
+package com.groom.common.infrastructure.kafka.routing;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import com.groom.common.event.Type.EventType;
+import com.groom.common.event.envelope.EventEnvelope;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventTopicRouter 테스트")
+class EventTopicRouterTest {
+
+	private static final String LEGACY = "order-events";
+	private static final String ORDER = "order-domain-events";
+	private static final String PAYMENT = "payment-domain-events";
+	private static final String STOCK = "stock-domain-events";
+	private static final String USER = "user-lifecycle";
+
+	@Mock
+	private KafkaTemplate<String, EventEnvelope> kafkaTemplate;
+
+	private EventTopicRouter router(String mode) {
+		return new EventTopicRouter(kafkaTemplate, mode, LEGACY, ORDER, PAYMENT, STOCK, USER);
+	}
+
+	@Nested
+	@DisplayName("topicsFor() 테스트")
+	class TopicsForTest {
+
+		@Test
+		@DisplayName("split 모드는 Aggregate 토픽에만 라우팅")
+		void split_RoutesToAggregateTopic() {
+			EventTopicRouter router = router("split");
+
+			assertThat(router.topicsFor(EventType.ORDER_CREATED)).containsExactly(ORDER);
+			assertThat(router.topicsFor(EventType.ORDER_CONFIRMED)).containsExactly(ORDER);
+			assertThat(router.topicsFor(EventType.PAYMENT_COMPLETED)).containsExactly(PAYMENT);
+			assertThat(router.topicsFor(EventType.REFUND_FAILED)).containsExactly(PAYMENT);
+			assertThat(router.topicsFor(EventType.STOCK_DEDUCTED)).containsExactly(STOCK);
+			assertThat(router.topicsFor(EventType.STOCK_DEDUCTION_FAILED)).containsExactly(STOCK);
+		}
+
+		@Test
+		@DisplayName("dual 모드는 Aggregate 토픽 + 공용 토픽")
+		void dual_RoutesToAggregateAndLegacyTopic() {
+			EventTopicRouter router = router("dual");
+
+			assertThat(router.topicsFor(EventType.PAYMENT_FAILED)).containsExactly(PAYMENT, LEGACY);
+		}
+
+		@Test
+		@DisplayName("dual 모드에서 Aggregate 토픽이 공용 토픽과 같으면 한 번만")
+		void dual_SameTopic_NoDuplicate() {
+			EventTopicRouter router = new EventTopicRouter(kafkaTemplate, "dual", LEGACY, LEGACY, PAYMENT, STOCK, USER);
+
+			assertThat(router.topicsFor(EventType.ORDER_CREATED)).containsExactly(LEGACY);
+		}
+
+		@Test
+		@DisplayName("legacy 모드는 공용 토픽에만 라우팅 (모드 대소문자 무시)")
+		void legacy_RoutesToLegacyTopic() {
+			EventTopicRouter router = router("LEGACY");
+
+			assertThat(router.topicsFor(EventType.ORDER_CREATED)).containsExactly(LEGACY);
+			assertThat(router.topicsFor(EventType.STOCK_DEDUCTED)).containsExactly(LEGACY);
+		}
+
+		@Test
+		@DisplayName("USER_* 이벤트는 모드와 무관하게 user 토픽")
+		void userEvents_AlwaysUserTopic() {
+			for (String mode : new String[] {"legacy", "dual", "split"}) {
+				EventTopicRouter router = router(mode);
+
+				assertThat(router.topicsFor(EventType.USER_WITHDRAWN)).containsExactly(USER);
+				assertThat(router.topicsFor(EventType.USER_UPDATED)).containsExactly(USER);
+			}
+		}
+
+		@Test
+		@DisplayName("Saga 토픽이 없는 이벤트 타입은 예외")
+		void unknownType_Throws() {
+			EventTopicRouter router = router("split");
+
+			assertThatThrownBy(() -> router.topicsFor(EventType.CART_CLEARED))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("send() 테스트")
+	class SendTest {
+
+		@Test
+		@DisplayName("라우팅된 모든 토픽에 같은 키로 발행")
+		void send_AllTopics() {
+			EventEnvelope envelope = envelope(EventType.ORDER_CREATED);
+			given(kafkaTemplate.send(anyString(), anyString(), any(EventEnvelope.class)))
+				.willReturn(CompletableFuture.completedFuture(null));
+
+			CompletableFuture<Void> result = router("dual").send("order-1", envelope);
+
+			assertThat(result).isCompleted();
+			then(kafkaTemplate).should().send(ORDER, "order-1", envelope);
+			then(kafkaTemplate).should().send(LEGACY, "order-1", envelope);
+		}
+
+		@Test
+		@DisplayName("한 토픽이라도 전송 실패하면 실패로 완료")
+		void send_OneFails_CompletesExceptionally() {
+			EventEnvelope envelope = envelope(EventType.ORDER_CREATED);
+			CompletableFuture<SendResult<String, EventEnvelope>> failed =
+				CompletableFuture.failedFuture(new IllegalStateException("broker down"));
+			given(kafkaTemplate.send(ORDER, "order-1", envelope))
+				.willReturn(CompletableFuture.completedFuture(null));
+			given(kafkaTemplate.send(LEGACY, "order-1", envelope)).willReturn(failed);
+
+			CompletableFuture<Void> result = router("dual").send("order-1", envelope);
+
+			assertThat(result).isCompletedExceptionally();
+		}
+
+		@Test
+		@DisplayName("send 호출 자체가 예외를 던져도 실패한 future로 반환")
+		void send_Throws_CompletesExceptionally() {
+			EventEnvelope envelope = envelope(EventType.STOCK_DEDUCTED);
+			given(kafkaTemplate.send(STOCK, "product-1", envelope))
+				.willThrow(new IllegalStateException("producer closed"));
+
+			CompletableFuture<Void> result = router("split").send("product-1", envelope);
+
+			assertThat(result).isCompletedExceptionally();
+		}
+	}
+
+	private static EventEnvelope envelope(EventType eventType) {
+		return EventEnvelope.builder()
+			.eventId("event-1")
+			.eventType(eventType)
+			.payload("{}")
+			.build();
+	}
+}
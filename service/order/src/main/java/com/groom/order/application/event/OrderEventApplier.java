@@ -0,0 +1,102 @@
+package com.groom.order.application.event;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groom.common.event.Type.EventType;
+import com.groom.common.event.envelope.EventEnvelope;
+import com.groom.common.event.payload.OrderConfirmedPayload;
+import com.groom.order.domain.entity.Order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Saga 이벤트 → 주문 상태 전이 (단건/배치 컨슈머 공용)
+ *
+ * 조회/저장은 호출자가 담당하고 여기서는 메모리상 전이만 수행
+ * 전이 불가 상태면 엔티티가 IllegalStateException (상태 변경 전 검사라 부분 변경 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderEventApplier {
+
+	private static final Set<EventType> SUPPORTED = EnumSet.of(
+		EventType.PAYMENT_COMPLETED,
+		EventType.STOCK_DEDUCTED,
+		EventType.PAYMENT_FAILED,
+		EventType.STOCK_DEDUCTION_FAILED,
+		EventType.REFUND_SUCCEEDED,
+		EventType.REFUND_FAILED);
+
+	private final ObjectMapper objectMapper;
+
+	public boolean supports(EventType eventType) {
+		return SUPPORTED.contains(eventType);
+	}
+
+	/**
+	 * payload의 orderId (모든 Saga payload 공통 필드)
+	 */
+	public UUID readOrderId(EventEnvelope envelope) {
+		try {
+			JsonNode orderId = envelope.readPayload(JsonNode.class, objectMapper).get("orderId");
+			if (orderId == null || orderId.isNull()) {
+				throw new IllegalStateException("orderId missing in payload for " + envelope.getEventType());
+			}
+			return UUID.fromString(orderId.asText());
+		} catch (IllegalStateException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IllegalStateException("Failed to read payload for " + envelope.getEventType(), e);
+		}
+	}
+
+	/**
+	 * 상태 전이 적용
+	 * @return 재고 차감 완료로 주문이 확정되면 ORDER_CONFIRMED payload, 그 외 null
+	 */
+	public OrderConfirmedPayload apply(Order order, EventType eventType) {
+		switch (eventType) {
+			case PAYMENT_COMPLETED -> {
+				log.info("[Order] PaymentCompletedEvent 수신 - orderId: {}", order.getOrderId());
+				order.confirmPayment();
+			}
+			case STOCK_DEDUCTED -> {
+				log.info("[Order] StockDeductedEvent 수신 - orderId: {}", order.getOrderId());
+				order.complete();
+				return OrderConfirmedPayload.builder()
+					.orderId(order.getOrderId())
+					.userId(order.getBuyerId())
+					.confirmedAt(Instant.now())
+					.build();
+			}
+			case PAYMENT_FAILED -> {
+				log.info("[Order] PaymentFailedEvent 수신 - orderId: {}", order.getOrderId());
+				order.fail();
+			}
+			case STOCK_DEDUCTION_FAILED -> {
+				log.info("[Order] StockDeductionFailedEvent 수신 - orderId: {}", order.getOrderId());
+				order.fail();
+			}
+			case REFUND_SUCCEEDED -> {
+				log.info("[Order] RefundSucceededEvent 수신 - orderId: {}", order.getOrderId());
+				order.cancel();
+			}
+			case REFUND_FAILED -> {
+				log.error("[Order] RefundFailedEvent 수신 - orderId: {}", order.getOrderId());
+				order.requireManualCheck();
+			}
+			default -> {
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,128 @@
+package com.groom.order.application.event;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.groom.common.event.Type.EventType;
+import com.groom.common.event.envelope.EventEnvelope;
+import com.groom.common.event.payload.OrderConfirmedPayload;
+import com.groom.common.infrastructure.kafka.idempotency.IdempotencyService;
+import com.groom.order.domain.entity.Order;
+import com.groom.order.domain.repository.OrderRepository;
+import com.groom.order.infrastructure.kafka.OrderOutboxService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * poll 1회분 Saga 이벤트 일괄 반영
+ *
+ * 1. 이벤트 타입별로 분류하며 orderId 추출 (자기 발행/미지원 이벤트는 건너뜀)
+ *    eventId 일괄 선점으로 이미 처리된(재전달) 이벤트도 건너뜀, 실패한 레코드는 선점 해제 → DLT 재처리 가능
+ * 2. 참조된 주문을 findAllWithItemsByIdIn 1회로 로딩
+ * 3. 레코드 순서대로 메모리에서 상태 전이 (같은 주문의 연속 이벤트 순서 유지)
+ * 4. 커밋 시 변경 주문 UPDATE (hibernate.jdbc.batch_size로 묶음) + ORDER_CONFIRMED outbox JDBC batch insert
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderEventBatchService {
+
+	private final OrderRepository orderRepository;
+	private final OrderOutboxService outboxService;
+	private final OrderEventApplier eventApplier;
+	private final IdempotencyService idempotencyService;
+
+	@Value("${spring.application.name}")
+	private String producer;
+
+	@Value("${spring.kafka.consumer.group-id}")
+	private String consumer;
+
+	/**
+	 * @return 실패한 레코드 인덱스 → 원인 (해당 레코드만 반영 제외)
+	 */
+	@Transactional
+	public Map<Integer, Exception> process(List<ConsumerRecord<String, EventEnvelope>> records) {
+		Map<Integer, Exception> failures = new LinkedHashMap<>();
+		Map<Integer, UUID> orderIds = new LinkedHashMap<>();
+		Map<EventType, Integer> countsByType = new EnumMap<>(EventType.class);
+
+		for (int i = 0; i < records.size(); i++) {
+			EventEnvelope envelope = records.get(i).value();
+			if (envelope == null) {
+				failures.put(i, new IllegalStateException("Undeserializable record"));
+				continue;
+			}
+			if (producer.equals(envelope.getProducer()) || !eventApplier.supports(envelope.getEventType())) {
+				continue; // skip self-produced / unrelated events
+			}
+
+			try {
+				orderIds.put(i, eventApplier.readOrderId(envelope));
+				countsByType.merge(envelope.getEventType(), 1, Integer::sum);
+			} catch (RuntimeException e) {
+				failures.put(i, e);
+			}
+		}
+		claimOrSkip(records, orderIds);
+		if (orderIds.isEmpty()) {
+			return failures;
+		}
+
+		Map<UUID, Order> orders = orderRepository.findAllWithItemsByIdIn(orderIds.values().stream().distinct().toList())
+			.stream()
+			.collect(Collectors.toMap(Order::getOrderId, Function.identity()));
+
+		List<OrderOutboxService.Draft> confirmed = new ArrayList<>();
+		orderIds.forEach((index, orderId) -> {
+			Order order = orders.get(orderId);
+			if (order == null) {
+				failures.put(index, new IllegalStateException("Order not found: " + orderId));
+				return;
+			}
+			try {
+				OrderConfirmedPayload payload = eventApplier.apply(order, records.get(index).value().getEventType());
+				if (payload != null) {
+					confirmed.add(new OrderOutboxService.Draft(orderId, orderId.toString(), payload));
+				}
+			} catch (RuntimeException e) {
+				failures.put(index, e);
+			}
+		});
+
+		outboxService.saveAll(EventType.ORDER_CONFIRMED, "ORDER", confirmed);
+		idempotencyService.release(consumer, failures.keySet().stream()
+			.filter(orderIds::containsKey)
+			.map(index -> records.get(index).value().getEventId())
+			.toList());
+		log.info("[Order] Saga 이벤트 배치 반영 - records: {}, byType: {}, orders: {}, confirmed: {}, failed: {}",
+			records.size(), countsByType, orders.size(), confirmed.size(), failures.size());
+		return failures;
+	}
+
+	// 이미 처리된 eventId (이전 poll 또는 같은 배치 내 중복)는 반영 대상에서 제외
+	private void claimOrSkip(List<ConsumerRecord<String, EventEnvelope>> records, Map<Integer, UUID> orderIds) {
+		if (orderIds.isEmpty()) {
+			return;
+		}
+
+		Set<String> claimed = new HashSet<>(idempotencyService.claimAll(consumer, orderIds.keySet().stream()
+			.map(index -> records.get(index).value().getEventId())
+			.toList()));
+		orderIds.keySet().removeIf(index -> !claimed.remove(records.get(index).value().getEventId()));
+	}
+}
@@ -0,0 +1,50 @@
+package com.groom.order.application.event;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.groom.common.event.envelope.EventEnvelope;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 배치 컨슈머 (기본, event.kafka.consumer.batch.enabled=true)
+ *
+ * poll 단위로 OrderEventBatchService에서 한 트랜잭션에 반영한 뒤 1회 ack
+ * 처리할 수 없는 레코드(역직렬화 실패, 주문 없음, 전이 불가 상태)는 해당 레코드만 DLT로 보내고 배치는 커밋
+ * 배치 전체 실패(DB 장애 등)는 예외 전파 → 컨테이너 에러 핸들러가 배치 재시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event.kafka.consumer.batch.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderKafkaBatchConsumer {
+
+	private final OrderEventBatchService batchService;
+	private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+
+	@KafkaListener(
+		topics = "#{'${event.kafka.consumer.topics:order-events}'.split(',')}",
+		groupId = "${spring.kafka.consumer.group-id}",
+		concurrency = "${event.kafka.consumer.listeners.order-saga.concurrency:${event.kafka.consumer.concurrency:1}}",
+		containerFactory = "batchKafkaListenerContainerFactory")
+	public void handle(List<ConsumerRecord<String, EventEnvelope>> records, Acknowledgment ack) {
+		Map<Integer, Exception> failures = batchService.process(records);
+
+		failures.forEach((index, exception) -> {
+			ConsumerRecord<String, EventEnvelope> record = records.get(index);
+			log.error("[Order] 이벤트 처리 실패, DLT 발행 - topic: {}, partition: {}, offset: {}",
+				record.topic(), record.partition(), record.offset(), exception);
+			deadLetterPublishingRecoverer.accept(record, exception);
+		});
+		ack.acknowledge();
+	}
+}
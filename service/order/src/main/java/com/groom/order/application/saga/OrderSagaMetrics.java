@@ -0,0 +1,61 @@
+package com.groom.order.application.saga;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.groom.order.domain.status.OrderStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 진행 중 Saga 지표 (상태별 태그 state=PENDING|PAID)
+ *
+ * - order.saga.inflight          : 상태별 진행 중 주문 수 (주기 샘플링)
+ * - order.saga.overdue           : 그중 기한을 넘긴 주문 수 (리컨사일러 처리 대기)
+ * - order.saga.timeout.cancelled : 기한 초과로 취소한 주문 수
+ */
+@Component
+public class OrderSagaMetrics {
+
+	private final MeterRegistry meterRegistry;
+	private final Map<OrderStatus, AtomicLong> inFlight = new EnumMap<>(OrderStatus.class);
+	private final Map<OrderStatus, AtomicLong> overdue = new EnumMap<>(OrderStatus.class);
+	private final Map<OrderStatus, Counter> cancelled = new EnumMap<>(OrderStatus.class);
+
+	public OrderSagaMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 추적 상태 등록 (리컨사일러 기동 시 1회)
+	 */
+	public synchronized void register(OrderStatus status) {
+		if (inFlight.containsKey(status)) {
+			return;
+		}
+		String state = status.name();
+		inFlight.put(status, gauge("order.saga.inflight", state));
+		overdue.put(status, gauge("order.saga.overdue", state));
+		cancelled.put(status, Counter.builder("order.saga.timeout.cancelled").tag("state", state).register(meterRegistry));
+	}
+
+	public void recordInFlight(OrderStatus status, long total, long overdueCount) {
+		inFlight.get(status).set(total);
+		overdue.get(status).set(overdueCount);
+	}
+
+	public void recordCancelled(OrderStatus status, int count) {
+		cancelled.get(status).increment(count);
+	}
+
+	private AtomicLong gauge(String name, String state) {
+		AtomicLong value = new AtomicLong();
+		Gauge.builder(name, value, AtomicLong::get).tag("state", state).register(meterRegistry);
+		return value;
+	}
+}
@@ -0,0 +1,108 @@
+package com.groom.order.application.saga;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.groom.order.domain.status.OrderStatus;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 진행 중 Saga 주문 정리 (응답 이벤트 유실/지연으로 중간 상태에 멈춘 주문)
+ *
+ * - PENDING : PAYMENT_COMPLETED / PAYMENT_FAILED 미수신 (pending-timeout-ms)
+ * - PAID    : STOCK_DEDUCTED / STOCK_DEDUCTION_FAILED 미수신 (paid-timeout-ms)
+ * 상태별 기한(updated_at 기준)이 지나면 keyset 배치로 취소 + ORDER_CANCELLED 보상 이벤트 발행
+ * → Redis 재고 가점유가 TTL까지 묶여 있거나 결제 금액이 방치되지 않도록 함
+ *
+ * 한 주기에 상태별 max-batches까지만 처리 (대량 적체 시 다음 주기로 이월, 진행 상황은 order.saga.overdue)
+ */
+@Slf4j
+@Component
+public class OrderSagaReconciler {
+
+	private final OrderSagaTimeoutService timeoutService;
+	private final OrderSagaMetrics metrics;
+	private final boolean enabled;
+	private final int batchSize;
+	private final int maxBatches;
+	private final Map<OrderStatus, Duration> timeouts = new EnumMap<>(OrderStatus.class);
+
+	public OrderSagaReconciler(
+		OrderSagaTimeoutService timeoutService,
+		OrderSagaMetrics metrics,
+		@Value("${order.saga.reconciler.enabled:true}") boolean enabled,
+		@Value("${order.saga.reconciler.batch-size:200}") int batchSize,
+		@Value("${order.saga.reconciler.max-batches:50}") int maxBatches,
+		@Value("${order.saga.reconciler.pending-timeout-ms:1800000}") long pendingTimeoutMs,
+		@Value("${order.saga.reconciler.paid-timeout-ms:600000}") long paidTimeoutMs
+	) {
+		this.timeoutService = timeoutService;
+		this.metrics = metrics;
+		this.enabled = enabled;
+		this.batchSize = Math.max(1, batchSize);
+		this.maxBatches = Math.max(1, maxBatches);
+		timeouts.put(OrderStatus.PENDING, Duration.ofMillis(pendingTimeoutMs));
+		timeouts.put(OrderStatus.PAID, Duration.ofMillis(paidTimeoutMs));
+		timeouts.keySet().forEach(metrics::register);
+	}
+
+	@Scheduled(
+		initialDelayString = "${order.saga.reconciler.delay-ms:30000}",
+		fixedDelayString = "${order.saga.reconciler.delay-ms:30000}")
+	public void reconcileScheduled() {
+		if (!enabled) {
+			return;
+		}
+		timeouts.keySet().forEach(status -> {
+			try {
+				reconcile(status);
+			} catch (Exception e) {
+				log.error("Order saga reconcile failed. status={}", status, e);
+			}
+		});
+	}
+
+	@Scheduled(fixedDelayString = "${order.saga.metrics-interval-ms:10000}")
+	public void sampleInFlight() {
+		timeouts.keySet().forEach(status -> {
+			try {
+				long[] counts = timeoutService.countInFlight(status, deadline(status));
+				metrics.recordInFlight(status, counts[0], counts[1]);
+			} catch (Exception e) {
+				log.warn("Failed to sample in-flight order sagas. status={}", status, e);
+			}
+		});
+	}
+
+	/**
+	 * 상태 1개 정리
+	 * @return 취소한 주문 수
+	 */
+	public int reconcile(OrderStatus status) {
+		LocalDateTime deadline = deadline(status);
+		OrderSagaTimeoutService.Cursor cursor = null;
+		int cancelled = 0;
+		for (int batch = 0; batch < maxBatches; batch++) {
+			OrderSagaTimeoutService.BatchResult result = timeoutService.cancelExpired(status, deadline, cursor, batchSize);
+			cancelled += result.cancelled();
+			metrics.recordCancelled(status, result.cancelled());
+			if (result.scanned() < batchSize) {
+				break;
+			}
+			cursor = result.next();
+		}
+		return cancelled;
+	}
+
+	// updated_at은 JPA Auditing(LocalDateTime.now()) 기준이므로 같은 시계로 계산
+	private LocalDateTime deadline(OrderStatus status) {
+		return LocalDateTime.now().minus(timeouts.get(status));
+	}
+}
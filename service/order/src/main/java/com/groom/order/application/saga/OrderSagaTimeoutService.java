@@ -0,0 +1,117 @@
+package com.groom.order.application.saga;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.groom.common.event.Type.EventType;
+import com.groom.common.event.payload.OrderCancelledPayload;
+import com.groom.order.domain.entity.Order;
+import com.groom.order.domain.repository.OrderRepository;
+import com.groom.order.domain.status.OrderStatus;
+import com.groom.order.infrastructure.kafka.OrderOutboxService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기한이 지난 진행 중 Saga 주문 배치 취소 (배치 1회 = 트랜잭션 1회)
+ *
+ * 1. (status, updated_at, id) 인덱스 keyset 스캔으로 기한 지난 주문 선점 (FOR UPDATE SKIP LOCKED)
+ *    → 다른 Pod의 리컨사일러가 선점한 주문은 건너뜀
+ *    이벤트 반영은 주문을 잠그지 않고 읽으므로, 동시에 전이된 주문은 Order @Version 충돌로 한쪽 커밋이 실패
+ *    → 이 배치가 먼저 취소하면 이벤트 반영은 버전 불일치로 롤백 후 재시도 시 CANCELLED 주문으로 DLT
+ * 2. 선점 주문 취소 + 보상 ORDER_CANCELLED outbox JDBC batch insert
+ *    → 결제(환불)/상품(가점유 해제) 서비스가 기존 취소 흐름으로 정리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderSagaTimeoutService {
+
+	private static final String SCAN_SQL = "SELECT id, order_id, updated_at FROM p_order"
+		+ " WHERE status = ? AND updated_at < ?";
+	private static final String AFTER_CURSOR = " AND (updated_at, id) > (?, ?)";
+	private static final String ORDER_AND_LOCK = " ORDER BY updated_at, id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+	private static final RowMapper<ExpiredOrder> ROW_MAPPER = (rs, rowNum) -> new ExpiredOrder(
+		rs.getLong("id"),
+		rs.getObject("order_id", UUID.class),
+		rs.getTimestamp("updated_at").toLocalDateTime());
+
+	private final JdbcTemplate jdbcTemplate;
+	private final OrderRepository orderRepository;
+	private final OrderOutboxService outboxService;
+
+	/**
+	 * @param after 이전 배치의 마지막 위치 (첫 배치면 null)
+	 * @return 스캔 결과 (다음 배치 커서 + 취소 건수)
+	 */
+	@Transactional
+	public BatchResult cancelExpired(OrderStatus status, LocalDateTime deadline, Cursor after, int batchSize) {
+		List<ExpiredOrder> expired = after == null
+			? jdbcTemplate.query(SCAN_SQL + ORDER_AND_LOCK, ROW_MAPPER,
+				status.name(), Timestamp.valueOf(deadline), batchSize)
+			: jdbcTemplate.query(SCAN_SQL + AFTER_CURSOR + ORDER_AND_LOCK, ROW_MAPPER,
+				status.name(), Timestamp.valueOf(deadline), Timestamp.valueOf(after.updatedAt()), after.id(), batchSize);
+		if (expired.isEmpty()) {
+			return new BatchResult(0, 0, after);
+		}
+
+		List<Order> orders = orderRepository.findAllWithItemsByIdIn(expired.stream().map(ExpiredOrder::orderId).toList());
+		Instant now = Instant.now();
+		String reason = "SAGA_TIMEOUT:" + status.name();
+		List<OrderOutboxService.Draft> cancelled = new ArrayList<>(orders.size());
+		for (Order order : orders) {
+			// 행 잠금 후 재확인 (스캔 ~ 잠금 사이 전이된 주문 제외)
+			if (order.getStatus() != status) {
+				continue;
+			}
+			order.cancel();
+			cancelled.add(new OrderOutboxService.Draft(order.getOrderId(), order.getOrderId().toString(),
+				OrderCancelledPayload.builder()
+					.orderId(order.getOrderId())
+					.reason(reason)
+					.cancelledAt(now)
+					.build()));
+		}
+
+		outboxService.saveAll(EventType.ORDER_CANCELLED, "ORDER", cancelled);
+		if (!cancelled.isEmpty()) {
+			log.warn("[Order] Saga 기한 초과 주문 취소 - status: {}, deadline: {}, cancelled: {}",
+				status, deadline, cancelled.size());
+		}
+
+		ExpiredOrder last = expired.get(expired.size() - 1);
+		return new BatchResult(expired.size(), cancelled.size(), new Cursor(last.updatedAt(), last.id()));
+	}
+
+	/**
+	 * (status, updated_at) 별 진행 중 / 기한 초과 건수 (인덱스 범위 스캔)
+	 * @return [전체, 기한 초과]
+	 */
+	@Transactional(readOnly = true)
+	public long[] countInFlight(OrderStatus status, LocalDateTime deadline) {
+		return jdbcTemplate.queryForObject(
+			"SELECT count(*), count(*) FILTER (WHERE updated_at < ?) FROM p_order WHERE status = ?",
+			(rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2)},
+			Timestamp.valueOf(deadline), status.name());
+	}
+
+	public record Cursor(LocalDateTime updatedAt, long id) {
+	}
+
+	public record BatchResult(int scanned, int cancelled, Cursor next) {
+	}
+
+	private record ExpiredOrder(long id, UUID orderId, LocalDateTime updatedAt) {
+	}
+}
@@ -4,17 +4,25 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.concurrent.ThreadLocalRandom;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.groom.common.checkout.CheckoutQuote;
+import com.groom.common.checkout.CheckoutQuoteSigner;
 import com.groom.common.event.Type.EventType;
 import com.groom.common.event.payload.OrderCancelledPayload;
 import com.groom.common.event.payload.OrderCreatedPayload;
+import com.groom.common.presentation.advice.CustomException;
+import com.groom.common.presentation.advice.ErrorCode;
 import com.groom.order.domain.entity.Order;
 import com.groom.order.domain.entity.OrderItem;
 import com.groom.order.domain.repository.OrderRepository;
@@ -24,6 +32,8 @@ import com.groom.order.infrastructure.client.dto.StockReserveItem;
 import com.groom.order.infrastructure.client.dto.StockReserveRequest;
 import com.groom.order.infrastructure.client.dto.UserAddressResponse;
 import com.groom.order.infrastructure.kafka.OrderOutboxService;
+import com.groom.order.presentation.dto.internal.OrderStockItemsResponse;
+import com.groom.order.presentation.dto.request.OrderCreateItemRequest;
 import com.groom.order.presentation.dto.request.OrderCreateRequest;
 import com.groom.order.presentation.dto.response.OrderResponse;
 
@@ -40,39 +50,40 @@ public class OrderService {
 	private final UserClient userClient;
 	private final ProductClient productClient;
 	private final OrderOutboxService outboxService;
+	private final CheckoutQuoteSigner checkoutQuoteSigner;
 
 	/**
 	 * 주문을 생성하고, OrderCreatedEvent를 Outbox에 저장합니다.
+	 * 가격/총액은 Cart가 서명한 견적 기준이며, 견적 ID를 주문 ID로 사용해 같은 견적으로 한 번만 주문할 수 있습니다.
 	 */
 	@Transactional
 	public UUID createOrder(UUID userId, OrderCreateRequest request) {
-		// 1. 사용자 검증 (Synchronous)
+		// 1. 견적 토큰 검증 (필수 - 서명/만료/사용자 + 요청 상품 일치 확인 후 견적 가격 적용)
+		if (request.getQuoteToken() == null || request.getQuoteToken().isBlank()) {
+			throw new CustomException(ErrorCode.CHECKOUT_QUOTE_REQUIRED);
+		}
+		CheckoutQuote quote = checkoutQuoteSigner.verify(request.getQuoteToken(), userId);
+		applyQuote(quote, request);
+
+		// 2. 사용자 검증 (Synchronous)
 		userClient.isValidUser(userId, userId);
 
-		// 2. 주소 정보 조회 (Snapshot용)
+		// 3. 주소 정보 조회 (Snapshot용)
 		UserAddressResponse address = userClient.getUserAddress(userId, userId);
 
-		// 3. Order 엔티티 생성 (DB 저장 전)
+		// 4. Order 엔티티 생성 (주문 ID = 견적 ID)
 		Order order = Order.builder()
+				.orderId(quote.quoteId())
 				.buyerId(userId)
 				.orderNumber(generateOrderNumber())
-				.totalPaymentAmount(request.getTotalAmount())
+				.totalPaymentAmount(quote.totalAmount())
 				.recipientName(address.getRecipientName())
 				.recipientPhone(address.getRecipientPhone())
 				.zipCode(address.getZipCode())
 				.shippingAddress(address.getAddress() + " " + address.getDetailAddress())
 				.shippingMemo("부재 시 문 앞에 놓아주세요") // TODO: Request에서 받거나 기본값
 				.build();
-		UUID orderId = order.getOrderId(); // 미리 ID 생성
-
-		// 4. 재고 가점유 요청 (Bulk)
-		List<StockReserveItem> stockItems = request.getItems().stream()
-				.map(item -> new StockReserveItem(
-						item.getProductId(),
-						item.getVariantId(),
-						item.getQuantity()))
-				.toList();
-		productClient.reserveStock(new StockReserveRequest(orderId, stockItems));
+		UUID orderId = order.getOrderId();
 
 		// 5. OrderItem 생성 및 추가
 		for (var itemRequest : request.getItems()) {
@@ -90,10 +101,23 @@ public class OrderService {
 			order.addItem(orderItem);
 		}
 
-		// 6. DB 저장
-		orderRepository.save(order);
+		// 6. DB 저장 (재고 가점유 전에 INSERT → 같은 견적 재사용은 order_id 유니크 제약으로 거절, 재고 차감 없음)
+		try {
+			orderRepository.saveAndFlush(order);
+		} catch (DataIntegrityViolationException e) {
+			throw new CustomException(ErrorCode.CHECKOUT_QUOTE_ALREADY_USED);
+		}
+
+		// 7. 재고 가점유 요청 (Bulk, 실패 시 예외 → 주문 INSERT 롤백)
+		List<StockReserveItem> stockItems = request.getItems().stream()
+				.map(item -> new StockReserveItem(
+						item.getProductId(),
+						item.getVariantId(),
+						item.getQuantity()))
+				.toList();
+		productClient.reserveStock(new StockReserveRequest(orderId, stockItems));
 
-		// 7. 결제 요청 이벤트 Outbox 저장
+		// 8. 결제 요청 이벤트 Outbox 저장
 		outboxService.save(
 			EventType.ORDER_CREATED,
 			"ORDER",
@@ -110,6 +134,41 @@ public class OrderService {
 		return orderId;
 	}
 
+	/**
+	 * 요청 아이템이 견적과 정확히 일치하는지 확인 후 단가를 견적 값으로 채움
+	 * 요청에 가격/총액이 있으면 견적과 같아야 함 (다르면 거절)
+	 */
+	private void applyQuote(CheckoutQuote quote, OrderCreateRequest request) {
+		List<OrderCreateItemRequest> items = request.getItems();
+		if (items == null || items.size() != quote.items().size()) {
+			throw new CustomException(ErrorCode.CHECKOUT_QUOTE_MISMATCH);
+		}
+		if (request.getTotalAmount() != null && request.getTotalAmount() != quote.totalAmount()) {
+			throw new CustomException(ErrorCode.CHECKOUT_QUOTE_MISMATCH);
+		}
+
+		Map<QuoteKey, CheckoutQuote.QuotedItem> quotedItems = quote.items().stream()
+				.collect(Collectors.toMap(
+						item -> new QuoteKey(item.productId(), item.variantId()),
+						Function.identity()));
+
+		for (OrderCreateItemRequest item : items) {
+			CheckoutQuote.QuotedItem quoted = quotedItems.remove(new QuoteKey(item.getProductId(), item.getVariantId()));
+			if (quoted == null || item.getQuantity() == null || quoted.quantity() != item.getQuantity()) {
+				throw new CustomException(ErrorCode.CHECKOUT_QUOTE_MISMATCH);
+			}
+			if (item.getUnitPrice() != null && item.getUnitPrice() != quoted.unitPrice()) {
+				throw new CustomException(ErrorCode.CHECKOUT_QUOTE_MISMATCH);
+			}
+			item.setUnitPrice(quoted.unitPrice());
+		}
+
+		request.setTotalAmount(quote.totalAmount());
+	}
+
+	private record QuoteKey(UUID productId, UUID variantId) {
+	}
+
 	private String generateOrderNumber() {
 		String datePart = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
 		int randomPart = ThreadLocalRandom.current().nextInt(100000, 999999);
@@ -166,4 +225,21 @@ public class OrderService {
 				order.getTotalPaymentAmount(),
 				order.getStatus());
 	}
+
+	/**
+	 * 주문 상품 라인 조회 (Product → Order, 가점유 매핑 유실 시 재고 확정용)
+	 */
+	public OrderStockItemsResponse getOrderStockItems(UUID orderId) {
+		Order order = orderRepository.findById(orderId)
+				.orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다. ID: " + orderId));
+		return new OrderStockItemsResponse(
+				order.getOrderId(),
+				order.getStatus(),
+				order.getItems().stream()
+						.map(item -> new OrderStockItemsResponse.Item(
+								item.getProductId(),
+								item.getVariantId(),
+								item.getQuantity()))
+						.toList());
+	}
 }
@@ -11,8 +11,10 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,7 +27,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "p_order")
+// 진행 중 Saga 기한 스캔용 (OrderSagaTimeoutService keyset 조회)
+@Table(name = "p_order", indexes = @Index(name = "idx_p_order_status_updated_at", columnList = "status, updated_at, id"))
 public class Order extends BaseEntity {
 
 	/* ================= 식별자 ================= */
@@ -52,6 +55,12 @@ public class Order extends BaseEntity {
 	@Column(name = "status", nullable = false, length = 20)
 	private OrderStatus status;
 
+	// 낙관적 락: 이벤트 반영/Saga 기한 취소/사용자 취소가 같은 주문을 동시에 전이하면 나중 커밋이 실패
+	// (잠금 없이 읽은 상태로 전체 행 UPDATE 시 다른 전이를 덮어쓰지 않도록)
+	@Version
+	@Column(name = "version", nullable = false, columnDefinition = "bigint default 0 not null")
+	private Long version;
+
 	@OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
 	private final List<OrderItem> items = new ArrayList<>();
 
@@ -74,8 +83,12 @@ public class Order extends BaseEntity {
 
 	/* ================= 생성 ================= */
 
+	/**
+	 * @param orderId 주문 ID (장바구니 견적 ID 사용, order_id 유니크 제약으로 견적 1회 사용 보장 / null이면 신규 발급)
+	 */
 	@Builder
 	public Order(
+			UUID orderId,
 			UUID buyerId,
 			String orderNumber,
 			Long totalPaymentAmount,
@@ -84,7 +97,7 @@ public class Order extends BaseEntity {
 			String zipCode,
 			String shippingAddress,
 			String shippingMemo) {
-		this.orderId = UUID.randomUUID();
+		this.orderId = orderId != null ? orderId : UUID.randomUUID();
 		this.buyerId = buyerId;
 		this.orderNumber = orderNumber;
 		this.totalPaymentAmount = totalPaymentAmount;
@@ -98,8 +111,13 @@ public class Order extends BaseEntity {
 
 	/**
 	 * 1. 결제 성공 (PENDING -> PAID)
+	 * 결제/재고 응답은 서로 다른 토픽으로 도착해 순서가 바뀔 수 있음
+	 * → 재고 응답으로 이미 확정(CONFIRMED)/실패(FAILED)된 주문이면 늦게 도착한 결제 완료는 무시
 	 */
 	public void confirmPayment() {
+		if (this.status == OrderStatus.CONFIRMED || this.status == OrderStatus.FAILED) {
+			return;
+		}
 		if (this.status != OrderStatus.PENDING) {
 			throw new IllegalStateException("결제 확인은 PENDING 상태에서만 가능합니다. 현재: " + this.status);
 		}
@@ -108,9 +126,10 @@ public class Order extends BaseEntity {
 
 	/**
 	 * 3. 최종 확정 (PAID -> CONFIRMED)
+	 * 재고 차감은 결제 완료 이후에만 일어나므로, 결제 완료보다 먼저 도착한 재고 차감은 PENDING에서 바로 확정
 	 */
 	public void complete() {
-		if (this.status != OrderStatus.PAID) {
+		if (this.status != OrderStatus.PAID && this.status != OrderStatus.PENDING) {
 			throw new IllegalStateException("주문 확정은 결제 완료(PAID) 이후에만 가능합니다. 현재: " + this.status);
 		}
 		this.status = OrderStatus.CONFIRMED;
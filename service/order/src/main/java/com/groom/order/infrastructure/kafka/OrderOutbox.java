@@ -45,6 +45,19 @@ public class OrderOutbox {
     @Enumerated(EnumType.STRING)
     private OutboxStatus status;
 
+    // 발행 실패 횟수 / 다음 발행 가능 시각 (지수 백오프)
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int attempts;
+
+    private Instant nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private Instant publishedAt;
+
+    // 파티션 키 (order_outbox는 created_at 일 단위 RANGE 파티션, OrderOutboxPartitionManager 참고)
+    @Column(nullable = false)
     private Instant createdAt;
 
     public static OrderOutbox of(EventEnvelope envelope) {
@@ -59,6 +72,7 @@ public class OrderOutbox {
         o.version = envelope.getVersion();
         o.status = OutboxStatus.INIT;
         o.createdAt = envelope.getOccurredAt() != null ? envelope.getOccurredAt() : Instant.now();
+        o.nextAttemptAt = o.createdAt;
         return o;
     }
 
@@ -0,0 +1,23 @@
+package com.groom.order.infrastructure.kafka;
+
+import java.util.List;
+
+/**
+ * order_outbox 발행 대상 선점 (공용 {@link com.groom.common.outbox.OutboxClaimQuery} SQL 사용)
+ */
+public interface OrderOutboxClaimRepository {
+
+	/**
+	 * 파티션(aggregateId 해시) 단위 발행 대상 선점
+	 * 다른 Pod/워커가 잠근 행은 건너뜀 (FOR UPDATE SKIP LOCKED) → 같은 트랜잭션에서 리스 후 커밋
+	 * 같은 aggregate에 백오프/리스 중인 이전 행이 있으면 이후 행도 보류, 생성 순서(created_at)로 선점
+	 */
+	List<OrderOutbox> claimBatch(int partition, int partitions, int limit);
+
+	/**
+	 * cdc 모드 스윕용 선점 (claimBatch + 나이 조건)
+	 * CDC 릴레이가 전송 중일 수 있는 최근 행은 제외 → 이중 발행 방지
+	 * 재시도/보류(attempts > 0 또는 last_error 있음) 행은 CDC가 이미 손을 뗀 행이므로 나이와 무관하게 대상
+	 */
+	List<OrderOutbox> claimSweepBatch(int partition, int partitions, int limit, long minAgeMs);
+}
@@ -0,0 +1,45 @@
+package com.groom.order.infrastructure.kafka;
+
+import java.util.List;
+
+import com.groom.common.outbox.OutboxClaimQuery;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * {@link OrderOutboxClaimRepository} 구현 (OrderOutboxRepository 프래그먼트)
+ * 부분 인덱스 idx_order_outbox_pending / idx_order_outbox_pending_aggregate 사용
+ */
+public class OrderOutboxClaimRepositoryImpl implements OrderOutboxClaimRepository {
+
+	private static final String TABLE = "order_outbox";
+	private static final String KEY = "%1$s.aggregate_id";
+	private static final String CLAIM_SQL = OutboxClaimQuery.claimBatch(TABLE, "o.*", KEY, "created_at", null);
+	private static final String SWEEP_SQL = OutboxClaimQuery.claimBatch(TABLE, "o.*", KEY, "created_at",
+		"o.attempts > 0 OR o.last_error IS NOT NULL OR o.created_at < now() - make_interval(secs => ? / 1000.0)");
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<OrderOutbox> claimBatch(int partition, int partitions, int limit) {
+		return entityManager.createNativeQuery(CLAIM_SQL, OrderOutbox.class)
+			.setParameter(1, partitions)
+			.setParameter(2, partition)
+			.setParameter(3, limit)
+			.getResultList();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<OrderOutbox> claimSweepBatch(int partition, int partitions, int limit, long minAgeMs) {
+		return entityManager.createNativeQuery(SWEEP_SQL, OrderOutbox.class)
+			.setParameter(1, partitions)
+			.setParameter(2, partition)
+			.setParameter(3, minAgeMs)
+			.setParameter(4, limit)
+			.getResultList();
+	}
+}
@@ -0,0 +1,74 @@
+package com.groom.order.infrastructure.kafka;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.groom.common.outbox.OutboxRelayMetrics;
+import com.groom.common.outbox.OutboxStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox 릴레이 지표
+ *
+ * - outbox.relay.events{result=published|failed} : 발행 처리량
+ * - outbox.relay.batch                            : 배치 1회 처리 시간 (선점 ~ 상태 갱신)
+ * - outbox.relay.lag                              : 이벤트 생성 ~ 발행 완료 지연
+ * - outbox.relay.backlog / outbox.relay.oldest.age.seconds : 미발행(INIT) 적체량 (주기 샘플링)
+ */
+@Slf4j
+@Component
+public class OrderOutboxMetrics implements OutboxRelayMetrics {
+
+	private final OrderOutboxRepository outboxRepository;
+	private final Counter published;
+	private final Counter failed;
+	private final Timer batchTimer;
+	private final Timer lagTimer;
+	private final AtomicLong backlog = new AtomicLong();
+	private final AtomicLong oldestAgeSeconds = new AtomicLong();
+
+	public OrderOutboxMetrics(OrderOutboxRepository outboxRepository, MeterRegistry meterRegistry) {
+		this.outboxRepository = outboxRepository;
+		this.published = Counter.builder("outbox.relay.events").tag("result", "published").register(meterRegistry);
+		this.failed = Counter.builder("outbox.relay.events").tag("result", "failed").register(meterRegistry);
+		this.batchTimer = Timer.builder("outbox.relay.batch").register(meterRegistry);
+		this.lagTimer = Timer.builder("outbox.relay.lag").publishPercentiles(0.5, 0.99).register(meterRegistry);
+		Gauge.builder("outbox.relay.backlog", backlog, AtomicLong::get).register(meterRegistry);
+		Gauge.builder("outbox.relay.oldest.age.seconds", oldestAgeSeconds, AtomicLong::get).register(meterRegistry);
+	}
+
+	@Override
+	public void recordBatch(long startNanos, int publishedCount, int failedCount) {
+		batchTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+		published.increment(publishedCount);
+		failed.increment(failedCount);
+	}
+
+	@Override
+	public void recordLag(Instant createdAt, Instant publishedAt) {
+		if (createdAt != null) {
+			lagTimer.record(Duration.between(createdAt, publishedAt));
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${outbox.relay.metrics-interval-ms:10000}")
+	public void sampleBacklog() {
+		try {
+			backlog.set(outboxRepository.countByStatus(OutboxStatus.INIT));
+			Instant oldest = outboxRepository.findOldestCreatedAt(OutboxStatus.INIT);
+			oldestAgeSeconds.set(oldest == null ? 0 : Duration.between(oldest, Instant.now()).toSeconds());
+		} catch (Exception e) {
+			log.warn("Failed to sample order outbox backlog", e);
+		}
+	}
+}
@@ -0,0 +1,268 @@
+package com.groom.order.infrastructure.kafka;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * order_outbox 저장소 수명 주기 관리 (created_at 일 단위 RANGE 파티션)
+ *
+ * [전환] 운영 중 자동 전환하지 않음 → 점검 시간에 db/order_outbox_partitioning.sql을 1회 수동 실행
+ *   (next_attempt_at 컬럼 추가 이전 행 보정도 이 스크립트에서 1회만 수행, 기동마다 전체 테이블 UPDATE 하지 않음)
+ *   전환 전(ddl-auto가 만든 일반 테이블)에는 인덱스/event_id 유일성만 보장하고 파티션 관리는 건너뜀
+ * [인덱스] 발행 대기 행만 담는 부분 인덱스 (status = 'INIT' / 'FAILED')
+ * [선생성] 오늘부터 premake-days일 뒤까지 일 파티션(order_outbox_p{yyyyMMdd}) 미리 생성
+ *   DEFAULT 파티션(order_outbox_default)이 없으면 생성, DEFAULT에 이미 행이 들어간 날짜는 생성하지 않음 (행은 DEFAULT에 유지)
+ * [정리] 보존 기간(retention-days)이 지난 파티션 중 INIT/FAILED 행이 없는 파티션을 통째로 제거
+ *   archive-mode=drop : DROP TABLE / archive-mode=detach : 분리만 하고 보관 (외부 백업 후 수동 삭제)
+ *   → 행 단위 DELETE 없이 PUBLISHED 이벤트 정리, 테이블/인덱스 비대화 방지
+ *   제거한 범위의 id/event_id 유일성 키(order_outbox_key)도 함께 삭제, DEFAULT 파티션은 PUBLISHED 행만 행 단위 삭제
+ *
+ * 여러 Pod에서 동시에 실행되지 않도록 트랜잭션 advisory lock 사용, 날짜 기준은 UTC
+ */
+@Slf4j
+@Component
+public class OrderOutboxPartitionManager {
+
+	private static final String TABLE = "order_outbox";
+	private static final long MAINTENANCE_LOCK_KEY = 0x6F75_7462_FFFFL;
+	private static final DateTimeFormatter SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+	private static final Pattern DAILY_PARTITION = Pattern.compile("^order_outbox_p(\\d{8})$");
+	private static final Pattern LEGACY_PARTITION = Pattern.compile("^order_outbox_legacy_until_(\\d{8})$");
+	private static final String DEFAULT_PARTITION = "order_outbox_default";
+	private static final String KEY_TABLE = "order_outbox_key";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean enabled;
+	private final int premakeDays;
+	private final int retentionDays;
+	private final boolean detachOnly;
+
+	public OrderOutboxPartitionManager(
+		JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		@Value("${outbox.lifecycle.enabled:true}") boolean enabled,
+		@Value("${outbox.lifecycle.premake-days:3}") int premakeDays,
+		@Value("${outbox.lifecycle.retention-days:3}") int retentionDays,
+		@Value("${outbox.lifecycle.archive-mode:drop}") String archiveMode
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.enabled = enabled;
+		this.premakeDays = Math.max(1, premakeDays);
+		this.retentionDays = Math.max(1, retentionDays);
+		this.detachOnly = "detach".equalsIgnoreCase(archiveMode);
+	}
+
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		if (!enabled) {
+			return;
+		}
+
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?)", Object.class, MAINTENANCE_LOCK_KEY);
+				boolean partitioned = isPartitioned();
+				if (!partitioned) {
+					log.warn("Order outbox is not partitioned; partition lifecycle is skipped until"
+						+ " db/order_outbox_partitioning.sql is applied in a maintenance window");
+				} else if (!hasKeyTable()) {
+					log.warn("Order outbox is partitioned without {}; id/event_id uniqueness is not enforced", KEY_TABLE);
+				}
+				createIndexes(partitioned);
+			});
+			maintain();
+		} catch (Exception e) {
+			log.error("Failed to initialize order outbox partitions", e);
+		}
+	}
+
+	@Scheduled(
+		initialDelayString = "${outbox.lifecycle.maintenance-delay-ms:3600000}",
+		fixedDelayString = "${outbox.lifecycle.maintenance-delay-ms:3600000}")
+	public void maintainScheduled() {
+		if (!enabled) {
+			return;
+		}
+		try {
+			maintain();
+		} catch (Exception e) {
+			log.error("Failed to maintain order outbox partitions", e);
+		}
+	}
+
+	/**
+	 * 파티션 선생성 + 보존 기간 지난 파티션 정리
+	 */
+	public void maintain() {
+		transactionTemplate.executeWithoutResult(status -> {
+			Boolean acquired = jdbcTemplate.queryForObject(
+				"SELECT pg_try_advisory_xact_lock(?)", Boolean.class, MAINTENANCE_LOCK_KEY);
+			if (!Boolean.TRUE.equals(acquired) || !isPartitioned()) {
+				return;
+			}
+
+			List<String> partitions = findPartitions();
+			LocalDate today = LocalDate.now(ZoneOffset.UTC);
+			premake(partitions, today);
+			purge(partitions, today.minusDays(retentionDays));
+		});
+	}
+
+	private void createIndexes(boolean partitioned) {
+		jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_order_outbox_pending ON " + TABLE
+			+ " (next_attempt_at) WHERE status = 'INIT'");
+		// 같은 aggregate의 백오프 중인 이전 행 확인용 (claimBatch)
+		jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_order_outbox_pending_aggregate ON " + TABLE
+			+ " (aggregate_id, created_at) WHERE status = 'INIT'");
+		jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_order_outbox_failed ON " + TABLE
+			+ " (created_at) WHERE status = 'FAILED'");
+		jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_order_outbox_event_id ON " + TABLE + " (event_id)");
+		if (!partitioned) {
+			// 파티션 테이블은 order_outbox_key 트리거로 보장
+			jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS uk_order_outbox_event_id ON " + TABLE + " (event_id)");
+		}
+	}
+
+	private void premake(List<String> partitions, LocalDate today) {
+		if (!partitions.contains(DEFAULT_PARTITION)) {
+			jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + DEFAULT_PARTITION + " PARTITION OF " + TABLE + " DEFAULT");
+			log.info("Order outbox default partition created: {}", DEFAULT_PARTITION);
+		}
+
+		// 전환 직후에는 legacy 파티션이 오늘까지 포함하므로 그 이후부터 생성
+		LocalDate from = today;
+		for (String partition : partitions) {
+			Matcher legacy = LEGACY_PARTITION.matcher(partition);
+			if (legacy.matches()) {
+				LocalDate until = LocalDate.parse(legacy.group(1), SUFFIX);
+				from = until.isAfter(from) ? until : from;
+			}
+		}
+
+		for (LocalDate day = from; !day.isAfter(today.plusDays(premakeDays)); day = day.plusDays(1)) {
+			String name = "order_outbox_p" + day.format(SUFFIX);
+			if (partitions.contains(name)) {
+				continue;
+			}
+			// DEFAULT에 해당 범위 행이 있으면 파티션 생성 불가 → DEFAULT에 둔 채 진행
+			Boolean spilled = jdbcTemplate.queryForObject(
+				"SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE created_at >= " + bound(day)
+					+ " AND created_at < " + bound(day.plusDays(1)) + ")", Boolean.class);
+			if (Boolean.TRUE.equals(spilled)) {
+				log.warn("Order outbox partition skipped (rows already in default partition): {}", name);
+				continue;
+			}
+			jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF " + TABLE
+				+ " FOR VALUES FROM (" + bound(day) + ") TO (" + bound(day.plusDays(1)) + ")");
+			log.info("Order outbox partition created: {}", name);
+		}
+	}
+
+	private void purge(List<String> partitions, LocalDate cutoff) {
+		boolean keyTable = hasKeyTable();
+		for (String partition : partitions) {
+			LocalDate upperBound = upperBound(partition);
+			if (upperBound == null || upperBound.isAfter(cutoff)) {
+				continue;
+			}
+
+			// 부분 인덱스로 확인 → 파티션 전체 스캔 없음
+			Boolean pending = jdbcTemplate.queryForObject(
+				"SELECT EXISTS (SELECT 1 FROM " + partition + " WHERE status = 'INIT')"
+					+ " OR EXISTS (SELECT 1 FROM " + partition + " WHERE status = 'FAILED')", Boolean.class);
+			if (Boolean.TRUE.equals(pending)) {
+				log.warn("Order outbox partition kept (pending or failed events remain): {}", partition);
+				continue;
+			}
+
+			jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+			if (keyTable) {
+				// 파티션 범위는 서로/DEFAULT와 겹치지 않으므로 범위 삭제로 충분
+				LocalDate lowerBound = lowerBound(partition);
+				int keys = jdbcTemplate.update("DELETE FROM " + KEY_TABLE + " WHERE created_at < " + bound(upperBound)
+					+ (lowerBound != null ? " AND created_at >= " + bound(lowerBound) : ""));
+				log.info("Order outbox keys released: partition={}, keys={}", partition, keys);
+			}
+			if (detachOnly) {
+				log.info("Order outbox partition detached for archive: {}", partition);
+				continue;
+			}
+			jdbcTemplate.execute("DROP TABLE " + partition);
+			log.info("Order outbox partition dropped: {}", partition);
+		}
+
+		if (partitions.contains(DEFAULT_PARTITION)) {
+			int purged = keyTable
+				? jdbcTemplate.update("WITH d AS (DELETE FROM " + DEFAULT_PARTITION
+					+ " WHERE status = 'PUBLISHED' AND created_at < " + bound(cutoff) + " RETURNING id)"
+					+ " DELETE FROM " + KEY_TABLE + " k USING d WHERE k.id = d.id")
+				: jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION
+					+ " WHERE status = 'PUBLISHED' AND created_at < " + bound(cutoff));
+			if (purged > 0) {
+				log.info("Order outbox default partition purged: rows={}", purged);
+			}
+		}
+	}
+
+	private boolean hasKeyTable() {
+		Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, KEY_TABLE);
+		return Boolean.TRUE.equals(exists);
+	}
+
+	private boolean isPartitioned() {
+		Boolean partitioned = jdbcTemplate.queryForObject(
+			"SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid"
+				+ " WHERE c.relname = ? AND pg_table_is_visible(c.oid))", Boolean.class, TABLE);
+		return Boolean.TRUE.equals(partitioned);
+	}
+
+	private List<String> findPartitions() {
+		return jdbcTemplate.queryForList(
+			"SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid"
+				+ " WHERE i.inhparent = ?::regclass ORDER BY c.relname", String.class, TABLE);
+	}
+
+	// 파티션 상한 (해당 날짜 0시 미만 행만 포함)
+	private static LocalDate upperBound(String partition) {
+		Matcher daily = DAILY_PARTITION.matcher(partition);
+		if (daily.matches()) {
+			return LocalDate.parse(daily.group(1), SUFFIX).plusDays(1);
+		}
+		return LEGACY_PARTITION.matcher(partition).matches() ? legacyUntil(partition) : null;
+	}
+
+	// 파티션 하한 (legacy 파티션은 MINVALUE → null)
+	private static LocalDate lowerBound(String partition) {
+		Matcher daily = DAILY_PARTITION.matcher(partition);
+		return daily.matches() ? LocalDate.parse(daily.group(1), SUFFIX) : null;
+	}
+
+	private static LocalDate legacyUntil(String partition) {
+		Matcher legacy = LEGACY_PARTITION.matcher(partition);
+		return legacy.matches() ? LocalDate.parse(legacy.group(1), SUFFIX) : null;
+	}
+
+	private static String bound(LocalDate day) {
+		return "'" + day + " 00:00:00+00'";
+	}
+}
@@ -1,64 +1,195 @@
 package com.groom.order.infrastructure.kafka;
 
+import java.time.Instant;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.groom.common.event.Type.EventType;
 import com.groom.common.event.envelope.EventEnvelope;
-import com.groom.common.outbox.OutboxStatus;
+import com.groom.common.infrastructure.kafka.routing.EventTopicRouter;
+import com.groom.common.outbox.PartitionedOutboxRelay;
+import com.groom.order.infrastructure.kafka.cdc.OrderOutboxCdcRelay;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Order Outbox 릴레이
+ *
+ * 발행 루프는 공용 {@link PartitionedOutboxRelay} (event_outbox 릴레이와 공유)
+ * - aggregateId 해시 파티션, 파티션 advisory lock → 같은 aggregate의 이벤트는 생성 순서대로 발행
+ * - 같은 aggregate에 백오프 중인 이전 행이 있으면 이후 행도 보류 (OrderOutboxClaimRepository)
+ * - 실패한 이벤트는 attempts 증가 + 지수 백오프(next_attempt_at) 후 재시도, max-attempts 도달 시 FAILED
+ *   (FAILED는 OrderOutboxAdminController re-drive로 복귀)
+ * - adaptive 모드: 가득 찬 배치가 있으면 즉시, 발행 건이 있으면 min-delay, 없으면 max-delay까지 지수 증가
+ * - fixed 모드: outbox.publisher.delay-ms 간격
+ * - cdc 모드: 발행은 OrderOutboxCdcRelay가 담당, 여기서는 cdc.sweep-delay-ms 간격 스윕만 수행
+ *   (슬롯 생성 전 적체분, 재시도 백오프 행, CDC 보류 행, re-drive 행 처리)
+ *   스윕은 CDC 릴레이가 지정한 Pod에서만 실행하고, cdc.sweep-min-age-ms보다 최근 행은 제외 → CDC 전송 중인 행 이중 발행 방지
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class OrderOutboxPublisher {
+public class OrderOutboxPublisher extends PartitionedOutboxRelay<OrderOutbox, UUID> {
+
+	// 파티션 advisory lock 키 시작값 (다른 advisory lock 용도와 겹치지 않도록 분리)
+	private static final long PARTITION_LOCK_BASE = 0x6F75_7462_0000L;
 
 	private final OrderOutboxRepository outboxRepository;
-	private final KafkaTemplate<String, EventEnvelope> kafkaTemplate;
+	private final EventTopicRouter eventTopicRouter;
+	private final ObjectProvider<OrderOutboxCdcRelay> cdcRelay;
+	private final boolean enabled;
+	private final String mode;
+	private final boolean adaptive;
+	private final boolean cdc;
+	private final long fixedDelayMs;
+	private final long sweepDelayMs;
+	private final long sweepMinAgeMs;
 
-	@Value("${event.kafka.topics.order:order-events}")
-	private String topic;
+	public OrderOutboxPublisher(
+		OrderOutboxRepository outboxRepository,
+		EventTopicRouter eventTopicRouter,
+		OrderOutboxMetrics metrics,
+		ObjectProvider<OrderOutboxCdcRelay> cdcRelay,
+		PlatformTransactionManager transactionManager,
+		@Value("${outbox.relay.enabled:true}") boolean enabled,
+		@Value("${outbox.relay.mode:adaptive}") String mode,
+		@Value("${outbox.relay.batch-size:500}") int batchSize,
+		@Value("${outbox.relay.partitions:8}") int partitions,
+		@Value("${outbox.relay.workers:4}") int workers,
+		@Value("${outbox.publisher.delay-ms:1000}") long fixedDelayMs,
+		@Value("${outbox.relay.cdc.sweep-delay-ms:60000}") long sweepDelayMs,
+		@Value("${outbox.relay.cdc.sweep-min-age-ms:60000}") long sweepMinAgeMs,
+		@Value("${outbox.relay.min-delay-ms:10}") long minDelayMs,
+		@Value("${outbox.relay.max-delay-ms:1000}") long maxDelayMs,
+		@Value("${outbox.relay.send-timeout-ms:10000}") long sendTimeoutMs,
+		@Value("${outbox.relay.retry.max-attempts:10}") int maxAttempts,
+		@Value("${outbox.relay.retry.backoff-base-ms:1000}") long backoffBaseMs,
+		@Value("${outbox.relay.retry.backoff-max-ms:300000}") long backoffMaxMs
+	) {
+		super("Order outbox", "order-outbox-relay-", PARTITION_LOCK_BASE, metrics, transactionManager,
+			batchSize, partitions, workers, minDelayMs, maxDelayMs, sendTimeoutMs,
+			maxAttempts, backoffBaseMs, backoffMaxMs);
+		this.outboxRepository = outboxRepository;
+		this.eventTopicRouter = eventTopicRouter;
+		this.cdcRelay = cdcRelay;
+		this.enabled = enabled;
+		this.mode = mode.toLowerCase();
+		this.adaptive = "adaptive".equals(this.mode);
+		this.cdc = "cdc".equals(this.mode);
+		this.fixedDelayMs = fixedDelayMs;
+		this.sweepDelayMs = sweepDelayMs;
+		// CDC 전송 대기(send-timeout) 중인 행은 스윕 대상에서 제외
+		this.sweepMinAgeMs = Math.max(sweepMinAgeMs, sendTimeoutMs * 2);
+	}
 
-	@Scheduled(fixedDelayString = "${outbox.publisher.delay-ms:1000}")
-	@Transactional
-	public void publish() {
-		List<OrderOutbox> batch = outboxRepository.findTop100ByStatusOrderByCreatedAt(OutboxStatus.INIT);
-		if (batch.isEmpty()) {
+	@Override
+	public void start() {
+		if (!enabled) {
 			return;
 		}
+		log.info("Order outbox relay mode: {}", mode);
+		super.start();
+	}
+
+	@Override
+	protected boolean canRelay() {
+		return !cdc || isSweepLeader();
+	}
 
-		for (OrderOutbox outbox : batch) {
-			EventEnvelope envelope = EventEnvelope.builder()
-					.eventId(outbox.getEventId().toString())
-					.eventType(EventType.valueOf(outbox.getEventType()))
-					.aggregateType(outbox.getAggregateType())
-					.aggregateId(outbox.getAggregateId().toString())
-					.occurredAt(outbox.getCreatedAt())
-					.producer(outbox.getProducer())
-					.traceId(outbox.getTraceId())
-					.version(outbox.getVersion())
-					.payload(outbox.getPayload())
-					.build();
-
-			try {
-				kafkaTemplate.send(topic, outbox.getAggregateId().toString(), envelope).get();
-				outbox.markPublished();
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-				outbox.markFailed();
-				log.error("Order outbox publish interrupted. eventId={}", outbox.getEventId(), e);
-			} catch (ExecutionException e) {
-				outbox.markFailed();
-				log.error("Order outbox publish failed. eventId={}", outbox.getEventId(), e);
-			}
+	@Override
+	protected long nextDelay(long previousDelayMs, int relayed, boolean saturated) {
+		if (cdc) {
+			return saturated ? 0 : sweepDelayMs;
 		}
+		if (!adaptive) {
+			return fixedDelayMs;
+		}
+		return super.nextDelay(previousDelayMs, relayed, saturated);
+	}
+
+	@Override
+	protected boolean tryLockPartition(long key) {
+		return outboxRepository.tryLockPartition(key);
+	}
+
+	@Override
+	protected List<OrderOutbox> claimBatch(int partition, int partitions, int limit) {
+		return cdc
+			? outboxRepository.claimSweepBatch(partition, partitions, limit, sweepMinAgeMs)
+			: outboxRepository.claimBatch(partition, partitions, limit);
+	}
+
+	@Override
+	protected void leaseClaimed(List<UUID> ids, long leaseMs) {
+		outboxRepository.lease(ids, leaseMs);
+	}
+
+	@Override
+	protected void releaseClaimed(List<UUID> ids) {
+		outboxRepository.releaseLease(ids);
+	}
+
+	@Override
+	protected String keyOf(OrderOutbox outbox) {
+		return outbox.getAggregateId().toString();
+	}
+
+	@Override
+	protected CompletableFuture<Void> send(OrderOutbox outbox) {
+		return eventTopicRouter.send(outbox.getAggregateId().toString(), toEnvelope(outbox));
+	}
+
+	@Override
+	protected UUID idOf(OrderOutbox outbox) {
+		return outbox.getId();
+	}
+
+	@Override
+	protected Instant createdAtOf(OrderOutbox outbox) {
+		return outbox.getCreatedAt();
+	}
+
+	@Override
+	protected String describe(OrderOutbox outbox) {
+		return "eventId=" + outbox.getEventId() + ", attempts=" + (outbox.getAttempts() + 1);
+	}
+
+	@Override
+	protected void markPublished(List<UUID> ids, Instant publishedAt) {
+		outboxRepository.markPublished(ids, publishedAt);
+	}
+
+	@Override
+	protected void markRetry(List<UUID> ids, String error, int maxAttempts, long backoffBaseMs, long backoffMaxMs) {
+		outboxRepository.markRetry(ids, error, maxAttempts, backoffBaseMs, backoffMaxMs);
+	}
+
+	private boolean isSweepLeader() {
+		OrderOutboxCdcRelay relay = cdcRelay.getIfAvailable();
+		try {
+			return relay != null && relay.isSweepLeader();
+		} catch (Exception e) {
+			log.warn("Order outbox sweep leader check failed: {}", e.getMessage());
+			return false;
+		}
+	}
+
+	private static EventEnvelope toEnvelope(OrderOutbox outbox) {
+		return EventEnvelope.builder()
+			.eventId(outbox.getEventId().toString())
+			.eventType(EventType.valueOf(outbox.getEventType()))
+			.aggregateType(outbox.getAggregateType())
+			.aggregateId(outbox.getAggregateId().toString())
+			.occurredAt(outbox.getCreatedAt())
+			.producer(outbox.getProducer())
+			.traceId(outbox.getTraceId())
+			.version(outbox.getVersion())
+			.payload(outbox.getPayload())
+			.build();
 	}
 }
@@ -1,12 +1,108 @@
 package com.groom.order.infrastructure.kafka;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.groom.common.outbox.OutboxStatus;
 
-public interface OrderOutboxRepository extends JpaRepository<OrderOutbox, UUID> {
-	List<OrderOutbox> findTop100ByStatusOrderByCreatedAt(OutboxStatus status);
+public interface OrderOutboxRepository extends JpaRepository<OrderOutbox, UUID>, OrderOutboxClaimRepository {
+
+	/**
+	 * 파티션 소유권 (트랜잭션 범위 advisory lock, 커밋/롤백 시 자동 해제)
+	 * 한 파티션은 동시에 한 워커만 발행 → 같은 aggregate 이벤트의 발행 순서 유지
+	 */
+	@Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+	boolean tryLockPartition(@Param("key") long key);
+
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("UPDATE OrderOutbox o SET o.status = com.groom.common.outbox.OutboxStatus.PUBLISHED,"
+		+ " o.publishedAt = :publishedAt, o.lastError = null WHERE o.id IN :ids")
+	int markPublished(@Param("ids") Collection<UUID> ids, @Param("publishedAt") Instant publishedAt);
+
+	/**
+	 * 선점 행 리스 (선점 트랜잭션에서 호출, 전송 결과 반영 전까지 재선점/같은 aggregate 이후 행 선점 방지)
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = "UPDATE order_outbox SET next_attempt_at = now() + make_interval(secs => :leaseMs / 1000.0)"
+		+ " WHERE id IN (:ids)", nativeQuery = true)
+	int lease(@Param("ids") Collection<UUID> ids, @Param("leaseMs") long leaseMs);
+
+	/**
+	 * 전송하지 않은 행의 리스 해제 (attempts 유지)
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = "UPDATE order_outbox SET next_attempt_at = now() WHERE id IN (:ids)", nativeQuery = true)
+	int releaseLease(@Param("ids") Collection<UUID> ids);
+
+	/**
+	 * 발행 실패 반영 (bulk)
+	 * attempts + 1, 다음 시도 시각 = now + min(base * 2^attempts, max)
+	 * 최대 시도 횟수에 도달하면 FAILED (재발행은 관리자 re-drive로만)
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = "UPDATE order_outbox SET"
+		+ " attempts = attempts + 1,"
+		+ " last_error = :error,"
+		+ " status = CASE WHEN attempts + 1 >= :maxAttempts THEN 'FAILED' ELSE 'INIT' END,"
+		+ " next_attempt_at = now() + make_interval(secs => LEAST(:baseDelayMs * power(2, attempts), :maxDelayMs) / 1000.0)"
+		+ " WHERE id IN (:ids)", nativeQuery = true)
+	int markRetry(
+		@Param("ids") Collection<UUID> ids,
+		@Param("error") String error,
+		@Param("maxAttempts") int maxAttempts,
+		@Param("baseDelayMs") long baseDelayMs,
+		@Param("maxDelayMs") long maxDelayMs);
+
+	/**
+	 * 재시도해도 같은 결과인 행(페이로드/이벤트 타입 변환 불가) 즉시 FAILED (관리자 확인 후 re-drive)
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = "UPDATE order_outbox SET attempts = attempts + 1, last_error = :error, status = 'FAILED'"
+		+ " WHERE id IN (:ids)", nativeQuery = true)
+	int markFailed(@Param("ids") Collection<UUID> ids, @Param("error") String error);
+
+	/**
+	 * CDC가 발행을 보류한 행 표시 (INIT 유지, 스윕이 순서대로 발행)
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = "UPDATE order_outbox SET last_error = :reason WHERE id IN (:ids)", nativeQuery = true)
+	int markDeferred(@Param("ids") Collection<UUID> ids, @Param("reason") String reason);
+
+	/**
+	 * 스윕 발행을 기다리는 행(재시도/보류/re-drive)이나 스윕이 전송 중(리스)인 행이 남은 aggregate
+	 * CDC 릴레이는 이 aggregate의 새 이벤트를 직접 발행하지 않고 보류 → 이전 이벤트를 앞지르지 않음
+	 */
+	@Query(value = "SELECT DISTINCT aggregate_id::text FROM order_outbox"
+		+ " WHERE status = 'INIT' AND (attempts > 0 OR last_error IS NOT NULL OR next_attempt_at > now())"
+		+ " LIMIT :limit", nativeQuery = true)
+	List<String> findBlockedAggregateIds(@Param("limit") int limit);
+
+	/**
+	 * FAILED 이벤트 재발행 대기열 복귀 (관리자 re-drive)
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = "UPDATE order_outbox SET status = 'INIT', attempts = 0, next_attempt_at = now()"
+		+ " WHERE status = 'FAILED' AND event_id IN (:eventIds)", nativeQuery = true)
+	int redriveFailed(@Param("eventIds") Collection<UUID> eventIds);
+
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(value = "UPDATE order_outbox SET status = 'INIT', attempts = 0, next_attempt_at = now()"
+		+ " WHERE status = 'FAILED'", nativeQuery = true)
+	int redriveAllFailed();
+
+	@Query(value = "SELECT * FROM order_outbox WHERE status = 'FAILED' ORDER BY created_at LIMIT :limit",
+		nativeQuery = true)
+	List<OrderOutbox> findFailed(@Param("limit") int limit);
+
+	long countByStatus(OutboxStatus status);
+
+	@Query("SELECT MIN(o.createdAt) FROM OrderOutbox o WHERE o.status = :status")
+	Instant findOldestCreatedAt(@Param("status") OutboxStatus status);
 }
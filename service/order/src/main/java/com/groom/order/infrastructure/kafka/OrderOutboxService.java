@@ -1,8 +1,12 @@
 package com.groom.order.infrastructure.kafka;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,6 +14,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.groom.common.event.Type.EventType;
 import com.groom.common.event.envelope.EventEnvelope;
+import com.groom.order.presentation.dto.response.OutboxEventResponse;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,7 +22,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class OrderOutboxService {
 
+	private static final String INSERT_SQL = "INSERT INTO order_outbox"
+		+ " (id, event_id, event_type, aggregate_type, aggregate_id, payload, trace_id, producer, version,"
+		+ " status, attempts, next_attempt_at, created_at)"
+		+ " VALUES (?, ?, ?, ?, ?, ?::jsonb, ?, ?, ?, 'INIT', 0, ?, ?)";
+
 	private final OrderOutboxRepository outboxRepository;
+	private final JdbcTemplate jdbcTemplate;
 	private final ObjectMapper objectMapper;
 
 	@Value("${spring.application.name}")
@@ -43,6 +54,54 @@ public class OrderOutboxService {
 		outboxRepository.save(OrderOutbox.of(envelope));
 	}
 
+	/**
+	 * 같은 타입 이벤트 일괄 저장 (JDBC batch insert, 호출자 트랜잭션에 참여)
+	 */
+	@Transactional
+	public void saveAll(EventType eventType, String aggregateType, List<Draft> drafts) {
+		if (drafts.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.from(Instant.now());
+		jdbcTemplate.batchUpdate(INSERT_SQL, drafts, drafts.size(), (ps, draft) -> {
+			ps.setObject(1, UUID.randomUUID());
+			ps.setObject(2, UUID.randomUUID());
+			ps.setString(3, eventType.name());
+			ps.setString(4, aggregateType);
+			ps.setObject(5, draft.aggregateId());
+			ps.setString(6, toJson(draft.payload()));
+			ps.setString(7, draft.traceId());
+			ps.setString(8, producer);
+			ps.setString(9, version);
+			ps.setTimestamp(10, now);
+			ps.setTimestamp(11, now);
+		});
+	}
+
+	public record Draft(UUID aggregateId, String traceId, Object payload) {
+	}
+
+	@Transactional(readOnly = true)
+	public List<OutboxEventResponse> getFailedEvents(int limit) {
+		return outboxRepository.findFailed(Math.max(1, Math.min(limit, 1000))).stream()
+			.map(OutboxEventResponse::from)
+			.toList();
+	}
+
+	/**
+	 * FAILED 이벤트 재발행 (attempts 초기화, 즉시 발행 대상)
+	 * @param eventIds 대상 이벤트 ID (null/빈 목록이면 FAILED 전체)
+	 * @return 재발행 대기로 되돌린 이벤트 수
+	 */
+	@Transactional
+	public int redrive(List<UUID> eventIds) {
+		if (eventIds == null || eventIds.isEmpty()) {
+			return outboxRepository.redriveAllFailed();
+		}
+		return outboxRepository.redriveFailed(eventIds);
+	}
+
 	private String toJson(Object payload) {
 		try {
 			return objectMapper.writeValueAsString(payload);
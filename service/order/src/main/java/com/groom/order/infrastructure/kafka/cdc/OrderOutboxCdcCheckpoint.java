@@ -0,0 +1,44 @@
+package com.groom.order.infrastructure.kafka.cdc;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * CDC 릴레이 LSN 체크포인트 (order_outbox_cdc_checkpoint)
+ *
+ * Kafka 전송 완료가 확인된 마지막 트랜잭션의 종료 LSN을 슬롯별로 저장
+ * 재시작 시 이 LSN 이후부터 스트림을 받고, 이하의 트랜잭션은 재전송하지 않음
+ */
+class OrderOutboxCdcCheckpoint {
+
+	private static final String TABLE = "order_outbox_cdc_checkpoint";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	OrderOutboxCdcCheckpoint(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	void createTableIfAbsent() {
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " ("
+			+ " slot_name varchar(63) PRIMARY KEY,"
+			+ " lsn bigint NOT NULL,"
+			+ " updated_at timestamptz NOT NULL DEFAULT now())");
+	}
+
+	/**
+	 * @return 저장된 LSN (없으면 0)
+	 */
+	long load(String slotName) {
+		List<Long> lsn = jdbcTemplate.queryForList(
+			"SELECT lsn FROM " + TABLE + " WHERE slot_name = ?", Long.class, slotName);
+		return lsn.isEmpty() ? 0L : lsn.get(0);
+	}
+
+	void save(String slotName, long lsn) {
+		jdbcTemplate.update("INSERT INTO " + TABLE + " (slot_name, lsn, updated_at) VALUES (?, ?, now())"
+			+ " ON CONFLICT (slot_name) DO UPDATE SET lsn = EXCLUDED.lsn, updated_at = now()"
+			+ " WHERE " + TABLE + ".lsn < EXCLUDED.lsn", slotName, lsn);
+	}
+}
@@ -0,0 +1,486 @@
+package com.groom.order.infrastructure.kafka.cdc;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.groom.common.event.Type.EventType;
+import com.groom.common.event.envelope.EventEnvelope;
+import com.groom.common.infrastructure.kafka.routing.EventTopicRouter;
+import com.groom.common.outbox.PartitionedOutboxRelay;
+import com.groom.order.infrastructure.kafka.OrderOutboxMetrics;
+import com.groom.order.infrastructure.kafka.OrderOutboxRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.PGReplicationStream;
+
+/**
+ * Order Outbox CDC 릴레이 (outbox.relay.mode=cdc)
+ *
+ * order_outbox INSERT를 PostgreSQL 논리 복제 스트림(pgoutput)으로 받아 커밋 직후 Kafka로 발행 → DB 폴링 없음
+ * - 발행(publication): order_outbox INSERT만, 파티션 변경은 부모 테이블 이름으로 (publish_via_partition_root)
+ * - 슬롯: 서버가 확인 LSN 이후 WAL을 보관, 슬롯은 연결 1개만 사용 가능 → 여러 Pod 중 1곳만 릴레이 (나머지는 재접속 대기)
+ * - 트랜잭션 단위로 비동기 send, batch-size 도달 또는 스트림이 빌 때 전송 완료를 확인하고
+ *   PUBLISHED 반영 → LSN 체크포인트 저장(order_outbox_cdc_checkpoint) → 서버에 flush LSN 보고
+ * - 실패는 행 단위로 반영하고 스트림은 계속 진행 → 문제 행 하나로 스트림이 멈추거나 WAL이 쌓이지 않음
+ *   전송 실패/타임아웃 : attempts 증가 + 백오프(INIT 유지), max-attempts 도달 시 FAILED → 스윕이 재시도
+ *   변환 불가 행       : 재시도해도 같은 결과 → 즉시 FAILED (관리자 re-drive)
+ * - 스윕 대기 행(재시도/보류/re-drive)이 남은 aggregate의 새 이벤트는 발행하지 않고 보류(last_error 표시, INIT 유지)
+ *   → 스윕이 생성 순서대로 발행, 같은 aggregate 이벤트가 앞지르지 않음 (보류 목록은 1초 간격으로 DB 기준 갱신)
+ *
+ * 요구 사항: wal_level=logical, REPLICATION 권한 (docker-compose local-db 참고)
+ * 슬롯 생성 이전에 쌓인 행/재시도/보류/re-drive 행은 OrderOutboxPublisher의 스윕이 처리
+ * 스윕은 이 릴레이가 스트림을 따라잡은 Pod(또는 슬롯을 쓰는 Pod가 없을 때)에서만 실행 ({@link #isSweepLeader()})
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relay.mode", havingValue = "cdc")
+public class OrderOutboxCdcRelay {
+
+	private static final String TABLE = "order_outbox";
+	private static final String DEFERRED = "Deferred: earlier event of the aggregate is pending";
+	private static final long BLOCKED_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+	private static final int BLOCKED_LIMIT = 10_000;
+	// 마지막으로 스트림이 빈 시점이 이 안이면 따라잡은 상태
+	private static final long CAUGHT_UP_NANOS = TimeUnit.SECONDS.toNanos(1);
+	private static final DateTimeFormatter PG_TIMESTAMP = new DateTimeFormatterBuilder()
+		.appendPattern("yyyy-MM-dd HH:mm:ss")
+		.optionalStart().appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true).optionalEnd()
+		.appendOffset("+HH:mm", "+00")
+		.toFormatter();
+
+	private final OrderOutboxRepository outboxRepository;
+	private final EventTopicRouter eventTopicRouter;
+	private final OrderOutboxMetrics metrics;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final OrderOutboxCdcCheckpoint checkpoint;
+	private final String url;
+	private final String username;
+	private final String password;
+	private final String slotName;
+	private final String publicationName;
+	private final int batchSize;
+	private final long idleWaitMs;
+	private final long sendTimeoutMs;
+	private final long reconnectDelayMs;
+	private final int maxAttempts;
+	private final long backoffBaseMs;
+	private final long backoffMaxMs;
+
+	private volatile boolean running;
+	private volatile boolean streaming;
+	private volatile long idleAtNanos;
+	private Thread worker;
+
+	// 아직 전송 완료를 확인하지 않은 이벤트 (worker 스레드 전용)
+	private final List<CompletableFuture<Void>> pendingSends = new ArrayList<>();
+	private final List<UUID> pendingIds = new ArrayList<>();
+	private final List<String> pendingAggregateIds = new ArrayList<>();
+	private final List<Instant> pendingCreatedAts = new ArrayList<>();
+	private final Map<String, List<UUID>> invalidIdsByError = new LinkedHashMap<>();
+	private final List<UUID> deferredIds = new ArrayList<>();
+	private final Set<String> blockedAggregates = new HashSet<>();
+	private long blockedRefreshedAtNanos;
+	private long pendingLsn;
+	private long checkpointLsn;
+	private long batchStartNanos;
+
+	public OrderOutboxCdcRelay(
+		OrderOutboxRepository outboxRepository,
+		EventTopicRouter eventTopicRouter,
+		OrderOutboxMetrics metrics,
+		JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		@Value("${spring.datasource.url}") String url,
+		@Value("${spring.datasource.username}") String username,
+		@Value("${spring.datasource.password}") String password,
+		@Value("${outbox.relay.cdc.slot-name:order_outbox_slot}") String slotName,
+		@Value("${outbox.relay.cdc.publication-name:order_outbox_pub}") String publicationName,
+		@Value("${outbox.relay.batch-size:500}") int batchSize,
+		@Value("${outbox.relay.cdc.idle-wait-ms:2}") long idleWaitMs,
+		@Value("${outbox.relay.send-timeout-ms:10000}") long sendTimeoutMs,
+		@Value("${outbox.relay.cdc.reconnect-delay-ms:5000}") long reconnectDelayMs,
+		@Value("${outbox.relay.retry.max-attempts:10}") int maxAttempts,
+		@Value("${outbox.relay.retry.backoff-base-ms:1000}") long backoffBaseMs,
+		@Value("${outbox.relay.retry.backoff-max-ms:300000}") long backoffMaxMs
+	) {
+		this.outboxRepository = outboxRepository;
+		this.eventTopicRouter = eventTopicRouter;
+		this.metrics = metrics;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.checkpoint = new OrderOutboxCdcCheckpoint(jdbcTemplate);
+		this.url = url;
+		this.username = username;
+		this.password = password;
+		this.slotName = slotName;
+		this.publicationName = publicationName;
+		this.batchSize = Math.max(1, batchSize);
+		this.idleWaitMs = idleWaitMs;
+		this.sendTimeoutMs = sendTimeoutMs;
+		this.reconnectDelayMs = reconnectDelayMs;
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.backoffBaseMs = backoffBaseMs;
+		this.backoffMaxMs = Math.max(backoffBaseMs, backoffMaxMs);
+	}
+
+	/**
+	 * OrderOutboxPartitionManager 전환(테이블 교체) 이후 시작해야 발행 대상이 새 부모 테이블이 됨
+	 */
+	@Order(Ordered.LOWEST_PRECEDENCE)
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (running) {
+			return;
+		}
+		checkpoint.createTableIfAbsent();
+		ensurePublication();
+		ensureSlot();
+
+		running = true;
+		worker = new Thread(this::run, "order-outbox-cdc");
+		worker.setDaemon(true);
+		worker.start();
+		log.info("Order outbox CDC relay started: slot={}, publication={}", slotName, publicationName);
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		if (worker != null) {
+			worker.interrupt();
+			try {
+				worker.join(sendTimeoutMs);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * cdc 모드 스윕 실행 여부
+	 * - 이 Pod가 스트림을 받고 있고 따라잡은 상태 → 실행 (스트림 지연 중에는 CDC가 곧 보낼 행과 겹칠 수 있어 중단)
+	 * - 다른 Pod가 슬롯을 사용 중 → 실행하지 않음
+	 * - 슬롯을 쓰는 Pod가 없음(CDC 전체 중단) → 폴백으로 실행
+	 */
+	public boolean isSweepLeader() {
+		if (streaming) {
+			return System.nanoTime() - idleAtNanos < CAUGHT_UP_NANOS;
+		}
+		Boolean active = jdbcTemplate.queryForObject(
+			"SELECT EXISTS (SELECT 1 FROM pg_replication_slots WHERE slot_name = ? AND active)", Boolean.class, slotName);
+		return !Boolean.TRUE.equals(active);
+	}
+
+	private void run() {
+		while (running) {
+			try (Connection connection = openReplicationConnection()) {
+				stream(connection.unwrap(PGConnection.class));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception e) {
+				if (!running) {
+					return;
+				}
+				log.warn("Order outbox CDC stream interrupted, reconnecting in {}ms: {}", reconnectDelayMs, e.getMessage());
+				sleep(reconnectDelayMs);
+			}
+		}
+	}
+
+	private void stream(PGConnection connection) throws Exception {
+		clearPending();
+		checkpointLsn = checkpoint.load(slotName);
+		refreshBlockedAggregates(true);
+
+		PGReplicationStream stream = connection.getReplicationAPI()
+			.replicationStream()
+			.logical()
+			.withSlotName(slotName)
+			.withSlotOption("proto_version", 1)
+			.withSlotOption("publication_names", publicationName)
+			.withStartPosition(checkpointLsn > 0 ? LogSequenceNumber.valueOf(checkpointLsn) : LogSequenceNumber.INVALID_LSN)
+			.withStatusInterval(10, TimeUnit.SECONDS)
+			.start();
+
+		PgOutputDecoder decoder = new PgOutputDecoder();
+		List<Map<String, String>> transactionRows = new ArrayList<>();
+		streaming = true;
+		try {
+			while (running) {
+				ByteBuffer buffer = stream.readPending();
+				if (buffer == null) {
+					flush(stream);
+					idleAtNanos = System.nanoTime();
+					Thread.sleep(idleWaitMs);
+					continue;
+				}
+
+				PgOutputDecoder.Message message = decoder.decode(buffer);
+				if (message == null) {
+					continue;
+				}
+				switch (message.type()) {
+					case BEGIN -> transactionRows.clear();
+					case INSERT -> {
+						if (TABLE.equals(message.table())) {
+							transactionRows.add(message.values());
+						}
+					}
+					case COMMIT -> {
+						// 체크포인트 이하 트랜잭션은 이미 발행 완료
+						if (message.lsn() > checkpointLsn && !transactionRows.isEmpty()) {
+							transactionRows.forEach(this::send);
+						}
+						pendingLsn = Math.max(pendingLsn, message.lsn());
+						transactionRows.clear();
+						if (pendingSends.size() >= batchSize) {
+							flush(stream);
+						}
+					}
+				}
+			}
+			flush(stream);
+		} finally {
+			streaming = false;
+			stream.close();
+		}
+	}
+
+	private void send(Map<String, String> row) {
+		if (pendingSends.isEmpty() && invalidIdsByError.isEmpty() && deferredIds.isEmpty()) {
+			batchStartNanos = System.nanoTime();
+		}
+
+		UUID id;
+		EventEnvelope envelope;
+		try {
+			id = UUID.fromString(row.get("id"));
+		} catch (RuntimeException e) {
+			log.error("Order outbox CDC row without valid id skipped. row={}", row.keySet(), e);
+			return;
+		}
+		try {
+			envelope = toEnvelope(row);
+		} catch (RuntimeException e) {
+			// 변환 불가 행은 재시도해도 같은 결과 → FAILED로 격리 (스트림은 계속 진행)
+			log.error("Order outbox CDC row rejected. id={}", id, e);
+			invalidIdsByError.computeIfAbsent(PartitionedOutboxRelay.errorMessage(e), key -> new ArrayList<>()).add(id);
+			return;
+		}
+
+		// 같은 aggregate의 이전 이벤트가 스윕 대기 중 → 보류 (스윕이 순서대로 발행)
+		if (blockedAggregates.contains(envelope.getAggregateId())) {
+			deferredIds.add(id);
+			return;
+		}
+
+		pendingIds.add(id);
+		pendingAggregateIds.add(envelope.getAggregateId());
+		pendingCreatedAts.add(envelope.getOccurredAt());
+		try {
+			pendingSends.add(eventTopicRouter.send(envelope.getAggregateId(), envelope));
+		} catch (RuntimeException e) {
+			pendingSends.add(CompletableFuture.failedFuture(e));
+		}
+	}
+
+	// 전송 완료 확인 → 행 단위 결과 반영(PUBLISHED/재시도/FAILED/보류) → 체크포인트 저장 → 서버에 확인 LSN 보고
+	// DB 반영이 실패할 때만 예외로 재접속 (체크포인트부터 다시 받음, at-least-once)
+	private void flush(PGReplicationStream stream) throws Exception {
+		if (pendingLsn <= checkpointLsn) {
+			return;
+		}
+
+		if (!pendingSends.isEmpty() || !invalidIdsByError.isEmpty() || !deferredIds.isEmpty()) {
+			awaitPendingSends();
+
+			Instant now = Instant.now();
+			List<UUID> publishedIds = new ArrayList<>();
+			Map<String, List<UUID>> failedIdsByError = new LinkedHashMap<>();
+			int failed = 0;
+			for (int i = 0; i < pendingSends.size(); i++) {
+				CompletableFuture<Void> future = pendingSends.get(i);
+				if (future.isDone() && !future.isCompletedExceptionally()) {
+					publishedIds.add(pendingIds.get(i));
+					metrics.recordLag(pendingCreatedAts.get(i), now);
+					continue;
+				}
+				Throwable cause = future.isDone()
+					? PartitionedOutboxRelay.causeOf(future)
+					: new TimeoutException("Send not acknowledged within " + sendTimeoutMs + "ms");
+				failedIdsByError.computeIfAbsent(PartitionedOutboxRelay.errorMessage(cause), key -> new ArrayList<>())
+					.add(pendingIds.get(i));
+				blockedAggregates.add(pendingAggregateIds.get(i));
+				failed++;
+				log.error("Order outbox CDC publish failed, retry deferred to sweep. id={}", pendingIds.get(i), cause);
+			}
+			int invalid = invalidIdsByError.values().stream().mapToInt(List::size).sum();
+
+			List<UUID> deferred = List.copyOf(deferredIds);
+			Map<String, List<UUID>> invalidIds = Map.copyOf(invalidIdsByError);
+			transactionTemplate.executeWithoutResult(status -> {
+				if (!publishedIds.isEmpty()) {
+					outboxRepository.markPublished(publishedIds, now);
+				}
+				failedIdsByError.forEach((error, ids) ->
+					outboxRepository.markRetry(ids, error, maxAttempts, backoffBaseMs, backoffMaxMs));
+				invalidIds.forEach((error, ids) -> outboxRepository.markFailed(ids, error));
+				if (!deferred.isEmpty()) {
+					outboxRepository.markDeferred(deferred, DEFERRED);
+				}
+			});
+			metrics.recordBatch(batchStartNanos, publishedIds.size(), failed + invalid);
+		}
+
+		checkpoint.save(slotName, pendingLsn);
+		checkpointLsn = pendingLsn;
+
+		LogSequenceNumber lsn = LogSequenceNumber.valueOf(pendingLsn);
+		stream.setAppliedLSN(lsn);
+		stream.setFlushedLSN(lsn);
+		stream.forceUpdateStatus();
+		clearPending();
+		refreshBlockedAggregates(false);
+	}
+
+	// 개별 실패/미완료는 future별로 판정
+	private void awaitPendingSends() throws InterruptedException {
+		if (pendingSends.isEmpty()) {
+			return;
+		}
+		try {
+			CompletableFuture.allOf(pendingSends.toArray(CompletableFuture[]::new))
+				.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			// 일부 실패: future별 결과로 처리
+		} catch (TimeoutException e) {
+			log.warn("Order outbox CDC publish timed out. batch={}, timeoutMs={}", pendingSends.size(), sendTimeoutMs);
+		}
+	}
+
+	// 스윕 대기 aggregate 목록을 DB 기준으로 갱신 (스윕 발행/re-drive 반영)
+	private void refreshBlockedAggregates(boolean force) {
+		long now = System.nanoTime();
+		if (!force && now - blockedRefreshedAtNanos < BLOCKED_REFRESH_NANOS) {
+			return;
+		}
+		blockedRefreshedAtNanos = now;
+		List<String> blocked = outboxRepository.findBlockedAggregateIds(BLOCKED_LIMIT);
+		if (blocked.size() >= BLOCKED_LIMIT) {
+			log.warn("Order outbox CDC blocked aggregates truncated. limit={}", BLOCKED_LIMIT);
+		}
+		blockedAggregates.clear();
+		blockedAggregates.addAll(blocked);
+	}
+
+	private void clearPending() {
+		pendingSends.clear();
+		pendingIds.clear();
+		pendingAggregateIds.clear();
+		pendingCreatedAts.clear();
+		invalidIdsByError.clear();
+		deferredIds.clear();
+		pendingLsn = 0;
+	}
+
+	private void ensurePublication() {
+		Boolean exists = jdbcTemplate.queryForObject(
+			"SELECT EXISTS (SELECT 1 FROM pg_publication WHERE pubname = ?)", Boolean.class, publicationName);
+		if (!Boolean.TRUE.equals(exists)) {
+			jdbcTemplate.execute("CREATE PUBLICATION " + publicationName + " FOR TABLE " + TABLE
+				+ " WITH (publish = 'insert', publish_via_partition_root = true)");
+			return;
+		}
+
+		// 테이블이 교체(파티션 전환)된 경우 새 테이블로 재지정
+		Boolean covered = jdbcTemplate.queryForObject(
+			"SELECT EXISTS (SELECT 1 FROM pg_publication_tables WHERE pubname = ? AND tablename = ?)",
+			Boolean.class, publicationName, TABLE);
+		if (!Boolean.TRUE.equals(covered)) {
+			jdbcTemplate.execute("ALTER PUBLICATION " + publicationName + " SET TABLE " + TABLE);
+		}
+	}
+
+	private void ensureSlot() {
+		Boolean exists = jdbcTemplate.queryForObject(
+			"SELECT EXISTS (SELECT 1 FROM pg_replication_slots WHERE slot_name = ?)", Boolean.class, slotName);
+		if (!Boolean.TRUE.equals(exists)) {
+			jdbcTemplate.queryForObject(
+				"SELECT lsn::text FROM pg_create_logical_replication_slot(?, 'pgoutput')", String.class, slotName);
+			log.info("Order outbox replication slot created: {}", slotName);
+		}
+	}
+
+	private Connection openReplicationConnection() throws SQLException {
+		Properties properties = new Properties();
+		PGProperty.USER.set(properties, username);
+		PGProperty.PASSWORD.set(properties, password);
+		PGProperty.ASSUME_MIN_SERVER_VERSION.set(properties, "10");
+		PGProperty.REPLICATION.set(properties, "database");
+		PGProperty.PREFER_QUERY_MODE.set(properties, "simple");
+		return DriverManager.getConnection(url, properties);
+	}
+
+	private static EventEnvelope toEnvelope(Map<String, String> row) {
+		return EventEnvelope.builder()
+			.eventId(row.get("event_id"))
+			.eventType(EventType.valueOf(row.get("event_type")))
+			.aggregateType(row.get("aggregate_type"))
+			.aggregateId(row.get("aggregate_id"))
+			.occurredAt(OffsetDateTime.parse(row.get("created_at"), PG_TIMESTAMP).toInstant())
+			.producer(row.get("producer"))
+			.traceId(row.get("trace_id"))
+			.version(row.get("version"))
+			.payload(row.get("payload"))
+			.build();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
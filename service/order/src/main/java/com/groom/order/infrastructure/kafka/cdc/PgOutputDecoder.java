@@ -0,0 +1,114 @@
+package com.groom.order.infrastructure.kafka.cdc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * pgoutput(논리 복제 프로토콜 v1) 메시지 디코더
+ *
+ * Outbox 릴레이에 필요한 메시지만 해석한다.
+ * - 'R' Relation : relation id → 테이블명/컬럼명 캐시 (해당 테이블의 첫 변경 전에 서버가 전송)
+ * - 'B' Begin / 'C' Commit : 트랜잭션 경계, Commit은 종료 LSN(재시작 체크포인트) 포함
+ * - 'I' Insert : 새 행 (텍스트 형식 컬럼 값)
+ * 그 외(Update/Delete/Truncate/Origin/Type)는 무시 (null 반환)
+ *
+ * 스트림 1개당 인스턴스 1개 (relation 캐시는 연결 단위)
+ */
+class PgOutputDecoder {
+
+	enum Type {
+		BEGIN,
+		COMMIT,
+		INSERT
+	}
+
+	/**
+	 * @param lsn Commit이면 트랜잭션 종료 LSN, 그 외 0
+	 * @param table Insert 대상 테이블명 (publish_via_partition_root 사용 시 부모 테이블명)
+	 * @param values Insert 컬럼명 → 텍스트 값 (NULL은 null)
+	 */
+	record Message(Type type, long lsn, String table, Map<String, String> values) {
+	}
+
+	private record Relation(String table, List<String> columns) {
+	}
+
+	private final Map<Integer, Relation> relations = new HashMap<>();
+
+	Message decode(ByteBuffer buffer) {
+		char type = (char)buffer.get();
+		switch (type) {
+			case 'B':
+				return new Message(Type.BEGIN, 0, null, null);
+			case 'C':
+				buffer.get(); // flags
+				buffer.getLong(); // commit LSN
+				long endLsn = buffer.getLong();
+				return new Message(Type.COMMIT, endLsn, null, null);
+			case 'R':
+				readRelation(buffer);
+				return null;
+			case 'I':
+				return readInsert(buffer);
+			default:
+				return null;
+		}
+	}
+
+	private void readRelation(ByteBuffer buffer) {
+		int relationId = buffer.getInt();
+		readString(buffer); // namespace
+		String table = readString(buffer);
+		buffer.get(); // replica identity
+		short columnCount = buffer.getShort();
+
+		List<String> columns = new ArrayList<>(columnCount);
+		for (int i = 0; i < columnCount; i++) {
+			buffer.get(); // flags
+			columns.add(readString(buffer));
+			buffer.getInt(); // type oid
+			buffer.getInt(); // type modifier
+		}
+		relations.put(relationId, new Relation(table, columns));
+	}
+
+	private Message readInsert(ByteBuffer buffer) {
+		Relation relation = relations.get(buffer.getInt());
+		buffer.get(); // 'N' (new tuple)
+		if (relation == null) {
+			throw new IllegalStateException("pgoutput insert received before its relation message");
+		}
+
+		short columnCount = buffer.getShort();
+		Map<String, String> values = new LinkedHashMap<>();
+		for (int i = 0; i < columnCount; i++) {
+			char kind = (char)buffer.get();
+			String value = null;
+			if (kind == 't') {
+				byte[] bytes = new byte[buffer.getInt()];
+				buffer.get(bytes);
+				value = new String(bytes, StandardCharsets.UTF_8);
+			}
+			// 'n' NULL, 'u' 변경 없는 TOAST 값 (Insert에서는 발생하지 않음)
+			values.put(relation.columns().get(i), value);
+		}
+		return new Message(Type.INSERT, 0, relation.table(), values);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		int start = buffer.position();
+		while (buffer.get() != 0) {
+			// null 종료 문자열
+		}
+		byte[] bytes = new byte[buffer.position() - start - 1];
+		buffer.position(start);
+		buffer.get(bytes);
+		buffer.get(); // '\0'
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.groom.order.application.service.OrderService;
+import com.groom.order.presentation.dto.internal.OrderStockItemsResponse;
 import com.groom.order.presentation.dto.internal.OrderValidationResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,12 @@ public class OrderInternalController {
 	public OrderValidationResponse getOrder(@PathVariable UUID orderId) {
 		return orderService.getOrderForPayment(orderId);
 	}
+
+	// Product → Order, 가점유 매핑이 만료 해제된 뒤 결제 완료가 도착했을 때 재고 확정용
+	@GetMapping("/internal/orders/{orderId}/stock-items")
+	public OrderStockItemsResponse getOrderStockItems(@PathVariable UUID orderId) {
+		return orderService.getOrderStockItems(orderId);
+	}
 }
 
 
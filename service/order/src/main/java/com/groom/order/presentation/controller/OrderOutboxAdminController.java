@@ -0,0 +1,43 @@
+package com.groom.order.presentation.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.groom.order.infrastructure.kafka.OrderOutboxService;
+import com.groom.order.presentation.dto.request.OutboxRedriveRequest;
+import com.groom.order.presentation.dto.response.OutboxEventResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Order Outbox Admin", description = "발행 실패 이벤트 조회 및 재발행 API")
+@PreAuthorize("hasRole('MASTER')")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/orders/outbox")
+public class OrderOutboxAdminController {
+
+	private final OrderOutboxService outboxService;
+
+	@Operation(summary = "발행 실패 이벤트 조회", description = "최대 재시도 횟수를 넘겨 FAILED 상태가 된 이벤트를 오래된 순으로 조회합니다.")
+	@GetMapping("/failed")
+	public ResponseEntity<List<OutboxEventResponse>> getFailedEvents(
+			@RequestParam(defaultValue = "100") int limit) {
+		return ResponseEntity.ok(outboxService.getFailedEvents(limit));
+	}
+
+	@Operation(summary = "발행 실패 이벤트 재발행", description = "FAILED 이벤트를 발행 대기(INIT)로 되돌립니다. eventIds가 없으면 전체 대상입니다.")
+	@PostMapping("/failed/redrive")
+	public ResponseEntity<Integer> redrive(@RequestBody(required = false) OutboxRedriveRequest request) {
+		return ResponseEntity.ok(outboxService.redrive(request == null ? null : request.eventIds()));
+	}
+}
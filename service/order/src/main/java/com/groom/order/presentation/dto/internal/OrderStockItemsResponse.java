@@ -0,0 +1,27 @@
+package com.groom.order.presentation.dto.internal;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.groom.order.domain.status.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderStockItemsResponse {
+
+	private UUID orderId;
+	private OrderStatus status;
+	private List<Item> items;
+
+	@Getter
+	@AllArgsConstructor
+	public static class Item {
+
+		private UUID productId;
+		private UUID variantId;
+		private Integer quantity;
+	}
+}
@@ -16,9 +16,12 @@ public class OrderCreateRequest {
 	// 결제 수단 ID
 	private UUID paymentMethodId;
 
-	// 총 결제 금액
+	// 총 결제 금액 (선택, 있으면 견적 총액과 같아야 함 - 실제 결제 금액은 견적 기준)
 	private Long totalAmount;
 
 	// 주문 상품 목록
 	private List<OrderCreateItemRequest> items;
+
+	// 장바구니 체크아웃 견적 토큰 (필수, 견적 가격/총액으로 주문 생성)
+	private String quoteToken;
 }
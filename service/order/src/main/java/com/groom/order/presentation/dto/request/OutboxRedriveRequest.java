@@ -0,0 +1,9 @@
+package com.groom.order.presentation.dto.request;
+
+import java.util.List;
+import java.util.UUID;
+
+public record OutboxRedriveRequest(
+	List<UUID> eventIds // 비어 있으면 FAILED 전체 재발행
+) {
+}
@@ -0,0 +1,28 @@
+package com.groom.order.presentation.dto.response;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.groom.order.infrastructure.kafka.OrderOutbox;
+
+public record OutboxEventResponse(
+	UUID eventId,
+	String eventType,
+	UUID aggregateId,
+	String status,
+	int attempts,
+	String lastError,
+	Instant createdAt
+) {
+	public static OutboxEventResponse from(OrderOutbox outbox) {
+		return new OutboxEventResponse(
+			outbox.getEventId(),
+			outbox.getEventType(),
+			outbox.getAggregateId(),
+			outbox.getStatus().name(),
+			outbox.getAttempts(),
+			outbox.getLastError(),
+			outbox.getCreatedAt()
+		);
+	}
+}
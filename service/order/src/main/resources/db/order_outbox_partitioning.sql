@@ -0,0 +1,79 @@
+-- order_outbox 파티션 전환 (1회성 마이그레이션, 점검 시간에 수동 실행)
+--
+-- 실행 전 : 모든 order Pod의 outbox relay 중지 (outbox.relay.enabled=false 후 재배포 또는 Pod 0개)
+-- 실행    : psql -v ON_ERROR_STOP=1 -d <db> -f order_outbox_partitioning.sql
+-- 실행 후 : relay 재개 → OrderOutboxPartitionManager가 일 파티션 선생성/보존 기간 정리 담당
+--
+-- [전환] 기존 테이블을 order_outbox_legacy_until_{yyyyMMdd} 파티션(MINVALUE ~ 내일 0시 UTC)으로 그대로 붙임 → 데이터 복사 없음
+-- [DEFAULT] 일 파티션이 없는 시각의 행은 order_outbox_default로 → 파티션 선생성이 밀려도 INSERT 실패 없음
+-- [유일성] 파티션 테이블의 PK/UNIQUE는 파티션 키(created_at)를 포함해야 하므로
+--   id / event_id 전역 유일성은 order_outbox_key 테이블 + BEFORE INSERT 트리거로 보장 (중복 시 unique_violation)
+--   파티션 정리 시 해당 범위의 키도 함께 삭제 (OrderOutboxPartitionManager)
+-- [재시도 시각] next_attempt_at 컬럼 추가 이전에 쌓인 발행 대기 행은 생성 시각부터 발행 대상으로 1회 보정
+--   (재처리(re-drive)는 next_attempt_at = now()로 되돌리므로 FAILED/PUBLISHED 행은 보정 불필요)
+
+BEGIN;
+
+SET LOCAL lock_timeout = '10s';
+
+LOCK TABLE order_outbox IN ACCESS EXCLUSIVE MODE;
+
+UPDATE order_outbox SET next_attempt_at = created_at WHERE status = 'INIT' AND next_attempt_at IS NULL;
+
+ALTER TABLE order_outbox RENAME TO order_outbox_legacy;
+ALTER TABLE order_outbox_legacy ALTER COLUMN created_at SET NOT NULL;
+-- 인덱스/제약 이름은 스키마 전역 → 새 부모 테이블과 겹치지 않도록 legacy 쪽 이름 변경
+-- (부모에 같은 정의의 인덱스를 만들면 legacy 파티션의 기존 인덱스가 재사용됨)
+ALTER TABLE order_outbox_legacy RENAME CONSTRAINT order_outbox_pkey TO order_outbox_legacy_pkey;
+ALTER INDEX IF EXISTS idx_order_outbox_pending RENAME TO idx_order_outbox_legacy_pending;
+ALTER INDEX IF EXISTS idx_order_outbox_pending_aggregate RENAME TO idx_order_outbox_legacy_pending_aggregate;
+ALTER INDEX IF EXISTS idx_order_outbox_failed RENAME TO idx_order_outbox_legacy_failed;
+ALTER INDEX IF EXISTS idx_order_outbox_event_id RENAME TO idx_order_outbox_legacy_event_id;
+ALTER INDEX IF EXISTS uk_order_outbox_event_id RENAME TO uk_order_outbox_legacy_event_id;
+
+CREATE TABLE order_outbox (LIKE order_outbox_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS)
+    PARTITION BY RANGE (created_at);
+ALTER TABLE order_outbox ADD PRIMARY KEY (id, created_at);
+
+-- id / event_id 전역 유일성 (기존 행에 중복이 있으면 여기서 실패 → 전체 롤백)
+CREATE TABLE order_outbox_key (
+    id         uuid        PRIMARY KEY,
+    event_id   uuid        NOT NULL UNIQUE,
+    created_at timestamptz NOT NULL
+);
+CREATE INDEX idx_order_outbox_key_created_at ON order_outbox_key (created_at);
+INSERT INTO order_outbox_key (id, event_id, created_at)
+    SELECT id, event_id, created_at FROM order_outbox_legacy;
+
+CREATE FUNCTION order_outbox_key_guard() RETURNS trigger
+    LANGUAGE plpgsql AS $$
+BEGIN
+    INSERT INTO order_outbox_key (id, event_id, created_at) VALUES (NEW.id, NEW.event_id, NEW.created_at);
+    RETURN NEW;
+END
+$$;
+
+-- 파티션 테이블의 행 트리거는 기존/신규 파티션에 자동 복제 (PostgreSQL 13+)
+CREATE TRIGGER trg_order_outbox_key_guard
+    BEFORE INSERT ON order_outbox
+    FOR EACH ROW EXECUTE FUNCTION order_outbox_key_guard();
+
+DO $$
+DECLARE
+    until  date := (now() AT TIME ZONE 'UTC')::date + 1;
+    legacy text := 'order_outbox_legacy_until_' || to_char(until, 'YYYYMMDD');
+BEGIN
+    EXECUTE format('ALTER TABLE order_outbox_legacy RENAME TO %I', legacy);
+    EXECUTE format('ALTER TABLE order_outbox ATTACH PARTITION %I FOR VALUES FROM (MINVALUE) TO (%L)',
+        legacy, until || ' 00:00:00+00');
+END
+$$;
+
+CREATE TABLE order_outbox_default PARTITION OF order_outbox DEFAULT;
+
+CREATE INDEX IF NOT EXISTS idx_order_outbox_pending ON order_outbox (next_attempt_at) WHERE status = 'INIT';
+CREATE INDEX IF NOT EXISTS idx_order_outbox_pending_aggregate ON order_outbox (aggregate_id, created_at) WHERE status = 'INIT';
+CREATE INDEX IF NOT EXISTS idx_order_outbox_failed ON order_outbox (created_at) WHERE status = 'FAILED';
+CREATE INDEX IF NOT EXISTS idx_order_outbox_event_id ON order_outbox (event_id);
+
+COMMIT;
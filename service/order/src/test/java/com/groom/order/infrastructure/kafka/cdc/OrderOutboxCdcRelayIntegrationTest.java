@@ -0,0 +1,192 @@
+package com.groom.order.infrastructure.kafka.cdc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.groom.common.event.envelope.EventEnvelope;
+import com.groom.common.infrastructure.kafka.routing.EventTopicRouter;
+import com.groom.order.infrastructure.kafka.OrderOutboxMetrics;
+import com.groom.order.infrastructure.kafka.OrderOutboxRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * CDC 릴레이 통합 테스트 (로컬 Docker 필요, wal_level=logical PostgreSQL 컨테이너)
+ * Kafka는 목으로 대체하고 스트림 수신 → 발행 → LSN 체크포인트 → 재시작 재개를 검증
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class OrderOutboxCdcRelayIntegrationTest {
+
+	@Container
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+		.withCommand("postgres", "-c", "wal_level=logical");
+
+	private JdbcTemplate jdbcTemplate;
+	private DataSourceTransactionManager transactionManager;
+	private OrderOutboxRepository outboxRepository;
+	private OrderOutboxCdcRelay relay;
+
+	@BeforeEach
+	void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		transactionManager = new DataSourceTransactionManager(dataSource);
+		outboxRepository = mock(OrderOutboxRepository.class);
+
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS order_outbox ("
+			+ " id uuid PRIMARY KEY, event_id uuid, event_type varchar(255), aggregate_type varchar(255),"
+			+ " aggregate_id uuid, payload jsonb, trace_id varchar(255), producer varchar(255), version varchar(255),"
+			+ " status varchar(255), attempts integer DEFAULT 0 NOT NULL, next_attempt_at timestamptz,"
+			+ " last_error varchar(1000), published_at timestamptz, created_at timestamptz NOT NULL)");
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (relay != null) {
+			relay.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("커밋된 outbox INSERT를 발행하고, 재시작 시 체크포인트 이후부터 이어서 발행한다")
+	void relaysInsertsAndResumesFromCheckpoint() {
+		KafkaTemplate<String, EventEnvelope> firstKafka = kafkaTemplate();
+		relay = relay(firstKafka);
+		relay.start();
+
+		UUID aggregateId = UUID.randomUUID();
+		for (int i = 0; i < 3; i++) {
+			insertOutbox(aggregateId);
+		}
+
+		verify(firstKafka, timeout(5000).times(3)).send(eq("order-domain-events"), eq(aggregateId.toString()), any());
+		verify(outboxRepository, timeout(5000).atLeastOnce()).markPublished(any(), any());
+		Long checkpoint = jdbcTemplate.queryForObject(
+			"SELECT lsn FROM order_outbox_cdc_checkpoint WHERE slot_name = 'order_outbox_slot'", Long.class);
+		assertThat(checkpoint).isPositive();
+
+		relay.stop();
+
+		KafkaTemplate<String, EventEnvelope> secondKafka = kafkaTemplate();
+		relay = relay(secondKafka);
+		relay.start();
+
+		UUID nextAggregateId = UUID.randomUUID();
+		insertOutbox(nextAggregateId);
+
+		verify(secondKafka, timeout(5000).times(1)).send(anyString(), anyString(), any());
+		verify(secondKafka, after(1000).times(1)).send(eq("order-domain-events"), eq(nextAggregateId.toString()), any());
+	}
+
+	@Test
+	@DisplayName("변환 불가 행은 FAILED로 격리하고 스트림은 멈추지 않고 다음 행을 발행한다")
+	void isolatesPoisonRowAndKeepsStreaming() {
+		KafkaTemplate<String, EventEnvelope> kafka = kafkaTemplate();
+		relay = relay(kafka);
+		relay.start();
+
+		UUID poisonId = UUID.randomUUID();
+		jdbcTemplate.update("INSERT INTO order_outbox (id, event_id, event_type, aggregate_type, aggregate_id, payload,"
+				+ " producer, version, status, next_attempt_at, created_at)"
+				+ " VALUES (?, ?, 'NOT_AN_EVENT', 'ORDER', ?, '{}'::jsonb, 'service-order', '1.0', 'INIT', now(), now())",
+			poisonId, UUID.randomUUID(), UUID.randomUUID());
+		UUID aggregateId = UUID.randomUUID();
+		insertOutbox(aggregateId);
+
+		verify(outboxRepository, timeout(5000)).markFailed(eq(List.of(poisonId)), anyString());
+		verify(kafka, timeout(5000).times(1)).send(eq("order-domain-events"), eq(aggregateId.toString()), any());
+		verify(outboxRepository, timeout(5000).atLeastOnce()).markPublished(any(), any());
+	}
+
+	@Test
+	@DisplayName("전송 실패 행은 재시도로 넘기고, 같은 aggregate의 다음 이벤트는 보류한다")
+	void defersSendFailureAndLaterEventsOfAggregate() {
+		UUID aggregateId = UUID.randomUUID();
+		KafkaTemplate<String, EventEnvelope> kafka = kafkaTemplate();
+		when(kafka.send(anyString(), eq(aggregateId.toString()), any()))
+			.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+		// 재시도 반영 이후 DB에서 해당 aggregate가 스윕 대기로 조회됨
+		AtomicBoolean retried = new AtomicBoolean();
+		when(outboxRepository.markRetry(any(), anyString(), anyInt(), anyLong(), anyLong()))
+			.thenAnswer(invocation -> {
+				retried.set(true);
+				return 1;
+			});
+		when(outboxRepository.findBlockedAggregateIds(anyInt()))
+			.thenAnswer(invocation -> retried.get() ? List.of(aggregateId.toString()) : List.of());
+		relay = relay(kafka);
+		relay.start();
+
+		insertOutbox(aggregateId);
+		verify(outboxRepository, timeout(5000)).markRetry(any(), anyString(), eq(10), eq(1000L), eq(300000L));
+
+		insertOutbox(aggregateId);
+		verify(outboxRepository, timeout(5000)).markDeferred(any(), anyString());
+		verify(kafka, after(1000).times(1)).send(anyString(), eq(aggregateId.toString()), any());
+	}
+
+	private void insertOutbox(UUID aggregateId) {
+		jdbcTemplate.update("INSERT INTO order_outbox (id, event_id, event_type, aggregate_type, aggregate_id, payload,"
+				+ " producer, version, status, next_attempt_at, created_at)"
+				+ " VALUES (?, ?, 'ORDER_CREATED', 'ORDER', ?, '{\"orderId\":\"x\"}'::jsonb, 'service-order', '1.0', 'INIT',"
+				+ " now(), now())",
+			UUID.randomUUID(), UUID.randomUUID(), aggregateId);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static KafkaTemplate<String, EventEnvelope> kafkaTemplate() {
+		KafkaTemplate<String, EventEnvelope> kafkaTemplate = mock(KafkaTemplate.class);
+		when(kafkaTemplate.send(anyString(), anyString(), any()))
+			.thenReturn(CompletableFuture.completedFuture(null));
+		return kafkaTemplate;
+	}
+
+	private OrderOutboxCdcRelay relay(KafkaTemplate<String, EventEnvelope> kafkaTemplate) {
+		return new OrderOutboxCdcRelay(
+			outboxRepository,
+			new EventTopicRouter(kafkaTemplate, "split", "order-events", "order-domain-events",
+				"payment-domain-events", "stock-domain-events", "user-lifecycle"),
+			new OrderOutboxMetrics(outboxRepository, new SimpleMeterRegistry()),
+			jdbcTemplate,
+			transactionManager,
+			postgres.getJdbcUrl(),
+			postgres.getUsername(),
+			postgres.getPassword(),
+			"order_outbox_slot",
+			"order_outbox_pub",
+			500,
+			2,
+			5000,
+			200,
+			10,
+			1000,
+			300000);
+	}
+}
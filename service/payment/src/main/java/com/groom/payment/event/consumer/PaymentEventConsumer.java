@@ -8,6 +8,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.groom.common.event.Type.EventType;
 import com.groom.common.event.envelope.EventEnvelope;
+import com.groom.common.infrastructure.kafka.idempotency.IdempotentConsumer;
 import com.groom.common.event.payload.OrderCancelledPayload;
 import com.groom.common.event.payload.OrderCreatedPayload;
 import com.groom.common.event.payload.StockDeductionFailedPayload;
@@ -23,24 +24,27 @@ public class PaymentEventConsumer {
     private final ApplicationEventPublisher eventPublisher;
     private final ObjectMapper objectMapper;
 
-    @KafkaListener(topics = "${event.kafka.topics.order:order-events}", groupId = "${spring.kafka.consumer.group-id}")
+    @IdempotentConsumer
+    @KafkaListener(
+            topics = "#{'${event.kafka.consumer.topics:order-events}'.split(',')}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            concurrency = "${event.kafka.consumer.listeners.payment-saga.concurrency:${event.kafka.consumer.concurrency:1}}")
     public void handleEvent(EventEnvelope event, org.springframework.kafka.support.Acknowledgment ack) {
         log.debug("[ProductEventConsumer] Received event: type={}, id={}", event.getEventType(), event.getEventId());
 
         try {
             if (event.getEventType() == EventType.ORDER_CREATED) {
-                OrderCreatedPayload payload = objectMapper.readValue(event.getPayload(), OrderCreatedPayload.class);
+                OrderCreatedPayload payload = event.readPayload(OrderCreatedPayload.class, objectMapper);
                 eventPublisher.publishEvent(payload);
                 log.info("[PaymentEventConsumer] Published OrderCreatedPayload locally. orderId={}",
                         payload.getOrderId());
             } else if (event.getEventType() == EventType.ORDER_CANCELLED) {
-                OrderCancelledPayload payload = objectMapper.readValue(event.getPayload(), OrderCancelledPayload.class);
+                OrderCancelledPayload payload = event.readPayload(OrderCancelledPayload.class, objectMapper);
                 eventPublisher.publishEvent(payload);
                 log.info("[PaymentEventConsumer] Published OrderCancelledPayload locally. orderId={}",
                         payload.getOrderId());
             } else if (event.getEventType() == EventType.STOCK_DEDUCTION_FAILED) {
-                StockDeductionFailedPayload payload = objectMapper.readValue(event.getPayload(),
-                        StockDeductionFailedPayload.class);
+                StockDeductionFailedPayload payload = event.readPayload(StockDeductionFailedPayload.class, objectMapper);
                 eventPublisher.publishEvent(payload);
                 log.info("[PaymentEventConsumer] Published StockDeductionFailedPayload locally. orderId={}",
                         payload.getOrderId());
@@ -49,8 +53,9 @@ public class PaymentEventConsumer {
             }
             ack.acknowledge();
         } catch (JsonProcessingException e) {
-            log.error("[PaymentEventConsumer] Failed to deserialize payload for event type: {}", event.getEventType(),
-                    e);
+            // 예외를 던져 처리 선점(@IdempotentConsumer)을 롤백 → 재시도 후 DLT로 격리 (ack 없이 유실되지 않도록)
+            throw new IllegalStateException("[PaymentEventConsumer] Failed to deserialize payload: type="
+                    + event.getEventType() + ", id=" + event.getEventId(), e);
         }
     }
 }
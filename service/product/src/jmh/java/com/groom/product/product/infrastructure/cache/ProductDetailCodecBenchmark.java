@@ -0,0 +1,126 @@
+package com.groom.product.product.infrastructure.cache;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.groom.product.product.domain.enums.ProductStatus;
+import com.groom.product.product.domain.enums.VariantStatus;
+import com.groom.product.redis.RedisSerializerConfig;
+
+/**
+ * 상품 상세 캐시 값 직렬화 비교 (기존 JSON vs 바이너리 코덱)
+ *
+ * 옵션 2개(색상 3 x 사이즈 3) + Variant 9개 상품 기준
+ * 값 크기(bytes)는 Setup 단계에서 출력
+ */
+@State(Scope.Benchmark)
+public class ProductDetailCodecBenchmark {
+
+	private GenericJackson2JsonRedisSerializer jsonRedisSerializer;
+	private ProductDetailRedisSerializer binarySerializer;
+	private CachedProductDetail detail;
+	private byte[] jsonBytes;
+	private byte[] binaryBytes;
+
+	@Setup
+	public void setUp() {
+		jsonRedisSerializer = new RedisSerializerConfig().jsonRedisSerializer();
+		binarySerializer = new ProductDetailRedisSerializer(jsonRedisSerializer, true, true);
+		detail = sampleDetail();
+
+		jsonBytes = jsonRedisSerializer.serialize(detail);
+		binaryBytes = binarySerializer.serialize(detail);
+
+		System.out.printf("%n[value size] json=%d bytes, binary=%d bytes (%.1f%%)%n",
+			jsonBytes.length, binaryBytes.length, 100.0 * binaryBytes.length / jsonBytes.length);
+	}
+
+	@Benchmark
+	public byte[] encodeJson() {
+		return jsonRedisSerializer.serialize(detail);
+	}
+
+	@Benchmark
+	public byte[] encodeBinary() {
+		return binarySerializer.serialize(detail);
+	}
+
+	@Benchmark
+	public Object decodeJson() {
+		return jsonRedisSerializer.deserialize(jsonBytes);
+	}
+
+	@Benchmark
+	public CachedProductDetail decodeBinary() {
+		return binarySerializer.deserialize(binaryBytes);
+	}
+
+	@Benchmark
+	public CachedProductDetail decodeLegacyJsonThroughDualRead() {
+		return binarySerializer.deserialize(jsonBytes);
+	}
+
+	private static CachedProductDetail sampleDetail() {
+		String[] colors = {"Black", "White", "Navy"};
+		String[] sizes = {"S", "M", "L"};
+
+		List<CachedProductDetail.CachedOptionValue> colorValues = new ArrayList<>();
+		for (String color : colors) {
+			colorValues.add(CachedProductDetail.CachedOptionValue.builder()
+				.optionValueId(UUID.randomUUID()).value(color).build());
+		}
+		List<CachedProductDetail.CachedOptionValue> sizeValues = new ArrayList<>();
+		for (String size : sizes) {
+			sizeValues.add(CachedProductDetail.CachedOptionValue.builder()
+				.optionValueId(UUID.randomUUID()).value(size).build());
+		}
+
+		List<CachedProductDetail.CachedVariant> variants = new ArrayList<>();
+		for (CachedProductDetail.CachedOptionValue color : colorValues) {
+			for (CachedProductDetail.CachedOptionValue size : sizeValues) {
+				variants.add(CachedProductDetail.CachedVariant.builder()
+					.variantId(UUID.randomUUID())
+					.skuCode("SKU-" + color.getValue() + "-" + size.getValue())
+					.optionValueIds(List.of(color.getOptionValueId(), size.getOptionValueId()))
+					.optionName(color.getValue() + " / " + size.getValue())
+					.price(29900L)
+					.stockQuantity(120)
+					.status(VariantStatus.ON_SALE)
+					.build());
+			}
+		}
+
+		return CachedProductDetail.builder()
+			.productId(UUID.randomUUID())
+			.ownerId(UUID.randomUUID())
+			.categoryId(UUID.randomUUID())
+			.categoryName("티셔츠")
+			.categoryFullPath("패션 > 상의 > 티셔츠")
+			.title("오버핏 코튼 반팔 티셔츠")
+			.description("부드러운 코튼 100% 소재의 오버핏 반팔 티셔츠입니다. 사계절 이너로도 활용 가능합니다.")
+			.thumbnailUrl("https://cdn.example.com/products/thumbnail/overfit-tee.jpg")
+			.price(29900L)
+			.minPrice(29900L)
+			.maxPrice(29900L)
+			.stockQuantity(0)
+			.status(ProductStatus.ON_SALE)
+			.hasOptions(true)
+			.options(List.of(
+				CachedProductDetail.CachedOption.builder()
+					.optionId(UUID.randomUUID()).name("색상").sortOrder(1).values(colorValues).build(),
+				CachedProductDetail.CachedOption.builder()
+					.optionId(UUID.randomUUID()).name("사이즈").sortOrder(2).values(sizeValues).build()))
+			.variants(variants)
+			.createdAt(LocalDateTime.now())
+			.cachedAt(System.currentTimeMillis())
+			.build();
+	}
+}
@@ -0,0 +1,158 @@
+package com.groom.product.product.infrastructure.search;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * 상품 검색 쿼리 비교 (기존 LIKE '%keyword%' vs 전문 검색 + 트라이그램)
+ *
+ * PostgreSQL 컨테이너(Testcontainers)에 p_product 축약 테이블을 만들고 rows 건을 적재한 뒤
+ * ProductSearchSql.indexStatements()로 운영과 동일한 인덱스를 생성하여 측정 (Docker 필요)
+ *
+ * 각 쿼리의 실행 계획은 Setup 단계에서 출력
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProductSearchBenchmark {
+
+	private static final String BUYER_FILTER = " AND status = 'ON_SALE' AND deleted_at IS NULL";
+
+	private static final String LIKE_SQL = "SELECT product_id FROM p_product"
+		+ " WHERE (lower(title) LIKE ? OR lower(description) LIKE ?)" + BUYER_FILTER
+		+ " ORDER BY created_at DESC LIMIT 20";
+
+	private static final String FTS_SQL = "SELECT product_id FROM p_product"
+		+ " WHERE (" + ProductSearchSql.match("title", "description", "?") + " OR lower(title) LIKE ?)" + BUYER_FILTER
+		+ " ORDER BY " + ProductSearchSql.rank("title", "description", "?") + " DESC, created_at DESC LIMIT 20";
+
+	@Param({"1000000"})
+	public int rows;
+
+	@Param({"티셔츠", "cotton hoodie", "프리미엄 니트"})
+	public String keyword;
+
+	private PostgreSQLContainer<?> postgres;
+	private Connection connection;
+	private PreparedStatement likeStatement;
+	private PreparedStatement ftsStatement;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+		postgres.start();
+		connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE p_product ("
+				+ " product_id uuid PRIMARY KEY,"
+				+ " category_id uuid NOT NULL,"
+				+ " title varchar(200) NOT NULL,"
+				+ " description text,"
+				+ " price bigint,"
+				+ " status varchar(20) NOT NULL,"
+				+ " created_at timestamp NOT NULL,"
+				+ " deleted_at timestamp)");
+			statement.execute(seedSql(rows));
+			for (String ddl : ProductSearchSql.indexStatements()) {
+				statement.execute(ddl);
+			}
+			statement.execute("ANALYZE p_product");
+		}
+
+		likeStatement = connection.prepareStatement(LIKE_SQL);
+		ftsStatement = connection.prepareStatement(FTS_SQL);
+
+		printPlan("LIKE", LIKE_SQL, this::bindLike);
+		printPlan("FTS", FTS_SQL, this::bindFts);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		connection.close();
+		postgres.stop();
+	}
+
+	@Benchmark
+	public int likeScan() throws SQLException {
+		bindLike(likeStatement);
+		return count(likeStatement);
+	}
+
+	@Benchmark
+	public int fullTextSearch() throws SQLException {
+		bindFts(ftsStatement);
+		return count(ftsStatement);
+	}
+
+	private void bindLike(PreparedStatement statement) throws SQLException {
+		String pattern = "%" + keyword.toLowerCase() + "%";
+		statement.setString(1, pattern);
+		statement.setString(2, pattern);
+	}
+
+	private void bindFts(PreparedStatement statement) throws SQLException {
+		String tsQuery = ProductSearchSql.toTsQuery(keyword);
+		statement.setString(1, tsQuery);
+		statement.setString(2, "%" + keyword.toLowerCase() + "%");
+		statement.setString(3, tsQuery);
+	}
+
+	private static int count(PreparedStatement statement) throws SQLException {
+		int count = 0;
+		try (ResultSet resultSet = statement.executeQuery()) {
+			while (resultSet.next()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private void printPlan(String label, String sql, Binder binder) throws SQLException {
+		try (PreparedStatement explain = connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) " + sql)) {
+			binder.bind(explain);
+			System.out.printf("%n[%s plan, keyword=%s]%n", label, keyword);
+			try (ResultSet resultSet = explain.executeQuery()) {
+				while (resultSet.next()) {
+					System.out.println(resultSet.getString(1));
+				}
+			}
+		}
+	}
+
+	// 형용사 5 x 소재 7 x 품목 7 조합 제목 + 반복 설명문, 10%는 품절
+	private static String seedSql(int rows) {
+		return "INSERT INTO p_product"
+			+ " SELECT gen_random_uuid(),"
+			+ " ('00000000-0000-0000-0000-' || lpad((g % 50)::text, 12, '0'))::uuid,"
+			+ " (ARRAY['오버핏','슬림핏','베이직','프리미엄','빈티지'])[1 + g % 5]"
+			+ " || ' ' || (ARRAY['코튼','린넨','울','데님','니트','cotton','linen'])[1 + (g / 5) % 7]"
+			+ " || ' ' || (ARRAY['티셔츠','셔츠','팬츠','자켓','원피스','hoodie','sneakers'])[1 + (g / 35) % 7]"
+			+ " || ' ' || g,"
+			+ " repeat('부드러운 소재로 만든 데일리 아이템입니다. ', 1 + g % 4) || 'model-' || g,"
+			+ " 1000 + (g % 500) * 100,"
+			+ " CASE WHEN g % 10 = 0 THEN 'SOLD_OUT' ELSE 'ON_SALE' END,"
+			+ " now() - (g || ' seconds')::interval,"
+			+ " NULL"
+			+ " FROM generate_series(1, " + rows + ") g";
+	}
+
+	@FunctionalInterface
+	private interface Binder {
+		void bind(PreparedStatement statement) throws SQLException;
+	}
+}
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.groom.common.event.Type.EventType;
 import com.groom.common.event.envelope.EventEnvelope;
+import com.groom.common.infrastructure.kafka.idempotency.IdempotentConsumer;
 import com.groom.common.event.payload.OrderCancelledPayload;
 import com.groom.common.event.payload.PaymentCompletedPayload;
 import com.groom.common.event.payload.PaymentFailedPayload;
@@ -23,32 +24,36 @@ public class ProductEventConsumer {
     private final ApplicationEventPublisher eventPublisher;
     private final ObjectMapper objectMapper;
 
-    @KafkaListener(topics = "${event.kafka.topics.order:order-events}", groupId = "${spring.kafka.consumer.group-id}")
+    @IdempotentConsumer
+    @KafkaListener(
+            topics = "#{'${event.kafka.consumer.topics:order-events}'.split(',')}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            concurrency = "${event.kafka.consumer.listeners.product-saga.concurrency:${event.kafka.consumer.concurrency:1}}")
     public void handleEvent(EventEnvelope event, org.springframework.kafka.support.Acknowledgment ack) {
         log.debug("[ProductEventConsumer] Received event: type={}, id={}", event.getEventType(), event.getEventId());
 
         try {
             if (event.getEventType() == EventType.PAYMENT_COMPLETED) {
-                PaymentCompletedPayload payload = objectMapper.readValue(event.getPayload(),
-                        PaymentCompletedPayload.class);
+                PaymentCompletedPayload payload = event.readPayload(PaymentCompletedPayload.class, objectMapper);
                 eventPublisher.publishEvent(payload);
                 log.info("[ProductEventConsumer] Published PaymentCompletedPayload locally. orderId={}",
                         payload.getOrderId());
             } else if (event.getEventType() == EventType.PAYMENT_FAILED) {
-                PaymentFailedPayload payload = objectMapper.readValue(event.getPayload(), PaymentFailedPayload.class);
+                PaymentFailedPayload payload = event.readPayload(PaymentFailedPayload.class, objectMapper);
                 eventPublisher.publishEvent(payload);
                 log.info("[ProductEventConsumer] Published PaymentFailedPayload locally. orderId={}",
                         payload.getOrderId());
             } else if (event.getEventType() == EventType.ORDER_CANCELLED) {
-                OrderCancelledPayload payload = objectMapper.readValue(event.getPayload(), OrderCancelledPayload.class);
+                OrderCancelledPayload payload = event.readPayload(OrderCancelledPayload.class, objectMapper);
                 eventPublisher.publishEvent(payload);
                 log.info("[ProductEventConsumer] Published OrderCancelledPayload locally. orderId={}",
                         payload.getOrderId());
             }
             ack.acknowledge();
         } catch (JsonProcessingException e) {
-            log.error("[ProductEventConsumer] Failed to deserialize payload for event type: {}", event.getEventType(),
-                    e);
+            // 예외를 던져 처리 선점(@IdempotentConsumer)을 롤백 → 재시도 후 DLT로 격리 (ack 없이 유실되지 않도록)
+            throw new IllegalStateException("[ProductEventConsumer] Failed to deserialize payload: type="
+                    + event.getEventType() + ", id=" + event.getEventId(), e);
         }
     }
 }
@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import com.groom.product.product.domain.entity.Product;
 import com.groom.product.product.domain.entity.ProductVariant;
+import com.groom.product.product.infrastructure.cache.CachedProductDetail;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -27,7 +28,11 @@ public class ProductCartInfo {
 	private Integer stockQuantity; // 현재 시점의 실시간 재고
 	private boolean isAvailable;
 
-	public static ProductCartInfo from(Product product, ProductVariant variant, boolean isAvailable) {
+	/**
+	 * @param liveStock Redis 가용 재고 (null이면 엔티티 재고)
+	 */
+	public static ProductCartInfo from(Product product, ProductVariant variant, Integer liveStock, boolean isAvailable) {
+		Integer stockQuantity = variant != null ? variant.getStockQuantity() : product.getStockQuantity();
 		return ProductCartInfo.builder()
 			.productId(product.getId())
 			.ownerId(product.getOwnerId())
@@ -36,7 +41,27 @@ public class ProductCartInfo {
 			.optionName(variant != null ? variant.getOptionName() : null)
 			.thumbnailUrl(product.getThumbnailUrl())
 			.price(variant != null ? variant.getPrice() : product.getPrice())
-			.stockQuantity(variant != null ? variant.getStockQuantity() : product.getStockQuantity())
+			.stockQuantity(liveStock != null ? liveStock : stockQuantity)
+			.isAvailable(isAvailable)
+			.build();
+	}
+
+	/**
+	 * 상세 캐시로부터 생성
+	 * @param liveStock Redis 가용 재고 (null이면 캐시된 재고)
+	 */
+	public static ProductCartInfo from(CachedProductDetail detail, CachedProductDetail.CachedVariant variant,
+		Integer liveStock, boolean isAvailable) {
+		Integer stockQuantity = variant != null ? variant.getStockQuantity() : detail.getStockQuantity();
+		return ProductCartInfo.builder()
+			.productId(detail.getProductId())
+			.ownerId(detail.getOwnerId())
+			.variantId(variant != null ? variant.getVariantId() : null)
+			.productName(detail.getTitle())
+			.optionName(variant != null ? variant.getOptionName() : null)
+			.thumbnailUrl(detail.getThumbnailUrl())
+			.price(variant != null ? variant.getPrice() : detail.getPrice())
+			.stockQuantity(liveStock != null ? liveStock : stockQuantity)
 			.isAvailable(isAvailable)
 			.build();
 	}
@@ -0,0 +1,37 @@
+package com.groom.product.product.application.dto;
+
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 가점유 실패 라인 정보
+ * availableQuantity: 재고 키가 없으면 null
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class StockReserveFailure {
+
+	public static final String REASON_STOCK_NOT_FOUND = "STOCK_NOT_FOUND";
+	public static final String REASON_STOCK_NOT_ENOUGH = "STOCK_NOT_ENOUGH";
+
+	private UUID productId;
+	private UUID variantId;
+	private int requestedQuantity;
+	private Integer availableQuantity;
+	private String reason;
+
+	public static StockReserveFailure notFound(StockManagement item) {
+		return new StockReserveFailure(item.getProductId(), item.getVariantId(), item.getQuantity(),
+			null, REASON_STOCK_NOT_FOUND);
+	}
+
+	public static StockReserveFailure notEnough(StockManagement item, int availableQuantity) {
+		return new StockReserveFailure(item.getProductId(), item.getVariantId(), item.getQuantity(),
+			availableQuantity, REASON_STOCK_NOT_ENOUGH);
+	}
+}
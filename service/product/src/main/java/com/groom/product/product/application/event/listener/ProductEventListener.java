@@ -1,21 +1,28 @@
 package com.groom.product.product.application.event.listener;
 
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
-import com.groom.product.product.application.dto.StockManagement;
 import com.groom.common.event.payload.OrderCancelledPayload;
 import com.groom.common.event.payload.PaymentCompletedPayload;
 import com.groom.common.event.payload.PaymentFailedPayload;
 import com.groom.common.event.payload.StockDeductedPayload;
 import com.groom.common.event.payload.StockDeductionFailedPayload;
+import com.groom.common.infrastructure.kafka.idempotency.IdempotencyService;
 import com.groom.product.event.producer.ProductEventProducer;
+import com.groom.product.product.application.dto.StockManagement;
+import com.groom.product.product.application.dto.StockReserveFailure;
 import com.groom.product.product.application.service.ProductServiceV1;
 import com.groom.product.product.infrastructure.cache.StockRedisService;
+import com.groom.product.product.infrastructure.feign.OrderStockClient;
+import com.groom.product.product.infrastructure.feign.OrderStockClient.OrderStockItemsResponse;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,21 +32,31 @@ import lombok.extern.slf4j.Slf4j;
  * Payment, Order 도메인에서 발행한 이벤트를 수신하여 재고 처리를 수행합니다.
  *
  * 상품 정보(items)는 가점유 시점에 Redis에 저장된 매핑을 사용합니다.
+ * 결제 완료 시 매핑이 만료 해제된 경우에만 Order 서비스의 주문 상품 라인으로 복구합니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ProductEventListener {
 
+	private static final String STOCK_CONFIRM = "product-stock-confirm";
+
+	// 결제 완료 후에도 재고를 확정하지 않는 주문 상태
+	private static final Set<String> UNCONFIRMABLE_ORDER_STATUSES = Set.of("CANCELLED", "FAILED");
+
 	private final ProductServiceV1 productServiceV1;
 	private final ProductEventProducer productEventProducer;
 	private final StockRedisService stockRedisService;
+	private final IdempotencyService idempotencyService;
+	private final OrderStockClient orderStockClient;
 
 	/**
 	 * 결제 완료 이벤트 처리
 	 * - 가점유된 재고를 DB에서 확정 차감
 	 * - 성공 시 StockDeductedEvent 발행
 	 * - 실패 시 StockDeductionFailedEvent 발행
+	 * - 가점유 매핑이 만료 해제된 경우 주문 상품 라인으로 다시 가점유 후 확정 (불가 시 StockDeductionFailedEvent)
+	 * - 주문당 1회만 처리 (다른 eventId로 재발행된 결제 완료 이벤트도 이중 차감 불가)
 	 */
 	@Async("eventExecutor")
 	@EventListener
@@ -47,18 +64,22 @@ public class ProductEventListener {
 	public void handlePaymentCompleted(PaymentCompletedPayload event) {
 		log.info("[Product] PaymentCompletedEvent 수신 - orderId: {}", event.getOrderId());
 
-		// Redis에서 주문-상품 매핑 조회
-		List<StockManagement> stockManagements = stockRedisService.getOrderStockItems(event.getOrderId());
+		// 차감 결과와 같은 트랜잭션에서 주문 단위 선점
+		if (!idempotencyService.tryClaim(STOCK_CONFIRM, event.getOrderId().toString())) {
+			log.info("[Product] 이미 확정 차감된 주문 - orderId: {}", event.getOrderId());
+			return;
+		}
+
+		// 매핑 조회 + 만료 자동 해제 대상 제외를 원자적으로 처리 (매핑은 취소/환불 시 재고 복구를 위해 유지)
+		// 만료 해제가 먼저 선점했으면 빈 목록 → Redis 재고가 이미 복원됐으므로 다시 가점유해야 DB 차감과 맞음
+		List<StockManagement> stockManagements = stockRedisService.completeReservation(event.getOrderId());
 
 		if (stockManagements.isEmpty()) {
-			log.error("[Product] 주문-상품 매핑을 찾을 수 없음 - orderId: {}", event.getOrderId());
-			productEventProducer.publishStockDeductionFailed(
-					StockDeductionFailedPayload.builder()
-							.orderId(event.getOrderId())
-							.failReason("주문-상품 매핑을 찾을 수 없습니다.")
-							.failedItems(List.of())
-							.build());
-			return;
+			// 주문 상품 라인으로 다시 가점유 (실패 시 보상 이벤트 발행 후 빈 목록)
+			stockManagements = recoverReservation(event.getOrderId());
+			if (stockManagements.isEmpty()) {
+				return;
+			}
 		}
 
 		try {
@@ -78,7 +99,6 @@ public class ProductEventListener {
 							.orderId(event.getOrderId())
 							.items(deductedItems)
 							.build());
-			System.out.println("DEBUG: Called publishStockDeducted");
 
 			log.info("[Product] 재고 확정 차감 완료 - orderId: {}", event.getOrderId());
 
@@ -103,6 +123,88 @@ public class ProductEventListener {
 		}
 	}
 
+	/**
+	 * 만료 해제된 가점유 복구
+	 * - Order 서비스에서 주문 상품 라인을 조회해 같은 주문 ID로 다시 가점유 후 바로 예약 완료 처리
+	 * - 주문 조회 실패, 취소/실패된 주문, 재고 부족이면 주문 선점을 롤백하고 StockDeductionFailedEvent 발행
+	 *
+	 * @return 재가점유된 상품 목록 (보상 처리 시 빈 리스트)
+	 */
+	private List<StockManagement> recoverReservation(UUID orderId) {
+		log.warn("[Product] 주문-상품 매핑을 찾을 수 없음 (만료 해제됨?), 주문 상품 라인으로 재가점유 - orderId: {}", orderId);
+
+		OrderStockItemsResponse order;
+		try {
+			order = orderStockClient.getOrderStockItems(orderId);
+		} catch (Exception e) {
+			log.error("[Product] 주문 상품 라인 조회 실패 - orderId: {}, error: {}", orderId, e.getMessage());
+			compensate(orderId, "주문-상품 매핑을 찾을 수 없고 주문 조회에 실패했습니다.", List.of());
+			return List.of();
+		}
+
+		if (order == null || order.items() == null || order.items().isEmpty()) {
+			compensate(orderId, "주문-상품 매핑을 찾을 수 없습니다.", List.of());
+			return List.of();
+		}
+
+		List<StockManagement> items = order.items().stream()
+				.map(item -> StockManagement.of(item.productId(), item.variantId(), item.quantity()))
+				.toList();
+
+		if (UNCONFIRMABLE_ORDER_STATUSES.contains(order.status())) {
+			compensate(orderId, "재고를 확정할 수 없는 주문 상태입니다: " + order.status(),
+					toFailedItems(items, "ORDER_" + order.status()));
+			return List.of();
+		}
+
+		List<StockReserveFailure> failures = stockRedisService.reserveBulk(orderId, items);
+		if (!failures.isEmpty()) {
+			compensate(orderId, "가점유 만료 후 재고가 부족합니다.", failures.stream()
+					.map(failure -> StockDeductionFailedPayload.FailedItem.builder()
+							.productId(failure.getProductId())
+							.variantId(failure.getVariantId())
+							.requestedQuantity(failure.getRequestedQuantity())
+							.availableStock(failure.getAvailableQuantity() == null ? 0 : failure.getAvailableQuantity())
+							.reason(failure.getReason())
+							.build())
+					.toList());
+			return List.of();
+		}
+
+		// 재가점유로 다시 등록된 만료 인덱스에서 제외 (그 사이 결제 실패/취소로 선점됐으면 보상)
+		if (stockRedisService.completeReservation(orderId).isEmpty()) {
+			compensate(orderId, "재가점유한 예약이 확정 전에 해제되었습니다.", toFailedItems(items, "RESERVATION_CLAIMED"));
+			return List.of();
+		}
+
+		log.info("[Product] 만료 해제된 가점유 복구 완료 - orderId: {}, itemCount: {}", orderId, items.size());
+		return items;
+	}
+
+	private void compensate(UUID orderId, String failReason,
+			List<StockDeductionFailedPayload.FailedItem> failedItems) {
+		// 확정 차감 없이 주문 선점만 커밋되지 않도록 롤백 (실패 이벤트는 별도 트랜잭션으로 적재)
+		TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+		productEventProducer.publishStockDeductionFailed(
+				StockDeductionFailedPayload.builder()
+						.orderId(orderId)
+						.failReason(failReason)
+						.failedItems(failedItems)
+						.build());
+	}
+
+	private static List<StockDeductionFailedPayload.FailedItem> toFailedItems(List<StockManagement> items,
+			String reason) {
+		return items.stream()
+				.map(item -> StockDeductionFailedPayload.FailedItem.builder()
+						.productId(item.getProductId())
+						.variantId(item.getVariantId())
+						.requestedQuantity(item.getQuantity())
+						.reason(reason)
+						.build())
+				.toList();
+	}
+
 	/**
 	 * 결제 실패 이벤트 처리
 	 * - 가점유된 재고를 Redis에서 복구
@@ -114,11 +216,11 @@ public class ProductEventListener {
 		log.info("[Product] PaymentFailEvent 수신 - orderId: {}, failMessage: {}",
 				event.getOrderId(), event.getFailMessage());
 
-		// Redis에서 주문-상품 매핑 조회
-		List<StockManagement> stockManagements = stockRedisService.getOrderStockItems(event.getOrderId());
+		// Redis에서 주문-상품 매핑 선점 (만료 자동 해제와 중복 복구 방지)
+		List<StockManagement> stockManagements = stockRedisService.claimReservation(event.getOrderId());
 
 		if (stockManagements.isEmpty()) {
-			log.warn("[Product] 주문-상품 매핑을 찾을 수 없음 - orderId: {}", event.getOrderId());
+			log.warn("[Product] 주문-상품 매핑을 찾을 수 없음 (만료 해제됨?) - orderId: {}", event.getOrderId());
 			return;
 		}
 
@@ -126,9 +228,6 @@ public class ProductEventListener {
 			// Redis 가점유 재고 복구
 			productServiceV1.releaseStockBulk(stockManagements);
 
-			// 매핑 삭제
-			stockRedisService.deleteOrderStockItems(event.getOrderId());
-
 			log.info("[Product] 가점유 재고 복구 완료 - orderId: {}", event.getOrderId());
 
 		} catch (Exception e) {
@@ -147,8 +246,8 @@ public class ProductEventListener {
 		log.info("[Product] OrderCancelledEvent 수신 - orderId: {}, reason: {}",
 				event.getOrderId(), event.getReason());
 
-		// Redis에서 주문-상품 매핑 조회
-		List<StockManagement> stockManagements = stockRedisService.getOrderStockItems(event.getOrderId());
+		// Redis에서 주문-상품 매핑 선점 (만료 자동 해제와 중복 복구 방지)
+		List<StockManagement> stockManagements = stockRedisService.claimReservation(event.getOrderId());
 
 		if (stockManagements.isEmpty()) {
 			log.warn("[Product] 주문-상품 매핑을 찾을 수 없음 (이미 처리됨?) - orderId: {}", event.getOrderId());
@@ -159,9 +258,6 @@ public class ProductEventListener {
 			// Redis + DB 재고 복구
 			productServiceV1.restoreStockBulk(stockManagements);
 
-			// 매핑 삭제
-			stockRedisService.deleteOrderStockItems(event.getOrderId());
-
 			log.info("[Product] 재고 복구 완료 - orderId: {}", event.getOrderId());
 
 		} catch (Exception e) {
@@ -0,0 +1,42 @@
+package com.groom.product.product.application.event.listener;
+
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.groom.product.product.infrastructure.cache.ProductListCacheService;
+import com.groom.product.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.product.review.application.event.ProductRatingChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리뷰 평점 변경 → 상품 목록 평점 인덱스(product:list:rating:*) 갱신
+ *
+ * 리뷰 트랜잭션 커밋 후 실행 (트랜잭션 없이 발행된 경우 즉시 실행)
+ * 판매중이 아닌 상품은 인덱스에 없으므로 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRatingIndexListener {
+
+	private final ProductQueryRepository productQueryRepository;
+	private final ProductListCacheService listCacheService;
+
+	@Async("eventExecutor")
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handle(ProductRatingChangedEvent event) {
+		UUID categoryId = productQueryRepository.findCategoryIdForBuyer(event.productId());
+		if (categoryId == null) {
+			return;
+		}
+
+		listCacheService.updateRating(event.productId(), categoryId, event.avgRating());
+		log.debug("Product rating index updated: productId={}, avgRating={}", event.productId(), event.avgRating());
+	}
+}
@@ -1,6 +1,9 @@
 package com.groom.product.product.application.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
@@ -11,6 +14,7 @@ import com.groom.common.presentation.advice.ErrorCode;
 import com.groom.product.product.domain.entity.Category;
 import com.groom.product.product.domain.repository.CategoryRepository;
 import com.groom.product.product.domain.repository.ProductRepository;
+import com.groom.product.product.infrastructure.cache.ProductCountCacheService;
 import com.groom.product.product.presentation.dto.request.ReqCategoryCreateDtoV1;
 import com.groom.product.product.presentation.dto.request.ReqCategoryUpdateDtoV1;
 import com.groom.product.product.presentation.dto.response.ResCategoryDtoV1;
@@ -24,14 +28,16 @@ public class CategoryServiceV1 {
 
 	private final CategoryRepository categoryRepository;
 	private final ProductRepository productRepository;
+	private final ProductCountCacheService countCacheService;
 
 	/**
-	 * 전체 카테고리 목록 조회 (계층 구조)
+	 * 전체 카테고리 목록 조회 (계층 구조, 하위 포함 상품 수)
 	 */
 	public List<ResCategoryDtoV1> getAllCategories() {
 		List<Category> rootCategories = categoryRepository.findRootCategoriesWithChildren();
+		Map<UUID, Long> productCounts = countCacheService.getTreeCounts(collectIds(rootCategories, true));
 		return rootCategories.stream()
-			.map(ResCategoryDtoV1::fromWithChildren)
+			.map(category -> ResCategoryDtoV1.fromWithChildren(category, productCounts))
 			.toList();
 	}
 
@@ -41,8 +47,9 @@ public class CategoryServiceV1 {
 	public List<ResCategoryDtoV1> getRootCategories() {
 		List<Category> categories = categoryRepository
 			.findByParentIsNullAndIsActiveTrueOrderBySortOrder();
+		Map<UUID, Long> productCounts = countCacheService.getTreeCounts(collectIds(categories, false));
 		return categories.stream()
-			.map(ResCategoryDtoV1::from)
+			.map(category -> ResCategoryDtoV1.from(category, productCounts))
 			.toList();
 	}
 
@@ -53,8 +60,9 @@ public class CategoryServiceV1 {
 		validateCategoryExists(parentId);
 		List<Category> categories = categoryRepository
 			.findByParentIdAndIsActiveTrueOrderBySortOrder(parentId);
+		Map<UUID, Long> productCounts = countCacheService.getTreeCounts(collectIds(categories, false));
 		return categories.stream()
-			.map(ResCategoryDtoV1::from)
+			.map(category -> ResCategoryDtoV1.from(category, productCounts))
 			.toList();
 	}
 
@@ -63,7 +71,8 @@ public class CategoryServiceV1 {
 	 */
 	public ResCategoryDtoV1 getCategory(UUID categoryId) {
 		Category category = findActiveCategoryById(categoryId);
-		return ResCategoryDtoV1.fromWithChildren(category);
+		Map<UUID, Long> productCounts = countCacheService.getTreeCounts(collectIds(List.of(category), true));
+		return ResCategoryDtoV1.fromWithChildren(category, productCounts);
 	}
 
 	/**
@@ -74,6 +83,19 @@ public class CategoryServiceV1 {
 			.orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
 	}
 
+	// 상품 수 조회 대상 카테고리 ID (withChildren이면 활성 하위 카테고리까지)
+	private Collection<UUID> collectIds(List<Category> categories, boolean withChildren) {
+		List<UUID> ids = new ArrayList<>();
+		for (Category category : categories) {
+			ids.add(category.getId());
+			if (withChildren) {
+				ids.addAll(collectIds(
+					category.getChildren().stream().filter(Category::getIsActive).toList(), true));
+			}
+		}
+		return ids;
+	}
+
 	private void validateCategoryExists(UUID categoryId) {
 		if (!categoryRepository.existsById(categoryId)) {
 			throw new CustomException(ErrorCode.CATEGORY_NOT_FOUND);
@@ -16,6 +16,7 @@ import com.groom.product.product.domain.entity.ProductOption;
 import com.groom.product.product.domain.entity.ProductOptionValue;
 import com.groom.product.product.domain.repository.ProductOptionRepository;
 import com.groom.product.product.domain.repository.ProductRepository;
+import com.groom.product.product.infrastructure.cache.ProductDetailCacheService;
 import com.groom.product.product.presentation.dto.request.ReqOptionUpdateDtoV1;
 import com.groom.product.product.presentation.dto.response.ResOptionDtoV1;
 
@@ -28,6 +29,7 @@ public class ProductOptionServiceV1 {
 
 	private final ProductRepository productRepository;
 	private final ProductOptionRepository productOptionRepository;
+	private final ProductDetailCacheService detailCacheService;
 
 	/**
 	 * 옵션 전체 수정 (PUT) - 기존 옵션 삭제 후 새로 생성
@@ -69,6 +71,9 @@ public class ProductOptionServiceV1 {
 		// 저장 및 ID 생성을 위해 Flush
 		productRepository.saveAndFlush(product);
 
+		// 옵션 구성 변경 → 상세 캐시 무효화
+		detailCacheService.evictAfterCommit(productId);
+
 		// 저장된 옵션 목록 반환 (ID 포함)
 		return product.getOptions().stream()
 			.map(ResOptionDtoV1::from)
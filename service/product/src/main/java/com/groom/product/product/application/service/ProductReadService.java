@@ -1,14 +1,18 @@
 package com.groom.product.product.application.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.groom.product.product.domain.entity.Product;
 import com.groom.product.product.domain.enums.ProductSortType;
@@ -17,7 +21,10 @@ import com.groom.product.product.domain.repository.ProductRepository;
 import com.groom.product.product.infrastructure.cache.CachedProductDetail;
 import com.groom.product.product.infrastructure.cache.ProductDetailCacheService;
 import com.groom.product.product.infrastructure.cache.ProductListCacheService;
+import com.groom.product.product.infrastructure.cache.SingleFlightLoader;
 import com.groom.product.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.product.product.infrastructure.repository.ProductSearchCursor;
+import com.groom.product.product.presentation.dto.response.ResProductCursorPageDtoV1;
 import com.groom.product.product.presentation.dto.response.ResProductDetailDtoV1;
 import com.groom.product.product.presentation.dto.response.ResProductSearchDtoV1;
 
@@ -28,8 +35,13 @@ import lombok.extern.slf4j.Slf4j;
  * 상품 조회 전용 서비스 (Redis Read + DB Fallback)
  *
  * [조회 흐름]
- * 1. Redis 캐시 조회 (ZRANGE + MGET)
- * 2. 캐시 미스 시 DB 조회 → 캐시 적재 (Lazy Loading)
+ * 1. Redis 캐시 조회 (ZRANGE + MGET, 최신순/가격순/평점순 인덱스)
+ * 2. 캐시 미스 시 DB 조회 → 캐시 적재 (Lazy Loading, SingleFlightLoader로 동시 미스 병합)
+ *
+ * [커서 조회 흐름 - 무한 스크롤]
+ * 1. 단순 최신순: 커서 인덱스(판매중 상품, createdAt 마이크로초 + productId 순)에서 커서 위치부터 조회
+ *    인덱스 크기가 판매중 상품 수보다 작으면 (지연 적재 중이라 빈 구간이 있을 수 있음) DB 커서 조회로 대체
+ * 2. 검색/필터/가격순: DB 커서 조회 (OFFSET/COUNT 없음)
  */
 @Slf4j
 @Service
@@ -40,33 +52,133 @@ public class ProductReadService {
 	private final ProductDetailCacheService detailCacheService;
 	private final ProductQueryRepository productQueryRepository;
 	private final ProductRepository productRepository;
-	private final ConcurrentHashMap<String, Object> mutexMap = new ConcurrentHashMap<>();
+	private final SingleFlightLoader singleFlightLoader;
+	private final PlatformTransactionManager transactionManager;
+
+	// 상세 캐시 재적재 기준 (이벤트 기반 갱신 누락 대비, 경과 시 Stale-While-Revalidate)
+	@Value("${product.cache.detail.soft-ttl-seconds:600}")
+	private long detailSoftTtlSeconds;
 
 	/**
 	 * 카테고리별 상품 목록 조회 (Redis + DB Fallback)
+	 *
+	 * @param sortType NEWEST/PRICE_ASC/PRICE_DESC/RATING 모두 캐시 인덱스에서 조회 (RELEVANCE, null은 최신순)
+	 */
+	@Transactional(readOnly = true)
+	public Page<ResProductSearchDtoV1> getProductList(UUID categoryId, ProductSortType sortType, Pageable pageable) {
+		ProductSortType listSortType = toListSortType(sortType);
+		Page<ResProductSearchDtoV1> cached = readListFromCache(categoryId, listSortType, pageable);
+		if (cached != null) {
+			return cached;
+		}
+
+		// 캐시 미스 → 동일 페이지 동시 요청은 한 번만 DB 조회 (인스턴스 내부 + Pod 간)
+		String loadKey = "list:" + categoryId + ":" + listSortType.name() + ":"
+			+ pageable.getPageNumber() + ":" + pageable.getPageSize();
+		return singleFlightLoader.load(
+			loadKey,
+			() -> readListFromCache(categoryId, listSortType, pageable),
+			() -> {
+				log.debug("Cache miss for product list: categoryId={}, sortType={}, page={}",
+					categoryId, listSortType, pageable.getPageNumber());
+				return loadListFromDbAndCache(categoryId, listSortType, pageable);
+			}
+		);
+	}
+
+	/**
+	 * 상품 상세 조회 (Redis + DB Fallback)
 	 */
 	@Transactional(readOnly = true)
-	public Page<ResProductSearchDtoV1> getProductList(UUID categoryId, Pageable pageable) {
-		int page = pageable.getPageNumber();
-		int size = pageable.getPageSize();
-		long offset = (long) page * size;
-
-		// 1. ZRANGE로 ID 리스트 조회
-		List<UUID> productIds = listCacheService.getProductIds(categoryId, offset, size);
-
-		// 캐시 미스 → DB 조회 후 캐시 적재
-		if (productIds.isEmpty()) {
-			String lockKey = categoryId + ":" + page;
-			synchronized (mutexMap.computeIfAbsent(lockKey, k -> new Object())) {
-				// Double Check
-				productIds = listCacheService.getProductIds(categoryId, offset, size);
-				if (productIds.isEmpty()) {
-					log.debug("Cache miss for product list: categoryId={}, page={}", categoryId, page);
-					return loadListFromDbAndCache(categoryId, pageable);
+	public ResProductDetailDtoV1 getProductDetail(UUID productId) {
+		CachedProductDetail cached = detailCacheService.get(productId);
+
+		// 캐시 미스 → 동일 상품 동시 요청은 한 번만 DB 조회
+		if (cached == null) {
+			return singleFlightLoader.load(
+				"detail:" + productId,
+				() -> {
+					CachedProductDetail filled = detailCacheService.get(productId);
+					return filled != null ? filled.toResponseDto() : null;
+				},
+				() -> {
+					log.debug("Cache miss for product detail: productId={}", productId);
+					return loadDetailFromDbAndCache(productId);
 				}
+			);
+		}
+
+		// 오래된 캐시 → 기존 값 응답 + 백그라운드 재적재
+		if (isStale(cached)) {
+			singleFlightLoader.refreshAsync("detail:" + productId,
+				() -> readOnlyTransaction().execute(status -> loadDetailFromDbAndCache(productId)));
+		}
+
+		return cached.toResponseDto();
+	}
+
+	/**
+	 * 상품 목록 커서 조회 (무한 스크롤, 페이지 깊이와 무관하게 일정한 비용)
+	 *
+	 * @param cursorToken 이전 응답의 nextCursor (null이면 첫 페이지)
+	 * @param withTotal true일 때만 전체 개수 계산
+	 */
+	@Transactional(readOnly = true)
+	public ResProductCursorPageDtoV1 getProductListByCursor(
+		UUID categoryId,
+		String keyword,
+		Long minPrice,
+		Long maxPrice,
+		ProductSortType sortType,
+		String cursorToken,
+		int size,
+		boolean withTotal
+	) {
+		ProductSearchCursor cursor = ProductSearchCursor.decode(cursorToken, sortType);
+		boolean isSimpleQuery = (keyword == null || keyword.isBlank())
+			&& minPrice == null
+			&& maxPrice == null
+			&& (sortType == null || sortType == ProductSortType.NEWEST);
+
+		Long totalCount = null;
+		if (withTotal) {
+			totalCount = isSimpleQuery
+				? getTotalCount(categoryId)
+				: productQueryRepository.countProductsForBuyer(keyword, categoryId, minPrice, maxPrice);
+		}
+
+		if (isSimpleQuery) {
+			ResProductCursorPageDtoV1 cached = readCursorPageFromCache(categoryId, cursor, size, totalCount);
+			if (cached != null) {
+				return cached;
 			}
 		}
 
+		return loadCursorPageFromDb(
+			categoryId, keyword, minPrice, maxPrice, sortType, cursor, size, isSimpleQuery, totalCount);
+	}
+
+	/**
+	 * 캐시에서 목록 조회 (ZRANGE + ZCARD + 상품 수 파이프라인 → MGET)
+	 * @return 캐시 미스 시 null (가격/평점 인덱스가 판매중 상품 수만큼 채워지지 않은 경우 포함)
+	 */
+	private Page<ResProductSearchDtoV1> readListFromCache(UUID categoryId, ProductSortType sortType, Pageable pageable) {
+		long offset = (long) pageable.getPageNumber() * pageable.getPageSize();
+
+		// 1. ZRANGE로 ID 리스트 조회 (인덱스 크기, 상품 수와 한 번에)
+		ProductListCacheService.ListPage page = listCacheService.getPage(
+			categoryId, sortType, offset, pageable.getPageSize());
+		if (page == null || page.productIds().isEmpty()) {
+			return null;
+		}
+
+		// 가격/평점 인덱스는 일부만 적재된 상태면 순서가 틀리므로 DB 조회
+		long totalCount = getTotalCount(categoryId, page.totalCount());
+		if (sortType != ProductSortType.NEWEST && page.indexSize() < totalCount) {
+			return null;
+		}
+		List<UUID> productIds = page.productIds();
+
 		// 2. MGET으로 상세 일괄 조회
 		List<CachedProductDetail> details = detailCacheService.multiGetAsList(productIds);
 
@@ -76,58 +188,147 @@ public class ProductReadService {
 			.map(this::toSearchDto)
 			.toList();
 
-		// 4. 전체 개수 조회
-		long totalCount = listCacheService.getCachedTotalCount(categoryId);
-		if (totalCount == -1) {
-			totalCount = productQueryRepository.countProductsForBuyer(categoryId);
-			listCacheService.setTotalCount(categoryId, totalCount);
+		return new PageImpl<>(content, pageable, totalCount);
+	}
+
+	/**
+	 * 캐시에서 커서 페이지 조회 (Lua: ZREVRANK/ZREVRANGEBYSCORE + ZCARD + 상품 수 → MGET)
+	 * @return 커서 인덱스가 판매중 상품 수만큼 채워지지 않았거나 상세 조회에 실패하면 null
+	 */
+	private ResProductCursorPageDtoV1 readCursorPageFromCache(
+		UUID categoryId, ProductSearchCursor cursor, int size, Long totalCount) {
+		ProductListCacheService.CursorPage page = listCacheService.getCursorPage(
+			categoryId,
+			cursor != null ? cursor.getCreatedAtScore() : null,
+			cursor != null ? cursor.getProductId() : null,
+			size + 1);
+		if (page == null) {
+			return null;
 		}
 
-		return new PageImpl<>(content, pageable, totalCount);
+		// 일부만 적재된 인덱스는 중간이 비어 있을 수 있으므로 DB 조회
+		long onSaleCount = totalCount != null ? totalCount : getTotalCount(categoryId, page.totalCount());
+		if (page.indexSize() < onSaleCount) {
+			return null;
+		}
+
+		Map<UUID, Long> scoredIds = page.productIds();
+		boolean hasNext = scoredIds.size() > size;
+		List<UUID> productIds = scoredIds.keySet().stream().limit(size).toList();
+		List<CachedProductDetail> details = detailCacheService.multiGetAsList(productIds);
+		if (details.size() != productIds.size()) {
+			return null;
+		}
+
+		List<ResProductSearchDtoV1> content = details.stream()
+			.filter(Objects::nonNull)
+			.map(this::toSearchDto)
+			.toList();
+
+		// 다음 커서: 인덱스 score (createdAt 마이크로초, 상세 캐시가 없어도 인덱스 순서와 같은 위치)
+		String nextCursor = null;
+		if (hasNext) {
+			UUID lastId = productIds.get(size - 1);
+			nextCursor = ProductSearchCursor.ofCreatedAtScore(scoredIds.get(lastId), lastId).encode();
+		}
+
+		return ResProductCursorPageDtoV1.of(content, nextCursor, totalCount);
 	}
 
 	/**
-	 * 상품 상세 조회 (Redis + DB Fallback)
+	 * DB에서 커서 페이지 조회 (size+1개 조회로 다음 페이지 여부 판단)
+	 * @param cacheResult 단순 최신순 조회면 조회 결과를 목록/상세 캐시에 적재
 	 */
-	@Transactional(readOnly = true)
-	public ResProductDetailDtoV1 getProductDetail(UUID productId) {
-		CachedProductDetail cached = detailCacheService.get(productId);
+	private ResProductCursorPageDtoV1 loadCursorPageFromDb(
+		UUID categoryId,
+		String keyword,
+		Long minPrice,
+		Long maxPrice,
+		ProductSortType sortType,
+		ProductSearchCursor cursor,
+		int size,
+		boolean cacheResult,
+		Long totalCount
+	) {
+		List<Product> products = productQueryRepository.searchProductsForBuyerAfter(
+			keyword, categoryId, minPrice, maxPrice, sortType, cursor, size + 1);
 
-		// 캐시 미스 → DB 조회 후 캐시 적재
-		if (cached == null) {
-			log.debug("Cache miss for product detail: productId={}", productId);
-			return loadDetailFromDbAndCache(productId);
+		boolean hasNext = products.size() > size;
+		List<Product> pageProducts = hasNext ? products.subList(0, size) : products;
+
+		if (cacheResult) {
+			cacheProducts(pageProducts);
 		}
 
-		return cached.toResponseDto();
+		String nextCursor = hasNext
+			? ProductSearchCursor.of(sortType, pageProducts.get(pageProducts.size() - 1)).encode()
+			: null;
+
+		return ResProductCursorPageDtoV1.of(
+			pageProducts.stream().map(ResProductSearchDtoV1::from).toList(), nextCursor, totalCount);
 	}
 
 	/**
-	 * DB에서 목록 조회 후 캐시 적재 (Lazy Loading)
+	 * 카테고리별 판매중 상품 수 (ProductCountCacheService가 증분 유지, ProductCountReconciler가 주기 보정)
+	 * 개수 키가 아직 없을 때(기동 직후 재집계 전, Redis 초기화 직후)만 DB 집계 후 캐시
 	 */
-	private Page<ResProductSearchDtoV1> loadListFromDbAndCache(UUID categoryId, Pageable pageable) {
-		// DB 조회
-		Page<Product> products = productQueryRepository.searchProductsForBuyer(
-			null, categoryId, null, null, ProductSortType.NEWEST, pageable
-		);
+	private long getTotalCount(UUID categoryId) {
+		return getTotalCount(categoryId, listCacheService.getCachedTotalCount(categoryId));
+	}
 
-		// Total Count 캐싱
-		listCacheService.setTotalCount(categoryId, products.getTotalElements());
+	/**
+	 * @param cachedTotalCount 이미 조회한 상품 수 캐시 값 (없으면 -1)
+	 */
+	private long getTotalCount(UUID categoryId, long cachedTotalCount) {
+		if (cachedTotalCount != -1) {
+			return cachedTotalCount;
+		}
+		long totalCount = productQueryRepository.countProductsForBuyer(categoryId);
+		listCacheService.setTotalCount(categoryId, totalCount);
+		return totalCount;
+	}
+
+	/**
+	 * DB에서 목록 조회 후 캐시 적재 (Lazy Loading)
+	 */
+	private Page<ResProductSearchDtoV1> loadListFromDbAndCache(
+		UUID categoryId, ProductSortType sortType, Pageable pageable) {
+		// DB 조회 (개수는 증분 유지되는 상품 수 캐시 사용 → COUNT 쿼리 없음)
+		List<Product> products = productQueryRepository.findProductsForBuyer(categoryId, sortType, pageable);
+		long totalCount = getTotalCount(categoryId);
 
 		if (products.isEmpty()) {
-			return Page.empty(pageable);
+			return new PageImpl<>(List.of(), pageable, totalCount);
 		}
 
 		// 캐시 적재 (비동기로 처리해도 됨)
+		cacheProducts(products);
+
+		log.info("Loaded {} products from DB and cached: categoryId={}, sortType={}",
+			products.size(), categoryId, sortType);
+
+		// DTO 변환
+		return new PageImpl<>(products.stream().map(ResProductSearchDtoV1::from).toList(), pageable, totalCount);
+	}
+
+	/**
+	 * 목록(최신순/가격/평점 인덱스) + 상세 캐시 적재 (평점은 일괄 조회)
+	 */
+	private void cacheProducts(List<Product> products) {
+		Map<UUID, Double> avgRatings = productQueryRepository.findAvgRatings(
+			products.stream().map(Product::getId).toList());
 		products.forEach(product -> {
-			listCacheService.addProduct(product);
+			listCacheService.addProduct(product, avgRatings.getOrDefault(product.getId(), 0.0));
 			detailCacheService.put(product);
 		});
+	}
 
-		log.info("Loaded {} products from DB and cached: categoryId={}", products.getNumberOfElements(), categoryId);
-
-		// DTO 변환
-		return products.map(ResProductSearchDtoV1::from);
+	// 관련도는 검색어가 있어야 의미가 있으므로 목록 캐시에서는 최신순으로 처리
+	private static ProductSortType toListSortType(ProductSortType sortType) {
+		if (sortType == null || sortType == ProductSortType.RELEVANCE) {
+			return ProductSortType.NEWEST;
+		}
+		return sortType;
 	}
 
 	/**
@@ -151,8 +352,7 @@ public class ProductReadService {
 		productRepository.findByIdWithVariantsOnly(productId);
 
 		// 캐시 적재
-		listCacheService.addProduct(product);
-		detailCacheService.put(product);
+		cacheProducts(List.of(product));
 
 		log.info("Loaded product from DB and cached: productId={}", productId);
 
@@ -166,6 +366,16 @@ public class ProductReadService {
 		return detailCacheService.exists(productId);
 	}
 
+	private boolean isStale(CachedProductDetail cached) {
+		return System.currentTimeMillis() - cached.getCachedAt() > detailSoftTtlSeconds * 1000;
+	}
+
+	private TransactionTemplate readOnlyTransaction() {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setReadOnly(true);
+		return template;
+	}
+
 	private ResProductSearchDtoV1 toSearchDto(CachedProductDetail detail) {
 		return ResProductSearchDtoV1.builder()
 			.productId(detail.getProductId())
@@ -3,7 +3,6 @@ package com.groom.product.product.application.service;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -18,6 +17,7 @@ import com.groom.common.presentation.advice.ErrorCode;
 import com.groom.common.util.SecurityUtil;
 import com.groom.product.product.application.dto.ProductCartInfo;
 import com.groom.product.product.application.dto.StockManagement;
+import com.groom.product.product.application.dto.StockReserveFailure;
 import com.groom.product.product.domain.entity.Category;
 import com.groom.product.product.domain.entity.Product;
 import com.groom.product.product.domain.entity.ProductOption;
@@ -28,8 +28,11 @@ import com.groom.product.product.domain.enums.ProductStatus;
 import com.groom.product.product.domain.enums.VariantStatus;
 import com.groom.product.product.domain.repository.ProductRepository;
 import com.groom.product.product.domain.repository.ProductVariantRepository;
+import com.groom.product.product.infrastructure.cache.CachedProductDetail;
+import com.groom.product.product.infrastructure.cache.ProductCountCacheService;
 import com.groom.product.product.infrastructure.cache.ProductDetailCacheService;
 import com.groom.product.product.infrastructure.cache.ProductListCacheService;
+import com.groom.product.product.infrastructure.cache.StockCacheKey;
 import com.groom.product.product.infrastructure.cache.StockRedisService;
 import com.groom.product.product.infrastructure.repository.ProductQueryRepository;
 import com.groom.product.product.presentation.dto.request.ReqProductCreateDtoV1;
@@ -42,7 +45,9 @@ import com.groom.product.product.presentation.dto.response.ResProductListDtoV1;
 import com.groom.product.product.presentation.dto.response.ResProductSearchDtoV1;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -54,6 +59,7 @@ public class ProductServiceV1 {
 	private final CategoryServiceV1 categoryService;
 	private final ProductListCacheService listCacheService;
 	private final ProductDetailCacheService detailCacheService;
+	private final ProductCountCacheService countCacheService;
 	private final StockRedisService stockRedisService;
 
 	/**
@@ -155,8 +161,9 @@ public class ProductServiceV1 {
 		}
 
 		// 캐시에 추가
-		listCacheService.addProduct(savedProduct);
+		listCacheService.addProduct(savedProduct, 0.0);
 		detailCacheService.put(savedProduct);
+		countCacheService.applyTransition(category, false, category, ProductCountCacheService.isCounted(savedProduct));
 
 		return ResProductCreateDtoV1.from(savedProduct);
 	}
@@ -214,7 +221,9 @@ public class ProductServiceV1 {
 		Product product = findProductById(productId);
 		validateProductOwnership(product, ownerId);
 
-		UUID oldCategoryId = product.getCategory().getId();
+		Category oldCategory = product.getCategory();
+		UUID oldCategoryId = oldCategory.getId();
+		boolean wasCounted = ProductCountCacheService.isCounted(product);
 
 		Category category = null;
 		if (request.getCategoryId() != null) {
@@ -237,6 +246,13 @@ public class ProductServiceV1 {
 			// 카테고리 변경 시 목록 캐시 이동
 			listCacheService.moveProduct(product, oldCategoryId);
 		}
+		boolean sortIndexChanged = syncSortIndexes(product, wasCounted);
+		if (!sortIndexChanged && wasCounted) {
+			// 판매중 유지 → 가격 인덱스 점수만 갱신
+			listCacheService.updatePrice(product);
+		}
+		countCacheService.applyTransition(oldCategory, wasCounted,
+			product.getCategory(), ProductCountCacheService.isCounted(product));
 
 		return ResProductDtoV1.from(product);
 	}
@@ -252,11 +268,13 @@ public class ProductServiceV1 {
 		validateProductOwnership(product, ownerId);
 
 		UUID categoryId = product.getCategory().getId();
+		boolean wasCounted = ProductCountCacheService.isCounted(product);
 		product.softDelete(ownerId);
 
 		// 캐시에서 제거
 		listCacheService.removeProduct(productId, categoryId);
 		detailCacheService.delete(productId);
+		countCacheService.applyTransition(product.getCategory(), wasCounted, product.getCategory(), false);
 	}
 
 	/**
@@ -329,11 +347,13 @@ public class ProductServiceV1 {
 	@Transactional
 	public ResProductDtoV1 suspendProduct(UUID productId, ReqProductSuspendDtoV1 request) {
 		Product product = findProductById(productId);
+		boolean wasCounted = ProductCountCacheService.isCounted(product);
 		product.suspend(request.getReason());
 
 		// 캐시에서 제거 (정지된 상품은 목록에서 미노출)
 		listCacheService.removeProduct(productId, product.getCategory().getId());
 		detailCacheService.delete(productId);
+		countCacheService.applyTransition(product.getCategory(), wasCounted, product.getCategory(), false);
 
 		return ResProductDtoV1.from(product);
 	}
@@ -344,15 +364,39 @@ public class ProductServiceV1 {
 	@Transactional
 	public ResProductDtoV1 restoreProduct(UUID productId) {
 		Product product = findProductById(productId);
+		boolean wasCounted = ProductCountCacheService.isCounted(product);
 		product.restore();
 
 		// 캐시에 다시 추가
-		listCacheService.addProduct(product);
+		listCacheService.addProduct(product, findAvgRating(productId));
 		detailCacheService.put(product);
+		countCacheService.applyTransition(product.getCategory(), wasCounted,
+			product.getCategory(), ProductCountCacheService.isCounted(product));
 
 		return ResProductDtoV1.from(product);
 	}
 
+	/**
+	 * 판매중 여부가 바뀌었으면 가격/평점 인덱스에 추가/제거
+	 * @return 인덱스를 변경했으면 true
+	 */
+	private boolean syncSortIndexes(Product product, boolean wasCounted) {
+		boolean isCounted = ProductCountCacheService.isCounted(product);
+		if (wasCounted && !isCounted) {
+			listCacheService.removeFromSortIndexes(product.getId(), product.getCategory().getId());
+			return true;
+		}
+		if (!wasCounted && isCounted) {
+			listCacheService.addToSortIndexes(product, findAvgRating(product.getId()));
+			return true;
+		}
+		return false;
+	}
+
+	private double findAvgRating(UUID productId) {
+		return productQueryRepository.findAvgRatings(List.of(productId)).getOrDefault(productId, 0.0);
+	}
+
 	/**
 	 * 상품 소유권 검증
 	 */
@@ -364,57 +408,146 @@ public class ProductServiceV1 {
 
 	/**
 	 * 장바구니 목록 조회를 위한 상품 정보 Bulk 조회
+	 *
+	 * 1. 상세 캐시 + 실시간 재고(stock:*)를 파이프라인 1회로 조회
+	 * 2. 상세 캐시가 없거나 Variant를 찾지 못한 항목만 DB 조회 후 상세 캐시 적재 (판매중 상품만)
+	 * 재고는 Redis 가용 재고 우선, 재고 키가 없으면 캐시/엔티티 재고
 	 */
 	public List<ProductCartInfo> getProductCartInfos(List<? extends StockManagement> items) {
+		return getProductCartInfos(items, false);
+	}
+
+	/**
+	 * 상품 정보 Bulk 조회
+	 * @param fresh true면 상세 캐시를 건너뛰고 DB 기준으로 조회 (체크아웃 견적처럼 가격을 확정하는 호출용), 재고는 항상 Redis 실시간 값
+	 */
+	public List<ProductCartInfo> getProductCartInfos(List<? extends StockManagement> items, boolean fresh) {
 		if (items == null || items.isEmpty()) {
 			return new ArrayList<>();
 		}
 
-		// 1. ID 추출
-		Set<UUID> productIds = items.stream()
+		// 1. 캐시 조회
+		List<UUID> productIds = items.stream()
 			.map(StockManagement::getProductId)
-			.collect(Collectors.toSet());
+			.distinct()
+			.toList();
+		List<String> stockKeys = items.stream()
+			.map(item -> StockCacheKey.stockKey(item.getProductId(), item.getVariantId()))
+			.distinct()
+			.toList();
+
+		ProductDetailCacheService.DetailsWithStock cached =
+			detailCacheService.multiGetWithStock(fresh ? List.of() : productIds, stockKeys);
+
+		ProductCartInfo[] resolved = new ProductCartInfo[items.size()];
+		List<Integer> missIndexes = new ArrayList<>();
+		for (int i = 0; i < items.size(); i++) {
+			StockManagement item = items.get(i);
+			resolved[i] = fromCache(cached.details().get(item.getProductId()), item, cached.stocks());
+			if (resolved[i] == null) {
+				missIndexes.add(i);
+			}
+		}
 
-		Set<UUID> variantIds = items.stream()
-			.filter(item -> item.getVariantId() != null)
-			.map(StockManagement::getVariantId)
-			.collect(Collectors.toSet());
+		// 2. 캐시 미스만 DB 조회
+		if (!missIndexes.isEmpty()) {
+			Map<UUID, Product> productMap = loadProductsAndCache(missIndexes.stream()
+				.map(i -> items.get(i).getProductId())
+				.distinct()
+				.toList());
 
-		// 2. Bulk 조회 (삭제된 상품 제외, 빈 리스트 체크)
-		Map<UUID, Product> productMap = productRepository.findByIdInAndNotDeleted(new ArrayList<>(productIds)).stream()
-			.collect(Collectors.toMap(Product::getId, Function.identity()));
+			for (int i : missIndexes) {
+				resolved[i] = fromProduct(productMap.get(items.get(i).getProductId()), items.get(i), cached.stocks());
+			}
+		}
 
-		Map<UUID, ProductVariant> variantMap = variantIds.isEmpty()
-			? Map.of()
-			: productVariantRepository.findByIdIn(new ArrayList<>(variantIds)).stream()
-			.collect(Collectors.toMap(ProductVariant::getId, Function.identity()));
+		List<ProductCartInfo> result = new ArrayList<>(items.size());
+		for (ProductCartInfo info : resolved) {
+			if (info != null) {
+				result.add(info);
+			}
+		}
 
-		// 3. DTO 변환 및 로직 적용
-		List<ProductCartInfo> result = new ArrayList<>();
+		log.debug("Product cart infos resolved: requested={}, cacheMiss={}, found={}",
+			items.size(), missIndexes.size(), result.size());
+		return result;
+	}
 
-		for (StockManagement item : items) {
-			Product product = productMap.get(item.getProductId());
-			if (product == null) {
-				continue;
+	// 상세 캐시로 응답 구성 (상세가 없거나 Variant를 찾지 못하면 null → DB 조회)
+	private static ProductCartInfo fromCache(CachedProductDetail detail, StockManagement item, Map<String, Integer> stocks) {
+		if (detail == null) {
+			return null;
+		}
+
+		CachedProductDetail.CachedVariant variant = null;
+		if (item.getVariantId() != null) {
+			variant = detail.getVariants() == null ? null : detail.getVariants().stream()
+				.filter(v -> item.getVariantId().equals(v.getVariantId()))
+				.findFirst()
+				.orElse(null);
+			if (variant == null) {
+				return null;
 			}
+		}
 
-			ProductVariant variant = null;
-			if (item.getVariantId() != null) {
-				variant = variantMap.get(item.getVariantId());
-				// Variant가 없거나 해당 Product에 속하지 않으면 스킵
-				if (variant == null || !variant.getProduct().getId().equals(product.getId())) {
-					continue;
-				}
+		// 판매 가능 여부: 상품 ON_SALE && (Variant 없거나 Variant ON_SALE)
+		boolean isAvailable = (detail.getStatus() == ProductStatus.ON_SALE)
+			&& (variant == null || variant.getStatus() == VariantStatus.ON_SALE);
+
+		return ProductCartInfo.from(detail, variant,
+			stocks.get(StockCacheKey.stockKey(item.getProductId(), item.getVariantId())), isAvailable);
+	}
+
+	// DB 엔티티로 응답 구성 (삭제/미존재 상품, 해당 상품에 속하지 않는 Variant는 null → 응답에서 제외)
+	private static ProductCartInfo fromProduct(Product product, StockManagement item, Map<String, Integer> stocks) {
+		if (product == null) {
+			return null;
+		}
+
+		ProductVariant variant = null;
+		if (item.getVariantId() != null) {
+			variant = product.getVariants().stream()
+				.filter(v -> item.getVariantId().equals(v.getId()))
+				.findFirst()
+				.orElse(null);
+			if (variant == null) {
+				return null;
 			}
+		}
 
-			// 판매 가능 여부: 상품 ON_SALE && (Variant 없거나 Variant ON_SALE)
-			boolean isAvailable = (product.getStatus() == ProductStatus.ON_SALE)
-				&& (variant == null || variant.getStatus() == VariantStatus.ON_SALE);
+		boolean isAvailable = (product.getStatus() == ProductStatus.ON_SALE)
+			&& (variant == null || variant.getStatus() == VariantStatus.ON_SALE);
 
-			result.add(ProductCartInfo.from(product, variant, isAvailable));
+		return ProductCartInfo.from(product, variant,
+			stocks.get(StockCacheKey.stockKey(item.getProductId(), item.getVariantId())), isAvailable);
+	}
+
+	/**
+	 * 상품 + 카테고리/옵션/Variant 조회 후 판매중 상품은 상세 캐시 적재 (Warm-up과 같은 3단계 조회)
+	 * 판매중이 아닌 상품은 구매자 상세 조회에 노출되지 않도록 적재하지 않음
+	 * @return 삭제되지 않은 상품 맵
+	 */
+	private Map<UUID, Product> loadProductsAndCache(List<UUID> productIds) {
+		List<Product> products = productRepository.findAllWithCategoryByIdIn(productIds);
+		productRepository.findAllWithOptionsByIdIn(productIds);
+		productRepository.findAllWithVariantsByIdIn(productIds);
+
+		List<Product> alive = products.stream()
+			.filter(product -> !product.isDeleted())
+			.toList();
+
+		List<CachedProductDetail> backfill = alive.stream()
+			.filter(product -> product.getStatus() == ProductStatus.ON_SALE)
+			.map(CachedProductDetail::from)
+			.toList();
+		try {
+			detailCacheService.putAll(backfill);
+		} catch (Exception e) {
+			log.warn("Failed to backfill product detail cache: count={}", backfill.size(), e);
 		}
 
-		return result;
+		return alive.stream()
+			.collect(Collectors.toMap(Product::getId, Function.identity()));
 	}
 
 	// ==================== 재고 관리 (Order 도메인 연동) ====================
@@ -442,7 +575,13 @@ public class ProductServiceV1 {
 				throw new CustomException(ErrorCode.VARIANT_REQUIRED);
 			}
 
+			boolean wasCounted = ProductCountCacheService.isCounted(product);
 			product.decreaseStock(quantity);
+
+			// 품절 전환 시 가격/평점 인덱스, 목록 개수에서 제외
+			syncSortIndexes(product, wasCounted);
+			countCacheService.applyTransition(product.getCategory(), wasCounted,
+				product.getCategory(), ProductCountCacheService.isCounted(product));
 		}
 	}
 
@@ -467,7 +606,13 @@ public class ProductServiceV1 {
 				throw new CustomException(ErrorCode.VARIANT_REQUIRED);
 			}
 
+			boolean wasCounted = ProductCountCacheService.isCounted(product);
 			product.increaseStock(quantity);
+
+			// 재입고(판매중 복귀) 시 가격/평점 인덱스, 목록 개수에 다시 포함
+			syncSortIndexes(product, wasCounted);
+			countCacheService.applyTransition(product.getCategory(), wasCounted,
+				product.getCategory(), ProductCountCacheService.isCounted(product));
 		}
 	}
 
@@ -487,12 +632,13 @@ public class ProductServiceV1 {
 	}
 
 	/**
-	 * Bulk 재고 가점유
+	 * Bulk 재고 가점유 (주문 단위 All-or-Nothing)
+	 * 전체 라인 검증 + 차감 + 주문-상품 매핑 저장을 Redis 1회 왕복으로 처리
+	 *
+	 * @return 실패 라인 목록 (성공 시 빈 리스트, 실패 시 어떤 재고도 차감되지 않음)
 	 */
-	public void reserveStockBulk(List<StockManagement> items) {
-		for (StockManagement item : items) {
-			reserveStock(item.getProductId(), item.getVariantId(), item.getQuantity());
-		}
+	public List<StockReserveFailure> reserveStockBulk(UUID orderId, List<StockManagement> items) {
+		return stockRedisService.reserveBulk(orderId, items);
 	}
 
 	/**
@@ -506,9 +652,7 @@ public class ProductServiceV1 {
 	 * Bulk 재고 가점유 해제
 	 */
 	public void releaseStockBulk(List<StockManagement> items) {
-		for (StockManagement item : items) {
-			releaseStock(item.getProductId(), item.getVariantId(), item.getQuantity());
-		}
+		stockRedisService.releaseAll(items);
 	}
 
 	/**
@@ -16,6 +16,8 @@ import com.groom.product.product.domain.entity.ProductOptionValue;
 import com.groom.product.product.domain.entity.ProductVariant;
 import com.groom.product.product.domain.repository.ProductRepository;
 import com.groom.product.product.domain.repository.ProductVariantRepository;
+import com.groom.product.product.infrastructure.cache.ProductDetailCacheService;
+import com.groom.product.product.infrastructure.cache.ProductListCacheService;
 import com.groom.product.product.presentation.dto.request.ReqVariantCreateDtoV1;
 import com.groom.product.product.presentation.dto.request.ReqVariantUpdateDtoV1;
 import com.groom.product.product.presentation.dto.response.ResVariantDtoV1;
@@ -29,6 +31,8 @@ public class ProductVariantServiceV1 {
 
 	private final ProductRepository productRepository;
 	private final ProductVariantRepository productVariantRepository;
+	private final ProductListCacheService listCacheService;
+	private final ProductDetailCacheService detailCacheService;
 
 	/**
 	 * SKU(Variant) 추가
@@ -69,6 +73,10 @@ public class ProductVariantServiceV1 {
 			.findFirst()
 			.orElseThrow(() -> new CustomException(ErrorCode.VARIANT_NOT_FOUND));
 
+		// 최저가 변경 가능 → 가격 인덱스 갱신, Variant 목록 변경 → 상세 캐시 무효화 (bulk-info 포함)
+		listCacheService.updatePrice(savedProduct);
+		detailCacheService.evictAfterCommit(savedProduct.getId());
+
 		return ResVariantDtoV1.from(savedVariant);
 	}
 
@@ -91,6 +99,10 @@ public class ProductVariantServiceV1 {
 			variant.updateStatus(request.getStatus());
 		}
 
+		// 최저가 변경 가능 → 가격 인덱스 갱신, Variant 가격/상태 변경 → 상세 캐시 무효화 (bulk-info 포함)
+		listCacheService.updatePrice(product);
+		detailCacheService.evictAfterCommit(product.getId());
+
 		return ResVariantDtoV1.from(variant);
 	}
 
@@ -119,6 +131,10 @@ public class ProductVariantServiceV1 {
 			product.getVariants().remove(variant);
 			productVariantRepository.delete(variant);
 		}
+
+		// 최저가 변경 가능 → 가격 인덱스 갱신, Variant 가격/상태 변경 → 상세 캐시 무효화 (bulk-info 포함)
+		listCacheService.updatePrice(product);
+		detailCacheService.evictAfterCommit(product.getId());
 	}
 
 	/**
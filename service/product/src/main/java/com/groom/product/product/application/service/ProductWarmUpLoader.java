@@ -1,59 +1,609 @@
 package com.groom.product.product.application.service;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.groom.product.product.domain.entity.Product;
+import com.groom.product.product.domain.entity.ProductVariant;
+import com.groom.product.product.domain.enums.ProductStatus;
 import com.groom.product.product.domain.repository.ProductRepository;
+import com.groom.product.product.infrastructure.cache.CachedProductDetail;
+import com.groom.product.product.infrastructure.cache.ProductCacheKey;
+import com.groom.product.product.infrastructure.cache.ProductCountReconciler;
 import com.groom.product.product.infrastructure.cache.ProductDetailCacheService;
 import com.groom.product.product.infrastructure.cache.ProductListCacheService;
+import com.groom.product.product.infrastructure.cache.StockCacheKey;
+import com.groom.product.product.infrastructure.cache.StockRedisService;
+import com.groom.product.product.infrastructure.repository.ProductCursor;
+import com.groom.product.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.product.product.presentation.dto.response.ResWarmUpProgressDto;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 상품 캐시 Warm-up (Redis 장애 복구/콜드 스타트 시 DB → Redis 일괄 적재)
+ *
+ * [조회] 키셋 페이지네이션 (createdAt DESC, id DESC) - OFFSET 없이 인덱스를 이어서 탐색
+ * [적재] 페이지 단위로 워커 스레드에 분배, 페이지마다 상세/목록/재고를 각각 파이프라인 1회로 기록
+ *       - 재고: SET NX (이미 존재하는 키는 가점유가 반영된 실시간 값이므로 유지)
+ *       - 개수: ProductCountReconciler로 카테고리별/상위 카테고리/전체 일괄 보정 (GROUP BY 1회)
+ * [재개] 앞에서부터 연속으로 완료된 마지막 페이지 커서를 product:warmup:state에 체크포인트로 저장
+ *       중단(Pod 종료 등) 후 재실행하거나 기동 시 자동으로 체크포인트 다음부터 이어서 진행
+ * [중복 방지] product:warmup:lock (SET NX PX)을 보유한 Pod만 실행
+ *       락은 체크포인트 진행과 무관하게 TTL의 1/3 주기로 연장 (첫 페이지가 TTL보다 오래 걸려도 유지)
+ *       연장에 실패하면 (다른 Pod가 획득했거나 TTL 동안 연장하지 못함) 실행 중단
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ProductWarmUpLoader {
 
+	public enum Status {
+		RUNNING, COMPLETED, FAILED, ABORTED
+	}
+
+	private static final String FIELD_STATUS = "status";
+	private static final String FIELD_PROCESSED = "processed";
+	private static final String FIELD_TOTAL = "total";
+	private static final String FIELD_CHECKPOINT = "checkpoint";
+	private static final String FIELD_STARTED_AT = "startedAt";
+	private static final String FIELD_RUN_STARTED_AT = "runStartedAt";
+	private static final String FIELD_RUN_START_PROCESSED = "runStartProcessed";
+	private static final String FIELD_UPDATED_AT = "updatedAt";
+
+	private static final long RETRY_BACKOFF_MILLIS = 200L;
+	private static final long WORKER_TERMINATION_TIMEOUT_MINUTES = 10L;
+
 	private final ProductRepository productRepository;
+	private final ProductQueryRepository productQueryRepository;
 	private final ProductListCacheService listCacheService;
 	private final ProductDetailCacheService detailCacheService;
+	private final StockRedisService stockRedisService;
+	private final ProductCountReconciler countReconciler;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final TransactionTemplate readOnlyTransaction;
+	private final AtomicBoolean running = new AtomicBoolean(false);
+
+	private final int limit;
+	private final int pageSize;
+	private final int workers;
+	private final int maxAttempts;
+	private final Duration lockTtl;
+	private final boolean resumeOnStartup;
+
+	private DefaultRedisScript<Long> leaseExtendScript;
+	private DefaultRedisScript<Long> leaseReleaseScript;
+
+	public ProductWarmUpLoader(
+		ProductRepository productRepository,
+		ProductQueryRepository productQueryRepository,
+		ProductListCacheService listCacheService,
+		ProductDetailCacheService detailCacheService,
+		StockRedisService stockRedisService,
+		ProductCountReconciler countReconciler,
+		StringRedisTemplate stringRedisTemplate,
+		PlatformTransactionManager transactionManager,
+		@Value("${product.warm-up.limit:100000}") int limit,
+		@Value("${product.warm-up.page-size:1000}") int pageSize,
+		@Value("${product.warm-up.workers:4}") int workers,
+		@Value("${product.warm-up.max-attempts:3}") int maxAttempts,
+		@Value("${product.warm-up.lock-ttl-seconds:60}") long lockTtlSeconds,
+		@Value("${product.warm-up.resume-on-startup:true}") boolean resumeOnStartup
+	) {
+		this.productRepository = productRepository;
+		this.productQueryRepository = productQueryRepository;
+		this.listCacheService = listCacheService;
+		this.detailCacheService = detailCacheService;
+		this.stockRedisService = stockRedisService;
+		this.countReconciler = countReconciler;
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.limit = limit;
+		this.pageSize = pageSize;
+		this.workers = workers;
+		this.maxAttempts = maxAttempts;
+		this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+		this.resumeOnStartup = resumeOnStartup;
+	}
+
+	@PostConstruct
+	public void init() {
+		leaseExtendScript = new DefaultRedisScript<>();
+		leaseExtendScript.setScriptSource(new ResourceScriptSource(
+			new ClassPathResource("scripts/lease_extend.lua")));
+		leaseExtendScript.setResultType(Long.class);
+
+		leaseReleaseScript = new DefaultRedisScript<>();
+		leaseReleaseScript.setScriptSource(new ResourceScriptSource(
+			new ClassPathResource("scripts/lease_release.lua")));
+		leaseReleaseScript.setResultType(Long.class);
+	}
+
+	/**
+	 * 기동 시 중단된 Warm-up 자동 재개
+	 * 상태가 RUNNING인데 락이 없으면 실행하던 Pod가 비정상 종료된 것으로 판단
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumeInterrupted() {
+		if (!resumeOnStartup) {
+			return;
+		}
+
+		try {
+			Map<String, String> state = readState();
+			if (Status.RUNNING.name().equals(state.get(FIELD_STATUS))
+				&& !Boolean.TRUE.equals(stringRedisTemplate.hasKey(ProductCacheKey.warmUpLock()))) {
+				log.info("Resuming interrupted product cache warm-up: checkpoint={}", state.get(FIELD_CHECKPOINT));
+				start(false);
+			}
+		} catch (Exception e) {
+			log.warn("Failed to check interrupted product cache warm-up", e);
+		}
+	}
+
+	/**
+	 * Warm-up 시작 (백그라운드 실행)
+	 *
+	 * @param restart true면 체크포인트를 무시하고 처음부터 적재
+	 * @return 시작 여부 (이 인스턴스 또는 다른 Pod에서 이미 실행 중이면 false)
+	 */
+	public boolean start(boolean restart) {
+		if (!running.compareAndSet(false, true)) {
+			return false;
+		}
+
+		String token = tryAcquireLock();
+		if (token == null) {
+			running.set(false);
+			return false;
+		}
+
+		try {
+			WarmUpRun run = prepare(token, restart);
+			Thread coordinator = new Thread(() -> execute(run), "product-warm-up");
+			coordinator.setDaemon(true);
+			coordinator.start();
+			return true;
+		} catch (RuntimeException e) {
+			releaseLock(token);
+			running.set(false);
+			throw e;
+		}
+	}
+
+	/**
+	 * 진행 상태 조회 (Redis 기준 - 어느 Pod에서 실행 중이든 동일한 값)
+	 */
+	public ResWarmUpProgressDto getProgress() {
+		Map<String, String> state = readState();
+		if (state.isEmpty()) {
+			return ResWarmUpProgressDto.idle();
+		}
+
+		String status = state.get(FIELD_STATUS);
+		long processed = parseLong(state.get(FIELD_PROCESSED));
+		long total = parseLong(state.get(FIELD_TOTAL));
+		long runStartedAt = parseLong(state.get(FIELD_RUN_STARTED_AT));
+		long updatedAt = parseLong(state.get(FIELD_UPDATED_AT));
+		long runProcessed = processed - parseLong(state.get(FIELD_RUN_START_PROCESSED));
+
+		boolean inProgress = Status.RUNNING.name().equals(status);
+		long elapsedMillis = (inProgress ? System.currentTimeMillis() : updatedAt) - runStartedAt;
+
+		Long etaSeconds = null;
+		if (inProgress && runProcessed > 0 && elapsedMillis > 0) {
+			double millisPerProduct = (double)elapsedMillis / runProcessed;
+			etaSeconds = (long)(Math.max(0, total - processed) * millisPerProduct / 1000);
+		}
 
-	// 메모리 보호를 위해 최신 10만 개만 Warm-up
-	private static final int WARM_UP_LIMIT = 100000;
-	private static final int PAGE_SIZE = 1000;
+		return ResWarmUpProgressDto.builder()
+			.status(status)
+			.processed(processed)
+			.total(total)
+			.percent(total > 0 ? Math.min(100.0, processed * 100.0 / total) : 100.0)
+			.elapsedSeconds(Math.max(0, elapsedMillis) / 1000)
+			.etaSeconds(etaSeconds)
+			.checkpoint(state.get(FIELD_CHECKPOINT))
+			.startedAt(toLocalDateTime(parseLong(state.get(FIELD_STARTED_AT))))
+			.updatedAt(toLocalDateTime(updatedAt))
+			.build();
+	}
+
+	/**
+	 * 체크포인트 확인 + 진행 상태 초기화 (호출 스레드에서 실행 - 응답 시점에 RUNNING 반영)
+	 */
+	private WarmUpRun prepare(String token, boolean restart) {
+		Map<String, String> state = restart ? Collections.emptyMap() : readState();
+		ProductCursor checkpoint = Status.COMPLETED.name().equals(state.get(FIELD_STATUS))
+			? null
+			: ProductCursor.decode(state.get(FIELD_CHECKPOINT));
+		long processed = checkpoint != null ? parseLong(state.get(FIELD_PROCESSED)) : 0L;
+		long total = Math.min(limit, productRepository.countByDeletedAtIsNull());
+		long now = System.currentTimeMillis();
+
+		Map<String, String> initial = new HashMap<>();
+		initial.put(FIELD_STATUS, Status.RUNNING.name());
+		initial.put(FIELD_PROCESSED, String.valueOf(processed));
+		initial.put(FIELD_TOTAL, String.valueOf(total));
+		initial.put(FIELD_CHECKPOINT, checkpoint != null ? checkpoint.encode() : "");
+		initial.put(FIELD_STARTED_AT, checkpoint != null ? state.get(FIELD_STARTED_AT) : String.valueOf(now));
+		initial.put(FIELD_RUN_STARTED_AT, String.valueOf(now));
+		initial.put(FIELD_RUN_START_PROCESSED, String.valueOf(processed));
+		initial.put(FIELD_UPDATED_AT, String.valueOf(now));
+		stringRedisTemplate.opsForHash().putAll(ProductCacheKey.warmUpState(), initial);
+
+		log.info("Starting product cache warm-up: limit={}, total={}, resumeFrom={}, processed={}",
+			limit, total, checkpoint != null ? checkpoint.encode() : "-", processed);
+
+		return new WarmUpRun(token, checkpoint, processed);
+	}
+
+	private void execute(WarmUpRun run) {
+		ScheduledExecutorService leaseKeeper = startLeaseKeeper(run);
+		try {
+			// 1. 개수 캐시 (GROUP BY 1회)
+			countReconciler.reconcile();
+
+			// 2. 페이지 분배
+			dispatchPages(run);
 
-	@Transactional(readOnly = true)
-	public void loadTopProducts() {
-		log.info("Starting Product Cache Warm-up (Limit: {})...", WARM_UP_LIMIT);
-		
-		int totalPages = (int) Math.ceil((double) WARM_UP_LIMIT / PAGE_SIZE);
+			Status result = run.result();
+			if (result != Status.ABORTED) {
+				saveStatus(result);
+			}
+			log.info("Product cache warm-up finished: status={}, processed={}", result, run.processed());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			saveStatus(Status.FAILED);
+			log.warn("Product cache warm-up interrupted: processed={}", run.processed());
+		} catch (Exception e) {
+			saveStatus(Status.FAILED);
+			log.error("Product cache warm-up failed: processed={}", run.processed(), e);
+		} finally {
+			leaseKeeper.shutdownNow();
+			releaseLock(run.token);
+			running.set(false);
+		}
+	}
+
+	/**
+	 * 락 연장 스케줄 시작 (즉시 1회 + TTL의 1/3 주기)
+	 * 토큰이 일치하지 않으면 즉시, Redis 오류로 연장하지 못한 채 TTL이 지나면 실행 중단
+	 */
+	private ScheduledExecutorService startLeaseKeeper(WarmUpRun run) {
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "product-warm-up-lease");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long intervalMillis = Math.max(1L, lockTtl.toMillis() / 3);
+		AtomicLong extendedAt = new AtomicLong(System.currentTimeMillis());
+
+		scheduler.scheduleAtFixedRate(() -> {
+			try {
+				if (extendLock(run.token)) {
+					extendedAt.set(System.currentTimeMillis());
+					return;
+				}
+				log.warn("Warm-up lock lost, stopping: processed={}", run.processed());
+				run.abort();
+				scheduler.shutdown();
+			} catch (Exception e) {
+				if (System.currentTimeMillis() - extendedAt.get() < lockTtl.toMillis()) {
+					log.warn("Failed to extend warm-up lock, retrying", e);
+					return;
+				}
+				log.error("Warm-up lock not extended within TTL, stopping: processed={}", run.processed(), e);
+				run.abort();
+				scheduler.shutdown();
+			}
+		}, 0L, intervalMillis, TimeUnit.MILLISECONDS);
+		return scheduler;
+	}
+
+	/**
+	 * 커서 조회는 코디네이터 스레드에서 순차로, 페이지 적재는 워커 스레드에서 병렬로 처리
+	 * 동시에 처리 중인 페이지 수를 제한하여 메모리 사용량과 DB 커넥션 점유를 일정하게 유지
+	 */
+	private void dispatchPages(WarmUpRun run) throws InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool(workers, workerThreadFactory());
+		Semaphore inFlightPages = new Semaphore(workers * 2);
+
+		ProductCursor cursor = run.checkpoint;
+		long remaining = limit - run.processed();
+		long pageSeq = 0;
+
+		try {
+			while (remaining > 0 && !run.isStopped()) {
+				List<ProductCursor> page = productQueryRepository.findCursorsAfter(
+					cursor, (int)Math.min(pageSize, remaining));
+				if (page.isEmpty()) {
+					break;
+				}
+
+				inFlightPages.acquire();
+				long seq = pageSeq++;
+				ProductCursor last = page.get(page.size() - 1);
+				List<UUID> productIds = page.stream().map(ProductCursor::getProductId).toList();
+
+				executor.execute(() -> {
+					try {
+						warmUpPage(productIds);
+						run.complete(seq, last, productIds.size());
+					} catch (Exception e) {
+						log.error("Warm-up page failed: seq={}, lastCursor={}", seq, last.encode(), e);
+						run.fail();
+					} finally {
+						inFlightPages.release();
+					}
+				});
+
+				cursor = last;
+				remaining -= page.size();
+			}
+		} finally {
+			executor.shutdown();
+			if (!executor.awaitTermination(WORKER_TERMINATION_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+				executor.shutdownNow();
+				run.fail();
+			}
+		}
+	}
+
+	private void warmUpPage(List<UUID> productIds) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				writePage(loadPage(productIds));
+				return;
+			} catch (RuntimeException e) {
+				if (attempt >= maxAttempts) {
+					throw e;
+				}
+				log.warn("Warm-up page attempt {} failed, retrying: size={}", attempt, productIds.size(), e);
+				sleep(RETRY_BACKOFF_MILLIS * attempt);
+			}
+		}
+	}
 
-		for (int i = 0; i < totalPages; i++) {
-			Page<Product> products = productRepository.findAll(
-				PageRequest.of(i, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"))
-			);
-			
-			if (products.isEmpty()) break;
+	/**
+	 * 페이지 DB 조회 (쿼리 4회: 상품+카테고리 / 옵션 / Variant / 평점, 옵션값은 @BatchSize)
+	 * 캐시 객체 변환까지 트랜잭션 안에서 끝내고, Redis 기록은 트랜잭션 밖에서 수행 (커넥션 점유 최소화)
+	 */
+	private PageData loadPage(List<UUID> productIds) {
+		return readOnlyTransaction.execute(status -> {
+			List<Product> products = productRepository.findAllWithCategoryByIdIn(productIds);
+			productRepository.findAllWithOptionsByIdIn(productIds);
+			productRepository.findAllWithVariantsByIdIn(productIds);
 
+			PageData data = new PageData(products.size(), productQueryRepository.findAvgRatings(productIds));
 			for (Product product : products) {
-				// 1. 상세 캐시 (JSON) 적재
-				detailCacheService.put(product);
-				
-				// 2. 목록 캐시 (ZSET) 적재 (판매 중/품절 상태만)
-				if (product.getStatus() == com.groom.product.product.domain.enums.ProductStatus.ON_SALE || 
-					product.getStatus() == com.groom.product.product.domain.enums.ProductStatus.SOLD_OUT) {
-					listCacheService.addProduct(product);
+				data.details.add(CachedProductDetail.from(product));
+				if (product.getStatus() == ProductStatus.ON_SALE || product.getStatus() == ProductStatus.SOLD_OUT) {
+					data.listed.add(product);
+				}
+				collectStocks(product, data.stocks);
+			}
+			return data;
+		});
+	}
+
+	private void writePage(PageData data) {
+		detailCacheService.putAll(data.details);
+		listCacheService.addProducts(data.listed, data.avgRatings);
+		stockRedisService.initStocksIfAbsent(data.stocks);
+	}
+
+	private void collectStocks(Product product, Map<String, Integer> stocks) {
+		if (Boolean.TRUE.equals(product.getHasOptions())) {
+			for (ProductVariant variant : product.getVariants()) {
+				if (variant.getStockQuantity() != null && !variant.getStatus().isDiscontinued()) {
+					stocks.put(StockCacheKey.variantStock(variant.getId()), variant.getStockQuantity());
 				}
 			}
-			
-			log.info("Warm-up Progress: {} products cached...", (i + 1) * PAGE_SIZE);
+			return;
+		}
+		if (product.getStockQuantity() != null) {
+			stocks.put(StockCacheKey.productStock(product.getId()), product.getStockQuantity());
+		}
+	}
+
+	// ==================== 진행 상태 / 락 ====================
+
+	private Map<String, String> readState() {
+		HashOperations<String, String, String> hashOperations = stringRedisTemplate.opsForHash();
+		Map<String, String> state = hashOperations.entries(ProductCacheKey.warmUpState());
+		return state != null ? state : Collections.emptyMap();
+	}
+
+	private void saveStatus(Status status) {
+		try {
+			Map<String, String> fields = new HashMap<>();
+			fields.put(FIELD_STATUS, status.name());
+			fields.put(FIELD_UPDATED_AT, String.valueOf(System.currentTimeMillis()));
+			stringRedisTemplate.opsForHash().putAll(ProductCacheKey.warmUpState(), fields);
+		} catch (Exception e) {
+			log.error("Failed to save warm-up status: status={}", status, e);
+		}
+	}
+
+	private String tryAcquireLock() {
+		String token = UUID.randomUUID().toString();
+		Boolean acquired = stringRedisTemplate.opsForValue()
+			.setIfAbsent(ProductCacheKey.warmUpLock(), token, lockTtl);
+		return Boolean.TRUE.equals(acquired) ? token : null;
+	}
+
+	private boolean extendLock(String token) {
+		Long extended = stringRedisTemplate.execute(leaseExtendScript,
+			Collections.singletonList(ProductCacheKey.warmUpLock()), token, String.valueOf(lockTtl.toMillis()));
+		return extended != null && extended == 1L;
+	}
+
+	private void releaseLock(String token) {
+		try {
+			stringRedisTemplate.execute(leaseReleaseScript,
+				Collections.singletonList(ProductCacheKey.warmUpLock()), token);
+		} catch (Exception e) {
+			log.warn("Failed to release warm-up lock (expires by TTL)", e);
+		}
+	}
+
+	private ThreadFactory workerThreadFactory() {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "product-warm-up-worker-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private static long parseLong(String value) {
+		if (value == null || value.isBlank()) {
+			return 0L;
+		}
+		try {
+			return Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			return 0L;
+		}
+	}
+
+	private static LocalDateTime toLocalDateTime(long epochMillis) {
+		return epochMillis > 0
+			? LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault())
+			: null;
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Warm-up interrupted", e);
+		}
+	}
+
+	/**
+	 * 페이지 단위 적재 데이터
+	 */
+	private static class PageData {
+		private final List<CachedProductDetail> details;
+		private final List<Product> listed;
+		private final Map<String, Integer> stocks = new HashMap<>();
+		private final Map<UUID, Double> avgRatings;
+
+		private PageData(int size, Map<UUID, Double> avgRatings) {
+			this.details = new ArrayList<>(size);
+			this.listed = new ArrayList<>(size);
+			this.avgRatings = avgRatings;
+		}
+	}
+
+	/**
+	 * 실행 단위 상태 (체크포인트 추적)
+	 *
+	 * 워커마다 완료 순서가 다르므로, 앞에서부터 빈틈없이 완료된 페이지까지만 체크포인트를 전진시킴
+	 * → 재개 시 체크포인트 이후 페이지는 일부 중복 적재될 수 있으나 (SET/ZADD/SETNX 모두 멱등) 누락은 없음
+	 */
+	private class WarmUpRun {
+		private final String token;
+		private final ProductCursor checkpoint;
+		private final TreeMap<Long, ProductCursor> completedCursors = new TreeMap<>();
+		private final Map<Long, Integer> completedCounts = new HashMap<>();
+		private long nextSeq;
+		private long processed;
+		private boolean failed;
+		private boolean aborted;
+
+		private WarmUpRun(String token, ProductCursor checkpoint, long processed) {
+			this.token = token;
+			this.checkpoint = checkpoint;
+			this.processed = processed;
+		}
+
+		private synchronized void complete(long seq, ProductCursor last, int count) {
+			completedCursors.put(seq, last);
+			completedCounts.put(seq, count);
+
+			ProductCursor committed = null;
+			while (completedCursors.containsKey(nextSeq)) {
+				committed = completedCursors.remove(nextSeq);
+				processed += completedCounts.remove(nextSeq);
+				nextSeq++;
+			}
+
+			if (committed != null && !failed && !aborted) {
+				saveCheckpoint(committed);
+			}
+		}
+
+		private void saveCheckpoint(ProductCursor committed) {
+			try {
+				Map<String, String> fields = new HashMap<>();
+				fields.put(FIELD_CHECKPOINT, committed.encode());
+				fields.put(FIELD_PROCESSED, String.valueOf(processed));
+				fields.put(FIELD_UPDATED_AT, String.valueOf(System.currentTimeMillis()));
+				stringRedisTemplate.opsForHash().putAll(ProductCacheKey.warmUpState(), fields);
+
+				log.info("Warm-up progress: {} products cached", processed);
+			} catch (Exception e) {
+				// 다음 페이지 완료 시 다시 저장
+				log.warn("Failed to save warm-up checkpoint: processed={}", processed, e);
+			}
+		}
+
+		private synchronized void fail() {
+			failed = true;
+		}
+
+		private synchronized void abort() {
+			aborted = true;
+		}
+
+		private synchronized boolean isStopped() {
+			return failed || aborted;
+		}
+
+		private synchronized long processed() {
+			return processed;
+		}
+
+		private synchronized Status result() {
+			if (aborted) {
+				return Status.ABORTED;
+			}
+			return failed ? Status.FAILED : Status.COMPLETED;
 		}
-		
-		log.info("Product Cache Warm-up Completed successfully.");
 	}
 }
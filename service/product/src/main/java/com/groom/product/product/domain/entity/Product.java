@@ -35,7 +35,9 @@ import lombok.NoArgsConstructor;
 	indexes = {
 		@Index(name = "idx_product_category_status_created", columnList = "category_id, status, created_at DESC"),
 		@Index(name = "idx_product_title", columnList = "title"),
-		@Index(name = "idx_product_price", columnList = "price")
+		@Index(name = "idx_product_price", columnList = "price"),
+		@Index(name = "idx_product_category_status_price", columnList = "category_id, status, price, product_id"),
+		@Index(name = "idx_product_created_id", columnList = "created_at DESC, product_id DESC")
 	}
 )
 @Getter
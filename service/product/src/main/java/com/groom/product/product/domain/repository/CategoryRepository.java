@@ -36,6 +36,10 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
 	// 카테고리 삭제 전 자식이 있는지 검사
 	boolean existsByParentId(UUID parentId);
 
+	// 상품 수 집계용 전체 카테고리 부모 관계 (비활성 포함, [categoryId, parentId])
+	@Query("SELECT c.id, p.id FROM Category c LEFT JOIN c.parent p")
+	List<Object[]> findAllParentIds();
+
 	// 활성화된 카테고리인지 확인하면서 단건 조회
 	@Query("SELECT c FROM Category c WHERE c.id = :id AND c.isActive = true")
 	java.util.Optional<Category> findByIdAndIsActiveTrue(@Param("id") UUID id);
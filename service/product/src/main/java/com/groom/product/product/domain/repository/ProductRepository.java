@@ -71,15 +71,34 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
 	@Query("SELECT p FROM Product p LEFT JOIN FETCH p.variants WHERE p.id = :id")
 	Optional<Product> findByIdWithVariantsOnly(@Param("id") UUID id);
 
+	// 캐시 Warm-up 배치 조회 - Step 1: 상품 + 카테고리
+	@Query("SELECT p FROM Product p "
+		+ "LEFT JOIN FETCH p.category c "
+		+ "LEFT JOIN FETCH c.parent "
+		+ "WHERE p.id IN :ids")
+	List<Product> findAllWithCategoryByIdIn(@Param("ids") List<UUID> ids);
+
+	// 캐시 Warm-up 배치 조회 - Step 2: 옵션 (옵션값은 @BatchSize로 일괄 로딩)
+	@Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.options WHERE p.id IN :ids")
+	List<Product> findAllWithOptionsByIdIn(@Param("ids") List<UUID> ids);
+
+	// 캐시 Warm-up 배치 조회 - Step 3: variants
+	@Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.variants WHERE p.id IN :ids")
+	List<Product> findAllWithVariantsByIdIn(@Param("ids") List<UUID> ids);
+
 	// manager용 상태별 조회
 	Page<Product> findByStatusAndDeletedAtIsNull(ProductStatus status, Pageable pageable);
 
+	// 삭제되지 않은 전체 상품 수 (Warm-up 진행률 계산용)
+	long countByDeletedAtIsNull();
+
 	// 전체 상품 목록
 	@Query("SELECT p FROM Product p WHERE p.deletedAt IS NULL")
 	Page<Product> findAllNotDeleted(Pageable pageable);
 
-	// 상품 검색
-	@Query("SELECT p FROM Product p WHERE p.title LIKE %:keyword% AND p.status = 'ON_SALE' AND p.deletedAt IS NULL")
+	// 상품 검색 (제목 부분 일치 - lower(title) 트라이그램 인덱스 사용, 관련도 검색은 ProductQueryRepository)
+	@Query("SELECT p FROM Product p WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) "
+		+ "AND p.status = 'ON_SALE' AND p.deletedAt IS NULL")
 	Page<Product> searchByTitle(@Param("keyword") String keyword, Pageable pageable);
 
 	// 장바구니/주문 시 여러 상품 정보를 한 번에 조회할 때 사용 (삭제되지 않은 상품만)
@@ -0,0 +1,394 @@
+package com.groom.product.product.infrastructure.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.groom.product.product.domain.enums.ProductStatus;
+import com.groom.product.product.domain.enums.VariantStatus;
+
+/**
+ * CachedProductDetail 바이너리 코덱
+ *
+ * [포맷]
+ * MAGIC(1) | VERSION(1) | 필드 순차 기록
+ * - UUID: 16 bytes (null 여부는 앞 1 byte 플래그)
+ * - 정수: ZigZag VarInt/VarLong
+ * - 문자열: VarInt 길이 + UTF-8 (null은 길이 0, 빈 문자열은 길이 1 + 본문 없음으로 구분)
+ * - Enum: 이름 문자열 (ordinal 변경에 안전)
+ * - 리스트: VarInt (크기 + 1), null은 0
+ * - 중첩 레코드(옵션, 옵션 값, Variant): VarInt 길이 + 본문 (v2부터, v1은 길이 없이 필드 순차 기록)
+ *
+ * [스키마 진화 규칙]
+ * - 필드는 항상 마지막에만 추가하고 VERSION을 올린다 (기존 필드 순서/타입 변경 금지, 중첩 레코드도 동일)
+ * - 디코더는 자신이 아는 VERSION까지의 필드만 읽고 나머지 바이트는 무시한다 (상위 버전 값도 읽기 가능)
+ *   중첩 레코드는 길이만큼 읽은 뒤 아는 필드만 해석하므로 뒤에 추가된 필드는 건너뜀
+ * - 하위 버전 값은 새 필드를 기본값(null)으로 채운다
+ * - v1 디코더는 v2 중첩 레코드를 읽지 못하므로 v1 → v2 배포 중에는 binary-write=false(JSON)로 쓰고 배포 완료 후 되돌림
+ */
+public final class CachedProductDetailCodec {
+
+	/**
+	 * JSON('{', '[' 등)과 겹치지 않는 첫 바이트로 바이너리 값 식별
+	 */
+	public static final byte MAGIC = (byte)0xC7;
+	public static final byte CURRENT_VERSION = 2;
+
+	// 중첩 레코드에 길이 접두사를 붙이기 시작한 버전
+	private static final int FRAMED_RECORD_VERSION = 2;
+
+	private CachedProductDetailCodec() {
+	}
+
+	public static boolean isBinary(byte[] bytes) {
+		return bytes != null && bytes.length > 1 && bytes[0] == MAGIC;
+	}
+
+	public static byte[] encode(CachedProductDetail detail) {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+		try (DataOutputStream out = new DataOutputStream(buffer)) {
+			out.writeByte(MAGIC);
+			out.writeByte(CURRENT_VERSION);
+
+			// ===== v1 =====
+			writeUuid(out, detail.getProductId());
+			writeUuid(out, detail.getOwnerId());
+			writeUuid(out, detail.getCategoryId());
+			writeString(out, detail.getCategoryName());
+			writeString(out, detail.getCategoryFullPath());
+			writeString(out, detail.getTitle());
+			writeString(out, detail.getDescription());
+			writeString(out, detail.getThumbnailUrl());
+			writeNullableLong(out, detail.getPrice());
+			writeNullableLong(out, detail.getMinPrice());
+			writeNullableLong(out, detail.getMaxPrice());
+			writeNullableLong(out, toLong(detail.getStockQuantity()));
+			writeString(out, detail.getStatus() != null ? detail.getStatus().name() : null);
+			writeNullableBoolean(out, detail.getHasOptions());
+			writeList(out, detail.getOptions(), framed(CachedProductDetailCodec::writeOption));
+			writeList(out, detail.getVariants(), framed(CachedProductDetailCodec::writeVariant));
+			writeDateTime(out, detail.getCreatedAt());
+			writeVarLong(out, detail.getCachedAt());
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to encode product detail: " + detail.getProductId(), e);
+		}
+		return buffer.toByteArray();
+	}
+
+	public static CachedProductDetail decode(byte[] bytes) {
+		if (!isBinary(bytes)) {
+			throw new IllegalArgumentException("Not a binary product detail value");
+		}
+
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+			in.readByte(); // MAGIC
+			int version = in.readUnsignedByte();
+			if (version < 1) {
+				throw new IllegalArgumentException("Unsupported product detail version: " + version);
+			}
+
+			// ===== v1 =====
+			// version > CURRENT_VERSION 인 경우에도 v1 필드까지만 읽고 나머지는 무시
+			UUID productId = readUuid(in);
+			UUID ownerId = readUuid(in);
+			UUID categoryId = readUuid(in);
+			String categoryName = readString(in);
+			String categoryFullPath = readString(in);
+			String title = readString(in);
+			String description = readString(in);
+			String thumbnailUrl = readString(in);
+			Long price = readNullableLong(in);
+			Long minPrice = readNullableLong(in);
+			Long maxPrice = readNullableLong(in);
+			Long stockQuantity = readNullableLong(in);
+			String status = readString(in);
+			Boolean hasOptions = readNullableBoolean(in);
+			List<CachedProductDetail.CachedOption> options = readList(in,
+				recordReader(version, i -> readOption(i, version)));
+			List<CachedProductDetail.CachedVariant> variants = readList(in,
+				recordReader(version, CachedProductDetailCodec::readVariant));
+			LocalDateTime createdAt = readDateTime(in);
+			long cachedAt = readVarLong(in);
+
+			return CachedProductDetail.builder()
+				.productId(productId)
+				.ownerId(ownerId)
+				.categoryId(categoryId)
+				.categoryName(categoryName)
+				.categoryFullPath(categoryFullPath)
+				.title(title)
+				.description(description)
+				.thumbnailUrl(thumbnailUrl)
+				.price(price)
+				.minPrice(minPrice)
+				.maxPrice(maxPrice)
+				.stockQuantity(stockQuantity != null ? stockQuantity.intValue() : null)
+				.status(status != null ? ProductStatus.valueOf(status) : null)
+				.hasOptions(hasOptions)
+				.options(options)
+				.variants(variants)
+				.createdAt(createdAt)
+				.cachedAt(cachedAt)
+				.build();
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to decode product detail", e);
+		}
+	}
+
+	// ==================== 중첩 타입 ====================
+
+	private static void writeOption(DataOutputStream out, CachedProductDetail.CachedOption option) throws IOException {
+		writeUuid(out, option.getOptionId());
+		writeString(out, option.getName());
+		writeNullableLong(out, toLong(option.getSortOrder()));
+		writeList(out, option.getValues(), framed((o, value) -> {
+			writeUuid(o, value.getOptionValueId());
+			writeString(o, value.getValue());
+		}));
+	}
+
+	private static CachedProductDetail.CachedOption readOption(DataInputStream in, int version) throws IOException {
+		UUID optionId = readUuid(in);
+		String name = readString(in);
+		Long sortOrder = readNullableLong(in);
+		List<CachedProductDetail.CachedOptionValue> values = readList(in, recordReader(version, i ->
+			CachedProductDetail.CachedOptionValue.builder()
+				.optionValueId(readUuid(i))
+				.value(readString(i))
+				.build()));
+
+		return CachedProductDetail.CachedOption.builder()
+			.optionId(optionId)
+			.name(name)
+			.sortOrder(sortOrder != null ? sortOrder.intValue() : null)
+			.values(values)
+			.build();
+	}
+
+	private static void writeVariant(DataOutputStream out, CachedProductDetail.CachedVariant variant)
+		throws IOException {
+		writeUuid(out, variant.getVariantId());
+		writeString(out, variant.getSkuCode());
+		writeList(out, variant.getOptionValueIds(), CachedProductDetailCodec::writeUuid);
+		writeString(out, variant.getOptionName());
+		writeNullableLong(out, variant.getPrice());
+		writeNullableLong(out, toLong(variant.getStockQuantity()));
+		writeString(out, variant.getStatus() != null ? variant.getStatus().name() : null);
+	}
+
+	private static CachedProductDetail.CachedVariant readVariant(DataInputStream in) throws IOException {
+		UUID variantId = readUuid(in);
+		String skuCode = readString(in);
+		List<UUID> optionValueIds = readList(in, CachedProductDetailCodec::readUuid);
+		String optionName = readString(in);
+		Long price = readNullableLong(in);
+		Long stockQuantity = readNullableLong(in);
+		String status = readString(in);
+
+		return CachedProductDetail.CachedVariant.builder()
+			.variantId(variantId)
+			.skuCode(skuCode)
+			.optionValueIds(optionValueIds)
+			.optionName(optionName)
+			.price(price)
+			.stockQuantity(stockQuantity != null ? stockQuantity.intValue() : null)
+			.status(status != null ? VariantStatus.valueOf(status) : null)
+			.build();
+	}
+
+	// ==================== 기본 타입 ====================
+
+	@FunctionalInterface
+	private interface Writer<T> {
+		void write(DataOutputStream out, T value) throws IOException;
+	}
+
+	@FunctionalInterface
+	private interface Reader<T> {
+		T read(DataInputStream in) throws IOException;
+	}
+
+	/**
+	 * 중첩 레코드 쓰기 (VarInt 길이 + 본문)
+	 */
+	private static <T> Writer<T> framed(Writer<T> writer) {
+		return (out, value) -> {
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+			try (DataOutputStream record = new DataOutputStream(buffer)) {
+				writer.write(record, value);
+			}
+			writeVarInt(out, buffer.size());
+			buffer.writeTo(out);
+		};
+	}
+
+	/**
+	 * 중첩 레코드 읽기 (v2부터 길이만큼 읽고 아는 필드만 해석, 나머지 바이트는 건너뜀)
+	 */
+	private static <T> Reader<T> recordReader(int version, Reader<T> reader) {
+		if (version < FRAMED_RECORD_VERSION) {
+			return reader;
+		}
+		return in -> {
+			int length = readVarInt(in);
+			if (length < 0) {
+				throw new IOException("Invalid record length: " + length);
+			}
+			byte[] bytes = new byte[length];
+			in.readFully(bytes);
+			try (DataInputStream record = new DataInputStream(new ByteArrayInputStream(bytes))) {
+				return reader.read(record);
+			}
+		};
+	}
+
+	private static <T> void writeList(DataOutputStream out, List<T> list, Writer<T> writer) throws IOException {
+		if (list == null) {
+			writeVarInt(out, 0);
+			return;
+		}
+		writeVarInt(out, list.size() + 1);
+		for (T item : list) {
+			writer.write(out, item);
+		}
+	}
+
+	private static <T> List<T> readList(DataInputStream in, Reader<T> reader) throws IOException {
+		int size = readVarInt(in);
+		if (size == 0) {
+			return null;
+		}
+		List<T> list = new ArrayList<>(size - 1);
+		for (int i = 0; i < size - 1; i++) {
+			list.add(reader.read(in));
+		}
+		return list;
+	}
+
+	private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+		out.writeBoolean(uuid != null);
+		if (uuid != null) {
+			out.writeLong(uuid.getMostSignificantBits());
+			out.writeLong(uuid.getLeastSignificantBits());
+		}
+	}
+
+	private static UUID readUuid(DataInputStream in) throws IOException {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		return new UUID(in.readLong(), in.readLong());
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			writeVarInt(out, 0);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, bytes.length + 1);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = readVarInt(in);
+		if (length == 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length - 1];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeNullableLong(DataOutputStream out, Long value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			writeVarLong(out, value);
+		}
+	}
+
+	private static Long readNullableLong(DataInputStream in) throws IOException {
+		return in.readBoolean() ? readVarLong(in) : null;
+	}
+
+	private static void writeNullableBoolean(DataOutputStream out, Boolean value) throws IOException {
+		// 0: null, 1: false, 2: true
+		out.writeByte(value == null ? 0 : value ? 2 : 1);
+	}
+
+	private static Boolean readNullableBoolean(DataInputStream in) throws IOException {
+		int flag = in.readUnsignedByte();
+		return flag == 0 ? null : flag == 2;
+	}
+
+	private static void writeDateTime(DataOutputStream out, LocalDateTime dateTime) throws IOException {
+		out.writeBoolean(dateTime != null);
+		if (dateTime != null) {
+			writeVarLong(out, dateTime.toEpochSecond(ZoneOffset.UTC));
+			writeVarInt(out, dateTime.getNano());
+		}
+	}
+
+	private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		long epochSecond = readVarLong(in);
+		int nano = readVarInt(in);
+		return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+	}
+
+	private static Long toLong(Integer value) {
+		return value != null ? value.longValue() : null;
+	}
+
+	// ZigZag VarInt/VarLong (음수도 짧게 인코딩)
+
+	private static void writeVarInt(OutputStream out, int value) throws IOException {
+		writeVarLong(out, value);
+	}
+
+	private static int readVarInt(InputStream in) throws IOException {
+		return (int)readVarLong(in);
+	}
+
+	private static void writeVarLong(OutputStream out, long value) throws IOException {
+		long zigzag = (value << 1) ^ (value >> 63);
+		while ((zigzag & ~0x7FL) != 0) {
+			out.write((int)((zigzag & 0x7F) | 0x80));
+			zigzag >>>= 7;
+		}
+		out.write((int)zigzag);
+	}
+
+	private static long readVarLong(InputStream in) throws IOException {
+		long zigzag = 0;
+		int shift = 0;
+		while (true) {
+			int b = in.read();
+			if (b < 0) {
+				throw new EOFException();
+			}
+			zigzag |= (long)(b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				break;
+			}
+			shift += 7;
+			if (shift > 63) {
+				throw new IOException("Malformed varlong");
+			}
+		}
+		return (zigzag >>> 1) ^ -(zigzag & 1);
+	}
+}
@@ -2,26 +2,61 @@ package com.groom.product.product.infrastructure.cache;
 
 import java.util.UUID;
 
+import com.groom.product.product.domain.enums.ProductSortType;
+
 /**
  * Product 도메인 Redis 캐시 키 전략
  *
  * [목록 캐시 - Sorted Set]
  * product:list:category:{categoryId} → score: createdAt(Timestamp), member: productId
+ * product:list:price:category:{categoryId|all} → score: 최저가(옵션 상품은 Variant 최저가), member: productId
+ * product:list:rating:category:{categoryId|all} → score: 평균 평점, member: productId
+ * product:list:cursor:category:{categoryId|all} → score: createdAt(epoch microseconds), member: productId (커서 조회)
+ * (가격/평점/커서 인덱스는 판매중 상품만 포함)
+ *
+ * [상품 수 - String]
+ * product:count:category:{categoryId|all} → 카테고리에 직접 속한 판매중 상품 수 (목록 totalCount)
+ * product:count:tree:{categoryId} → 하위 카테고리를 포함한 판매중 상품 수 (상위 카테고리 집계)
+ * product:count:reconcile:lock → 재집계 실행 간격 락 (Pod 간 중복 실행 방지)
  *
  * [상세 캐시 - String(JSON)]
  * product:detail:{productId} → JSON (옵션, Variant 포함)
+ *
+ * [캐시 미스 로딩 리스 - String(NX, TTL)]
+ * product:lease:{loadKey} → 로딩 중인 인스턴스 토큰 (Pod 간 DB 동시 조회 방지)
+ *
+ * [상세 캐시 무효화 - Pub/Sub]
+ * product:detail:invalidate → "{instanceId}|{productId}" (전체 무효화는 productId 대신 "*")
+ *
+ * [캐시 Warm-up - Hash / String(NX, TTL)]
+ * product:warmup:state → status, processed, total, checkpoint 등 진행 상태 (재시작 시 이어서 진행)
+ * product:warmup:lock → 실행 중인 인스턴스 토큰 (Pod 간 중복 실행 방지)
  */
 public final class ProductCacheKey {
 
 	// ==================== 상품 목록 (Sorted Set) ====================
 	private static final String LIST_PREFIX = "product:list:category:";
 	private static final String LIST_ALL = "product:list:all";
+	private static final String PRICE_LIST_PREFIX = "product:list:price:category:";
+	private static final String RATING_LIST_PREFIX = "product:list:rating:category:";
+	private static final String CURSOR_LIST_PREFIX = "product:list:cursor:category:";
+	private static final String LIST_PATTERN = "product:list:*";
 
 	// ==================== 상품 개수 (String) ====================
 	private static final String COUNT_PREFIX = "product:count:category:";
+	private static final String TREE_COUNT_PREFIX = "product:count:tree:";
+	private static final String COUNT_RECONCILE_LOCK = "product:count:reconcile:lock";
 
 	// ==================== 상품 상세 (String/JSON) ====================
 	private static final String DETAIL_PREFIX = "product:detail:";
+	private static final String DETAIL_INVALIDATION_CHANNEL = "product:detail:invalidate";
+
+	// ==================== 로딩 리스 (String) ====================
+	private static final String LEASE_PREFIX = "product:lease:";
+
+	// ==================== Warm-up (Hash / String) ====================
+	private static final String WARM_UP_STATE = "product:warmup:state";
+	private static final String WARM_UP_LOCK = "product:warmup:lock";
 
 	private ProductCacheKey() {
 	}
@@ -46,6 +81,29 @@ public final class ProductCacheKey {
 		return LIST_ALL;
 	}
 
+	/**
+	 * 정렬 기준별 상품 목록 키 (Sorted Set)
+	 * @param categoryId 카테고리 ID (null이면 전체)
+	 * @param sortType PRICE_ASC/PRICE_DESC → 가격 인덱스, RATING → 평점 인덱스, 그 외 → 최신순 목록
+	 */
+	public static String productList(UUID categoryId, ProductSortType sortType) {
+		if (sortType == ProductSortType.PRICE_ASC || sortType == ProductSortType.PRICE_DESC) {
+			return PRICE_LIST_PREFIX + (categoryId != null ? categoryId.toString() : "all");
+		}
+		if (sortType == ProductSortType.RATING) {
+			return RATING_LIST_PREFIX + (categoryId != null ? categoryId.toString() : "all");
+		}
+		return productList(categoryId);
+	}
+
+	/**
+	 * 커서 조회용 최신순 인덱스 키 (Sorted Set, 판매중 상품만)
+	 * @param categoryId 카테고리 ID (null이면 전체)
+	 */
+	public static String productCursorList(UUID categoryId) {
+		return CURSOR_LIST_PREFIX + (categoryId != null ? categoryId.toString() : "all");
+	}
+
 	// ==================== 개수 키 ====================
 	public static String productCount(UUID categoryId) {
 		if (categoryId == null) {
@@ -54,6 +112,21 @@ public final class ProductCacheKey {
 		return COUNT_PREFIX + categoryId.toString();
 	}
 
+	/**
+	 * 하위 카테고리 포함 상품 수 키
+	 * @param categoryId 카테고리 ID
+	 */
+	public static String productTreeCount(UUID categoryId) {
+		return TREE_COUNT_PREFIX + categoryId.toString();
+	}
+
+	/**
+	 * 상품 수 재집계 락 키
+	 */
+	public static String countReconcileLock() {
+		return COUNT_RECONCILE_LOCK;
+	}
+
 	// ==================== 상세 키 ====================
 
 	/**
@@ -64,13 +137,46 @@ public final class ProductCacheKey {
 		return DETAIL_PREFIX + productId.toString();
 	}
 
+	/**
+	 * 상품 상세 Near Cache 무효화 채널 (Pub/Sub)
+	 */
+	public static String productDetailInvalidationChannel() {
+		return DETAIL_INVALIDATION_CHANNEL;
+	}
+
+	// ==================== 리스 키 ====================
+
+	/**
+	 * 캐시 미스 로딩 리스 키
+	 * @param loadKey 로딩 대상 식별자 (예: list:{categoryId}:{page}:{size}, detail:{productId})
+	 */
+	public static String loadLease(String loadKey) {
+		return LEASE_PREFIX + loadKey;
+	}
+
+	// ==================== Warm-up 키 ====================
+
+	/**
+	 * Warm-up 진행 상태 키 (Hash)
+	 */
+	public static String warmUpState() {
+		return WARM_UP_STATE;
+	}
+
+	/**
+	 * Warm-up 실행 락 키
+	 */
+	public static String warmUpLock() {
+		return WARM_UP_LOCK;
+	}
+
 	// ==================== 패턴 (일괄 삭제용) ====================
 
 	/**
-	 * 상품 목록 키 패턴 (전체 삭제용)
+	 * 상품 목록 키 패턴 (전체 삭제용, 최신순/가격/평점 목록 모두 포함)
 	 */
 	public static String productListPattern() {
-		return LIST_PREFIX + "*";
+		return LIST_PATTERN;
 	}
 
 	/**
@@ -0,0 +1,213 @@
+package com.groom.product.product.infrastructure.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.groom.product.product.domain.entity.Category;
+import com.groom.product.product.domain.entity.Product;
+import com.groom.product.product.domain.enums.ProductStatus;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카테고리별 판매중 상품 수 캐시 (증분 유지)
+ *
+ * 키:
+ * - product:count:category:{categoryId} : 카테고리에 직접 속한 상품 수 (목록 totalCount)
+ * - product:count:tree:{categoryId}     : 하위 카테고리 포함 상품 수 (카테고리 + 모든 상위 카테고리에 반영)
+ * - product:count:category:all          : 전체 상품 수
+ *
+ * 집계 대상: ON_SALE && 삭제되지 않은 상품
+ * 상품이 집계 대상에 들어오거나 나갈 때(등록/삭제/정지/해제/품절/재입고/카테고리 이동) 커밋 후 +1/-1을
+ * product_count_adjust.lua로 원자적으로 반영 → 목록 조회 시 COUNT 쿼리 불필요
+ * 누락/중복 반영은 ProductCountReconciler가 주기적으로 DB 집계값으로 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductCountCacheService {
+
+	// 카테고리 부모 관계 순환 방지용 최대 탐색 깊이
+	private static final int MAX_DEPTH = 16;
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	private DefaultRedisScript<Long> adjustScript;
+
+	@PostConstruct
+	public void init() {
+		adjustScript = new DefaultRedisScript<>();
+		adjustScript.setScriptSource(new ResourceScriptSource(
+			new ClassPathResource("scripts/product_count_adjust.lua")));
+		adjustScript.setResultType(Long.class);
+	}
+
+	/**
+	 * 상품 수 집계 대상 여부 (구매자 목록 노출 조건과 동일)
+	 */
+	public static boolean isCounted(Product product) {
+		return product.getStatus() == ProductStatus.ON_SALE && !product.isDeleted();
+	}
+
+	/**
+	 * 상품 상태/카테고리 변경 반영 (트랜잭션 중이면 커밋 후 반영)
+	 *
+	 * @param before 변경 전 카테고리
+	 * @param wasCounted 변경 전 집계 대상 여부
+	 * @param after 변경 후 카테고리
+	 * @param isCounted 변경 후 집계 대상 여부
+	 */
+	public void applyTransition(Category before, boolean wasCounted, Category after, boolean isCounted) {
+		if (wasCounted == isCounted && (!wasCounted || sameCategory(before, after))) {
+			return;
+		}
+
+		// 상위 카테고리 탐색은 영속성 컨텍스트가 열려 있는 지금 수행
+		Map<String, Long> deltas = new LinkedHashMap<>();
+		if (wasCounted) {
+			addDeltas(deltas, before, -1);
+		}
+		if (isCounted) {
+			addDeltas(deltas, after, 1);
+		}
+		deltas.values().removeIf(delta -> delta == 0);
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					adjust(deltas);
+				}
+			});
+			return;
+		}
+		adjust(deltas);
+	}
+
+	/**
+	 * 하위 카테고리 포함 상품 수 일괄 조회
+	 * @return categoryId -> 상품 수 (캐시에 없는 카테고리는 제외)
+	 */
+	public Map<UUID, Long> getTreeCounts(Collection<UUID> categoryIds) {
+		if (categoryIds == null || categoryIds.isEmpty()) {
+			return Map.of();
+		}
+
+		try {
+			List<UUID> ids = new ArrayList<>(categoryIds);
+			List<String> values = stringRedisTemplate.opsForValue()
+				.multiGet(ids.stream().map(ProductCacheKey::productTreeCount).toList());
+			if (values == null) {
+				return Map.of();
+			}
+
+			Map<UUID, Long> counts = new HashMap<>();
+			for (int i = 0; i < ids.size(); i++) {
+				if (values.get(i) != null) {
+					counts.put(ids.get(i), Long.parseLong(values.get(i)));
+				}
+			}
+			return counts;
+		} catch (Exception e) {
+			log.error("Failed to get tree counts from cache: categories={}", categoryIds.size(), e);
+			return Map.of();
+		}
+	}
+
+	/**
+	 * DB 집계값으로 개수 캐시 보정 (값이 다른 키만 덮어씀)
+	 *
+	 * @param directCounts categoryId -> 직접 속한 판매중 상품 수 (상품이 없는 카테고리는 생략 가능)
+	 * @param parentIds 전체 카테고리의 categoryId -> 부모 ID (최상위는 null)
+	 * @return 보정한 키 수
+	 */
+	public int reconcile(Map<UUID, Long> directCounts, Map<UUID, UUID> parentIds) {
+		Map<String, Long> expected = new LinkedHashMap<>();
+		for (UUID categoryId : parentIds.keySet()) {
+			expected.put(ProductCacheKey.productCount(categoryId), 0L);
+			expected.put(ProductCacheKey.productTreeCount(categoryId), 0L);
+		}
+
+		long total = 0;
+		for (Map.Entry<UUID, Long> entry : directCounts.entrySet()) {
+			long count = entry.getValue();
+			total += count;
+			expected.put(ProductCacheKey.productCount(entry.getKey()), count);
+
+			UUID categoryId = entry.getKey();
+			for (int depth = 0; categoryId != null && depth < MAX_DEPTH; depth++) {
+				expected.merge(ProductCacheKey.productTreeCount(categoryId), count, Long::sum);
+				categoryId = parentIds.get(categoryId);
+			}
+		}
+		expected.put(ProductCacheKey.productCount(null), total);
+
+		List<String> keys = new ArrayList<>(expected.keySet());
+		List<String> current = stringRedisTemplate.opsForValue().multiGet(keys);
+
+		Map<String, String> drifted = new LinkedHashMap<>();
+		for (int i = 0; i < keys.size(); i++) {
+			String value = String.valueOf(expected.get(keys.get(i)));
+			if (current == null || !value.equals(current.get(i))) {
+				drifted.put(keys.get(i), value);
+			}
+		}
+
+		if (!drifted.isEmpty()) {
+			stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection)connection;
+				drifted.forEach(stringConnection::set);
+				return null;
+			});
+		}
+		return drifted.size();
+	}
+
+	private void adjust(Map<String, Long> deltas) {
+		try {
+			List<String> keys = new ArrayList<>(deltas.keySet());
+			Object[] args = deltas.values().stream().map(String::valueOf).toArray();
+			stringRedisTemplate.execute(adjustScript, keys, args);
+			log.debug("Product counts adjusted: {}", deltas);
+		} catch (Exception e) {
+			log.error("Failed to adjust product counts: {}", deltas, e);
+		}
+	}
+
+	// 카테고리 직접 개수 + 자신/상위 카테고리 트리 개수 + 전체 개수
+	private void addDeltas(Map<String, Long> deltas, Category category, long delta) {
+		deltas.merge(ProductCacheKey.productCount(category.getId()), delta, Long::sum);
+		deltas.merge(ProductCacheKey.productCount(null), delta, Long::sum);
+
+		Category current = category;
+		for (int depth = 0; current != null && depth < MAX_DEPTH; depth++) {
+			deltas.merge(ProductCacheKey.productTreeCount(current.getId()), delta, Long::sum);
+			current = current.getParent();
+		}
+	}
+
+	private static boolean sameCategory(Category before, Category after) {
+		return Objects.equals(before.getId(), after.getId());
+	}
+}
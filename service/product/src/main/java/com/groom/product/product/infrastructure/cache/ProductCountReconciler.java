@@ -0,0 +1,76 @@
+package com.groom.product.product.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.groom.product.product.domain.repository.CategoryRepository;
+import com.groom.product.product.infrastructure.repository.ProductQueryRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카테고리별 상품 수 캐시 재집계
+ *
+ * 증분 반영(ProductCountCacheService.applyTransition)이 Redis 장애/커밋 직후 종료 등으로 누락되거나
+ * 캐시가 비워진 경우를 GROUP BY 1회로 보정한다. 기동 직후에도 실행되어 개수 키를 미리 채운다.
+ * 실행 간격 락(product:count:reconcile:lock)으로 여러 Pod 중 한 곳만 주기당 1회 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCountReconciler {
+
+	private final ProductQueryRepository productQueryRepository;
+	private final CategoryRepository categoryRepository;
+	private final ProductCountCacheService countCacheService;
+	private final StringRedisTemplate stringRedisTemplate;
+
+	@Value("${product.count.reconcile.delay-ms:600000}")
+	private long delayMs;
+
+	@Scheduled(
+		initialDelayString = "${product.count.reconcile.initial-delay-ms:30000}",
+		fixedDelayString = "${product.count.reconcile.delay-ms:600000}")
+	public void reconcileScheduled() {
+		try {
+			// 락은 해제하지 않고 만료시켜 다른 Pod가 같은 주기에 다시 실행하지 않도록 함
+			Boolean acquired = stringRedisTemplate.opsForValue()
+				.setIfAbsent(ProductCacheKey.countReconcileLock(), "1", Duration.ofMillis(delayMs));
+			if (!Boolean.TRUE.equals(acquired)) {
+				return;
+			}
+			reconcile();
+		} catch (Exception e) {
+			log.error("Failed to reconcile product counts", e);
+		}
+	}
+
+	/**
+	 * 즉시 재집계 (Warm-up 등에서 직접 호출, 실패 시 예외 전파)
+	 * @return 보정한 키 수
+	 */
+	public int reconcile() {
+		Map<UUID, UUID> parentIds = new HashMap<>();
+		for (Object[] row : categoryRepository.findAllParentIds()) {
+			parentIds.put((UUID)row[0], (UUID)row[1]);
+		}
+
+		Map<UUID, Long> directCounts = productQueryRepository.countProductsForBuyerGroupByCategory();
+		int drifted = countCacheService.reconcile(directCounts, parentIds);
+
+		if (drifted > 0) {
+			log.info("Product counts reconciled: categories={}, driftedKeys={}", parentIds.size(), drifted);
+		} else {
+			log.debug("Product counts reconciled: categories={}, no drift", parentIds.size());
+		}
+		return drifted;
+	}
+}
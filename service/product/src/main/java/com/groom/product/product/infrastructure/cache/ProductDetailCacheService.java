@@ -1,13 +1,23 @@
 package com.groom.product.product.infrastructure.cache;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.groom.product.product.domain.entity.Product;
 
@@ -18,18 +28,23 @@ import lombok.extern.slf4j.Slf4j;
  * 상품 상세 Redis 캐시 서비스
  *
  * 키: product:detail:{productId}
- * 값: CachedProductDetail (JSON)
+ * 값: CachedProductDetail (바이너리, ProductDetailRedisSerializer - 기존 JSON 값도 읽기 가능)
  *
  * 특징:
- * - TTL 없음 (이벤트 기반 즉시 업데이트)
+ * - 변경 시 즉시 갱신/무효화, TTL(product.cache.detail.ttl-seconds)은 갱신 누락에 대한 안전망
  * - MGET으로 다수 상품 일괄 조회 지원
+ * - L1 Near Cache(ProductDetailNearCache) 우선 조회, put/delete 시 Pub/Sub으로 다른 인스턴스 무효화
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductDetailCacheService {
 
-	private final RedisTemplate<String, Object> redisTemplate;
+	private final RedisTemplate<String, CachedProductDetail> productDetailRedisTemplate;
+	private final ProductDetailNearCache nearCache;
+
+	@Value("${product.cache.detail.ttl-seconds:3600}")
+	private long ttlSeconds;
 
 	/**
 	 * 상품 상세 캐시 저장/업데이트
@@ -40,7 +55,8 @@ public class ProductDetailCacheService {
 			String key = ProductCacheKey.productDetail(product.getId());
 			CachedProductDetail cached = CachedProductDetail.from(product);
 
-			redisTemplate.opsForValue().set(key, cached);
+			productDetailRedisTemplate.opsForValue().set(key, cached, Duration.ofSeconds(ttlSeconds));
+			nearCache.update(cached);
 
 			log.debug("Product detail cached: productId={}", product.getId());
 		} catch (Exception e) {
@@ -48,19 +64,55 @@ public class ProductDetailCacheService {
 		}
 	}
 
+	/**
+	 * 상품 상세 캐시 일괄 저장 (파이프라인, Warm-up용)
+	 * Near Cache 무효화는 발행하지 않으며 (L1은 TTL로 수렴), 실패 시 예외를 전파하여 호출자가 재시도하도록 함
+	 * @param details 저장할 캐시 객체 리스트
+	 */
+	@SuppressWarnings("unchecked")
+	public void putAll(List<CachedProductDetail> details) {
+		if (details == null || details.isEmpty()) {
+			return;
+		}
+
+		RedisSerializer<String> keySerializer =
+			(RedisSerializer<String>)productDetailRedisTemplate.getKeySerializer();
+		RedisSerializer<CachedProductDetail> valueSerializer =
+			(RedisSerializer<CachedProductDetail>)productDetailRedisTemplate.getValueSerializer();
+
+		productDetailRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (CachedProductDetail detail : details) {
+				connection.stringCommands().set(
+					keySerializer.serialize(ProductCacheKey.productDetail(detail.getProductId())),
+					valueSerializer.serialize(detail),
+					Expiration.seconds(ttlSeconds),
+					RedisStringCommands.SetOption.upsert());
+			}
+			return null;
+		});
+
+		log.debug("Product details cached in pipeline: count={}", details.size());
+	}
+
 	/**
 	 * 상품 상세 캐시 조회
 	 * @param productId 상품 ID
 	 * @return 캐시된 상품 상세 (없으면 null)
 	 */
 	public CachedProductDetail get(UUID productId) {
+		CachedProductDetail local = nearCache.get(productId);
+		if (local != null) {
+			return local;
+		}
+
 		try {
 			String key = ProductCacheKey.productDetail(productId);
-			Object cached = redisTemplate.opsForValue().get(key);
+			CachedProductDetail cached = productDetailRedisTemplate.opsForValue().get(key);
 
-			if (cached instanceof CachedProductDetail) {
+			if (cached != null) {
 				log.debug("Product detail cache hit: productId={}", productId);
-				return (CachedProductDetail) cached;
+				nearCache.putLocal(cached);
+				return cached;
 			}
 
 			log.debug("Product detail cache miss: productId={}", productId);
@@ -81,23 +133,33 @@ public class ProductDetailCacheService {
 			return Collections.emptyMap();
 		}
 
+		// L1 히트 제외 후 나머지만 MGET
+		Map<UUID, CachedProductDetail> resultMap = new HashMap<>(nearCache.getAll(productIds));
+		List<UUID> missedIds = productIds.stream()
+			.filter(id -> !resultMap.containsKey(id))
+			.toList();
+
+		if (missedIds.isEmpty()) {
+			return resultMap;
+		}
+
 		try {
-			List<String> keys = productIds.stream()
+			List<String> keys = missedIds.stream()
 				.map(ProductCacheKey::productDetail)
 				.toList();
 
-			List<Object> results = redisTemplate.opsForValue().multiGet(keys);
+			List<CachedProductDetail> results = productDetailRedisTemplate.opsForValue().multiGet(keys);
 
 			if (results == null) {
-				return Collections.emptyMap();
+				return resultMap;
 			}
 
 			// 결과 매핑 (null 제외)
-			Map<UUID, CachedProductDetail> resultMap = new java.util.HashMap<>();
-			for (int i = 0; i < productIds.size(); i++) {
-				Object cached = results.get(i);
-				if (cached instanceof CachedProductDetail detail) {
-					resultMap.put(productIds.get(i), detail);
+			for (int i = 0; i < missedIds.size(); i++) {
+				CachedProductDetail cached = results.get(i);
+				if (cached != null) {
+					resultMap.put(missedIds.get(i), cached);
+					nearCache.putLocal(cached);
 				}
 			}
 
@@ -107,8 +169,86 @@ public class ProductDetailCacheService {
 			return resultMap;
 		} catch (Exception e) {
 			log.error("Failed to multi-get product details from cache", e);
-			return Collections.emptyMap();
+			return resultMap;
+		}
+	}
+
+	/**
+	 * 다수 상품 상세 + 재고 일괄 조회 (파이프라인 1회: 상세 MGET + 재고 MGET)
+	 * 상세는 L1 히트를 제외하고 조회, 재고(stock:*)는 가점유가 반영된 실시간 값이라 항상 Redis에서 조회
+	 * @param productIds 상품 ID 리스트
+	 * @param stockKeys 재고 키 리스트 (StockCacheKey.stockKey)
+	 * @return 캐시 히트한 상세 + 존재하는 재고 값 (조회 실패 시 L1 히트만 포함)
+	 */
+	@SuppressWarnings("unchecked")
+	public DetailsWithStock multiGetWithStock(List<UUID> productIds, List<String> stockKeys) {
+		Map<UUID, CachedProductDetail> details = new HashMap<>(nearCache.getAll(productIds));
+		Map<String, Integer> stocks = new HashMap<>();
+
+		List<UUID> missedIds = productIds.stream()
+			.filter(id -> !details.containsKey(id))
+			.toList();
+		if (missedIds.isEmpty() && stockKeys.isEmpty()) {
+			return new DetailsWithStock(details, stocks);
+		}
+
+		RedisSerializer<String> keySerializer =
+			(RedisSerializer<String>)productDetailRedisTemplate.getKeySerializer();
+		RedisSerializer<CachedProductDetail> valueSerializer =
+			(RedisSerializer<CachedProductDetail>)productDetailRedisTemplate.getValueSerializer();
+
+		try {
+			// 결과 직렬화 방식이 달라 원본 바이트로 받아 직접 변환
+			List<Object> results = productDetailRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				if (!missedIds.isEmpty()) {
+					connection.stringCommands().mGet(missedIds.stream()
+						.map(id -> keySerializer.serialize(ProductCacheKey.productDetail(id)))
+						.toArray(byte[][]::new));
+				}
+				if (!stockKeys.isEmpty()) {
+					connection.stringCommands().mGet(stockKeys.stream()
+						.map(keySerializer::serialize)
+						.toArray(byte[][]::new));
+				}
+				return null;
+			}, null);
+
+			int index = 0;
+			if (!missedIds.isEmpty()) {
+				List<byte[]> values = (List<byte[]>)results.get(index++);
+				for (int i = 0; i < missedIds.size(); i++) {
+					byte[] value = values.get(i);
+					if (value != null) {
+						CachedProductDetail cached = valueSerializer.deserialize(value);
+						details.put(missedIds.get(i), cached);
+						nearCache.putLocal(cached);
+					}
+				}
+			}
+			if (!stockKeys.isEmpty()) {
+				List<byte[]> values = (List<byte[]>)results.get(index);
+				for (int i = 0; i < stockKeys.size(); i++) {
+					byte[] value = values.get(i);
+					if (value != null) {
+						stocks.put(stockKeys.get(i), Integer.parseInt(new String(value, StandardCharsets.UTF_8)));
+					}
+				}
+			}
+
+			log.debug("Product detail multi-get with stock: requested={}, found={}, stocks={}",
+				productIds.size(), details.size(), stocks.size());
+		} catch (Exception e) {
+			log.error("Failed to multi-get product details with stock from cache", e);
 		}
+		return new DetailsWithStock(details, stocks);
+	}
+
+	/**
+	 * 상세 + 재고 일괄 조회 결과
+	 * @param details productId -> CachedProductDetail (캐시 미스는 포함되지 않음)
+	 * @param stocks 재고 키 -> 가용 재고 (키가 없으면 포함되지 않음)
+	 */
+	public record DetailsWithStock(Map<UUID, CachedProductDetail> details, Map<String, Integer> stocks) {
 	}
 
 	/**
@@ -122,18 +262,10 @@ public class ProductDetailCacheService {
 		}
 
 		try {
-			List<String> keys = productIds.stream()
-				.map(ProductCacheKey::productDetail)
-				.toList();
-
-			List<Object> results = redisTemplate.opsForValue().multiGet(keys);
-
-			if (results == null) {
-				return Collections.emptyList();
-			}
+			Map<UUID, CachedProductDetail> found = multiGet(productIds);
 
-			return results.stream()
-				.map(obj -> obj instanceof CachedProductDetail ? (CachedProductDetail) obj : null)
+			return productIds.stream()
+				.map(found::get)
 				.toList();
 		} catch (Exception e) {
 			log.error("Failed to multi-get product details as list from cache", e);
@@ -148,12 +280,31 @@ public class ProductDetailCacheService {
 	public void delete(UUID productId) {
 		try {
 			String key = ProductCacheKey.productDetail(productId);
-			redisTemplate.delete(key);
+			productDetailRedisTemplate.delete(key);
 
 			log.debug("Product detail cache deleted: productId={}", productId);
 		} catch (Exception e) {
 			log.error("Failed to delete product detail from cache: productId={}", productId, e);
 		}
+		nearCache.invalidate(productId);
+	}
+
+	/**
+	 * 상품 상세 캐시 무효화 (트랜잭션 중이면 즉시 + 커밋 후 한 번 더)
+	 * 커밋 전 다른 요청이 이전 DB 값으로 다시 적재해도 커밋 후 삭제로 제거됨
+	 * @param productId 무효화할 상품 ID
+	 */
+	public void evictAfterCommit(UUID productId) {
+		delete(productId);
+
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					delete(productId);
+				}
+			});
+		}
 	}
 
 	/**
@@ -163,7 +314,7 @@ public class ProductDetailCacheService {
 	public boolean exists(UUID productId) {
 		try {
 			String key = ProductCacheKey.productDetail(productId);
-			Boolean exists = redisTemplate.hasKey(key);
+			Boolean exists = productDetailRedisTemplate.hasKey(key);
 			return Boolean.TRUE.equals(exists);
 		} catch (Exception e) {
 			log.error("Failed to check product detail cache existence: productId={}", productId, e);
@@ -175,10 +326,11 @@ public class ProductDetailCacheService {
 	 * 전체 상품 상세 캐시 삭제 (주의: 운영 환경에서 신중히 사용)
 	 */
 	public void clearAll() {
+		nearCache.invalidateAll();
 		try {
-			Set<String> keys = redisTemplate.keys(ProductCacheKey.productDetailPattern());
+			Set<String> keys = productDetailRedisTemplate.keys(ProductCacheKey.productDetailPattern());
 			if (keys != null && !keys.isEmpty()) {
-				redisTemplate.delete(keys);
+				productDetailRedisTemplate.delete(keys);
 				log.info("All product detail cache cleared: {} keys", keys.size());
 			}
 		} catch (Exception e) {
@@ -0,0 +1,141 @@
+package com.groom.product.product.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 상세 Near Cache (L1, JVM 로컬)
+ *
+ * [구조]
+ * L1: Caffeine (크기/TTL 기반 제거) → L2: Redis (product:detail:{productId})
+ *
+ * [무효화]
+ * - put/delete 시 product:detail:invalidate 채널로 무효화 메시지 발행
+ * - 다른 인스턴스는 메시지를 수신하여 로컬 엔트리 제거 (자신이 발행한 메시지는 무시)
+ * - 메시지 유실 시에도 TTL 경과 후 Redis에서 다시 로딩되므로 최대 TTL만큼만 지연
+ *
+ * [메트릭]
+ * cache.gets{cache=product.detail.near, result=hit|miss}, cache.evictions, cache.size
+ */
+@Slf4j
+@Component
+public class ProductDetailNearCache implements MessageListener {
+
+	private static final String SEPARATOR = "|";
+	private static final String ALL = "*";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final Cache<UUID, CachedProductDetail> cache;
+	private final String instanceId = UUID.randomUUID().toString();
+
+	public ProductDetailNearCache(
+		StringRedisTemplate stringRedisTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${product.cache.near.max-size:10000}") long maxSize,
+		@Value("${product.cache.near.ttl-seconds:30}") long ttlSeconds
+	) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "product.detail.near");
+	}
+
+	/**
+	 * 로컬 조회 (없으면 null)
+	 */
+	public CachedProductDetail get(UUID productId) {
+		return cache.getIfPresent(productId);
+	}
+
+	/**
+	 * 로컬 일괄 조회 (히트한 항목만 포함)
+	 */
+	public Map<UUID, CachedProductDetail> getAll(Collection<UUID> productIds) {
+		return cache.getAllPresent(productIds);
+	}
+
+	/**
+	 * 로컬 적재 (Redis에서 읽어온 값 보관용, 무효화 발행 없음)
+	 */
+	public void putLocal(CachedProductDetail detail) {
+		cache.put(detail.getProductId(), detail);
+	}
+
+	/**
+	 * 값 변경 시 호출: 로컬 갱신 + 다른 인스턴스 무효화
+	 */
+	public void update(CachedProductDetail detail) {
+		cache.put(detail.getProductId(), detail);
+		publish(detail.getProductId().toString());
+	}
+
+	/**
+	 * 삭제 시 호출: 로컬 제거 + 다른 인스턴스 무효화
+	 */
+	public void invalidate(UUID productId) {
+		cache.invalidate(productId);
+		publish(productId.toString());
+	}
+
+	/**
+	 * 전체 삭제 시 호출: 로컬 전체 제거 + 다른 인스턴스 무효화
+	 */
+	public void invalidateAll() {
+		cache.invalidateAll();
+		publish(ALL);
+	}
+
+	/**
+	 * 다른 인스턴스의 무효화 메시지 수신
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int separatorIndex = body.indexOf(SEPARATOR);
+		if (separatorIndex < 0) {
+			log.warn("Invalid near cache invalidation message: {}", body);
+			return;
+		}
+
+		String origin = body.substring(0, separatorIndex);
+		String target = body.substring(separatorIndex + 1);
+		if (instanceId.equals(origin)) {
+			return;
+		}
+
+		if (ALL.equals(target)) {
+			cache.invalidateAll();
+		} else {
+			cache.invalidate(UUID.fromString(target));
+		}
+		log.debug("Near cache invalidated by remote instance: target={}", target);
+	}
+
+	private void publish(String target) {
+		try {
+			stringRedisTemplate.convertAndSend(
+				ProductCacheKey.productDetailInvalidationChannel(), instanceId + SEPARATOR + target);
+		} catch (Exception e) {
+			log.error("Failed to publish near cache invalidation: target={}", target, e);
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.groom.product.product.infrastructure.cache;
+
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 상세 캐시 값 직렬화기 (바이너리/JSON 이중 읽기)
+ *
+ * [쓰기] binaryWrite=true → CachedProductDetailCodec, false → 기존 JSON (롤백용)
+ * [읽기] 첫 바이트가 MAGIC이면 바이너리, 아니면 기존 JSON으로 해석 (legacyJsonRead=true 인 경우)
+ *       legacyJsonRead=false 이면 JSON 값은 캐시 미스(null)로 처리되어 DB에서 다시 적재됨
+ */
+@Slf4j
+public class ProductDetailRedisSerializer implements RedisSerializer<CachedProductDetail> {
+
+	private final GenericJackson2JsonRedisSerializer jsonRedisSerializer;
+	private final boolean binaryWrite;
+	private final boolean legacyJsonRead;
+
+	public ProductDetailRedisSerializer(
+		GenericJackson2JsonRedisSerializer jsonRedisSerializer,
+		boolean binaryWrite,
+		boolean legacyJsonRead
+	) {
+		this.jsonRedisSerializer = jsonRedisSerializer;
+		this.binaryWrite = binaryWrite;
+		this.legacyJsonRead = legacyJsonRead;
+	}
+
+	@Override
+	public byte[] serialize(CachedProductDetail value) throws SerializationException {
+		if (value == null) {
+			return new byte[0];
+		}
+		if (binaryWrite) {
+			return CachedProductDetailCodec.encode(value);
+		}
+		return jsonRedisSerializer.serialize(value);
+	}
+
+	@Override
+	public CachedProductDetail deserialize(byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+
+		if (CachedProductDetailCodec.isBinary(bytes)) {
+			try {
+				return CachedProductDetailCodec.decode(bytes);
+			} catch (RuntimeException e) {
+				log.warn("Failed to decode binary product detail, treating as cache miss", e);
+				return null;
+			}
+		}
+
+		if (!legacyJsonRead) {
+			return null;
+		}
+
+		Object legacy = jsonRedisSerializer.deserialize(bytes);
+		return legacy instanceof CachedProductDetail detail ? detail : null;
+	}
+}
@@ -2,15 +2,29 @@ package com.groom.product.product.infrastructure.cache;
 
 import java.time.ZoneOffset;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
 import org.springframework.stereotype.Service;
 
 import com.groom.product.product.domain.entity.Product;
+import com.groom.product.product.domain.entity.ProductVariant;
+import com.groom.product.product.domain.enums.ProductSortType;
+import com.groom.product.product.domain.enums.ProductStatus;
+import com.groom.product.product.infrastructure.repository.ProductSearchCursor;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -20,9 +34,18 @@ import lombok.extern.slf4j.Slf4j;
  * 키: product:list:category:{categoryId}
  * 값: Sorted Set (score: createdAt timestamp, member: productId)
  *
+ * 정렬 인덱스 (판매중 상품만, 카테고리별 + 전체):
+ * - product:list:price:category:{categoryId|all}  (score: 최저가, 가격 없으면 +inf) → PRICE_ASC는 ZRANGE, PRICE_DESC는 product_price_desc_page.lua
+ *   가격 없는 상품은 낮은순/높은순 모두 마지막 (DB 정렬 nullsLast와 동일)
+ * - product:list:rating:category:{categoryId|all} (score: 평균 평점) → RATING은 ZREVRANGE
+ * - product:list:cursor:category:{categoryId|all} (score: createdAt epoch microseconds) → 커서 조회 (product_list_page.lua)
+ * 동점은 member(productId) 사전순으로 정렬되며 DB 정렬(가격/평점/createdAt → productId)과 동일
+ * 정렬 인덱스는 크기가 판매중 상품 수 이상일 때만 빠짐없이 적재된 것으로 보고 조회에 사용 (지연 적재 중에는 빈 구간이 있음)
+ *
  * 장점:
  * - 상품 변경 시 해당 상품만 추가/삭제 (목록 전체 무효화 불필요)
  * - ZREVRANGE로 페이지네이션 즉시 처리
+ * - 커서 조회(getCursorPage)는 offset 없이 커서 위치부터 조회
  * - 키 수 = 카테고리 수 (키 폭발 방지)
  */
 @Slf4j
@@ -32,32 +55,107 @@ public class ProductListCacheService {
 
 	private final StringRedisTemplate stringRedisTemplate;
 
+	// 가격 없는 상품의 가격 인덱스 점수 (높은순은 스크립트가 가격 있는 구간 뒤로 보냄)
+	private static final double NO_PRICE_SCORE = Double.POSITIVE_INFINITY;
+
+	@SuppressWarnings("rawtypes")
+	private DefaultRedisScript<List> listPageScript;
+	@SuppressWarnings("rawtypes")
+	private DefaultRedisScript<List> priceDescPageScript;
+
+	@PostConstruct
+	public void init() {
+		listPageScript = new DefaultRedisScript<>();
+		listPageScript.setScriptSource(new ResourceScriptSource(
+			new ClassPathResource("scripts/product_list_page.lua")));
+		listPageScript.setResultType(List.class);
+
+		priceDescPageScript = new DefaultRedisScript<>();
+		priceDescPageScript.setScriptSource(new ResourceScriptSource(
+			new ClassPathResource("scripts/product_price_desc_page.lua")));
+		priceDescPageScript.setResultType(List.class);
+	}
+
 	/**
-	 * 카테고리 목록에 상품 추가
+	 * 카테고리 목록에 상품 추가 (판매중이면 가격/평점 인덱스에도 추가)
 	 * @param product 추가할 상품
+	 * @param avgRating 평균 평점 (리뷰가 없으면 0)
 	 */
-	public void addProduct(Product product) {
+	public void addProduct(Product product, double avgRating) {
 		try {
 			String productId = product.getId().toString();
 			double score = product.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
+			UUID categoryId = product.getCategory().getId();
 
 			// 카테고리별 목록에 추가
-			String categoryKey = ProductCacheKey.productList(product.getCategory().getId());
+			String categoryKey = ProductCacheKey.productList(categoryId);
 			stringRedisTemplate.opsForZSet().add(categoryKey, productId, score);
 
 			// 전체 목록에도 추가
 			String allKey = ProductCacheKey.productListAll();
 			stringRedisTemplate.opsForZSet().add(allKey, productId, score);
 
-			log.debug("Product added to list cache: productId={}, categoryId={}",
-				productId, product.getCategory().getId());
+			// 정렬 인덱스
+			if (product.getStatus() == ProductStatus.ON_SALE) {
+				addToSortIndexes(product, avgRating);
+			}
+
+			log.debug("Product added to list cache: productId={}, categoryId={}", productId, categoryId);
 		} catch (Exception e) {
 			log.error("Failed to add product to list cache: productId={}", product.getId(), e);
 		}
 	}
 
 	/**
-	 * 카테고리 목록에서 상품 제거
+	 * 가격/평점/커서 인덱스에 상품 추가 (품절 해제 등 판매중 복귀 시)
+	 * @param product 추가할 상품 (카테고리, 옵션 상품은 Variant 로딩 필요)
+	 * @param avgRating 평균 평점 (리뷰가 없으면 0)
+	 */
+	public void addToSortIndexes(Product product, double avgRating) {
+		try {
+			stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection)connection;
+				zAddSortScores(stringConnection, product, avgRating);
+				return null;
+			});
+		} catch (Exception e) {
+			log.error("Failed to add product to sort indexes: productId={}", product.getId(), e);
+		}
+	}
+
+	/**
+	 * 카테고리/전체 목록에 상품 일괄 추가 (파이프라인, Warm-up용, 판매중이면 가격/평점 인덱스 포함)
+	 * 실패 시 예외를 전파하여 호출자가 재시도하도록 함
+	 * @param products 추가할 상품 리스트 (카테고리, 옵션 상품은 Variant 로딩 필요)
+	 * @param avgRatings productId -> 평균 평점 (없으면 0)
+	 */
+	public void addProducts(List<Product> products, Map<UUID, Double> avgRatings) {
+		if (products == null || products.isEmpty()) {
+			return;
+		}
+
+		String allKey = ProductCacheKey.productListAll();
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			for (Product product : products) {
+				String productId = product.getId().toString();
+				double score = product.getCreatedAt().toEpochSecond(ZoneOffset.UTC);
+
+				stringConnection.zAdd(ProductCacheKey.productList(product.getCategory().getId()), score, productId);
+				stringConnection.zAdd(allKey, score, productId);
+
+				if (product.getStatus() == ProductStatus.ON_SALE) {
+					zAddSortScores(stringConnection, product, avgRatings.getOrDefault(product.getId(), 0.0));
+				}
+			}
+			return null;
+		});
+
+		log.debug("Products added to list cache in pipeline: count={}", products.size());
+	}
+
+	/**
+	 * 카테고리 목록에서 상품 제거 (가격/평점/커서 인덱스 포함)
 	 * @param productId 제거할 상품 ID
 	 * @param categoryId 카테고리 ID
 	 */
@@ -73,12 +171,37 @@ public class ProductListCacheService {
 			String allKey = ProductCacheKey.productListAll();
 			stringRedisTemplate.opsForZSet().remove(allKey, productIdStr);
 
+			removeFromSortIndexes(productId, categoryId);
+
 			log.debug("Product removed from list cache: productId={}, categoryId={}", productId, categoryId);
 		} catch (Exception e) {
 			log.error("Failed to remove product from list cache: productId={}", productId, e);
 		}
 	}
 
+	/**
+	 * 가격/평점/커서 인덱스에서 상품 제거 (품절 등 판매중이 아니게 된 경우)
+	 * @param productId 제거할 상품 ID
+	 * @param categoryId 카테고리 ID
+	 */
+	public void removeFromSortIndexes(UUID productId, UUID categoryId) {
+		try {
+			String productIdStr = productId.toString();
+			stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection)connection;
+				for (String key : sortIndexKeys(categoryId)) {
+					stringConnection.zRem(key, productIdStr);
+				}
+				for (String key : sortIndexKeys(null)) {
+					stringConnection.zRem(key, productIdStr);
+				}
+				return null;
+			});
+		} catch (Exception e) {
+			log.error("Failed to remove product from sort indexes: productId={}", productId, e);
+		}
+	}
+
 	/**
 	 * 상품의 카테고리 변경 처리
 	 * @param product 변경된 상품
@@ -97,6 +220,17 @@ public class ProductListCacheService {
 			String newKey = ProductCacheKey.productList(product.getCategory().getId());
 			stringRedisTemplate.opsForZSet().add(newKey, productId, score);
 
+			// 가격/평점/커서 인덱스는 이전 카테고리에 있던 점수 그대로 이동 (판매중이 아니라 인덱스에 없으면 생략)
+			List<String> oldIndexKeys = sortIndexKeys(oldCategoryId);
+			List<String> newIndexKeys = sortIndexKeys(product.getCategory().getId());
+			for (int i = 0; i < oldIndexKeys.size(); i++) {
+				Double sortScore = stringRedisTemplate.opsForZSet().score(oldIndexKeys.get(i), productId);
+				if (sortScore != null) {
+					stringRedisTemplate.opsForZSet().remove(oldIndexKeys.get(i), productId);
+					stringRedisTemplate.opsForZSet().add(newIndexKeys.get(i), productId, sortScore);
+				}
+			}
+
 			log.debug("Product moved in list cache: productId={}, from={}, to={}",
 				productId, oldCategoryId, product.getCategory().getId());
 		} catch (Exception e) {
@@ -104,6 +238,25 @@ public class ProductListCacheService {
 		}
 	}
 
+	/**
+	 * 가격 인덱스 점수 갱신 (상품/Variant 가격 변경 시, 인덱스에 있는 상품만)
+	 * @param product 변경된 상품 (옵션 상품은 Variant 로딩 필요)
+	 */
+	public void updatePrice(Product product) {
+		updateSortScore(product.getId(), product.getCategory().getId(), ProductSortType.PRICE_ASC,
+			priceScore(minPrice(product)));
+	}
+
+	/**
+	 * 평점 인덱스 점수 갱신 (리뷰 작성/수정/삭제 시, 인덱스에 있는 상품만)
+	 * @param productId 상품 ID
+	 * @param categoryId 카테고리 ID
+	 * @param avgRating 평균 평점
+	 */
+	public void updateRating(UUID productId, UUID categoryId, double avgRating) {
+		updateSortScore(productId, categoryId, ProductSortType.RATING, avgRating);
+	}
+
 	/**
 	 * 카테고리별 상품 ID 목록 조회 (최신순)
 	 * @param categoryId 카테고리 ID (null이면 전체)
@@ -112,12 +265,29 @@ public class ProductListCacheService {
 	 * @return 상품 ID 리스트
 	 */
 	public List<UUID> getProductIds(UUID categoryId, long offset, long limit) {
+		return getProductIds(categoryId, ProductSortType.NEWEST, offset, limit);
+	}
+
+	/**
+	 * 카테고리별 상품 ID 목록 조회 (정렬 기준별 인덱스)
+	 * @param categoryId 카테고리 ID (null이면 전체)
+	 * @param sortType PRICE_ASC는 오름차순(ZRANGE), PRICE_DESC는 가격 없는 상품을 마지막으로, 나머지는 내림차순(ZREVRANGE)
+	 * @param offset 시작 위치 (0부터)
+	 * @param limit 조회 개수
+	 * @return 상품 ID 리스트
+	 */
+	public List<UUID> getProductIds(UUID categoryId, ProductSortType sortType, long offset, long limit) {
 		try {
-			String key = ProductCacheKey.productList(categoryId);
+			String key = ProductCacheKey.productList(categoryId, sortType);
 
-			// ZREVRANGE: score 내림차순 (최신순)
-			Set<String> productIds = stringRedisTemplate.opsForZSet()
-				.reverseRange(key, offset, offset + limit - 1);
+			if (sortType == ProductSortType.PRICE_DESC) {
+				ListPage page = getPriceDescPage(categoryId, offset, limit);
+				return page.productIds();
+			}
+
+			Set<String> productIds = sortType == ProductSortType.PRICE_ASC
+				? stringRedisTemplate.opsForZSet().range(key, offset, offset + limit - 1)
+				: stringRedisTemplate.opsForZSet().reverseRange(key, offset, offset + limit - 1);
 
 			if (productIds == null || productIds.isEmpty()) {
 				return Collections.emptyList();
@@ -127,11 +297,112 @@ public class ProductListCacheService {
 				.map(UUID::fromString)
 				.toList();
 		} catch (Exception e) {
-			log.error("Failed to get product IDs from cache: categoryId={}", categoryId, e);
+			log.error("Failed to get product IDs from cache: categoryId={}, sortType={}", categoryId, sortType, e);
 			return Collections.emptyList();
 		}
 	}
 
+	/**
+	 * 목록 페이지 조회 (상품 ID + 정렬 인덱스 크기 + 상품 수 캐시를 파이프라인 한 번으로 조회)
+	 * 인덱스 크기는 판매중 상품 수와 비교해 가격/평점 인덱스가 모두 채워졌는지 판단하는 데 사용
+	 * @param categoryId 카테고리 ID (null이면 전체)
+	 * @param sortType PRICE_ASC는 오름차순(ZRANGE), PRICE_DESC는 스크립트 1회, 나머지는 내림차순(ZREVRANGE)
+	 * @return 조회 실패 시 null
+	 */
+	public ListPage getPage(UUID categoryId, ProductSortType sortType, long offset, long limit) {
+		try {
+			if (sortType == ProductSortType.PRICE_DESC) {
+				return getPriceDescPage(categoryId, offset, limit);
+			}
+
+			String key = ProductCacheKey.productList(categoryId, sortType);
+			String countKey = ProductCacheKey.productCount(categoryId);
+			List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection)connection;
+				if (sortType == ProductSortType.PRICE_ASC) {
+					stringConnection.zRange(key, offset, offset + limit - 1);
+				} else {
+					stringConnection.zRevRange(key, offset, offset + limit - 1);
+				}
+				stringConnection.zCard(key);
+				stringConnection.get(countKey);
+				return null;
+			});
+
+			@SuppressWarnings("unchecked")
+			Set<String> productIds = (Set<String>)results.get(0);
+			Long indexSize = (Long)results.get(1);
+			Object totalCount = results.get(2);
+
+			return new ListPage(
+				productIds == null ? Collections.emptyList() : productIds.stream().map(UUID::fromString).toList(),
+				indexSize != null ? indexSize : 0,
+				totalCount != null ? Long.parseLong(String.valueOf(totalCount)) : -1);
+		} catch (Exception e) {
+			log.error("Failed to get list page from cache: categoryId={}, sortType={}", categoryId, sortType, e);
+			return null;
+		}
+	}
+
+	// 가격 높은순 페이지 (가격 없는 상품은 마지막, product_price_desc_page.lua)
+	@SuppressWarnings("unchecked")
+	private ListPage getPriceDescPage(UUID categoryId, long offset, long limit) {
+		List<Object> result = stringRedisTemplate.execute(priceDescPageScript,
+			List.of(ProductCacheKey.productList(categoryId, ProductSortType.PRICE_DESC),
+				ProductCacheKey.productCount(categoryId)),
+			String.valueOf(offset),
+			String.valueOf(limit));
+
+		if (result == null || result.size() < 2) {
+			return new ListPage(Collections.emptyList(), 0, -1);
+		}
+
+		String totalCount = String.valueOf(result.get(1));
+		return new ListPage(
+			result.subList(2, result.size()).stream().map(id -> UUID.fromString(String.valueOf(id))).toList(),
+			((Number)result.get(0)).longValue(),
+			totalCount.isEmpty() ? -1 : Long.parseLong(totalCount));
+	}
+
+	/**
+	 * 커서 페이지 조회 (최신순 커서 인덱스 + 인덱스 크기 + 상품 수 캐시를 스크립트 한 번으로 조회)
+	 * @param categoryId 카테고리 ID (null이면 전체)
+	 * @param cursorScore 이전 페이지 마지막 상품의 score (ProductSearchCursor.getCreatedAtScore, null이면 첫 페이지)
+	 * @param cursorId 이전 페이지 마지막 상품 ID
+	 * @param limit 조회 개수
+	 * @return 조회 실패 시 null
+	 */
+	@SuppressWarnings("unchecked")
+	public CursorPage getCursorPage(UUID categoryId, Long cursorScore, UUID cursorId, int limit) {
+		try {
+			List<Object> result = stringRedisTemplate.execute(listPageScript,
+				List.of(ProductCacheKey.productCursorList(categoryId), ProductCacheKey.productCount(categoryId)),
+				cursorScore != null ? String.valueOf(cursorScore) : "",
+				cursorId != null ? cursorId.toString() : "",
+				String.valueOf(limit));
+
+			if (result == null || result.size() < 2) {
+				return null;
+			}
+
+			Map<UUID, Long> productIds = new LinkedHashMap<>();
+			for (int i = 2; i + 1 < result.size(); i += 2) {
+				productIds.put(
+					UUID.fromString(String.valueOf(result.get(i))),
+					(long)Double.parseDouble(String.valueOf(result.get(i + 1))));
+			}
+
+			String totalCount = String.valueOf(result.get(1));
+			return new CursorPage(
+				productIds,
+				((Number)result.get(0)).longValue(),
+				totalCount.isEmpty() ? -1 : Long.parseLong(totalCount));
+		} catch (Exception e) {
+			log.error("Failed to get cursor page from cache: categoryId={}", categoryId, e);
+			return null;
+		}
+	}
+
 	/**
 	 * 카테고리별 전체 상품 수 조회 (ZSet 크기 반환)
 	 * @deprecated getCachedTotalCount 사용 권장
@@ -176,7 +447,7 @@ public class ProductListCacheService {
 	}
 
 	/**
-	 * 전체 상품 수 캐시 삭제 (CUD 발생 시 호출)
+	 * 전체 상품 수 캐시 삭제 (수동 초기화용, CUD는 ProductCountCacheService가 증분 반영)
 	 */
 	public void deleteTotalCount(UUID categoryId) {
 		try {
@@ -214,4 +485,81 @@ public class ProductListCacheService {
 			log.error("Failed to clear all list cache", e);
 		}
 	}
-}
\ No newline at end of file
+
+	private void updateSortScore(UUID productId, UUID categoryId, ProductSortType sortType, double score) {
+		try {
+			String productIdStr = productId.toString();
+			stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection)connection;
+				// XX: 인덱스에 없는 상품(판매중 아님, 아직 미적재)은 추가하지 않음
+				stringConnection.zAdd(ProductCacheKey.productList(categoryId, sortType), score, productIdStr,
+					ZAddArgs.empty().ifExists());
+				stringConnection.zAdd(ProductCacheKey.productList(null, sortType), score, productIdStr,
+					ZAddArgs.empty().ifExists());
+				return null;
+			});
+		} catch (Exception e) {
+			log.error("Failed to update sort score: productId={}, sortType={}", productId, sortType, e);
+		}
+	}
+
+	private void zAddSortScores(StringRedisConnection connection, Product product, double avgRating) {
+		String productId = product.getId().toString();
+		UUID categoryId = product.getCategory().getId();
+		double priceScore = priceScore(minPrice(product));
+		double cursorScore = ProductSearchCursor.createdAtScore(product.getCreatedAt());
+		connection.zAdd(ProductCacheKey.productList(categoryId, ProductSortType.PRICE_ASC), priceScore, productId);
+		connection.zAdd(ProductCacheKey.productList(null, ProductSortType.PRICE_ASC), priceScore, productId);
+		connection.zAdd(ProductCacheKey.productList(categoryId, ProductSortType.RATING), avgRating, productId);
+		connection.zAdd(ProductCacheKey.productList(null, ProductSortType.RATING), avgRating, productId);
+		connection.zAdd(ProductCacheKey.productCursorList(categoryId), cursorScore, productId);
+		connection.zAdd(ProductCacheKey.productCursorList(null), cursorScore, productId);
+	}
+
+	// 판매중 상품만 담는 인덱스 키 (가격, 평점, 커서 순서 고정)
+	private static List<String> sortIndexKeys(UUID categoryId) {
+		return List.of(
+			ProductCacheKey.productList(categoryId, ProductSortType.PRICE_ASC),
+			ProductCacheKey.productList(categoryId, ProductSortType.RATING),
+			ProductCacheKey.productCursorList(categoryId));
+	}
+
+	// 가격 없는 상품(옵션 상품인데 Variant 없음 등)도 인덱스에 포함 → 인덱스 크기가 판매중 상품 수와 일치
+	private static double priceScore(Long price) {
+		return price != null ? price : NO_PRICE_SCORE;
+	}
+
+	/**
+	 * 가격 인덱스 점수 (옵션 상품은 Variant 최저가, CachedProductDetail.minPrice와 동일 기준)
+	 * DB 목록 정렬(ProductQueryRepository.listPrice)과 같은 식
+	 */
+	private static Long minPrice(Product product) {
+		if (Boolean.TRUE.equals(product.getHasOptions())
+			&& product.getVariants() != null
+			&& !product.getVariants().isEmpty()) {
+			return product.getVariants().stream()
+				.map(ProductVariant::getPrice)
+				.filter(Objects::nonNull)
+				.min(Long::compareTo)
+				.orElse(product.getPrice());
+		}
+		return product.getPrice();
+	}
+
+	/**
+	 * 목록 페이지 조회 결과
+	 * @param indexSize 정렬 인덱스 크기
+	 * @param totalCount 상품 수 캐시 (없으면 -1)
+	 */
+	public record ListPage(List<UUID> productIds, long indexSize, long totalCount) {
+	}
+
+	/**
+	 * 커서 페이지 조회 결과
+	 * @param productIds productId -> score (조회 순서 유지)
+	 * @param indexSize 커서 인덱스 크기
+	 * @param totalCount 상품 수 캐시 (없으면 -1)
+	 */
+	public record CursorPage(Map<UUID, Long> productIds, long indexSize, long totalCount) {
+	}
+}
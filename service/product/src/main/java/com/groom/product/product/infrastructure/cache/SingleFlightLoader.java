@@ -0,0 +1,232 @@
+package com.groom.product.product.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 미스 로딩 병합 (Single Flight)
+ *
+ * [인스턴스 내부]
+ * 같은 loadKey의 동시 요청은 하나의 Future를 공유하고, 완료 즉시 맵에서 제거 (키 누적 없음)
+ *
+ * [인스턴스 간]
+ * product:lease:{loadKey} 리스(SET NX PX)를 획득한 Pod만 DB를 조회
+ * 리스를 얻지 못한 Pod는 캐시가 채워지거나 리스가 사라질 때까지 짧게 폴링 후 캐시 값을 사용
+ *
+ * [Stale-While-Revalidate]
+ * refreshAsync: 기존(오래된) 값은 그대로 응답하고, 리스를 얻은 한 곳에서만 백그라운드 재적재
+ */
+@Slf4j
+@Component
+public class SingleFlightLoader {
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final Executor ioExecutor;
+	private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+	private final Duration leaseTtl;
+	private final long waitMillis;
+	private final long pollIntervalMillis;
+
+	private DefaultRedisScript<Long> leaseReleaseScript;
+
+	public SingleFlightLoader(
+		StringRedisTemplate stringRedisTemplate,
+		@Qualifier("ioExecutor") Executor ioExecutor,
+		@Value("${product.cache.single-flight.lease-ms:3000}") long leaseMillis,
+		@Value("${product.cache.single-flight.wait-ms:1000}") long waitMillis,
+		@Value("${product.cache.single-flight.poll-interval-ms:50}") long pollIntervalMillis
+	) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.ioExecutor = ioExecutor;
+		this.leaseTtl = Duration.ofMillis(leaseMillis);
+		this.waitMillis = waitMillis;
+		this.pollIntervalMillis = pollIntervalMillis;
+	}
+
+	@PostConstruct
+	public void init() {
+		leaseReleaseScript = new DefaultRedisScript<>();
+		leaseReleaseScript.setScriptSource(new ResourceScriptSource(
+			new ClassPathResource("scripts/lease_release.lua")));
+		leaseReleaseScript.setResultType(Long.class);
+	}
+
+	/**
+	 * 캐시 미스 로딩 (호출 스레드에서 실행 - 호출자의 트랜잭션 유지)
+	 *
+	 * @param loadKey 로딩 대상 식별자
+	 * @param cacheReader 캐시 재조회 (없으면 null) - 다른 Pod가 적재 중일 때 사용
+	 * @param loader DB 조회 + 캐시 적재
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T load(String loadKey, Supplier<T> cacheReader, Supplier<T> loader) {
+		CompletableFuture<Object> flight = new CompletableFuture<>();
+		CompletableFuture<Object> existing = inFlight.putIfAbsent(loadKey, flight);
+
+		if (existing != null) {
+			return (T)awaitFlight(loadKey, existing, loader);
+		}
+
+		try {
+			T value = loadWithLease(loadKey, cacheReader, loader);
+			flight.complete(value);
+			return value;
+		} catch (RuntimeException e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(loadKey, flight);
+		}
+	}
+
+	/**
+	 * 백그라운드 재적재 (Stale-While-Revalidate)
+	 * 이미 이 인스턴스에서 진행 중이거나 다른 Pod가 리스를 보유 중이면 건너뜀
+	 *
+	 * @param loadKey 로딩 대상 식별자
+	 * @param loader DB 조회 + 캐시 적재 (별도 스레드에서 실행되므로 자체 트랜잭션 필요)
+	 */
+	public void refreshAsync(String loadKey, Supplier<?> loader) {
+		CompletableFuture<Object> flight = new CompletableFuture<>();
+		if (inFlight.putIfAbsent(loadKey, flight) != null) {
+			return;
+		}
+
+		try {
+			ioExecutor.execute(() -> {
+				try {
+					String token = tryAcquireLease(loadKey);
+					if (token == null) {
+						flight.complete(null);
+						return;
+					}
+					try {
+						flight.complete(loader.get());
+						log.debug("Cache refreshed in background: loadKey={}", loadKey);
+					} finally {
+						releaseLease(loadKey, token);
+					}
+				} catch (Exception e) {
+					flight.completeExceptionally(e);
+					log.error("Failed to refresh cache in background: loadKey={}", loadKey, e);
+				} finally {
+					inFlight.remove(loadKey, flight);
+				}
+			});
+		} catch (RuntimeException e) {
+			// Executor 큐 포화 등 - 오래된 값을 계속 응답하고 다음 요청에서 재시도
+			inFlight.remove(loadKey, flight);
+			log.warn("Background refresh rejected: loadKey={}", loadKey);
+		}
+	}
+
+	private <T> T loadWithLease(String loadKey, Supplier<T> cacheReader, Supplier<T> loader) {
+		String token = tryAcquireLease(loadKey);
+		if (token != null) {
+			try {
+				return loader.get();
+			} finally {
+				releaseLease(loadKey, token);
+			}
+		}
+
+		// 다른 Pod가 적재 중 → 캐시가 채워지거나 리스가 사라질 때까지 대기
+		long deadline = System.currentTimeMillis() + waitMillis;
+		while (System.currentTimeMillis() < deadline) {
+			if (!sleep(pollIntervalMillis)) {
+				break;
+			}
+
+			T cached = cacheReader.get();
+			if (cached != null) {
+				log.debug("Cache filled by another instance: loadKey={}", loadKey);
+				return cached;
+			}
+
+			if (!leaseExists(loadKey)) {
+				break;
+			}
+		}
+
+		return loader.get();
+	}
+
+	private Object awaitFlight(String loadKey, CompletableFuture<Object> flight, Supplier<?> loader) {
+		try {
+			return flight.get(waitMillis + leaseTtl.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return loader.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (TimeoutException e) {
+			log.warn("Single flight wait timed out, loading directly: loadKey={}", loadKey);
+			return loader.get();
+		}
+	}
+
+	/**
+	 * @return 획득 시 토큰, 다른 Pod가 보유 중이면 null (Redis 장애 시에는 리스 없이 진행)
+	 */
+	private String tryAcquireLease(String loadKey) {
+		String token = UUID.randomUUID().toString();
+		try {
+			Boolean acquired = stringRedisTemplate.opsForValue()
+				.setIfAbsent(ProductCacheKey.loadLease(loadKey), token, leaseTtl);
+			return Boolean.FALSE.equals(acquired) ? null : token;
+		} catch (Exception e) {
+			log.warn("Failed to acquire load lease, loading without lease: loadKey={}", loadKey, e);
+			return token;
+		}
+	}
+
+	private void releaseLease(String loadKey, String token) {
+		try {
+			stringRedisTemplate.execute(leaseReleaseScript,
+				Collections.singletonList(ProductCacheKey.loadLease(loadKey)), token);
+		} catch (Exception e) {
+			log.warn("Failed to release load lease (expires by TTL): loadKey={}", loadKey, e);
+		}
+	}
+
+	private boolean leaseExists(String loadKey) {
+		try {
+			return Boolean.TRUE.equals(stringRedisTemplate.hasKey(ProductCacheKey.loadLease(loadKey)));
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	private boolean sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
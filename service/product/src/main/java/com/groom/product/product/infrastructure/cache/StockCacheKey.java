@@ -9,12 +9,14 @@ import java.util.UUID;
  * - 옵션 없는 상품: stock:product:{productId}
  * - 옵션 있는 상품: stock:variant:{variantId}
  * - 예약 정보: stock:reservation:{reservationId}
+ * - 예약 만료 인덱스: stock:reservation:expiry (ZSET, score: 만료 시각, member: orderId)
  */
 public final class StockCacheKey {
 
 	private static final String STOCK_PRODUCT_PREFIX = "stock:product:";
 	private static final String STOCK_VARIANT_PREFIX = "stock:variant:";
 	private static final String RESERVATION_PREFIX = "stock:reservation:";
+	private static final String RESERVATION_EXPIRY_INDEX = RESERVATION_PREFIX + "expiry";
 	private static final String ORDER_STOCK_ITEMS_PREFIX = "order:stock:items:";
 
 	private StockCacheKey() {
@@ -53,6 +55,14 @@ public final class StockCacheKey {
 		return RESERVATION_PREFIX + reservationId;
 	}
 
+	/**
+	 * 예약 만료 인덱스 키 (Sorted Set)
+	 * score: 예약 만료 시각 (epoch millis), member: orderId
+	 */
+	public static String reservationExpiryIndex() {
+		return RESERVATION_EXPIRY_INDEX;
+	}
+
 	/**
 	 * 모든 상품 재고 키 패턴 (동기화용)
 	 */
@@ -1,11 +1,16 @@
 package com.groom.product.product.infrastructure.cache;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scripting.support.ResourceScriptSource;
@@ -17,6 +22,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.groom.common.presentation.advice.CustomException;
 import com.groom.common.presentation.advice.ErrorCode;
 import com.groom.product.product.application.dto.StockManagement;
+import com.groom.product.product.application.dto.StockReserveFailure;
 
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -31,9 +37,24 @@ public class StockRedisService {
 	private final ObjectMapper objectMapper;
 
 	private DefaultRedisScript<Long> reserveScript;
+	@SuppressWarnings("rawtypes")
+	private DefaultRedisScript<List> reserveBulkScript;
+	private DefaultRedisScript<String> claimReservationScript;
+	private DefaultRedisScript<String> completeReservationScript;
+	private DefaultRedisScript<Long> expireReservationScript;
 
-	// 주문-상품 매핑 TTL (결제 타임아웃 고려)
-	private static final Duration ORDER_STOCK_ITEMS_TTL = Duration.ofHours(1);
+	// 가점유 유지 시간 (결제 타임아웃 고려) - 경과 시 StockReservationSweeper가 재고 복구
+	private static final Duration RESERVATION_HOLD = Duration.ofHours(1);
+
+	// 주문-상품 매핑 TTL (만료 해제/취소/환불 시 조회되므로 가점유 유지 시간보다 길게 유지)
+	private static final Duration ORDER_STOCK_ITEMS_TTL = Duration.ofHours(24);
+
+	// stock_reserve_bulk.lua 실패 코드
+	private static final long RESERVE_CODE_KEY_NOT_FOUND = -1L;
+
+	// stock_reservation_expire.lua 결과 코드
+	private static final long EXPIRE_CODE_RELEASED = 1L;
+	private static final long EXPIRE_CODE_MAPPING_CHANGED = -1L;
 
 	@PostConstruct
 	public void init() {
@@ -41,6 +62,26 @@ public class StockRedisService {
 		reserveScript.setScriptSource(new ResourceScriptSource(
 			new ClassPathResource("scripts/stock_reserve.lua")));
 		reserveScript.setResultType(Long.class);
+
+		reserveBulkScript = new DefaultRedisScript<>();
+		reserveBulkScript.setScriptSource(new ResourceScriptSource(
+			new ClassPathResource("scripts/stock_reserve_bulk.lua")));
+		reserveBulkScript.setResultType(List.class);
+
+		claimReservationScript = new DefaultRedisScript<>();
+		claimReservationScript.setScriptSource(new ResourceScriptSource(
+			new ClassPathResource("scripts/stock_reservation_claim.lua")));
+		claimReservationScript.setResultType(String.class);
+
+		completeReservationScript = new DefaultRedisScript<>();
+		completeReservationScript.setScriptSource(new ResourceScriptSource(
+			new ClassPathResource("scripts/stock_reservation_complete.lua")));
+		completeReservationScript.setResultType(String.class);
+
+		expireReservationScript = new DefaultRedisScript<>();
+		expireReservationScript.setScriptSource(new ResourceScriptSource(
+			new ClassPathResource("scripts/stock_reservation_expire.lua")));
+		expireReservationScript.setResultType(Long.class);
 	}
 
 	/**
@@ -75,6 +116,61 @@ public class StockRedisService {
 		return true;
 	}
 
+	/**
+	 * 주문 단위 재고 가점유 (Lua Script - 1회 왕복)
+	 * 전체 라인 검증 → 전체 차감 → 주문-상품 매핑 저장 → 만료 인덱스 등록을 하나의 스크립트로 처리
+	 * 한 라인이라도 실패하면 어떤 재고도 차감하지 않음 (All-or-Nothing)
+	 *
+	 * @param orderId 주문 ID
+	 * @param items 상품 목록 (productId, variantId, quantity)
+	 * @return 실패 라인 목록 (성공 시 빈 리스트)
+	 */
+	@SuppressWarnings("unchecked")
+	public List<StockReserveFailure> reserveBulk(UUID orderId, List<StockManagement> items) {
+		if (items == null || items.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<String> keys = new ArrayList<>(items.size() + 2);
+		List<String> args = new ArrayList<>(items.size() + 4);
+		args.add(String.valueOf(ORDER_STOCK_ITEMS_TTL.toSeconds()));
+		args.add(toJson(orderId, items));
+		args.add(String.valueOf(reservationExpireAt()));
+		args.add(orderId.toString());
+
+		for (StockManagement item : items) {
+			keys.add(StockCacheKey.stockKey(item.getProductId(), item.getVariantId()));
+			args.add(String.valueOf(item.getQuantity()));
+		}
+		keys.add(StockCacheKey.orderStockItems(orderId));
+		keys.add(StockCacheKey.reservationExpiryIndex());
+
+		List<Long> result = stringRedisTemplate.execute(reserveBulkScript, keys, args.toArray());
+
+		if (result == null) {
+			log.error("Bulk stock reserve returned no result: orderId={}", orderId);
+			throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+		}
+
+		// 결과: {lineIndex, code, available} 3개 단위 반복
+		List<StockReserveFailure> failures = new ArrayList<>();
+		for (int i = 0; i + 2 < result.size(); i += 3) {
+			StockManagement item = items.get(result.get(i).intValue());
+			if (result.get(i + 1) == RESERVE_CODE_KEY_NOT_FOUND) {
+				failures.add(StockReserveFailure.notFound(item));
+			} else {
+				failures.add(StockReserveFailure.notEnough(item, result.get(i + 2).intValue()));
+			}
+		}
+
+		if (failures.isEmpty()) {
+			log.debug("Stock reserved in bulk: orderId={}, itemCount={}", orderId, items.size());
+		} else {
+			log.info("Bulk stock reserve rejected: orderId={}, failedLines={}", orderId, failures.size());
+		}
+		return failures;
+	}
+
 	/**
 	 * 재고 복원 (원자적 INCR)
 	 *
@@ -93,6 +189,27 @@ public class StockRedisService {
 		}
 	}
 
+	/**
+	 * 다건 재고 복원 (파이프라인 INCRBY - 1회 왕복)
+	 *
+	 * @param items 복원할 상품 목록 (productId, variantId, quantity)
+	 */
+	public void releaseAll(List<StockManagement> items) {
+		if (items == null || items.isEmpty()) {
+			return;
+		}
+
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			for (StockManagement item : items) {
+				String key = StockCacheKey.stockKey(item.getProductId(), item.getVariantId());
+				stringConnection.incrBy(key, item.getQuantity());
+			}
+			return null;
+		});
+		log.debug("Stock released in bulk: itemCount={}", items.size());
+	}
+
 	/**
 	 * 현재 가용 재고 조회
 	 */
@@ -125,6 +242,29 @@ public class StockRedisService {
 		}
 	}
 
+	/**
+	 * 재고 일괄 초기화 (파이프라인 SET NX, Warm-up용)
+	 * 이미 존재하는 키는 가점유가 반영된 실시간 값이므로 덮어쓰지 않음
+	 *
+	 * @param stocks 재고 키 -> DB 재고 수량
+	 * @return 새로 적재된 키 수
+	 */
+	public int initStocksIfAbsent(Map<String, Integer> stocks) {
+		if (stocks == null || stocks.isEmpty()) {
+			return 0;
+		}
+
+		List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			stocks.forEach((key, quantity) -> stringConnection.setNX(key, String.valueOf(quantity)));
+			return null;
+		});
+
+		int initialized = (int)results.stream().filter(Boolean.TRUE::equals).count();
+		log.debug("Stocks initialized in pipeline: requested={}, initialized={}", stocks.size(), initialized);
+		return initialized;
+	}
+
 	/**
 	 * 재고 키 삭제 (상품 삭제 시)
 	 */
@@ -144,6 +284,7 @@ public class StockRedisService {
 	/**
 	 * 주문-상품 매핑 저장 (가점유 시 호출)
 	 * 결제 완료/실패/취소 이벤트 수신 시 orderId로 상품 정보 조회에 사용
+	 * 예약 만료 인덱스에도 등록하여 미결제 시 자동 해제 대상이 됨
 	 *
 	 * @param orderId 주문 ID
 	 * @param items 상품 목록 (productId, variantId, quantity)
@@ -154,12 +295,148 @@ public class StockRedisService {
 		try {
 			String json = objectMapper.writeValueAsString(items);
 			stringRedisTemplate.opsForValue().set(key, json, ORDER_STOCK_ITEMS_TTL);
+			stringRedisTemplate.opsForZSet().add(
+				StockCacheKey.reservationExpiryIndex(), orderId.toString(), reservationExpireAt());
 			log.debug("Order stock items saved: orderId={}, itemCount={}", orderId, items.size());
 		} catch (JsonProcessingException e) {
 			log.error("Failed to serialize order stock items: orderId={}", orderId, e);
 		}
 	}
 
+	// ==================== 예약 만료 관리 ====================
+
+	/**
+	 * 예약 선점 (만료 해제 / 결제 실패 / 주문 취소 시 호출)
+	 * 만료 인덱스 제거 + 매핑 GET/DEL을 원자적으로 처리하여 한 곳에서만 재고를 복구하도록 보장
+	 *
+	 * @param orderId 주문 ID
+	 * @return 상품 목록 (이미 다른 곳에서 선점했으면 빈 리스트)
+	 */
+	public List<StockManagement> claimReservation(UUID orderId) {
+		String json = stringRedisTemplate.execute(
+			claimReservationScript,
+			List.of(StockCacheKey.reservationExpiryIndex(), StockCacheKey.orderStockItems(orderId)),
+			orderId.toString()
+		);
+
+		if (json == null) {
+			return Collections.emptyList();
+		}
+
+		try {
+			return objectMapper.readValue(json, new TypeReference<List<StockManagement>>() {});
+		} catch (JsonProcessingException e) {
+			log.error("Failed to deserialize claimed stock items: orderId={}", orderId, e);
+			return Collections.emptyList();
+		}
+	}
+
+	/**
+	 * 예약 완료 처리 (결제 완료 시 호출)
+	 * 매핑 확인 + 만료 인덱스 제거를 원자적으로 처리 → 만료 해제와 동시에 실행돼도 한쪽만 성공
+	 * 매핑은 취소/환불 시 재고 복구를 위해 유지
+	 *
+	 * @param orderId 주문 ID
+	 * @return 상품 목록 (이미 만료 해제/선점되었으면 빈 리스트)
+	 */
+	public List<StockManagement> completeReservation(UUID orderId) {
+		String json = stringRedisTemplate.execute(
+			completeReservationScript,
+			List.of(StockCacheKey.reservationExpiryIndex(), StockCacheKey.orderStockItems(orderId)),
+			orderId.toString()
+		);
+
+		if (json == null) {
+			log.warn("Reservation already released or claimed: orderId={}", orderId);
+			return Collections.emptyList();
+		}
+
+		try {
+			List<StockManagement> items = objectMapper.readValue(json, new TypeReference<List<StockManagement>>() {});
+			log.debug("Reservation completed: orderId={}", orderId);
+			return items;
+		} catch (JsonProcessingException e) {
+			log.error("Failed to deserialize completed stock items: orderId={}", orderId, e);
+			throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	/**
+	 * 만료된 예약 해제 (StockReservationSweeper)
+	 * 만료 인덱스 제거 + 재고 INCRBY + 매핑 삭제를 하나의 스크립트로 처리
+	 * → 선점 후 복원 전에 실패해 재고가 유실되지 않고, 이미 결제 완료된 주문은 해제하지 않음
+	 *
+	 * @param orderId 주문 ID
+	 * @return 해제한 상품 목록 (이미 처리되었거나 매핑이 바뀌었으면 빈 리스트)
+	 */
+	public List<StockManagement> releaseExpiredReservation(UUID orderId) {
+		String mappingKey = StockCacheKey.orderStockItems(orderId);
+		String json = stringRedisTemplate.opsForValue().get(mappingKey);
+
+		List<StockManagement> items = Collections.emptyList();
+		if (json != null) {
+			try {
+				items = objectMapper.readValue(json, new TypeReference<List<StockManagement>>() {});
+			} catch (JsonProcessingException e) {
+				log.error("Failed to deserialize expired stock items: orderId={}", orderId, e);
+				return Collections.emptyList();
+			}
+		}
+
+		List<String> keys = new ArrayList<>(items.size() + 2);
+		List<String> args = new ArrayList<>(items.size() + 2);
+		keys.add(StockCacheKey.reservationExpiryIndex());
+		keys.add(mappingKey);
+		args.add(orderId.toString());
+		args.add(json == null ? "" : json);
+		for (StockManagement item : items) {
+			keys.add(StockCacheKey.stockKey(item.getProductId(), item.getVariantId()));
+			args.add(String.valueOf(item.getQuantity()));
+		}
+
+		Long result = stringRedisTemplate.execute(expireReservationScript, keys, args.toArray());
+
+		if (result != null && result == EXPIRE_CODE_RELEASED) {
+			return items;
+		}
+		if (result != null && result == EXPIRE_CODE_MAPPING_CHANGED) {
+			log.info("Expired reservation changed before release, retrying next sweep: orderId={}", orderId);
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * 만료된 예약 주문 ID 조회 (오래된 순)
+	 *
+	 * @param now 기준 시각 (epoch millis)
+	 * @param batchSize 최대 조회 개수
+	 */
+	public List<UUID> findExpiredReservations(long now, int batchSize) {
+		Set<String> orderIds = stringRedisTemplate.opsForZSet()
+			.rangeByScore(StockCacheKey.reservationExpiryIndex(), 0, now, 0, batchSize);
+
+		if (orderIds == null || orderIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		return orderIds.stream()
+			.map(UUID::fromString)
+			.toList();
+	}
+
+	private long reservationExpireAt() {
+		return System.currentTimeMillis() + RESERVATION_HOLD.toMillis();
+	}
+
+	private String toJson(UUID orderId, List<StockManagement> items) {
+		try {
+			return objectMapper.writeValueAsString(items);
+		} catch (JsonProcessingException e) {
+			log.error("Failed to serialize order stock items: orderId={}", orderId, e);
+			throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+		}
+	}
+
 	/**
 	 * 주문-상품 매핑 조회 (이벤트 수신 시 호출)
 	 *
@@ -0,0 +1,58 @@
+package com.groom.product.product.infrastructure.cache;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.groom.product.product.application.dto.StockManagement;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 재고 가점유 자동 해제
+ *
+ * 결제 완료/실패/취소 이벤트 없이 가점유 유지 시간이 지난 주문(이탈한 주문서)의
+ * 재고를 예약 만료 인덱스(stock:reservation:expiry) 기준으로 배치 복구한다.
+ * 인덱스 제거와 재고 복원이 StockRedisService.releaseExpiredReservation 한 번의 스크립트로 처리되므로
+ * 여러 Pod가 동시에 실행하거나 결제 완료와 겹쳐도 주문당 한 번만 복구하고, 중간 실패로 재고가 유실되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationSweeper {
+
+	private final StockRedisService stockRedisService;
+
+	@Value("${stock.reservation.sweep-batch-size:100}")
+	private int batchSize;
+
+	@Scheduled(fixedDelayString = "${stock.reservation.sweep-delay-ms:5000}")
+	public void sweep() {
+		long now = System.currentTimeMillis();
+		List<UUID> expiredOrderIds = stockRedisService.findExpiredReservations(now, batchSize);
+		if (expiredOrderIds.isEmpty()) {
+			return;
+		}
+
+		int released = 0;
+		for (UUID orderId : expiredOrderIds) {
+			try {
+				List<StockManagement> items = stockRedisService.releaseExpiredReservation(orderId);
+				if (items.isEmpty()) {
+					continue;
+				}
+
+				released++;
+				log.info("Expired stock reservation released: orderId={}, itemCount={}", orderId, items.size());
+			} catch (Exception e) {
+				log.error("Failed to release expired stock reservation: orderId={}", orderId, e);
+			}
+		}
+
+		log.debug("Stock reservation sweep finished: expired={}, released={}", expiredOrderIds.size(), released);
+	}
+}
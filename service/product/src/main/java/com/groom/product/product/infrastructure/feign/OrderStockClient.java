@@ -0,0 +1,38 @@
+package com.groom.product.product.infrastructure.feign;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import com.groom.common.infrastructure.feign.config.FeignConfig;
+
+/**
+ * 주문 상품 라인 조회 (Product → Order)
+ * 가점유 매핑이 만료 해제된 뒤 결제 완료 이벤트가 도착했을 때 재고 확정 대상을 복구하는 용도
+ * 실패 시 폴백 없이 예외 → 호출 측에서 보상 이벤트 발행
+ */
+@FeignClient(
+	name = "orderStockClient",
+	url = "${external.order-service.url}",
+	configuration = FeignConfig.class
+)
+public interface OrderStockClient {
+
+	@GetMapping("/internal/orders/{orderId}/stock-items")
+	OrderStockItemsResponse getOrderStockItems(@PathVariable("orderId") UUID orderId);
+
+	record OrderStockItemsResponse(
+		UUID orderId,
+		String status,
+		List<Item> items
+	) {
+		public record Item(
+			UUID productId,
+			UUID variantId,
+			Integer quantity
+		) {}
+	}
+}
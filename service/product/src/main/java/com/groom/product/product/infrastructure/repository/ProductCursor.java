@@ -0,0 +1,52 @@
+package com.groom.product.product.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 키셋(Keyset) 페이지네이션 커서
+ *
+ * 정렬: createdAt DESC, productId DESC (createdAt 동률은 productId로 구분)
+ * 직렬화: "{createdAt ISO-8601}|{productId}" (Redis 체크포인트 저장용)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductCursor {
+
+	private static final String SEPARATOR = "|";
+
+	private final LocalDateTime createdAt;
+	private final UUID productId;
+
+	public static ProductCursor of(LocalDateTime createdAt, UUID productId) {
+		return new ProductCursor(createdAt, productId);
+	}
+
+	/**
+	 * @return 형식이 올바르지 않으면 null
+	 */
+	public static ProductCursor decode(String value) {
+		if (value == null || value.isBlank()) {
+			return null;
+		}
+		int separatorIndex = value.indexOf(SEPARATOR);
+		if (separatorIndex < 0) {
+			return null;
+		}
+		try {
+			return new ProductCursor(
+				LocalDateTime.parse(value.substring(0, separatorIndex)),
+				UUID.fromString(value.substring(separatorIndex + 1)));
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	public String encode() {
+		return createdAt.toString() + SEPARATOR + productId.toString();
+	}
+}
@@ -3,8 +3,15 @@ package com.groom.product.product.infrastructure.repository;
 import static com.groom.product.product.domain.entity.QCategory.*;
 import static com.groom.product.product.domain.entity.QProduct.*;
 import static com.groom.product.product.domain.entity.QProductVariant.*;
+import static com.groom.product.review.domain.entity.QProductRatingEntity.*;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -16,8 +23,14 @@ import org.springframework.util.StringUtils;
 import com.groom.product.product.domain.entity.Product;
 import com.groom.product.product.domain.enums.ProductSortType;
 import com.groom.product.product.domain.enums.ProductStatus;
+import com.groom.product.product.infrastructure.search.ProductSearchIndexInitializer;
+import com.groom.product.product.infrastructure.search.ProductSearchSql;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
@@ -28,6 +41,7 @@ import lombok.RequiredArgsConstructor;
 public class ProductQueryRepository {
 
 	private final JPAQueryFactory queryFactory;
+	private final ProductSearchIndexInitializer searchIndexInitializer;
 
 	// 사용자/관리자 상품 검색 (키워드, 카테고리, 가격 범위, 상태)
 	public Page<Product> searchProducts(
@@ -80,9 +94,11 @@ public class ProductQueryRepository {
 		ProductSortType sortType,
 		Pageable pageable
 	) {
-		List<Product> content = queryFactory
+		JPAQuery<Product> query = queryFactory
 			.selectFrom(product)
-			.leftJoin(product.category, category).fetchJoin()
+			.leftJoin(product.category, category).fetchJoin();
+
+		List<Product> content = joinRatingIfSorted(query, sortType)
 			.where(
 				keywordContains(keyword),
 				categoryIdEq(categoryId),
@@ -91,7 +107,7 @@ public class ProductQueryRepository {
 				onSaleOnly(),
 				notDeleted()
 			)
-			.orderBy(getOrderSpecifier(sortType))
+			.orderBy(getOrderSpecifiers(sortType, keyword))
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.fetch();
@@ -111,6 +127,58 @@ public class ProductQueryRepository {
 		return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
 	}
 
+	/**
+	 * 구매자용 상품 목록 커서 조회 (판매중인 상품만, OFFSET/COUNT 없음)
+	 * 커서 이후 구간만 인덱스로 탐색하므로 페이지 깊이와 무관하게 비용이 일정
+	 *
+	 * @param cursor 이전 페이지의 마지막 상품 커서 (null이면 첫 페이지)
+	 * @param limit 조회 개수 (다음 페이지 존재 여부 확인이 필요하면 +1 해서 전달)
+	 */
+	public List<Product> searchProductsForBuyerAfter(
+		String keyword,
+		UUID categoryId,
+		Long minPrice,
+		Long maxPrice,
+		ProductSortType sortType,
+		ProductSearchCursor cursor,
+		int limit
+	) {
+		return queryFactory
+			.selectFrom(product)
+			.leftJoin(product.category, category).fetchJoin()
+			.where(
+				keywordContains(keyword),
+				categoryIdEq(categoryId),
+				priceGoe(minPrice),
+				priceLoe(maxPrice),
+				onSaleOnly(),
+				notDeleted(),
+				seekAfter(sortType, cursor)
+			)
+			.orderBy(getSeekOrderSpecifiers(sortType))
+			.limit(limit)
+			.fetch();
+	}
+
+	/**
+	 * 구매자용 상품 수 (검색 조건 포함, 커서 조회에서 총 개수를 요청한 경우에만 사용)
+	 */
+	public long countProductsForBuyer(String keyword, UUID categoryId, Long minPrice, Long maxPrice) {
+		Long count = queryFactory
+			.select(product.count())
+			.from(product)
+			.where(
+				keywordContains(keyword),
+				categoryIdEq(categoryId),
+				priceGoe(minPrice),
+				priceLoe(maxPrice),
+				onSaleOnly(),
+				notDeleted()
+			)
+			.fetchOne();
+		return count != null ? count : 0L;
+	}
+
 	// Owner가 자신의 상품 목록을 조회할 때 사용
 	public Page<Product> findSellerProducts(
 		UUID ownerId,
@@ -176,6 +244,65 @@ public class ProductQueryRepository {
 		return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
 	}
 
+	/**
+	 * 구매자용 카테고리 목록 (COUNT 쿼리 없음, 전체 개수는 상품 수 캐시 사용)
+	 * 정렬은 목록 캐시(최신순/가격/평점 인덱스)와 같은 순서 (가격순은 listPrice 기준)
+	 */
+	public List<Product> findProductsForBuyer(UUID categoryId, ProductSortType sortType, Pageable pageable) {
+		JPAQuery<Product> query = queryFactory
+			.selectFrom(product)
+			.leftJoin(product.category, category).fetchJoin();
+
+		return joinRatingIfSorted(query, sortType)
+			.where(
+				categoryIdEq(categoryId),
+				onSaleOnly(),
+				notDeleted()
+			)
+			.orderBy(getListOrderSpecifiers(sortType))
+			.offset(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.fetch();
+	}
+
+	/**
+	 * 상품별 평균 평점 일괄 조회 (목록 평점 인덱스 적재용)
+	 * @return productId -> 평균 평점 (평점 정보가 없는 상품은 제외)
+	 */
+	public Map<UUID, Double> findAvgRatings(Collection<UUID> productIds) {
+		if (productIds == null || productIds.isEmpty()) {
+			return Map.of();
+		}
+
+		List<Tuple> rows = queryFactory
+			.select(productRatingEntity.productId, productRatingEntity.avgRating)
+			.from(productRatingEntity)
+			.where(productRatingEntity.productId.in(productIds))
+			.fetch();
+
+		Map<UUID, Double> ratings = new HashMap<>();
+		for (Tuple row : rows) {
+			ratings.put(row.get(productRatingEntity.productId), row.get(productRatingEntity.avgRating));
+		}
+		return ratings;
+	}
+
+	/**
+	 * 판매중 상품의 카테고리 ID 조회 (평점 인덱스 갱신용)
+	 * @return 삭제/판매중 아님/없는 상품이면 null
+	 */
+	public UUID findCategoryIdForBuyer(UUID productId) {
+		return queryFactory
+			.select(product.category.id)
+			.from(product)
+			.where(
+				product.id.eq(productId),
+				onSaleOnly(),
+				notDeleted()
+			)
+			.fetchOne();
+	}
+
 	//여러 상품 ID들을 받아, 각 상품의 옵션까지 한 번에 가져옴 (장바구니/주문용 일괄 조회)
 	public List<Product> findProductsWithVariantsByIds(List<UUID> productIds) {
 		return queryFactory
@@ -187,23 +314,123 @@ public class ProductQueryRepository {
 	}
 
 	public long countProductsForBuyer(UUID categoryId) {
-		Long count = queryFactory
-			.select(product.count())
+		return countProductsForBuyer(null, categoryId, null, null);
+	}
+
+	/**
+	 * 키셋 페이지네이션용 커서 조회 (삭제되지 않은 상품, 최신순)
+	 * OFFSET 없이 idx_product_created_id 인덱스를 이어서 탐색하므로 페이지가 깊어져도 비용이 일정
+	 *
+	 * @param after 이전 페이지의 마지막 커서 (null이면 처음부터)
+	 */
+	public List<ProductCursor> findCursorsAfter(ProductCursor after, int limit) {
+		return queryFactory
+			.select(product.createdAt, product.id)
+			.from(product)
+			.where(
+				cursorAfter(after),
+				notDeleted()
+			)
+			.orderBy(product.createdAt.desc(), product.id.desc())
+			.limit(limit)
+			.fetch()
+			.stream()
+			.map(tuple -> ProductCursor.of(tuple.get(product.createdAt), tuple.get(product.id)))
+			.toList();
+	}
+
+	/**
+	 * 카테고리별 판매중 상품 수 (countProductsForBuyer와 동일 조건, GROUP BY 한 번으로 전체 집계)
+	 */
+	public Map<UUID, Long> countProductsForBuyerGroupByCategory() {
+		NumberExpression<Long> productCount = product.count();
+		List<Tuple> rows = queryFactory
+			.select(product.category.id, productCount)
 			.from(product)
 			.where(
-				categoryIdEq(categoryId),
 				onSaleOnly(),
 				notDeleted()
 			)
-			.fetchOne();
-		return count != null ? count : 0L;
+			.groupBy(product.category.id)
+			.fetch();
+
+		Map<UUID, Long> counts = new HashMap<>();
+		for (Tuple row : rows) {
+			Long count = row.get(productCount);
+			counts.put(row.get(product.category.id), count != null ? count : 0L);
+		}
+		return counts;
+	}
+
+	private BooleanExpression cursorAfter(ProductCursor after) {
+		if (after == null) {
+			return null;
+		}
+		return product.createdAt.lt(after.getCreatedAt())
+			.or(product.createdAt.eq(after.getCreatedAt()).and(product.id.lt(after.getProductId())));
+	}
+
+	/**
+	 * 커서 이후 조건 (정렬 키 + productId 타이브레이커)
+	 * 정렬 키 단독 범위 조건(loe/goe)을 함께 두어 인덱스 범위 탐색이 가능하도록 함
+	 */
+	private BooleanExpression seekAfter(ProductSortType sortType, ProductSearchCursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+
+		UUID lastId = cursor.getProductId();
+		if (sortType == ProductSortType.PRICE_ASC || sortType == ProductSortType.PRICE_DESC) {
+			Long lastPrice = cursor.getPrice();
+			boolean ascending = sortType == ProductSortType.PRICE_ASC;
+			BooleanExpression idAfter = ascending ? product.id.gt(lastId) : product.id.lt(lastId);
+
+			// NULL 가격 구간(마지막)에 진입한 경우
+			if (lastPrice == null) {
+				return product.price.isNull().and(idAfter);
+			}
+
+			BooleanExpression priceAfter = ascending ? product.price.gt(lastPrice) : product.price.lt(lastPrice);
+			return priceAfter
+				.or(product.price.eq(lastPrice).and(idAfter))
+				.or(product.price.isNull());
+		}
+
+		LocalDateTime lastCreatedAt = cursor.getCreatedAt();
+		return product.createdAt.loe(lastCreatedAt)
+			.and(product.createdAt.lt(lastCreatedAt)
+				.or(product.createdAt.eq(lastCreatedAt).and(product.id.lt(lastId))));
 	}
 
+	private OrderSpecifier<?>[] getSeekOrderSpecifiers(ProductSortType sortType) {
+		if (sortType == ProductSortType.PRICE_ASC) {
+			return new OrderSpecifier<?>[] {product.price.asc().nullsLast(), product.id.asc()};
+		}
+		if (sortType == ProductSortType.PRICE_DESC) {
+			return new OrderSpecifier<?>[] {product.price.desc().nullsLast(), product.id.desc()};
+		}
+		// NEWEST, RATING, RELEVANCE (커서 조회는 관련도 정렬 미지원 - 최신순)
+		return new OrderSpecifier<?>[] {product.createdAt.desc(), product.id.desc()};
+	}
+
+	/**
+	 * 검색어 조건: 전문 검색(제목+설명, idx_product_fts) OR 제목 부분 일치(idx_product_title_trgm)
+	 * 두 조건 모두 GIN 인덱스를 사용하므로 BitmapOr로 처리 (설명 LIKE 전체 스캔 없음)
+	 */
 	private BooleanExpression keywordContains(String keyword) {
-		return StringUtils.hasText(keyword)
-			? product.title.containsIgnoreCase(keyword)
-			.or(product.description.containsIgnoreCase(keyword))
-			: null;
+		if (!StringUtils.hasText(keyword)) {
+			return null;
+		}
+
+		BooleanExpression titleContains = product.title.containsIgnoreCase(keyword.trim());
+		String tsQuery = ProductSearchSql.toTsQuery(keyword);
+		if (tsQuery == null) {
+			return titleContains;
+		}
+
+		return Expressions.booleanTemplate(
+				"function('product_fts_match', {0}, {1}, {2}) = true", product.title, product.description, tsQuery)
+			.or(titleContains);
 	}
 
 	private BooleanExpression categoryIdEq(UUID categoryId) {
@@ -234,15 +461,78 @@ public class ProductQueryRepository {
 		return product.status.eq(ProductStatus.ON_SALE);
 	}
 
-	private OrderSpecifier<?> getOrderSpecifier(ProductSortType sortType) {
+	// 가격/평점 동점은 productId로 정렬 (목록 캐시 ZSET의 member 사전순과 동일)
+	private OrderSpecifier<?>[] getOrderSpecifiers(ProductSortType sortType, String keyword) {
 		if (sortType == null) {
-			return product.createdAt.desc();
+			return new OrderSpecifier<?>[] {product.createdAt.desc()};
 		}
 		return switch (sortType) {
-			case PRICE_ASC -> product.price.asc();
-			case PRICE_DESC -> product.price.desc();
-			case NEWEST -> product.createdAt.desc();
-			case RATING -> product.createdAt.desc(); // TODO: Review 도메인 연동 후 평점순 구현
+			case PRICE_ASC -> new OrderSpecifier<?>[] {product.price.asc().nullsLast(), product.id.asc()};
+			case PRICE_DESC -> new OrderSpecifier<?>[] {product.price.desc().nullsLast(), product.id.desc()};
+			case NEWEST -> new OrderSpecifier<?>[] {product.createdAt.desc()};
+			case RATING -> new OrderSpecifier<?>[] {
+				productRatingEntity.avgRating.coalesce(0.0).desc(), product.id.desc()};
+			case RELEVANCE -> getRelevanceOrderSpecifiers(keyword);
 		};
 	}
+
+	// 목록 캐시 가격 인덱스와 같은 순서 (가격 외 정렬은 getOrderSpecifiers와 동일)
+	private OrderSpecifier<?>[] getListOrderSpecifiers(ProductSortType sortType) {
+		if (sortType == ProductSortType.PRICE_ASC) {
+			return new OrderSpecifier<?>[] {listPrice().asc().nullsLast(), product.id.asc()};
+		}
+		if (sortType == ProductSortType.PRICE_DESC) {
+			return new OrderSpecifier<?>[] {listPrice().desc().nullsLast(), product.id.desc()};
+		}
+		return getOrderSpecifiers(sortType, null);
+	}
+
+	/**
+	 * 목록 정렬 가격 (ProductListCacheService 가격 인덱스 점수와 같은 식)
+	 * 옵션 상품은 Variant 최저가 (Variant가 없으면 상품 가격), 가격이 없으면 null → 정렬 방향과 무관하게 마지막
+	 */
+	private NumberExpression<Long> listPrice() {
+		return Expressions.numberTemplate(Long.class,
+			"coalesce(case when {0} = true then {1} end, {2})",
+			product.hasOptions,
+			JPAExpressions.select(productVariant.price.min())
+				.from(productVariant)
+				.where(productVariant.product.eq(product)),
+			product.price);
+	}
+
+	/**
+	 * 평점순일 때만 평점 통계(p_product_rating) 조인 (리뷰 없는 상품은 평점 0으로 정렬)
+	 */
+	private JPAQuery<Product> joinRatingIfSorted(JPAQuery<Product> query, ProductSortType sortType) {
+		if (sortType == ProductSortType.RATING) {
+			query.leftJoin(productRatingEntity).on(productRatingEntity.productId.eq(product.id));
+		}
+		return query;
+	}
+
+	/**
+	 * 관련도순: 전문 검색 순위(ts_rank_cd) → 제목 유사도(trigram) → 최신순
+	 * 검색어가 없으면 최신순, pg_trgm 확장이 없으면 제목 유사도 제외
+	 */
+	private OrderSpecifier<?>[] getRelevanceOrderSpecifiers(String keyword) {
+		if (!StringUtils.hasText(keyword)) {
+			return new OrderSpecifier<?>[] {product.createdAt.desc()};
+		}
+
+		List<OrderSpecifier<?>> orders = new ArrayList<>(3);
+		String tsQuery = ProductSearchSql.toTsQuery(keyword);
+		if (tsQuery != null) {
+			NumberExpression<Double> textRank = Expressions.numberTemplate(Double.class,
+				"function('product_fts_rank', {0}, {1}, {2})", product.title, product.description, tsQuery);
+			orders.add(textRank.desc());
+		}
+		if (searchIndexInitializer.isTrigramAvailable()) {
+			NumberExpression<Double> titleSimilarity = Expressions.numberTemplate(Double.class,
+				"function('trgm_similarity', lower({0}), {1})", product.title, keyword.trim().toLowerCase(Locale.ROOT));
+			orders.add(titleSimilarity.desc());
+		}
+		orders.add(product.createdAt.desc());
+		return orders.toArray(new OrderSpecifier<?>[0]);
+	}
 }
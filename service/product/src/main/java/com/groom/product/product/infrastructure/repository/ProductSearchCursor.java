@@ -0,0 +1,128 @@
+package com.groom.product.product.infrastructure.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.groom.common.presentation.advice.CustomException;
+import com.groom.common.presentation.advice.ErrorCode;
+import com.groom.product.product.domain.entity.Product;
+import com.groom.product.product.domain.enums.ProductSortType;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 구매자 상품 목록 커서 (무한 스크롤용, 클라이언트에는 불투명 토큰으로 전달)
+ *
+ * 정렬 키:
+ * - NEWEST/RATING/RELEVANCE: createdAt DESC, productId DESC
+ * - PRICE_ASC: price ASC (NULL은 마지막), productId ASC
+ * - PRICE_DESC: price DESC (NULL은 마지막), productId DESC
+ *
+ * 토큰: Base64URL("{sortType}|{createdAt 또는 price}|{productId}")
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductSearchCursor {
+
+	private static final String SEPARATOR = "|";
+	private static final String NULL_VALUE = "-";
+
+	private final ProductSortType sortType;
+	private final LocalDateTime createdAt;
+	private final Long price;
+	private final UUID productId;
+
+	public static ProductSearchCursor of(ProductSortType sortType, LocalDateTime createdAt, Long price, UUID productId) {
+		return new ProductSearchCursor(normalize(sortType), createdAt, price, productId);
+	}
+
+	public static ProductSearchCursor of(ProductSortType sortType, Product product) {
+		return of(sortType, product.getCreatedAt(), product.getPrice(), product.getId());
+	}
+
+	/**
+	 * 토큰 해석
+	 *
+	 * @param token 이전 응답의 nextCursor (null/공백이면 첫 페이지)
+	 * @param sortType 요청 정렬 (토큰의 정렬과 다르면 INVALID_REQUEST)
+	 */
+	public static ProductSearchCursor decode(String token, ProductSortType sortType) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\" + SEPARATOR, -1);
+			if (parts.length != 3) {
+				throw new CustomException(ErrorCode.INVALID_REQUEST);
+			}
+
+			ProductSortType cursorSortType = ProductSortType.valueOf(parts[0]);
+			if (cursorSortType != normalize(sortType)) {
+				throw new CustomException(ErrorCode.INVALID_REQUEST);
+			}
+
+			UUID productId = UUID.fromString(parts[2]);
+			if (isPriceOrder(cursorSortType)) {
+				Long price = NULL_VALUE.equals(parts[1]) ? null : Long.parseLong(parts[1]);
+				return new ProductSearchCursor(cursorSortType, null, price, productId);
+			}
+			return new ProductSearchCursor(cursorSortType, LocalDateTime.parse(parts[1]), null, productId);
+		} catch (CustomException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new CustomException(ErrorCode.INVALID_REQUEST);
+		}
+	}
+
+	public String encode() {
+		String value;
+		if (isPriceOrder(sortType)) {
+			value = price != null ? String.valueOf(price) : NULL_VALUE;
+		} else {
+			value = createdAt.toString();
+		}
+		String raw = sortType.name() + SEPARATOR + value + SEPARATOR + productId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 커서 인덱스 score (createdAt epoch microseconds, ProductListCacheService와 동일 기준)
+	 */
+	public long getCreatedAtScore() {
+		return createdAtScore(createdAt);
+	}
+
+	/**
+	 * createdAt → 커서 인덱스 score
+	 * DB timestamp 정밀도(마이크로초)와 같아서 score 동점 = createdAt 동점 → 동점은 productId 내림차순으로 DB 커서와 같은 순서
+	 * (현재 epoch microseconds는 2^53 미만이라 double score로 정확히 표현됨)
+	 */
+	public static long createdAtScore(LocalDateTime createdAt) {
+		return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + createdAt.getNano() / 1_000;
+	}
+
+	/**
+	 * 커서 인덱스 score로 최신순 커서 생성 (캐시 조회 결과의 다음 커서)
+	 */
+	public static ProductSearchCursor ofCreatedAtScore(long score, UUID productId) {
+		LocalDateTime createdAt = LocalDateTime.ofEpochSecond(
+			Math.floorDiv(score, 1_000_000L), (int)Math.floorMod(score, 1_000_000L) * 1_000, ZoneOffset.UTC);
+		return of(ProductSortType.NEWEST, createdAt, null, productId);
+	}
+
+	public static boolean isPriceOrder(ProductSortType sortType) {
+		return sortType == ProductSortType.PRICE_ASC || sortType == ProductSortType.PRICE_DESC;
+	}
+
+	// RATING(리뷰마다 평점이 바뀌어 커서 위치가 흔들림), RELEVANCE(순위 값은 커서로 이어갈 수 없음)는 최신순과 동일한 키 사용
+	private static ProductSortType normalize(ProductSortType sortType) {
+		return isPriceOrder(sortType) ? sortType : ProductSortType.NEWEST;
+	}
+}
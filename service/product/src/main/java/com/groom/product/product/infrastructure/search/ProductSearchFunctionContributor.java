@@ -0,0 +1,27 @@
+package com.groom.product.product.infrastructure.search;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * 상품 검색용 HQL 함수 등록 (META-INF/services로 로딩)
+ * QueryDSL에서는 Expressions.template("function('product_fts_match', ...)") 형태로 사용
+ */
+public class ProductSearchFunctionContributor implements FunctionContributor {
+
+	@Override
+	public void contributeFunctions(FunctionContributions functionContributions) {
+		SqmFunctionRegistry registry = functionContributions.getFunctionRegistry();
+		BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+		registry.registerPattern("product_fts_match", ProductSearchSql.MATCH_PATTERN,
+			types.resolve(StandardBasicTypes.BOOLEAN));
+		registry.registerPattern("product_fts_rank", ProductSearchSql.RANK_PATTERN,
+			types.resolve(StandardBasicTypes.DOUBLE));
+		registry.registerPattern("trgm_similarity", ProductSearchSql.SIMILARITY_PATTERN,
+			types.resolve(StandardBasicTypes.DOUBLE));
+	}
+}
@@ -0,0 +1,120 @@
+package com.groom.product.product.infrastructure.search;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 검색 인덱스 생성 (기동 시 1회, 이미 있으면 건너뜀)
+ *
+ * ddl-auto로는 GIN/식 인덱스와 확장(pg_trgm)을 만들 수 없어 별도로 실행
+ * CONCURRENTLY로 생성하므로 운영 중 기동해도 상품 테이블 쓰기를 막지 않음
+ * - 중단된 CONCURRENTLY 생성이 남긴 INVALID 인덱스는 삭제 후 다시 생성
+ *   (여러 Pod가 동시에 기동해도 생성 중인 인덱스를 지우지 않도록 세션 advisory lock을 잡은 Pod만 실행)
+ * - pg_trgm 확장 여부를 기록 → 없으면 관련도 정렬에서 제목 유사도(similarity)를 빼고 동작
+ * 권한 부족 등으로 인덱스 생성이 실패하면 경고만 남기고 기동은 계속 (검색은 인덱스 없이 동작)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexInitializer {
+
+	// 검색 인덱스 생성 advisory lock 키 (다른 advisory lock 용도와 겹치지 않도록 분리)
+	private static final long INDEX_LOCK_KEY = 0x7072_6473_7263_0001L;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${product.search.index.auto-create:true}")
+	private boolean autoCreate;
+
+	private volatile Boolean trigramAvailable;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void createIndexes() {
+		if (!autoCreate) {
+			return;
+		}
+
+		// CONCURRENTLY는 트랜잭션 밖에서, advisory lock은 세션 단위라 같은 커넥션에서 실행
+		jdbcTemplate.execute((ConnectionCallback<Void>)connection -> {
+			JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+			if (!Boolean.TRUE.equals(session.queryForObject("SELECT pg_try_advisory_lock(?)", Boolean.class,
+				INDEX_LOCK_KEY))) {
+				log.info("Product search indexes are being created by another instance");
+				return null;
+			}
+			try {
+				ensureIndexes(session);
+			} finally {
+				session.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, INDEX_LOCK_KEY);
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * pg_trgm 확장 설치 여부 (관련도 정렬의 제목 유사도 사용 여부)
+	 * 기동 시 인덱스 생성 후 갱신, 그 전에 조회되면 한 번 확인 후 캐시
+	 */
+	public boolean isTrigramAvailable() {
+		Boolean available = trigramAvailable;
+		if (available == null) {
+			available = checkTrigram(jdbcTemplate);
+			if (available == null) {
+				return false;
+			}
+			trigramAvailable = available;
+		}
+		return available;
+	}
+
+	private void ensureIndexes(JdbcTemplate session) {
+		try {
+			session.execute(ProductSearchSql.TRGM_EXTENSION_STATEMENT);
+		} catch (Exception e) {
+			log.warn("Failed to create pg_trgm extension", e);
+		}
+		boolean trigram = Boolean.TRUE.equals(checkTrigram(session));
+		trigramAvailable = trigram;
+		if (!trigram) {
+			log.warn("pg_trgm extension is not installed, relevance search runs without title similarity");
+		}
+
+		for (Map.Entry<String, String> index : ProductSearchSql.indexStatements().entrySet()) {
+			if (!trigram && ProductSearchSql.TITLE_TRGM_INDEX_NAME.equals(index.getKey())) {
+				continue;
+			}
+			try {
+				if (Boolean.TRUE.equals(session.queryForObject(ProductSearchSql.INVALID_INDEX_EXISTS, Boolean.class,
+					index.getKey()))) {
+					log.warn("Rebuilding invalid product search index: {}", index.getKey());
+					session.execute(ProductSearchSql.dropIndexStatement(index.getKey()));
+				}
+				session.execute(index.getValue());
+			} catch (Exception e) {
+				log.warn("Failed to create product search index: {}", index.getValue(), e);
+			}
+		}
+		log.info("Product search indexes ensured: {}, trigram={}", ProductSearchSql.indexStatements().keySet(),
+			trigram);
+	}
+
+	// 조회 실패 시 null
+	private static Boolean checkTrigram(JdbcTemplate template) {
+		try {
+			return Boolean.TRUE.equals(template.queryForObject(ProductSearchSql.TRGM_EXTENSION_EXISTS, Boolean.class));
+		} catch (Exception e) {
+			log.warn("Failed to check pg_trgm extension", e);
+			return null;
+		}
+	}
+}
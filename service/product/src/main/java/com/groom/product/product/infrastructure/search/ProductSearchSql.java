@@ -0,0 +1,113 @@
+package com.groom.product.product.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 상품 검색 SQL 정의 (PostgreSQL Full-Text Search + pg_trgm)
+ *
+ * [문서 벡터]
+ * title(가중치 A) + description(가중치 B), 'simple' 설정 (한국어 형태소 사전이 없으므로 공백 단위 토큰)
+ * 별도 컬럼 없이 식 인덱스(GIN)로 관리 → 상품 생성/수정/삭제 시 DB가 인덱스를 함께 갱신
+ * 조회 식이 인덱스 식과 동일해야 인덱스를 사용하므로 반드시 이 클래스의 식을 사용
+ *
+ * [부분 일치]
+ * lower(title) 트라이그램 GIN 인덱스 → lower(title) LIKE '%keyword%' 도 인덱스 사용 (3글자 이상)
+ *
+ * [Hibernate 함수] ProductSearchFunctionContributor에서 등록
+ * - product_fts_match(title, description, tsquery) : 문서 벡터 @@ tsquery
+ * - product_fts_rank(title, description, tsquery)  : ts_rank_cd (관련도)
+ * - trgm_similarity(text, text)                     : similarity (제목 유사도, pg_trgm 확장이 있을 때만 사용)
+ */
+public final class ProductSearchSql {
+
+	public static final String FTS_INDEX_NAME = "idx_product_fts";
+	public static final String TITLE_TRGM_INDEX_NAME = "idx_product_title_trgm";
+
+	private static final String TABLE = "p_product";
+	private static final String CONFIG = "'simple'";
+	private static final int MAX_TERMS = 8;
+
+	public static final String MATCH_PATTERN = match("?1", "?2", "?3");
+	public static final String RANK_PATTERN = rank("?1", "?2", "?3");
+	public static final String SIMILARITY_PATTERN = "similarity(?1, ?2)";
+
+	private ProductSearchSql() {
+	}
+
+	/**
+	 * 문서 벡터 식 (인덱스 식과 조회 식 공용)
+	 */
+	public static String documentVector(String title, String description) {
+		return "(setweight(to_tsvector(" + CONFIG + ", coalesce(" + title + ", '')), 'A')"
+			+ " || setweight(to_tsvector(" + CONFIG + ", coalesce(" + description + ", '')), 'B'))";
+	}
+
+	public static String match(String title, String description, String tsQuery) {
+		return documentVector(title, description) + " @@ to_tsquery(" + CONFIG + ", " + tsQuery + ")";
+	}
+
+	public static String rank(String title, String description, String tsQuery) {
+		return "ts_rank_cd(" + documentVector(title, description) + ", to_tsquery(" + CONFIG + ", " + tsQuery + "))";
+	}
+
+	public static final String TRGM_EXTENSION_STATEMENT = "CREATE EXTENSION IF NOT EXISTS pg_trgm";
+	public static final String TRGM_EXTENSION_EXISTS = "SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm')";
+
+	// 중단된 CONCURRENTLY 생성이 남긴 INVALID 인덱스 (IF NOT EXISTS로는 복구되지 않음)
+	public static final String INVALID_INDEX_EXISTS = "SELECT EXISTS (SELECT 1 FROM pg_index i"
+		+ " JOIN pg_class c ON c.oid = i.indexrelid WHERE c.relname = ? AND NOT i.indisvalid)";
+
+	/**
+	 * 검색 인덱스 DDL (인덱스 이름 → 생성문, 멱등, 운영 중 생성을 위해 CONCURRENTLY - 트랜잭션 밖에서 실행)
+	 * 제목 트라이그램 인덱스는 pg_trgm 확장이 있어야 생성 가능
+	 */
+	public static Map<String, String> indexStatements() {
+		Map<String, String> statements = new LinkedHashMap<>();
+		statements.put(FTS_INDEX_NAME, "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + FTS_INDEX_NAME + " ON " + TABLE
+			+ " USING GIN (" + documentVector("title", "description") + ")");
+		statements.put(TITLE_TRGM_INDEX_NAME, "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + TITLE_TRGM_INDEX_NAME
+			+ " ON " + TABLE + " USING GIN (lower(title) gin_trgm_ops)");
+		return statements;
+	}
+
+	public static String dropIndexStatement(String indexName) {
+		return "DROP INDEX CONCURRENTLY IF EXISTS " + indexName;
+	}
+
+	/**
+	 * 검색어 → tsquery 문자열 변환 (각 단어 접두어 일치, AND 결합)
+	 * 예: "오버핏 티셔츠" → "오버핏:* & 티셔츠:*"
+	 *
+	 * @return 유효한 단어가 없으면 null
+	 */
+	public static String toTsQuery(String keyword) {
+		if (keyword == null) {
+			return null;
+		}
+
+		List<String> terms = new ArrayList<>();
+		for (String token : keyword.trim().split("\\s+")) {
+			String term = sanitize(token);
+			if (!term.isEmpty()) {
+				terms.add(term + ":*");
+			}
+			if (terms.size() >= MAX_TERMS) {
+				break;
+			}
+		}
+		return terms.isEmpty() ? null : String.join(" & ", terms);
+	}
+
+	// tsquery 연산자(&, |, !, :, 괄호 등) 제거 - 문자/숫자만 유지
+	private static String sanitize(String token) {
+		StringBuilder builder = new StringBuilder(token.length());
+		token.codePoints()
+			.filter(Character::isLetterOrDigit)
+			.forEach(builder::appendCodePoint);
+		return builder.toString().toLowerCase(Locale.ROOT);
+	}
+}
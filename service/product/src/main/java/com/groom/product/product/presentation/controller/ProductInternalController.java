@@ -10,10 +10,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.groom.common.presentation.advice.ErrorCode;
 import com.groom.product.product.application.dto.ProductCartInfo;
 import com.groom.product.product.application.dto.StockManagement;
+import com.groom.product.product.application.dto.StockReserveFailure;
 import com.groom.product.product.application.service.ProductServiceV1;
 import com.groom.product.product.infrastructure.cache.StockRedisService;
 import com.groom.product.product.presentation.dto.response.ResProductBulkInfoDto;
@@ -50,6 +53,7 @@ public class ProductInternalController {
 	 * 재고 가점유 (Reserve)
 	 * - 호출 시점: 주문서 생성 시 (Order 서비스)
 	 * - 동작: Redis에서 원자적으로 재고 검증 + 차감 + 주문-상품 매핑 저장
+	 * - 한 라인이라도 실패하면 전체 미차감, 실패 라인 정보(failedItems)와 함께 400 응답
 	 *
 	 * Request Body:
 	 * {
@@ -76,11 +80,14 @@ public class ProductInternalController {
 			))
 			.toList();
 
-		// 1. 재고 가점유
-		productService.reserveStockBulk(stockManagements);
+		// 재고 가점유 + 주문-상품 매핑 저장 (All-or-Nothing, Redis 1회 왕복)
+		List<StockReserveFailure> failures = productService.reserveStockBulk(orderId, stockManagements);
 
-		// 2. 주문-상품 매핑 저장 (이벤트 수신 시 사용)
-		stockRedisService.saveOrderStockItems(orderId, stockManagements);
+		if (!failures.isEmpty()) {
+			log.info("[Internal API] 재고 가점유 실패 - orderId: {}, failedLines: {}", orderId, failures.size());
+			return ResponseEntity.status(ErrorCode.STOCK_NOT_ENOUGH.getHttpStatus())
+				.body(ResStockOperationDto.fail(ErrorCode.STOCK_NOT_ENOUGH.getMessage(), failures));
+		}
 
 		log.info("[Internal API] 재고 가점유 완료 - orderId: {}", orderId);
 		return ResponseEntity.ok(ResStockOperationDto.success("재고 가점유가 완료되었습니다."));
@@ -106,7 +113,7 @@ public class ProductInternalController {
 		StockManagement stockManagement = StockManagement.of(productId, variantId, quantity);
 
 		// 1. 재고 가점유
-		productService.reserveStockBulk(List.of(stockManagement));
+		productService.reserveStock(productId, variantId, quantity);
 
 		// 2. 주문-상품 매핑 저장 (기존 매핑이 있으면 추가)
 		List<StockManagement> existingItems = new java.util.ArrayList<>(stockRedisService.getOrderStockItems(orderId));
@@ -150,15 +157,17 @@ public class ProductInternalController {
 	 * 상품 정보 벌크 조회
 	 * - 호출 시점: 주문 생성, 장바구니 조회 시 (Order/Cart 서비스)
 	 * - 동작: N+1 방지를 위한 벌크 조회
+	 * - fresh=true: 상세 캐시 대신 DB 기준 (체크아웃 견적 등 가격 확정 시)
 	 */
 	@Operation(summary = "상품 정보 벌크 조회", description = "여러 상품 정보를 한 번에 조회합니다. (N+1 방지)")
 	@PostMapping("/bulk-info")
 	public ResponseEntity<List<ProductCartInfo>> getProductBulkInfo(
-		@RequestBody List<StockManagement> items
+		@RequestBody List<StockManagement> items,
+		@RequestParam(defaultValue = "false") boolean fresh
 	) {
-		log.info("[Internal API] 상품 정보 벌크 조회 요청 - items: {}", items.size());
+		log.info("[Internal API] 상품 정보 벌크 조회 요청 - items: {}, fresh: {}", items.size(), fresh);
 
-		List<ProductCartInfo> productInfos = productService.getProductCartInfos(items);
+		List<ProductCartInfo> productInfos = productService.getProductCartInfos(items, fresh);
 
 		log.info("[Internal API] 상품 정보 벌크 조회 완료 - results: {}", productInfos.size());
 		return ResponseEntity.ok(productInfos);
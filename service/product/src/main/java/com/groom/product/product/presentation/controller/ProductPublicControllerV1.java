@@ -5,6 +5,7 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -19,8 +20,10 @@ import com.groom.product.product.application.service.ProductReadService;
 import com.groom.product.product.application.service.ProductServiceV1;
 import com.groom.product.product.application.service.ProductWarmUpLoader;
 import com.groom.product.product.domain.enums.ProductSortType;
+import com.groom.product.product.presentation.dto.response.ResProductCursorPageDtoV1;
 import com.groom.product.product.presentation.dto.response.ResProductDetailDtoV1;
 import com.groom.product.product.presentation.dto.response.ResProductSearchDtoV1;
+import com.groom.product.product.presentation.dto.response.ResWarmUpProgressDto;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -33,15 +36,28 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProductPublicControllerV1 {
 
+	private static final int MAX_SCROLL_SIZE = 100;
+
 	private final ProductReadService productReadService;
 	private final ProductServiceV1 productService;
 	private final ProductWarmUpLoader warmUpLoader;
 
-	@Operation(summary = "상품 캐시 웜업 (테스트용)", description = "최신 상품 10만 개를 Redis 캐시에 적재합니다.")
+	@Operation(summary = "상품 캐시 웜업", description = "최신 상품(기본 10만 개)을 Redis 캐시에 적재합니다. 중단된 작업은 체크포인트부터 이어서 진행합니다.")
 	@PostMapping("/warm-up")
-	public ResponseEntity<String> warmUp() {
-		new Thread(warmUpLoader::loadTopProducts).start();
-		return ResponseEntity.ok("Warm-up started in background (Limit: 100,000)");
+	public ResponseEntity<ResWarmUpProgressDto> warmUp(
+		@Parameter(description = "체크포인트를 무시하고 처음부터 적재") @RequestParam(required = false, defaultValue = "false") boolean restart
+	) {
+		if (!warmUpLoader.start(restart)) {
+			// 이미 실행 중 (이 인스턴스 또는 다른 Pod)
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(warmUpLoader.getProgress());
+		}
+		return ResponseEntity.accepted().body(warmUpLoader.getProgress());
+	}
+
+	@Operation(summary = "상품 캐시 웜업 진행 상태", description = "진행률, 경과 시간, 예상 남은 시간(ETA), 체크포인트를 조회합니다.")
+	@GetMapping("/warm-up/status")
+	public ResponseEntity<ResWarmUpProgressDto> getWarmUpProgress() {
+		return ResponseEntity.ok(warmUpLoader.getProgress());
 	}
 
 	@Operation(summary = "상품 목록 조회", description = "구매자가 상품 목록을 조회합니다. (검색, 필터, 정렬 지원)")
@@ -51,26 +67,28 @@ public class ProductPublicControllerV1 {
 		@Parameter(description = "검색어 (상품명)") @RequestParam(required = false) String keyword,
 		@Parameter(description = "최소 가격") @RequestParam(required = false) Long minPrice,
 		@Parameter(description = "최대 가격") @RequestParam(required = false) Long maxPrice,
-		@Parameter(description = "정렬 (price_asc, price_desc, newest, rating)") @RequestParam(required = false, defaultValue = "newest") String sort,
+		@Parameter(description = "정렬 (price_asc, price_desc, newest, rating, relevance) - 검색어가 있으면 기본 relevance, 없으면 newest") @RequestParam(required = false) String sort,
 		@Parameter(description = "페이지 번호 (1부터 시작)") @RequestParam(required = false, defaultValue = "1") Integer page,
 		@Parameter(description = "페이지 크기") @RequestParam(required = false, defaultValue = "20") Integer size
 	) {
-		ProductSortType sortType = ProductSortType.fromValue(sort);
+		boolean hasKeyword = keyword != null && !keyword.isBlank();
+		ProductSortType sortType = (sort == null && hasKeyword)
+			? ProductSortType.RELEVANCE
+			: ProductSortType.fromValue(sort);
 		// 명세에서는 page가 1부터 시작하므로, 0-based로 변환
 		Pageable pageable = PageRequest.of(Math.max(0, page - 1), size);
 
 		Page<ResProductSearchDtoV1> response;
 
-		// 단순 카테고리 조회 (필터 없음, 최신순) → Redis 캐시 사용
-		boolean isSimpleQuery = (keyword == null || keyword.isBlank())
+		// 단순 카테고리 조회 (검색어/가격 필터 없음, 모든 정렬) → Redis 캐시 사용
+		boolean isSimpleQuery = !hasKeyword
 			&& minPrice == null
-			&& maxPrice == null
-			&& (sortType == null || sortType == ProductSortType.NEWEST);
+			&& maxPrice == null;
 
 		if (isSimpleQuery) {
-			response = productReadService.getProductList(categoryId, pageable);
+			response = productReadService.getProductList(categoryId, sortType, pageable);
 		} else {
-			// 복잡한 검색 (필터/정렬) → DB 직접 조회
+			// 복잡한 검색 (검색어/가격 필터) → DB 직접 조회
 			response = productService.searchProducts(
 				categoryId, keyword, minPrice, maxPrice, sortType, pageable
 			);
@@ -79,6 +97,26 @@ public class ProductPublicControllerV1 {
 		return ResponseEntity.ok(response);
 	}
 
+	@Operation(summary = "상품 목록 커서 조회 (무한 스크롤)",
+		description = "커서 기반으로 상품 목록을 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다. (정렬 변경 시 cursor 없이 처음부터 조회)")
+	@GetMapping("/scroll")
+	public ResponseEntity<ResProductCursorPageDtoV1> scrollProducts(
+		@Parameter(description = "카테고리 ID") @RequestParam(required = false) UUID categoryId,
+		@Parameter(description = "검색어 (상품명)") @RequestParam(required = false) String keyword,
+		@Parameter(description = "최소 가격") @RequestParam(required = false) Long minPrice,
+		@Parameter(description = "최대 가격") @RequestParam(required = false) Long maxPrice,
+		@Parameter(description = "정렬 (price_asc, price_desc, newest, rating)") @RequestParam(required = false, defaultValue = "newest") String sort,
+		@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+		@Parameter(description = "페이지 크기 (최대 100)") @RequestParam(required = false, defaultValue = "20") Integer size,
+		@Parameter(description = "전체 개수 포함 여부") @RequestParam(required = false, defaultValue = "false") boolean withTotal
+	) {
+		int pageSize = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+		ResProductCursorPageDtoV1 response = productReadService.getProductListByCursor(
+			categoryId, keyword, minPrice, maxPrice, ProductSortType.fromValue(sort), cursor, pageSize, withTotal
+		);
+		return ResponseEntity.ok(response);
+	}
+
 	@Operation(summary = "상품 상세 조회", description = "구매자가 상품 상세 정보를 조회합니다.")
 	@GetMapping("/{productId}")
 	public ResponseEntity<ResProductDetailDtoV1> getProductDetail(
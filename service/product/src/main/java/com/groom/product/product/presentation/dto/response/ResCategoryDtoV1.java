@@ -1,6 +1,7 @@
 package com.groom.product.product.presentation.dto.response;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import com.groom.product.product.domain.entity.Category;
@@ -18,6 +19,8 @@ public class ResCategoryDtoV1 {
 	private Integer sortOrder;
 	private Boolean isActive;
 	private UUID parentId;
+	// 하위 카테고리 포함 판매중 상품 수 (개수 캐시에 없으면 null)
+	private Long productCount;
 	private List<ResCategoryDtoV1> children;
 
 	public static ResCategoryDtoV1 from(Category category) {
@@ -46,6 +49,34 @@ public class ResCategoryDtoV1 {
 			.build();
 	}
 
+	public static ResCategoryDtoV1 from(Category category, Map<UUID, Long> productCounts) {
+		return ResCategoryDtoV1.builder()
+			.id(category.getId())
+			.name(category.getName())
+			.depth(category.getDepth())
+			.sortOrder(category.getSortOrder())
+			.isActive(category.getIsActive())
+			.parentId(category.getParent() != null ? category.getParent().getId() : null)
+			.productCount(productCounts.get(category.getId()))
+			.build();
+	}
+
+	public static ResCategoryDtoV1 fromWithChildren(Category category, Map<UUID, Long> productCounts) {
+		return ResCategoryDtoV1.builder()
+			.id(category.getId())
+			.name(category.getName())
+			.depth(category.getDepth())
+			.sortOrder(category.getSortOrder())
+			.isActive(category.getIsActive())
+			.parentId(category.getParent() != null ? category.getParent().getId() : null)
+			.productCount(productCounts.get(category.getId()))
+			.children(category.getChildren().stream()
+				.filter(Category::getIsActive)
+				.map(child -> fromWithChildren(child, productCounts))
+				.toList())
+			.build();
+	}
+
 	public static ResCategoryDtoV1 fromWithChildrenIncludingInactive(Category category) {
 		return ResCategoryDtoV1.builder()
 			.id(category.getId())
@@ -0,0 +1,42 @@
+package com.groom.product.product.presentation.dto.response;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 목록 커서 페이지 응답 DTO (구매자용, 무한 스크롤)
+ *
+ * nextCursor를 다음 요청의 cursor로 그대로 전달 (hasNext=false면 null)
+ * totalCount는 withTotal=true로 요청한 경우에만 포함
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ResProductCursorPageDtoV1 {
+
+	private List<ResProductSearchDtoV1> content;
+	private int size;
+	private boolean hasNext;
+	private String nextCursor;
+
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Long totalCount;
+
+	public static ResProductCursorPageDtoV1 of(List<ResProductSearchDtoV1> content, String nextCursor, Long totalCount) {
+		return ResProductCursorPageDtoV1.builder()
+			.content(content)
+			.size(content.size())
+			.hasNext(nextCursor != null)
+			.nextCursor(nextCursor)
+			.totalCount(totalCount)
+			.build();
+	}
+}
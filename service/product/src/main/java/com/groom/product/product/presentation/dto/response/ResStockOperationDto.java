@@ -1,5 +1,10 @@
 package com.groom.product.product.presentation.dto.response;
 
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.groom.product.product.application.dto.StockReserveFailure;
+
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,10 +18,12 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ResStockOperationDto {
 
 	private boolean success;
 	private String message;
+	private List<StockReserveFailure> failedItems;
 
 	public static ResStockOperationDto success() {
 		return ResStockOperationDto.builder()
@@ -38,4 +45,12 @@ public class ResStockOperationDto {
 			.message(message)
 			.build();
 	}
+
+	public static ResStockOperationDto fail(String message, List<StockReserveFailure> failedItems) {
+		return ResStockOperationDto.builder()
+			.success(false)
+			.message(message)
+			.failedItems(failedItems)
+			.build();
+	}
 }
@@ -0,0 +1,35 @@
+package com.groom.product.product.presentation.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 캐시 Warm-up 진행 상태 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ResWarmUpProgressDto {
+
+	private String status;
+	private long processed;
+	private long total;
+	private double percent;
+	private Long elapsedSeconds;
+	private Long etaSeconds;
+	private String checkpoint;
+	private LocalDateTime startedAt;
+	private LocalDateTime updatedAt;
+
+	public static ResWarmUpProgressDto idle() {
+		return ResWarmUpProgressDto.builder()
+			.status("IDLE")
+			.build();
+	}
+}
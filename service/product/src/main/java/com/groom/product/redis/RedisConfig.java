@@ -1,12 +1,21 @@
 package com.groom.product.redis;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import com.groom.product.product.infrastructure.cache.CachedProductDetail;
+import com.groom.product.product.infrastructure.cache.ProductCacheKey;
+import com.groom.product.product.infrastructure.cache.ProductDetailNearCache;
+import com.groom.product.product.infrastructure.cache.ProductDetailRedisSerializer;
+
 @Configuration
 public class RedisConfig {
 
@@ -27,10 +36,45 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * 상품 상세 캐시 전용 템플릿 (바이너리 코덱)
+     * product.cache.codec.binary-write: 바이너리 쓰기 여부 (false면 기존 JSON 쓰기 - 롤백용)
+     * product.cache.codec.legacy-json-read: 기존 JSON 값 읽기 허용 (마이그레이션 기간 동안 true)
+     */
+    @Bean
+    public RedisTemplate<String, CachedProductDetail> productDetailRedisTemplate(
+        RedisConnectionFactory factory,
+        StringRedisSerializer stringRedisSerializer,
+        GenericJackson2JsonRedisSerializer jsonRedisSerializer,
+        @Value("${product.cache.codec.binary-write:true}") boolean binaryWrite,
+        @Value("${product.cache.codec.legacy-json-read:true}") boolean legacyJsonRead
+    ) {
+        RedisTemplate<String, CachedProductDetail> template = new RedisTemplate<>();
+        template.setConnectionFactory(factory);
+
+        template.setKeySerializer(stringRedisSerializer);
+        template.setValueSerializer(
+            new ProductDetailRedisSerializer(jsonRedisSerializer, binaryWrite, legacyJsonRead));
+
+        return template;
+    }
+
     @Bean
     public StringRedisTemplate stringRedisTemplate(
         RedisConnectionFactory factory
     ) {
         return new StringRedisTemplate(factory);
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        RedisConnectionFactory factory,
+        ProductDetailNearCache productDetailNearCache
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.addMessageListener(productDetailNearCache,
+            new ChannelTopic(ProductCacheKey.productDetailInvalidationChannel()));
+        return container;
+    }
 }
@@ -0,0 +1,10 @@
+package com.groom.product.review.application.event;
+
+import java.util.UUID;
+
+// 상품 평균 평점 변경 (리뷰 작성/수정/삭제, 재계산) → 상품 목록 평점 인덱스 갱신
+public record ProductRatingChangedEvent(
+	UUID productId,
+	double avgRating,
+	int reviewCount
+) {}
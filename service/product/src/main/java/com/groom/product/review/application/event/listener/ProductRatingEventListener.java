@@ -1,5 +1,6 @@
 package com.groom.product.review.application.event.listener;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.scheduling.annotation.Async;
@@ -7,6 +8,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.groom.product.review.application.event.ProductRatingChangedEvent;
 import com.groom.product.review.application.event.ReviewCreatedEvent;
 import com.groom.product.review.domain.entity.ProductRatingEntity;
 import com.groom.product.review.domain.repository.ProductRatingRepository;
@@ -18,6 +20,7 @@ import lombok.RequiredArgsConstructor;
 public class ProductRatingEventListener {
 
     private final ProductRatingRepository productRatingRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Async("eventExecutor")
     @Retryable(
@@ -34,5 +37,9 @@ public class ProductRatingEventListener {
 
         rating.updateRating(event.rating());
         productRatingRepository.save(rating);
+
+        applicationEventPublisher.publishEvent(
+            new ProductRatingChangedEvent(rating.getProductId(), rating.getAvgRating(), rating.getReviewCount())
+        );
     }
 }
@@ -3,9 +3,11 @@ package com.groom.product.review.application.service;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.groom.product.review.application.event.ProductRatingChangedEvent;
 import com.groom.product.review.domain.entity.ProductRatingEntity;
 import com.groom.product.review.domain.entity.ReviewEntity;
 import com.groom.product.review.domain.repository.ProductRatingRepository;
@@ -21,6 +23,7 @@ public class ProductRatingRebuildService {
 
     private final ReviewRepository reviewRepository;
     private final ProductRatingRepository productRatingRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public void rebuild(UUID productId) {
@@ -39,5 +42,9 @@ public class ProductRatingRebuildService {
         }
 
         productRatingRepository.save(rating);
+
+        applicationEventPublisher.publishEvent(
+            new ProductRatingChangedEvent(productId, rating.getAvgRating(), rating.getReviewCount())
+        );
     }
 }
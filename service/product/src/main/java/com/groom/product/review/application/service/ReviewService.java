@@ -11,6 +11,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.groom.product.review.application.event.ProductRatingChangedEvent;
 import com.groom.product.review.application.event.ReviewCreatedEvent;
 import com.groom.product.review.application.validator.OrderReviewValidator;
 import com.groom.product.review.domain.entity.ProductRatingEntity;
@@ -123,6 +124,7 @@ public class ReviewService {
 			ratingEntity.updateRating(request.getRating());
 
 			review.updateRating(request.getRating());
+			publishRatingChanged(ratingEntity);
 		}
 
 		// 내용 변경 시 AI 재분류
@@ -167,6 +169,17 @@ public class ReviewService {
 		ratingEntity.removeRating(review.getRating());
 
 		review.softDelete(currentUserId.toString());
+		publishRatingChanged(ratingEntity);
+	}
+
+	private void publishRatingChanged(ProductRatingEntity ratingEntity) {
+		applicationEventPublisher.publishEvent(
+			new ProductRatingChangedEvent(
+				ratingEntity.getProductId(),
+				ratingEntity.getAvgRating(),
+				ratingEntity.getReviewCount()
+			)
+		);
 	}
 
 	/**
@@ -0,0 +1,12 @@
+-- 리스 연장 (소유자 확인 후 TTL 갱신)
+--
+-- KEYS[1] : 리스 키
+-- ARGV[1] : 리스 획득 시 저장한 토큰
+-- ARGV[2] : 새 TTL (밀리초)
+--
+-- 반환: 1 (연장), 0 (만료되었거나 다른 소유자)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
@@ -0,0 +1,11 @@
+-- 로딩 리스 해제 (소유자 확인 후 삭제)
+--
+-- KEYS[1] : 리스 키
+-- ARGV[1] : 리스 획득 시 저장한 토큰
+--
+-- 반환: 1 (해제), 0 (만료되었거나 다른 소유자)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,21 @@
+-- 상품 수 증감 (카테고리/상위 카테고리/전체 개수 키 일괄 반영)
+--
+-- KEYS[1..n] : 개수 키 (product:count:category:{id|all} / product:count:tree:{id})
+-- ARGV[1..n] : 키별 증감값 (KEYS 순서와 동일)
+--
+-- 키가 없으면 건너뜀 (0에서 시작한 부분 값이 정확한 값처럼 보이지 않도록, 재집계 작업이 채움)
+-- 0 미만으로 내려가면 0으로 고정 (다음 재집계에서 보정)
+--
+-- 반환: 반영한 키 수
+
+local applied = 0
+for i = 1, #KEYS do
+    if redis.call('EXISTS', KEYS[i]) == 1 then
+        local value = redis.call('INCRBY', KEYS[i], ARGV[i])
+        if value < 0 then
+            redis.call('SET', KEYS[i], 0)
+        end
+        applied = applied + 1
+    end
+end
+return applied
@@ -0,0 +1,60 @@
+-- 상품 목록 커서 페이지 조회 (커서 인덱스 ZSET, score: createdAt epoch microseconds)
+--
+-- KEYS[1] : 커서 인덱스 ZSET 키
+-- KEYS[2] : 상품 수 키 (인덱스가 빠짐없이 적재됐는지 호출자가 비교)
+-- ARGV[1] : 커서 score ('' 이면 첫 페이지)
+-- ARGV[2] : 커서 member (productId)
+-- ARGV[3] : 조회 개수
+--
+-- 반환: {ZCARD, 상품 수 (없으면 ''), member1, score1, member2, score2, ...}
+--       score 내림차순, 동일 score는 member 역사전순 (ZREVRANGE 순서 = DB createdAt DESC, productId DESC)
+--
+-- 1) 커서 member가 ZSET에 있으면 ZREVRANK로 위치를 찾아 바로 다음 구간 조회 - O(log N + limit)
+-- 2) 없으면 (상품 삭제/판매 중지 등) score 기준으로 커서 score 이하 구간을 조회하고,
+--    커서보다 앞에 정렬되는 동일 score 멤버는 건너뜀
+
+local key = KEYS[1]
+local limit = tonumber(ARGV[3])
+local count = redis.call('GET', KEYS[2])
+local result = {redis.call('ZCARD', key), count or ''}
+
+local function append(entries)
+    for i = 1, #entries do
+        result[#result + 1] = entries[i]
+    end
+    return result
+end
+
+if ARGV[1] == '' then
+    return append(redis.call('ZREVRANGE', key, 0, limit - 1, 'WITHSCORES'))
+end
+
+local rank = redis.call('ZREVRANK', key, ARGV[2])
+if rank then
+    return append(redis.call('ZREVRANGE', key, rank + 1, rank + limit, 'WITHSCORES'))
+end
+
+local cursorScore = tonumber(ARGV[1])
+local wanted = 2 + limit * 2
+local offset = 0
+
+while #result < wanted do
+    local chunk = redis.call('ZREVRANGEBYSCORE', key, cursorScore, '-inf', 'WITHSCORES', 'LIMIT', offset, limit)
+    if #chunk == 0 then
+        break
+    end
+
+    for i = 1, #chunk, 2 do
+        if tonumber(chunk[i + 1]) < cursorScore or chunk[i] < ARGV[2] then
+            result[#result + 1] = chunk[i]
+            result[#result + 1] = chunk[i + 1]
+            if #result >= wanted then
+                break
+            end
+        end
+    end
+
+    offset = offset + limit
+end
+
+return result
@@ -0,0 +1,45 @@
+-- 가격 높은순 목록 페이지 조회 (가격 인덱스 ZSET, score: 최저가, 가격 없으면 +inf)
+--
+-- KEYS[1] : 가격 인덱스 키 (product:list:price:category:{categoryId|all})
+-- KEYS[2] : 상품 수 캐시 키 (product:count:category:{categoryId|all})
+-- ARGV[1] : 시작 위치 (0부터)
+-- ARGV[2] : 조회 개수
+--
+-- 반환: {인덱스 크기, 상품 수 캐시('' 이면 없음), member1, member2, ...}
+--
+-- 가격 없는 상품은 낮은순/높은순 모두 마지막 (DB 정렬 nullsLast와 동일)
+-- ZREVRANGE 순위 기준 가격 없는 상품(+inf)이 앞 unpriced개를 차지하므로
+-- 1) 가격 있는 구간: 순위 unpriced + offset 부터
+-- 2) 부족분은 가격 없는 구간(순위 0 ~ unpriced - 1)에서 이어서 채움 (동점은 member 역사전순 = DB id 내림차순)
+
+local key = KEYS[1]
+local offset = tonumber(ARGV[1])
+local limit = tonumber(ARGV[2])
+
+local size = redis.call('ZCARD', key)
+local unpriced = redis.call('ZCOUNT', key, '+inf', '+inf')
+local priced = size - unpriced
+local count = redis.call('GET', KEYS[2]) or ''
+
+local result = {size, count}
+
+if offset < priced then
+    local members = redis.call('ZREVRANGE', key, unpriced + offset, unpriced + math.min(offset + limit, priced) - 1)
+    for i = 1, #members do
+        result[#result + 1] = members[i]
+    end
+end
+
+local remaining = limit - (#result - 2)
+if remaining > 0 and unpriced > 0 then
+    local start = math.max(0, offset - priced)
+    local stop = math.min(start + remaining, unpriced) - 1
+    if start <= stop then
+        local members = redis.call('ZREVRANGE', key, start, stop)
+        for i = 1, #members do
+            result[#result + 1] = members[i]
+        end
+    end
+end
+
+return result
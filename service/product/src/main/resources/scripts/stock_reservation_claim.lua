@@ -0,0 +1,17 @@
+-- 예약 선점 (만료 해제 / 결제 실패 / 주문 취소 공통)
+--
+-- KEYS[1] : 예약 만료 인덱스 (stock:reservation:expiry, ZSET)
+-- KEYS[2] : 주문-상품 매핑 키 (order:stock:items:{orderId})
+-- ARGV[1] : 주문 ID
+--
+-- 반환: 매핑 JSON (선점 성공), nil (이미 다른 곳에서 처리됨)
+-- 매핑 GET + DEL이 원자적이므로 여러 Pod/이벤트가 동시에 호출해도 한 곳만 재고를 복구
+
+redis.call('ZREM', KEYS[1], ARGV[1])
+
+local items = redis.call('GET', KEYS[2])
+if items then
+    redis.call('DEL', KEYS[2])
+end
+
+return items
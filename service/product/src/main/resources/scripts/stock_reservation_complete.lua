@@ -0,0 +1,18 @@
+-- 예약 완료 (결제 완료 시 호출)
+--
+-- KEYS[1] : 예약 만료 인덱스 (stock:reservation:expiry, ZSET)
+-- KEYS[2] : 주문-상품 매핑 키 (order:stock:items:{orderId})
+-- ARGV[1] : 주문 ID
+--
+-- 반환: 매핑 JSON (완료 성공), nil (만료 해제/결제 실패/취소로 이미 선점됨)
+-- 매핑 확인 + 만료 인덱스 제거가 원자적이므로 만료 해제와 동시에 실행돼도 한쪽만 성공
+-- (선점은 매핑을 삭제하고, 만료 해제는 인덱스에 남아 있는 주문만 처리)
+-- 매핑은 취소/환불 시 재고 복구를 위해 유지
+
+local items = redis.call('GET', KEYS[2])
+if not items then
+    return nil
+end
+
+redis.call('ZREM', KEYS[1], ARGV[1])
+return items
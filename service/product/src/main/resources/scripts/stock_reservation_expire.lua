@@ -0,0 +1,34 @@
+-- 만료된 예약 해제 (StockReservationSweeper)
+--
+-- KEYS[1]     : 예약 만료 인덱스 (stock:reservation:expiry, ZSET)
+-- KEYS[2]     : 주문-상품 매핑 키 (order:stock:items:{orderId})
+-- KEYS[3..n]  : 라인별 재고 키 (stock:product:{id} / stock:variant:{id}, 매핑 순서)
+-- ARGV[1]     : 주문 ID
+-- ARGV[2]     : 호출 측이 읽은 매핑 JSON (재고 키 계산 기준)
+-- ARGV[3..]   : 라인별 복원 수량 (KEYS[3..] 순서와 동일)
+--
+-- 반환:
+--   1  → 해제 (인덱스 제거 + 재고 INCRBY + 매핑 삭제를 한 번에 처리)
+--   0  → 이미 결제 완료/결제 실패/취소로 처리됨 (인덱스에 없음)
+--   -1 → 매핑이 읽은 뒤 바뀜 (다음 스윕에서 다시 시도)
+-- 인덱스에 남아 있는 주문만 해제하므로 결제 완료(stock_reservation_complete.lua)와 한쪽만 성공
+
+local mapping = redis.call('GET', KEYS[2])
+if mapping and mapping ~= ARGV[2] then
+    return -1
+end
+
+if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then
+    return 0
+end
+
+if not mapping then
+    return 0
+end
+
+for i = 3, #KEYS do
+    redis.call('INCRBY', KEYS[i], ARGV[i])
+end
+redis.call('DEL', KEYS[2])
+
+return 1
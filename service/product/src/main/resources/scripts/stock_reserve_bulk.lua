@@ -0,0 +1,54 @@
+-- 주문 단위 재고 가점유 (All-or-Nothing)
+--
+-- KEYS[1..n]  : 라인별 재고 키 (stock:product:{id} / stock:variant:{id})
+-- KEYS[n + 1] : 주문-상품 매핑 키 (order:stock:items:{orderId})
+-- KEYS[n + 2] : 예약 만료 인덱스 (stock:reservation:expiry, ZSET)
+-- ARGV[1]     : 매핑 TTL (초)
+-- ARGV[2]     : 매핑 JSON
+-- ARGV[3]     : 예약 만료 시각 (epoch millis)
+-- ARGV[4]     : 주문 ID
+-- ARGV[5..]   : 라인별 차감 수량 (KEYS 순서와 동일)
+--
+-- 반환:
+--   성공 → 빈 배열 (모든 라인 차감 + 매핑 저장 + 만료 인덱스 등록 완료)
+--   실패 → {lineIndex, code, available, ...} 3개 단위 반복, 아무것도 차감하지 않음
+--          code: -1 = 재고 키 없음, 0 = 재고 부족 (available = 현재 가용 재고)
+
+local lineCount = #KEYS - 2
+local required = {}
+local failures = {}
+
+-- 같은 SKU가 여러 라인에 나뉘어 들어온 경우 합산하여 검증
+for i = 1, lineCount do
+    local key = KEYS[i]
+    required[key] = (required[key] or 0) + tonumber(ARGV[i + 4])
+end
+
+-- 1. 전체 라인 검증 (하나라도 실패하면 차감하지 않음)
+for i = 1, lineCount do
+    local current = redis.call('GET', KEYS[i])
+    if not current then
+        table.insert(failures, i - 1)
+        table.insert(failures, -1)
+        table.insert(failures, -1)
+    elseif tonumber(current) < required[KEYS[i]] then
+        table.insert(failures, i - 1)
+        table.insert(failures, 0)
+        table.insert(failures, tonumber(current))
+    end
+end
+
+if #failures > 0 then
+    return failures
+end
+
+-- 2. 전체 라인 차감
+for i = 1, lineCount do
+    redis.call('DECRBY', KEYS[i], ARGV[i + 4])
+end
+
+-- 3. 주문-상품 매핑 저장 + 만료 인덱스 등록
+redis.call('SET', KEYS[lineCount + 1], ARGV[2], 'EX', ARGV[1])
+redis.call('ZADD', KEYS[lineCount + 2], ARGV[3], ARGV[4])
+
+return failures
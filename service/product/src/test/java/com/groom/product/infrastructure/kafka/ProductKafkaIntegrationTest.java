@@ -139,7 +139,7 @@ class ProductKafkaIntegrationTest {
         // 1. Mock Redis & Service
         UUID orderId = UUID.randomUUID();
         UUID productId = UUID.randomUUID();
-        when(stockRedisService.getOrderStockItems(orderId)).thenReturn(List.of(
+        when(stockRedisService.completeReservation(orderId)).thenReturn(List.of(
                 StockManagement.of(productId, null, 2)));
 
         // 2. Simulate Payment Completed Event
@@ -194,7 +194,7 @@ class ProductKafkaIntegrationTest {
         // 1. Mock Redis & Service
         UUID orderId = UUID.randomUUID();
         UUID productId = UUID.randomUUID();
-        when(stockRedisService.getOrderStockItems(orderId)).thenReturn(List.of(
+        when(stockRedisService.completeReservation(orderId)).thenReturn(List.of(
                 StockManagement.of(productId, null, 2)));
 
         // Mock Service to throw exception
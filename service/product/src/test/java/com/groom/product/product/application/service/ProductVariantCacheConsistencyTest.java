@@ -0,0 +1,196 @@
+package com.groom.product.product.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.groom.common.infrastructure.config.security.CustomUserDetails;
+import com.groom.product.product.application.dto.ProductCartInfo;
+import com.groom.product.product.application.dto.StockManagement;
+import com.groom.product.product.domain.entity.Category;
+import com.groom.product.product.domain.entity.Product;
+import com.groom.product.product.domain.entity.ProductVariant;
+import com.groom.product.product.domain.enums.VariantStatus;
+import com.groom.product.product.domain.repository.ProductRepository;
+import com.groom.product.product.domain.repository.ProductVariantRepository;
+import com.groom.product.product.infrastructure.cache.CachedProductDetail;
+import com.groom.product.product.infrastructure.cache.ProductCountCacheService;
+import com.groom.product.product.infrastructure.cache.ProductDetailCacheService;
+import com.groom.product.product.infrastructure.cache.ProductListCacheService;
+import com.groom.product.product.infrastructure.cache.StockRedisService;
+import com.groom.product.product.infrastructure.repository.ProductQueryRepository;
+import com.groom.product.product.presentation.dto.request.ReqVariantUpdateDtoV1;
+
+/**
+ * Variant 변경 후 bulk-info(상세 캐시 기반)가 변경 내용을 반영하는지 검증
+ * 상세 캐시는 Redis 대신 Map으로 대체
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductVariantCacheConsistencyTest {
+
+    @InjectMocks
+    private ProductVariantServiceV1 variantService;
+
+    @InjectMocks
+    private ProductServiceV1 productService;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductVariantRepository productVariantRepository;
+
+    @Mock
+    private ProductQueryRepository productQueryRepository;
+
+    @Mock
+    private CategoryServiceV1 categoryService;
+
+    @Mock
+    private ProductListCacheService listCacheService;
+
+    @Mock
+    private ProductDetailCacheService detailCacheService;
+
+    @Mock
+    private ProductCountCacheService countCacheService;
+
+    @Mock
+    private StockRedisService stockRedisService;
+
+    private final Map<UUID, CachedProductDetail> detailCache = new HashMap<>();
+
+    private UUID ownerId;
+    private UUID productId;
+    private UUID variantId;
+    private Product product;
+    private ProductVariant variant;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = UUID.randomUUID();
+        productId = UUID.randomUUID();
+        variantId = UUID.randomUUID();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+            new CustomUserDetails(ownerId, "owner@groom.com", "OWNER"), null, List.of()
+        ));
+
+        Category category = Category.builder()
+            .name("상의")
+            .depth(1)
+            .sortOrder(1)
+            .isActive(true)
+            .build();
+
+        product = Product.builder()
+            .ownerId(ownerId)
+            .category(category)
+            .title("티셔츠")
+            .hasOptions(true)
+            .price(10000L)
+            .stockQuantity(0)
+            .build();
+        ReflectionTestUtils.setField(product, "id", productId);
+
+        variant = ProductVariant.builder()
+            .product(product)
+            .skuCode("TS-RED-M")
+            .optionName("빨강 / M")
+            .price(10000L)
+            .stockQuantity(10)
+            .build();
+        ReflectionTestUtils.setField(variant, "id", variantId);
+        product.addVariant(variant);
+
+        // 상세 캐시 (Redis 대신 Map)
+        detailCache.put(productId, CachedProductDetail.from(product));
+        lenient().when(detailCacheService.multiGetWithStock(anyList(), anyList()))
+            .thenAnswer(invocation -> {
+                List<UUID> ids = invocation.getArgument(0);
+                Map<UUID, CachedProductDetail> found = new HashMap<>();
+                ids.stream()
+                    .filter(detailCache::containsKey)
+                    .forEach(id -> found.put(id, detailCache.get(id)));
+                return new ProductDetailCacheService.DetailsWithStock(found, Map.of());
+            });
+        lenient().doAnswer(invocation -> detailCache.remove(invocation.<UUID>getArgument(0)))
+            .when(detailCacheService).evictAfterCommit(any());
+        lenient().doAnswer(invocation -> {
+            List<CachedProductDetail> details = invocation.getArgument(0);
+            details.forEach(detail -> detailCache.put(detail.getProductId(), detail));
+            return null;
+        }).when(detailCacheService).putAll(anyList());
+
+        // DB
+        lenient().when(productRepository.findByIdAndNotDeleted(productId))
+            .thenReturn(Optional.of(product));
+        lenient().when(productVariantRepository.findByIdAndProductId(variantId, productId))
+            .thenReturn(Optional.of(variant));
+        lenient().when(productRepository.findAllWithCategoryByIdIn(List.of(productId)))
+            .thenReturn(List.of(product));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void updateVariant_price_bulkInfoReturnsNewPrice() {
+        assertThat(bulkInfo().getPrice()).isEqualTo(10000L);
+
+        variantService.updateVariant(productId, variantId,
+            ReqVariantUpdateDtoV1.builder().price(12000L).build());
+
+        ProductCartInfo info = bulkInfo();
+        assertThat(info.getPrice()).isEqualTo(12000L);
+        assertThat(detailCache.get(productId).getVariants().get(0).getPrice()).isEqualTo(12000L);
+    }
+
+    @Test
+    void updateVariant_status_bulkInfoReportsUnavailable() {
+        assertThat(bulkInfo().isAvailable()).isTrue();
+
+        variantService.updateVariant(productId, variantId,
+            ReqVariantUpdateDtoV1.builder().status(VariantStatus.DISCONTINUED).build());
+
+        assertThat(bulkInfo().isAvailable()).isFalse();
+    }
+
+    @Test
+    void deleteVariant_bulkInfoExcludesDeletedVariant() {
+        assertThat(bulkInfoList()).hasSize(1);
+
+        variantService.deleteVariant(productId, variantId);
+
+        assertThat(bulkInfoList()).isEmpty();
+    }
+
+    private ProductCartInfo bulkInfo() {
+        List<ProductCartInfo> infos = bulkInfoList();
+        assertThat(infos).hasSize(1);
+        return infos.get(0);
+    }
+
+    private List<ProductCartInfo> bulkInfoList() {
+        return productService.getProductCartInfos(List.of(StockManagement.of(productId, variantId, 1)));
+    }
+}
@@ -0,0 +1,249 @@
+package com.groom.product.product.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.groom.product.product.domain.enums.ProductStatus;
+import com.groom.product.product.domain.enums.VariantStatus;
+
+@DisplayName("CachedProductDetailCodec 테스트")
+class CachedProductDetailCodecTest {
+
+    @Test
+    @DisplayName("옵션/Variant를 포함한 모든 필드를 그대로 복원")
+    void fullDetail_RoundTrip() {
+        CachedProductDetail detail = fullDetail();
+
+        CachedProductDetail decoded = CachedProductDetailCodec.decode(CachedProductDetailCodec.encode(detail));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(detail);
+    }
+
+    @Test
+    @DisplayName("null과 빈 문자열/빈 리스트를 구분해 복원")
+    void nullsAndEmpties_RoundTrip() {
+        CachedProductDetail detail = CachedProductDetail.builder()
+            .productId(UUID.randomUUID())
+            .title("")
+            .description(null)
+            .price(null)
+            .minPrice(0L)
+            .maxPrice(-1L)
+            .hasOptions(false)
+            .options(List.of())
+            .variants(null)
+            .build();
+
+        CachedProductDetail decoded = CachedProductDetailCodec.decode(CachedProductDetailCodec.encode(detail));
+
+        assertThat(decoded.getTitle()).isEmpty();
+        assertThat(decoded.getDescription()).isNull();
+        assertThat(decoded.getPrice()).isNull();
+        assertThat(decoded.getMinPrice()).isZero();
+        assertThat(decoded.getMaxPrice()).isEqualTo(-1L);
+        assertThat(decoded.getHasOptions()).isFalse();
+        assertThat(decoded.getOptions()).isEmpty();
+        assertThat(decoded.getVariants()).isNull();
+        assertThat(decoded.getOwnerId()).isNull();
+        assertThat(decoded.getStatus()).isNull();
+        assertThat(decoded.getCreatedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("상위 버전 값은 아는 필드까지만 읽고 뒤에 추가된 바이트는 무시")
+    void newerVersion_IgnoresTrailingFields() {
+        CachedProductDetail detail = fullDetail();
+        byte[] encoded = CachedProductDetailCodec.encode(detail);
+        byte[] newer = Arrays.copyOf(encoded, encoded.length + 3);
+        newer[1] = (byte)(CachedProductDetailCodec.CURRENT_VERSION + 1);
+        newer[encoded.length] = 0x7F;
+
+        CachedProductDetail decoded = CachedProductDetailCodec.decode(newer);
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(detail);
+    }
+
+    @Test
+    @DisplayName("상위 버전 값의 옵션/옵션 값/Variant 레코드에 추가된 필드는 길이 접두사로 건너뜀")
+    void newerVersion_SkipsTrailingFieldsInNestedRecords() throws IOException {
+        UUID optionValueId = UUID.randomUUID();
+        UUID variantId = UUID.randomUUID();
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeByte(CachedProductDetailCodec.MAGIC);
+        out.writeByte(CachedProductDetailCodec.CURRENT_VERSION + 1);
+        for (int i = 0; i < 3; i++) {
+            out.writeBoolean(false); // productId, ownerId, categoryId
+        }
+        for (int i = 0; i < 5; i++) {
+            writeVarInt(out, 0); // categoryName ~ thumbnailUrl
+        }
+        for (int i = 0; i < 4; i++) {
+            out.writeBoolean(false); // price, minPrice, maxPrice, stockQuantity
+        }
+        writeString(out, "ON_SALE");
+        out.writeByte(2); // hasOptions = true
+        writeVarInt(out, 2); // 옵션 1개
+        writeRecord(out, option -> {
+            option.writeBoolean(false); // optionId
+            writeString(option, "색상");
+            option.writeBoolean(true);
+            writeVarInt(option, 1); // sortOrder
+            writeVarInt(option, 2); // 옵션 값 1개
+            writeRecord(option, value -> {
+                writeUuid(value, optionValueId);
+                writeString(value, "블랙");
+                writeString(value, "옵션 값 새 필드");
+            });
+            writeString(option, "옵션 새 필드");
+        });
+        writeVarInt(out, 2); // Variant 1개
+        writeRecord(out, variant -> {
+            writeUuid(variant, variantId);
+            writeString(variant, "TS-BLK");
+            writeVarInt(variant, 2);
+            writeUuid(variant, optionValueId);
+            writeString(variant, "블랙");
+            variant.writeBoolean(true);
+            writeVarInt(variant, 17900); // price
+            variant.writeBoolean(false); // stockQuantity
+            writeString(variant, "ON_SALE");
+            variant.writeBoolean(true); // 새 필드
+        });
+        out.writeBoolean(false); // createdAt
+        writeVarInt(out, 7); // cachedAt
+        writeString(out, "최상위 새 필드");
+        out.flush();
+
+        CachedProductDetail decoded = CachedProductDetailCodec.decode(buffer.toByteArray());
+
+        assertThat(decoded.getStatus()).isEqualTo(ProductStatus.ON_SALE);
+        assertThat(decoded.getHasOptions()).isTrue();
+        assertThat(decoded.getOptions()).singleElement().satisfies(option -> {
+            assertThat(option.getName()).isEqualTo("색상");
+            assertThat(option.getSortOrder()).isEqualTo(1);
+            assertThat(option.getValues()).singleElement().satisfies(value -> {
+                assertThat(value.getOptionValueId()).isEqualTo(optionValueId);
+                assertThat(value.getValue()).isEqualTo("블랙");
+            });
+        });
+        assertThat(decoded.getVariants()).singleElement().satisfies(variant -> {
+            assertThat(variant.getVariantId()).isEqualTo(variantId);
+            assertThat(variant.getSkuCode()).isEqualTo("TS-BLK");
+            assertThat(variant.getOptionValueIds()).containsExactly(optionValueId);
+            assertThat(variant.getPrice()).isEqualTo(17900L);
+            assertThat(variant.getStockQuantity()).isNull();
+            assertThat(variant.getStatus()).isEqualTo(VariantStatus.ON_SALE);
+        });
+        assertThat(decoded.getCachedAt()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("JSON 값은 바이너리로 판단하지 않고 디코딩 거부")
+    void json_IsNotBinary() {
+        byte[] json = "{\"productId\":\"1\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(CachedProductDetailCodec.isBinary(json)).isFalse();
+        assertThat(CachedProductDetailCodec.isBinary(CachedProductDetailCodec.encode(fullDetail()))).isTrue();
+        assertThatThrownBy(() -> CachedProductDetailCodec.decode(json))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("잘린 값은 디코딩 실패")
+    void truncated_Throws() {
+        byte[] encoded = CachedProductDetailCodec.encode(fullDetail());
+
+        assertThatThrownBy(() -> CachedProductDetailCodec.decode(Arrays.copyOf(encoded, encoded.length / 2)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static CachedProductDetail fullDetail() {
+        UUID optionValueId = UUID.randomUUID();
+        return CachedProductDetail.builder()
+            .productId(UUID.randomUUID())
+            .ownerId(UUID.randomUUID())
+            .categoryId(UUID.randomUUID())
+            .categoryName("티셔츠")
+            .categoryFullPath("의류 > 상의 > 티셔츠")
+            .title("오버핏 반팔 티셔츠")
+            .description("면 100%")
+            .thumbnailUrl("https://cdn.example.com/p/1.jpg")
+            .price(19900L)
+            .minPrice(17900L)
+            .maxPrice(21900L)
+            .stockQuantity(120)
+            .status(ProductStatus.ON_SALE)
+            .hasOptions(true)
+            .options(List.of(CachedProductDetail.CachedOption.builder()
+                .optionId(UUID.randomUUID())
+                .name("색상")
+                .sortOrder(1)
+                .values(List.of(CachedProductDetail.CachedOptionValue.builder()
+                    .optionValueId(optionValueId)
+                    .value("블랙")
+                    .build()))
+                .build()))
+            .variants(List.of(CachedProductDetail.CachedVariant.builder()
+                .variantId(UUID.randomUUID())
+                .skuCode("TS-BLK")
+                .optionValueIds(List.of(optionValueId))
+                .optionName("블랙")
+                .price(17900L)
+                .stockQuantity(0)
+                .status(VariantStatus.SOLD_OUT)
+                .build()))
+            .createdAt(LocalDateTime.of(2026, 3, 4, 5, 6, 7, 890_123_000))
+            .cachedAt(1_767_000_000_000L)
+            .build();
+    }
+
+    // ===== 상위 버전 값 작성용 (CachedProductDetailCodec과 같은 인코딩) =====
+
+    @FunctionalInterface
+    private interface RecordBody {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static void writeRecord(DataOutputStream out, RecordBody body) throws IOException {
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(record);
+        body.write(recordOut);
+        recordOut.flush();
+        writeVarInt(out, record.size());
+        record.writeTo(out);
+    }
+
+    private static void writeVarInt(DataOutputStream out, long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int)((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int)zigzag);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeBoolean(true);
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,160 @@
+package com.groom.product.product.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.groom.product.product.domain.enums.ProductSortType;
+import com.groom.product.product.infrastructure.repository.ProductSearchCursor;
+
+/**
+ * 가격/커서 인덱스 페이지 조회 통합 테스트 (Testcontainers Redis, Docker 없으면 건너뜀)
+ * 가격 없는 상품은 낮은순/높은순 모두 마지막 (DB 정렬 nullsLast와 동일)
+ * 커서 인덱스는 createdAt 마이크로초 → productId 내림차순 (DB 커서와 동일)
+ */
+@Tag("integration")
+@DataRedisTest
+@Import(ProductListCacheService.class)
+@Testcontainers(disabledWithoutDocker = true)
+class ProductListCacheServiceTest {
+
+    @Container
+    static GenericContainer<?> redis =
+        new GenericContainer<>(DockerImageName.parse("redis:7.2-alpine"))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    // 사전순 = DB uuid 정렬 순서
+    private static final UUID CHEAP = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID MID_A = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID MID_B = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID EXPENSIVE = UUID.fromString("00000000-0000-0000-0000-000000000004");
+    private static final UUID NO_PRICE_A = UUID.fromString("00000000-0000-0000-0000-000000000005");
+    private static final UUID NO_PRICE_B = UUID.fromString("00000000-0000-0000-0000-000000000006");
+
+    @Autowired
+    ProductListCacheService listCacheService;
+
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+
+        String key = ProductCacheKey.productList(null, ProductSortType.PRICE_ASC);
+        stringRedisTemplate.opsForZSet().add(key, CHEAP.toString(), 1000);
+        stringRedisTemplate.opsForZSet().add(key, MID_A.toString(), 5000);
+        stringRedisTemplate.opsForZSet().add(key, MID_B.toString(), 5000);
+        stringRedisTemplate.opsForZSet().add(key, EXPENSIVE.toString(), 9000);
+        // 가격 없는 상품 (ProductListCacheService.priceScore와 같은 점수)
+        stringRedisTemplate.opsForZSet().add(key, NO_PRICE_A.toString(), Double.POSITIVE_INFINITY);
+        stringRedisTemplate.opsForZSet().add(key, NO_PRICE_B.toString(), Double.POSITIVE_INFINITY);
+        stringRedisTemplate.opsForValue().set(ProductCacheKey.productCount(null), "6");
+    }
+
+    @Test
+    @DisplayName("가격 높은순 - 가격 없는 상품은 마지막, 동점은 id 내림차순")
+    void priceDesc_putsUnpricedLast() {
+        ProductListCacheService.ListPage page = listCacheService.getPage(null, ProductSortType.PRICE_DESC, 0, 10);
+
+        assertThat(page.productIds()).containsExactly(EXPENSIVE, MID_B, MID_A, CHEAP, NO_PRICE_B, NO_PRICE_A);
+        assertThat(page.indexSize()).isEqualTo(6);
+        assertThat(page.totalCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("가격 높은순 - 가격 있는 구간과 가격 없는 구간에 걸친 페이지")
+    void priceDesc_pageSpanningUnpriced() {
+        assertThat(listCacheService.getPage(null, ProductSortType.PRICE_DESC, 0, 3).productIds())
+            .containsExactly(EXPENSIVE, MID_B, MID_A);
+        assertThat(listCacheService.getPage(null, ProductSortType.PRICE_DESC, 3, 2).productIds())
+            .containsExactly(CHEAP, NO_PRICE_B);
+        assertThat(listCacheService.getPage(null, ProductSortType.PRICE_DESC, 5, 3).productIds())
+            .containsExactly(NO_PRICE_A);
+        assertThat(listCacheService.getPage(null, ProductSortType.PRICE_DESC, 6, 3).productIds())
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("가격 낮은순 - 가격 없는 상품은 마지막, 동점은 id 오름차순")
+    void priceAsc_putsUnpricedLast() {
+        ProductListCacheService.ListPage page = listCacheService.getPage(null, ProductSortType.PRICE_ASC, 0, 10);
+
+        assertThat(page.productIds()).containsExactly(CHEAP, MID_A, MID_B, EXPENSIVE, NO_PRICE_A, NO_PRICE_B);
+    }
+
+    @Test
+    @DisplayName("가격 높은순 - 상품 수 캐시가 없으면 totalCount -1")
+    void priceDesc_missingCount() {
+        stringRedisTemplate.delete(ProductCacheKey.productCount(null));
+
+        ProductListCacheService.ListPage page = listCacheService.getPage(null, ProductSortType.PRICE_DESC, 0, 2);
+
+        assertThat(page.productIds()).containsExactly(EXPENSIVE, MID_B);
+        assertThat(page.totalCount()).isEqualTo(-1);
+        assertThat(page.indexSize()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("커서 인덱스 - 같은 초에 생성된 상품은 createdAt 내림차순, 동시각은 id 내림차순")
+    void cursorPage_ordersLikeDbCursor() {
+        LocalDateTime second = LocalDateTime.of(2026, 5, 6, 7, 8, 9);
+        addToCursorIndex(CHEAP, second.withNano(900_000_000));
+        addToCursorIndex(MID_A, second.withNano(100_000_000));
+        addToCursorIndex(MID_B, second.withNano(100_000_000));
+        addToCursorIndex(EXPENSIVE, second.minusSeconds(1));
+
+        ProductListCacheService.CursorPage first = listCacheService.getCursorPage(null, null, null, 2);
+        assertThat(first.productIds().keySet()).containsExactly(CHEAP, MID_B);
+        assertThat(first.indexSize()).isEqualTo(4);
+        assertThat(first.totalCount()).isEqualTo(6);
+
+        long lastScore = first.productIds().get(MID_B);
+        assertThat(lastScore).isEqualTo(ProductSearchCursor.createdAtScore(second.withNano(100_000_000)));
+        assertThat(listCacheService.getCursorPage(null, lastScore, MID_B, 2).productIds().keySet())
+            .containsExactly(MID_A, EXPENSIVE);
+    }
+
+    @Test
+    @DisplayName("커서 인덱스 - 커서 상품이 인덱스에서 빠져도 score와 id로 다음 위치부터 조회")
+    void cursorPage_cursorMemberRemoved() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 5, 6, 7, 8, 9, 500_000_000);
+        addToCursorIndex(CHEAP, createdAt);
+        addToCursorIndex(MID_A, createdAt);
+        addToCursorIndex(EXPENSIVE, createdAt.minusNanos(1_000));
+        stringRedisTemplate.delete(ProductCacheKey.productCount(null));
+
+        ProductListCacheService.CursorPage page = listCacheService.getCursorPage(
+            null, ProductSearchCursor.createdAtScore(createdAt), MID_B, 10);
+
+        assertThat(page.productIds().keySet()).containsExactly(MID_A, CHEAP, EXPENSIVE);
+        assertThat(page.totalCount()).isEqualTo(-1);
+    }
+
+    private void addToCursorIndex(UUID productId, LocalDateTime createdAt) {
+        stringRedisTemplate.opsForZSet().add(ProductCacheKey.productCursorList(null), productId.toString(),
+            ProductSearchCursor.createdAtScore(createdAt));
+    }
+}
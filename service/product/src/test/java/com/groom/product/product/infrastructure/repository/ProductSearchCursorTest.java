@@ -0,0 +1,123 @@
+package com.groom.product.product.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.groom.common.presentation.advice.CustomException;
+import com.groom.common.presentation.advice.ErrorCode;
+import com.groom.product.product.domain.enums.ProductSortType;
+
+@DisplayName("ProductSearchCursor 테스트")
+class ProductSearchCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 5, 6, 7, 8, 9, 123_456_000);
+
+    @Test
+    @DisplayName("최신순 커서는 createdAt과 productId를 복원")
+    void newest_RoundTrip() {
+        UUID productId = UUID.randomUUID();
+        String token = ProductSearchCursor.of(ProductSortType.NEWEST, CREATED_AT, 5000L, productId).encode();
+
+        ProductSearchCursor cursor = ProductSearchCursor.decode(token, ProductSortType.NEWEST);
+
+        assertThat(cursor.getSortType()).isEqualTo(ProductSortType.NEWEST);
+        assertThat(cursor.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(cursor.getPrice()).isNull();
+        assertThat(cursor.getProductId()).isEqualTo(productId);
+        assertThat(cursor.getCreatedAtScore())
+            .isEqualTo(CREATED_AT.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + 123_456L);
+    }
+
+    @Test
+    @DisplayName("커서 인덱스 score로 만든 커서는 createdAt을 마이크로초까지 복원")
+    void ofCreatedAtScore_RoundTrip() {
+        UUID productId = UUID.randomUUID();
+        long score = ProductSearchCursor.createdAtScore(CREATED_AT);
+
+        ProductSearchCursor cursor = ProductSearchCursor.decode(
+            ProductSearchCursor.ofCreatedAtScore(score, productId).encode(), ProductSortType.NEWEST);
+
+        assertThat(cursor.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(cursor.getProductId()).isEqualTo(productId);
+        assertThat(cursor.getCreatedAtScore()).isEqualTo(score);
+    }
+
+    @Test
+    @DisplayName("가격순 커서는 price와 productId를 복원 (가격 없음 포함)")
+    void price_RoundTrip() {
+        UUID productId = UUID.randomUUID();
+
+        ProductSearchCursor priced = ProductSearchCursor.decode(
+            ProductSearchCursor.of(ProductSortType.PRICE_ASC, CREATED_AT, 12900L, productId).encode(),
+            ProductSortType.PRICE_ASC);
+        ProductSearchCursor noPrice = ProductSearchCursor.decode(
+            ProductSearchCursor.of(ProductSortType.PRICE_DESC, CREATED_AT, null, productId).encode(),
+            ProductSortType.PRICE_DESC);
+
+        assertThat(priced.getPrice()).isEqualTo(12900L);
+        assertThat(priced.getCreatedAt()).isNull();
+        assertThat(priced.getProductId()).isEqualTo(productId);
+        assertThat(noPrice.getPrice()).isNull();
+        assertThat(noPrice.getProductId()).isEqualTo(productId);
+    }
+
+    @Test
+    @DisplayName("평점/관련도/null 정렬은 최신순 커서를 공유")
+    void nonPriceSorts_NormalizeToNewest() {
+        String token = ProductSearchCursor.of(ProductSortType.RATING, CREATED_AT, null, UUID.randomUUID()).encode();
+
+        assertThat(ProductSearchCursor.decode(token, ProductSortType.RELEVANCE).getSortType())
+            .isEqualTo(ProductSortType.NEWEST);
+        assertThat(ProductSearchCursor.decode(token, null).getCreatedAt()).isEqualTo(CREATED_AT);
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 첫 페이지")
+    void blankToken_ReturnsNull() {
+        assertThat(ProductSearchCursor.decode(null, ProductSortType.NEWEST)).isNull();
+        assertThat(ProductSearchCursor.decode(" ", ProductSortType.PRICE_ASC)).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 정렬의 토큰은 INVALID_REQUEST")
+    void sortTypeMismatch_Rejected() {
+        String token = ProductSearchCursor.of(ProductSortType.PRICE_ASC, CREATED_AT, 1000L, UUID.randomUUID()).encode();
+
+        assertInvalid(() -> ProductSearchCursor.decode(token, ProductSortType.PRICE_DESC));
+        assertInvalid(() -> ProductSearchCursor.decode(token, ProductSortType.NEWEST));
+    }
+
+    @Test
+    @DisplayName("변조/손상된 토큰은 INVALID_REQUEST")
+    void malformedToken_Rejected() {
+        assertInvalid(() -> ProductSearchCursor.decode("not base64!", ProductSortType.NEWEST));
+        assertInvalid(() -> ProductSearchCursor.decode(raw("NEWEST|" + CREATED_AT), ProductSortType.NEWEST));
+        assertInvalid(() -> ProductSearchCursor.decode(
+            raw("NEWEST|yesterday|" + UUID.randomUUID()), ProductSortType.NEWEST));
+        assertInvalid(() -> ProductSearchCursor.decode(
+            raw("PRICE_ASC|cheap|" + UUID.randomUUID()), ProductSortType.PRICE_ASC));
+        assertInvalid(() -> ProductSearchCursor.decode(raw("PRICE_ASC|100|not-a-uuid"), ProductSortType.PRICE_ASC));
+        assertInvalid(() -> ProductSearchCursor.decode(
+            raw("OLDEST|" + CREATED_AT + "|" + UUID.randomUUID()), ProductSortType.NEWEST));
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(ThrowingCallable decode) {
+        assertThatThrownBy(decode)
+            .isInstanceOf(CustomException.class)
+            .extracting(e -> ((CustomException)e).getErrorCode())
+            .isEqualTo(ErrorCode.INVALID_REQUEST);
+    }
+}